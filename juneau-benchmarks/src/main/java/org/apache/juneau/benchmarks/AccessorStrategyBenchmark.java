@@ -0,0 +1,67 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares JSON serialization and parsing throughput of the bean corpus entries under each {@link AccessorStrategy}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar AccessorStrategyBenchmark -p corpus=BEAN_LIST
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AccessorStrategyBenchmark {
+
+	@Param
+	public AccessorStrategy accessorStrategy;
+
+	@Param({"BEAN","BEAN_LIST","PRIMITIVE_OBJECTS"})
+	public Corpus corpus;
+
+	private JsonSerializer serializer;
+	private JsonParser parser;
+	private Object pojo;
+	private String input;
+
+	@Setup
+	public void setup() throws Exception {
+		serializer = new JsonSerializerBuilder().accessorStrategy(accessorStrategy).build();
+		parser = new JsonParserBuilder().accessorStrategy(accessorStrategy).build();
+		pojo = corpus.create();
+		input = serializer.serialize(pojo);
+		parser.parse(input, corpus.getType(), corpus.getArgs());
+	}
+
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(pojo);
+	}
+
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(input, corpus.getType(), corpus.getArgs());
+	}
+}
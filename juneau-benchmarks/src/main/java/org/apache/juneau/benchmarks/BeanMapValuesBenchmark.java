@@ -0,0 +1,70 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+/**
+ * Compares the allocation rates of {@link BeanMap#getValues(boolean, BeanPropertyValue...)} and
+ * 	{@link BeanMap#forEachValue(boolean, BeanPropertyConsumer)} when visiting every property of a list of beans.
+ * <p>
+ * Run with the GC profiler and compare the <code>gc.alloc.rate.norm</code> (bytes per operation) figures.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar BeanMapValuesBenchmark -prof gc
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BeanMapValuesBenchmark {
+
+	private List<BeanMap<Person>> beanMaps;
+
+	@Setup
+	public void setup() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		beanMaps = new ArrayList<BeanMap<Person>>();
+		for (int i = 0; i < Corpus.LIST_SIZE; i++)
+			beanMaps.add(session.toBeanMap(new Person(i)));
+	}
+
+	@Benchmark
+	public void getValues(Blackhole bh) throws Exception {
+		for (BeanMap<Person> m : beanMaps)
+			for (BeanPropertyValue p : m.getValues(false))
+				bh.consume(p.getValue());
+	}
+
+	@Benchmark
+	public void forEachValue(final Blackhole bh) throws Exception {
+		BeanPropertyConsumer action = new BeanPropertyConsumer() {
+			@Override /* BeanPropertyConsumer */
+			public void accept(BeanPropertyMeta pMeta, String pName, Object value, Throwable thrown) {
+				bh.consume(value);
+			}
+		};
+		for (BeanMap<Person> m : beanMaps)
+			m.forEachValue(false, action);
+	}
+}
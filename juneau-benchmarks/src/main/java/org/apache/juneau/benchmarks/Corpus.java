@@ -0,0 +1,126 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.testbeans.*;
+
+/**
+ * The shared corpus of POJOs that all serializer and parser benchmarks run against.
+ * <p>
+ * Each entry creates a fresh and deterministic object graph so that numbers are reproducible between runs.
+ */
+@SuppressWarnings("javadoc")
+public enum Corpus {
+
+	/** A single bean with getters/setters, nested beans, collections and maps. */
+	BEAN(Person.class) {
+		@Override
+		public Object create() {
+			return new Person(1);
+		}
+	},
+
+	/** A list of beans. */
+	BEAN_LIST(List.class, Person.class) {
+		@Override
+		public Object create() {
+			List<Person> l = new ArrayList<Person>();
+			for (int i = 0; i < LIST_SIZE; i++)
+				l.add(new Person(i));
+			return l;
+		}
+	},
+
+	/** A map of strings to mixed simple values, lists and nested maps. */
+	MAP(Map.class, String.class, Object.class) {
+		@Override
+		public Object create() {
+			ObjectMap m = new ObjectMap();
+			for (int i = 0; i < LIST_SIZE; i++) {
+				m.put("s" + i, "value " + i);
+				m.put("i" + i, i);
+				m.put("b" + i, i % 2 == 0);
+			}
+			m.put("list", new ObjectList().append("a", 1, true, 2.5));
+			m.put("map", new ObjectMap().append("x", 1).append("y", new ObjectList().append("z")));
+			return m;
+		}
+	},
+
+	/** A list of mixed simple values. */
+	LIST(List.class, Object.class) {
+		@Override
+		public Object create() {
+			ObjectList l = new ObjectList();
+			for (int i = 0; i < LIST_SIZE; i++)
+				l.append("value " + i, i, i * 1.5, i % 2 == 0);
+			return l;
+		}
+	},
+
+	/** The {@link PrimitiveObjectsBean} test model. */
+	PRIMITIVE_OBJECTS(PrimitiveObjectsBean.class) {
+		@Override
+		public Object create() {
+			return new PrimitiveObjectsBean().init();
+		}
+	},
+
+	/** The {@link PrimitiveAtomicObjectsBean} test model. */
+	PRIMITIVE_ATOMIC_OBJECTS(PrimitiveAtomicObjectsBean.class) {
+		@Override
+		public Object create() {
+			return new PrimitiveAtomicObjectsBean().init();
+		}
+	};
+
+	/** Number of entries in the collection-based corpus entries. */
+	public static final int LIST_SIZE = 100;
+
+	private final Type type;
+	private final Type[] args;
+
+	private Corpus(Type type, Type...args) {
+		this.type = type;
+		this.args = args;
+	}
+
+	/**
+	 * Creates a new instance of this corpus entry.
+	 *
+	 * @return A new object graph.
+	 */
+	public abstract Object create();
+
+	/**
+	 * The type to pass to {@link org.apache.juneau.parser.Parser#parse(Object, Type, Type...)}.
+	 *
+	 * @return The type of this corpus entry.
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * The type arguments to pass to {@link org.apache.juneau.parser.Parser#parse(Object, Type, Type...)}.
+	 *
+	 * @return The type arguments of this corpus entry.
+	 */
+	public Type[] getArgs() {
+		return args;
+	}
+}
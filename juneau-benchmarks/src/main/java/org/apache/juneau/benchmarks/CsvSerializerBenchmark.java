@@ -0,0 +1,47 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link org.apache.juneau.csv.CsvSerializer} throughput.
+ * <p>
+ * Kept separate from {@link SerializerBenchmark} since CSV only supports collections of beans.
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CsvSerializerBenchmark {
+
+	private Serializer serializer;
+	private Object pojo;
+
+	@Setup
+	public void setup() throws Exception {
+		serializer = Format.CSV.getSerializer();
+		pojo = Corpus.BEAN_LIST.create();
+	}
+
+	@Benchmark
+	public Object serializeBeanList() throws Exception {
+		return serializer.serialize(pojo);
+	}
+}
@@ -0,0 +1,63 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.csv.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+
+/**
+ * The serializer/parser pairs being benchmarked.
+ * <p>
+ * Formats without a parser (or whose parser is not benchmarked) have a <jk>null</jk> parser.
+ */
+@SuppressWarnings("javadoc")
+public enum Format {
+	JSON(JsonSerializer.DEFAULT, JsonParser.DEFAULT),
+	XML(XmlSerializer.DEFAULT, XmlParser.DEFAULT),
+	HTML(HtmlSerializer.DEFAULT, null),
+	UON(UonSerializer.DEFAULT, UonParser.DEFAULT),
+	URLENCODING(UrlEncodingSerializer.DEFAULT, UrlEncodingParser.DEFAULT),
+	MSGPACK(MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT),
+	CSV(CsvSerializer.DEFAULT, null),
+	RDFXML(RdfSerializer.DEFAULT_XML, null);
+
+	private final Serializer serializer;
+	private final Parser parser;
+
+	private Format(Serializer serializer, Parser parser) {
+		this.serializer = serializer;
+		this.parser = parser;
+	}
+
+	/**
+	 * @return The serializer for this format.
+	 */
+	public Serializer getSerializer() {
+		return serializer;
+	}
+
+	/**
+	 * @return The parser for this format, or <jk>null</jk> if parsing is not benchmarked for this format.
+	 */
+	public Parser getParser() {
+		return parser;
+	}
+}
@@ -0,0 +1,89 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.nio.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.msgpack.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures MessagePack round-trip throughput (serialize followed by parse) through streams and byte buffers.
+ * <p>
+ * The stream benchmarks go through {@link ByteArrayOutputStream}/{@link ByteArrayInputStream}, whose single-byte
+ * methods are synchronized, which makes per-byte stream access about as expensive as it is on servlet and socket
+ * streams.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar MsgPackBenchmark -prof gc
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MsgPackBenchmark {
+
+	@Param
+	public Corpus corpus;
+
+	private MsgPackSerializer serializer = MsgPackSerializer.DEFAULT;
+	private MsgPackParser parser = MsgPackParser.DEFAULT;
+	private Object pojo;
+	private ByteArrayOutputStream baos;
+	private ByteBuffer heapBuffer, directBuffer;
+
+	@Setup
+	public void setup() throws Exception {
+		pojo = corpus.create();
+		int size = serializer.serialize(pojo).length;
+		baos = new ByteArrayOutputStream(size);
+		heapBuffer = ByteBuffer.allocate(size);
+		directBuffer = ByteBuffer.allocateDirect(size);
+
+		// Fail fast if this combination cannot be round-tripped.
+		roundTripStream();
+		roundTripHeapBuffer();
+		roundTripDirectBuffer();
+	}
+
+	@Benchmark
+	public Object roundTripStream() throws Exception {
+		baos.reset();
+		serializer.serialize(pojo, baos);
+		return parser.parse(new ByteArrayInputStream(baos.toByteArray()), corpus.getType(), corpus.getArgs());
+	}
+
+	@Benchmark
+	public Object roundTripHeapBuffer() throws Exception {
+		return roundTrip(heapBuffer);
+	}
+
+	@Benchmark
+	public Object roundTripDirectBuffer() throws Exception {
+		return roundTrip(directBuffer);
+	}
+
+	private Object roundTrip(ByteBuffer bb) throws Exception {
+		bb.clear();
+		serializer.serialize(pojo, bb);
+		bb.flip();
+		return parser.parse(bb, corpus.getType(), corpus.getArgs());
+	}
+}
@@ -0,0 +1,61 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.parser.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures parsing throughput for every parser over every {@link Corpus} entry.
+ * <p>
+ * The input is produced once during setup by the serializer of the same {@link Format}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar ParserBenchmark -prof gc
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+	@Param({"JSON","XML","UON","URLENCODING","MSGPACK"})
+	public Format format;
+
+	@Param
+	public Corpus corpus;
+
+	private Parser parser;
+	private Object input;
+
+	@Setup
+	public void setup() throws Exception {
+		parser = format.getParser();
+		input = format.getSerializer().serialize(corpus.create());
+
+		// Fail fast if this combination cannot be parsed.
+		parse();
+	}
+
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(input, corpus.getType(), corpus.getArgs());
+	}
+}
@@ -0,0 +1,112 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+
+/**
+ * Simple bean with getters and setters used in the benchmark corpus.
+ */
+@SuppressWarnings("javadoc")
+public class Person {
+
+	private String name;
+	private int age;
+	private long id;
+	private double salary;
+	private boolean active;
+	private List<String> tags = new ArrayList<String>();
+	private List<Address> addresses = new ArrayList<Address>();
+	private Map<String,Integer> scores = new LinkedHashMap<String,Integer>();
+
+	/** Bean constructor. */
+	public Person() {}
+
+	public Person(int i) {
+		this.name = "Person " + i;
+		this.age = 20 + (i % 50);
+		this.id = 1000000L + i;
+		this.salary = 12345.67 * (i + 1);
+		this.active = i % 2 == 0;
+		this.tags.add("tag" + i);
+		this.tags.add("group" + (i % 7));
+		this.addresses.add(new Address("123 Main St #" + i, "Anytown", "NY", 12345 + i, true));
+		this.addresses.add(new Address("456 Oak Ave", "Othertown", "CA", 54321, false));
+		this.scores.put("math", i % 100);
+		this.scores.put("art", (i * 7) % 100);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	public double getSalary() {
+		return salary;
+	}
+
+	public void setSalary(double salary) {
+		this.salary = salary;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+
+	public List<Address> getAddresses() {
+		return addresses;
+	}
+
+	public void setAddresses(List<Address> addresses) {
+		this.addresses = addresses;
+	}
+
+	public Map<String,Integer> getScores() {
+		return scores;
+	}
+
+	public void setScores(Map<String,Integer> scores) {
+		this.scores = scores;
+	}
+}
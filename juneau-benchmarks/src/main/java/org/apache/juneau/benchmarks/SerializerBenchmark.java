@@ -0,0 +1,64 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures serialization throughput for every serializer over every {@link Corpus} entry.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<jc>// Throughput and allocation rates of all serializers.</jc>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar SerializerBenchmark -prof gc
+ *
+ * 	<jc>// Only JSON against the bean list.</jc>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar SerializerBenchmark -p format=JSON -p corpus=BEAN_LIST -prof gc
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+	// CSV is excluded here since it only supports collections of beans.  See CsvSerializerBenchmark.
+	@Param({"JSON","XML","HTML","UON","URLENCODING","MSGPACK","RDFXML"})
+	public Format format;
+
+	@Param
+	public Corpus corpus;
+
+	private Serializer serializer;
+	private Object pojo;
+
+	@Setup
+	public void setup() throws Exception {
+		serializer = format.getSerializer();
+		pojo = corpus.create();
+
+		// Fail fast if this combination cannot be serialized.
+		serializer.serialize(pojo);
+	}
+
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(pojo);
+	}
+}
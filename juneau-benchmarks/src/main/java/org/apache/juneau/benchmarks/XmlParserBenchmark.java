@@ -0,0 +1,73 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import static org.apache.juneau.xml.XmlParserContext.*;
+
+import java.util.concurrent.*;
+
+import javax.xml.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.xml.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures XML parse throughput on small documents, where creating the StAX factory dominates the cost of a parse.
+ * <p>
+ * <code>cachedFactory</code> uses the factory cached on the parser context.
+ * <br><code>newFactory</code> overrides the {@link XmlParserContext#XML_reporter} setting on the session, which forces a
+ * 	new factory to be located and configured for every parse, the same as every parse did before factories were cached.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar XmlParserBenchmark -prof gc
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class XmlParserBenchmark {
+
+	private static final String SMALL_DOCUMENT = "<object><id>1</id><name>foo</name><active>true</active></object>";
+
+	private XmlParser parser = XmlParser.DEFAULT;
+	private ClassMeta<ObjectMap> type = parser.getBeanContext().getClassMeta(ObjectMap.class);
+	private ObjectMap overrides = new ObjectMap().append(XML_reporter, new XMLReporter() {
+		@Override /* XMLReporter */
+		public void report(String message, String errorType, Object relatedInformation, Location location) {}
+	});
+
+	@Setup
+	public void setup() throws Exception {
+		// Fail fast if the document cannot be parsed.
+		cachedFactory();
+		newFactory();
+	}
+
+	@Benchmark
+	public Object cachedFactory() throws Exception {
+		return parser.parse(SMALL_DOCUMENT, type);
+	}
+
+	@Benchmark
+	public Object newFactory() throws Exception {
+		ParserSession s = parser.createSession(SMALL_DOCUMENT, overrides, null, null, null, null, null);
+		return parser.parseSession(s, type);
+	}
+}
@@ -0,0 +1,101 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares ways of counting and rendering errors under concurrent failures.
+ * <p>
+ * This is a model of the error handler's locking, not a measurement of {@link RestCallHandler} itself.
+ * <code>synchronizedHandler</code> counts errors in a map and renders them while holding a single lock, the way the
+ * 	handler used to.
+ * <code>concurrentHandler</code> counts errors through the {@link StackTraceCounter} and renders them without a
+ * 	lock.
+ * The rendering step is simulated by writing the exception to a stream with a small delay, standing in for a
+ * 	slow client.
+ * <p>
+ * Run with different thread counts to see how each approach scales.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar ErrorCountingBenchmark -t 1
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar ErrorCountingBenchmark -t 8
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ErrorCountingBenchmark {
+
+	/** Simulated time spent writing the error response, in microseconds. */
+	@Param({"0","50"})
+	public int renderMicros;
+
+	private final RestException[] errors = new RestException[16];
+	private final ConcurrentHashMap<Integer,AtomicInteger> map = new ConcurrentHashMap<Integer,AtomicInteger>();
+	private final StackTraceCounter counter = new StackTraceCounter(1024);
+
+	@Setup
+	public void setup() {
+		for (int i = 0; i < errors.length; i++)
+			errors[i] = createError(i);
+	}
+
+	private static RestException createError(int depth) {
+		if (depth > 0)
+			return createError(depth - 1);
+		return new RestException(500, "Downstream failure.");
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		int next;
+	}
+
+	@Benchmark
+	public int synchronizedHandler(ThreadState ts) throws Exception {
+		RestException e = errors[ts.next++ & 15];
+		synchronized (this) {
+			int h = e.hashCode();
+			map.putIfAbsent(h, new AtomicInteger());
+			int c = map.get(h).incrementAndGet();
+			return render(e, c);
+		}
+	}
+
+	@Benchmark
+	public int concurrentHandler(ThreadState ts) throws Exception {
+		RestException e = errors[ts.next++ & 15];
+		int c = counter.increment(e.hashCode());
+		return render(e, c);
+	}
+
+	private int render(RestException e, int c) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		PrintWriter w = new PrintWriter(baos);
+		w.append("HTTP 500: ").append(String.valueOf(c)).append("\n\n").append(e.getFullStackMessage(true));
+		w.flush();
+		if (renderMicros > 0)
+			TimeUnit.MICROSECONDS.sleep(renderMicros);
+		return baos.size();
+	}
+}
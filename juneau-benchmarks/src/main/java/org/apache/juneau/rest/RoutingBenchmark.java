@@ -0,0 +1,96 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+/**
+ * Compares matching a request path against every {@link UrlPathPattern} in turn (the way requests used to be routed)
+ * with matching it once through a {@link UrlPathTrie}.
+ * <p>
+ * Lives in the <code>org.apache.juneau.rest</code> package since the routing classes are package-private.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar RoutingBenchmark -p resources=100
+ * </p>
+ */
+@SuppressWarnings("javadoc")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RoutingBenchmark {
+
+	/** Each resource contributes four paths. */
+	@Param({"10","100"})
+	public int resources;
+
+	private UrlPathPattern[] patterns;
+	private UrlPathTrie<UrlPathPattern> trie;
+	private String[] paths;
+
+	@Setup
+	public void setup() {
+		List<UrlPathPattern> l = new ArrayList<UrlPathPattern>();
+		List<String> p = new ArrayList<String>();
+		for (int i = 0; i < resources; i++) {
+			String r = "/resource" + i;
+			l.add(new UrlPathPattern(r));
+			l.add(new UrlPathPattern(r + "/{id}"));
+			l.add(new UrlPathPattern(r + "/{id}/children/{child}"));
+			l.add(new UrlPathPattern(r + "/{id}/files/*"));
+			p.add(r);
+			p.add(r + "/123");
+			p.add(r + "/123/children/456");
+			p.add(r + "/123/files/a/b/c.txt");
+		}
+		Collections.sort(l);
+		patterns = l.toArray(new UrlPathPattern[l.size()]);
+		paths = p.toArray(new String[p.size()]);
+
+		trie = new UrlPathTrie<UrlPathPattern>();
+		for (UrlPathPattern pp : patterns)
+			trie.add(pp, pp);
+
+		// Fail fast if the two approaches disagree.
+		for (String path : paths)
+			if (trie.match(path).get(0).getValue() != firstMatch(path))
+				throw new RuntimeException("Mismatch on " + path);
+	}
+
+	private UrlPathPattern firstMatch(String path) {
+		for (UrlPathPattern p : patterns)
+			if (p.match(path) != null)
+				return p;
+		return null;
+	}
+
+	@Benchmark
+	public void linear(Blackhole bh) {
+		for (String path : paths)
+			bh.consume(firstMatch(path));
+	}
+
+	@Benchmark
+	public void trie(Blackhole bh) {
+		for (String path : paths)
+			bh.consume(trie.match(path));
+	}
+}
@@ -409,6 +409,12 @@ public class RdfParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public RdfParserBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public RdfParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -584,6 +584,12 @@ public class RdfSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public RdfSerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public RdfSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -0,0 +1,238 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.transform.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class AccessorStrategyTest {
+
+	private static final JsonSerializer reflectionSerializer = new JsonSerializerBuilder().simple().build();
+	private static final JsonSerializer generatedSerializer = new JsonSerializerBuilder().simple().accessorStrategy(AccessorStrategy.GENERATED).build();
+	private static final JsonParser generatedParser = new JsonParserBuilder().accessorStrategy(AccessorStrategy.GENERATED).build();
+
+	//====================================================================================================
+	// Public fields of all primitive and object types.
+	//====================================================================================================
+	@Test
+	public void testFields() throws Exception {
+		A t = new A().init();
+		String r = generatedSerializer.serialize(t);
+		assertEquals(reflectionSerializer.serialize(t), r);
+		assertEquals("{f1:true,f2:1,f3:'c',f4:2,f5:3,f6:4,f7:5.5,f8:6.5,f9:'foo',f10:[1,2],f11:['a','b'],f12:{f1:false,f2:0,f3:null,f4:0,f5:0,f6:0,f7:0.0,f8:0.0}}", r);
+
+		A t2 = generatedParser.parse(r, A.class);
+		assertEquals(r, generatedSerializer.serialize(t2));
+	}
+
+	public static class A {
+		public boolean f1;
+		public byte f2;
+		public char f3;
+		public short f4;
+		public int f5;
+		public long f6;
+		public float f7;
+		public double f8;
+		public String f9;
+		public int[] f10;
+		public List<String> f11;
+		public A f12;
+
+		A init() {
+			f1 = true; f2 = 1; f3 = 'c'; f4 = 2; f5 = 3; f6 = 4; f7 = 5.5f; f8 = 6.5; f9 = "foo";
+			f10 = new int[]{1,2};
+			f11 = new ArrayList<String>(Arrays.asList("a","b"));
+			f12 = new A();
+			return this;
+		}
+	}
+
+	//====================================================================================================
+	// Getters and setters, including fluent setters.
+	//====================================================================================================
+	@Test
+	public void testGettersAndSetters() throws Exception {
+		B t = new B().setF1(1).setF2(2).setF3("foo");
+		t.setF4(true);
+		String r = generatedSerializer.serialize(t);
+		assertEquals("{f1:1,f2:2,f3:'foo',f4:true}", r);
+		assertTrue(t.generated);
+
+		B t2 = generatedParser.parse(r, B.class);
+		assertEquals(r, generatedSerializer.serialize(t2));
+		assertTrue(t2.generated);
+
+		reflectionSerializer.serialize(t);
+		assertFalse(t.generated);
+	}
+
+	@Bean(properties="f1,f2,f3,f4")
+	public static class B {
+		private int f1;
+		private long f2;
+		private String f3;
+		private boolean f4;
+		boolean generated;
+
+		public int getF1() {
+			// Detect whether this getter was called from a generated accessor.
+			generated = new Throwable().getStackTrace()[1].getClassName().endsWith("$$JuneauAccessor");
+			return f1;
+		}
+
+		public B setF1(int f1) {
+			this.f1 = f1;
+			return this;
+		}
+
+		public long getF2() {
+			return f2;
+		}
+
+		public B setF2(long f2) {
+			this.f2 = f2;
+			return this;
+		}
+
+		public String getF3() {
+			return f3;
+		}
+
+		public B setF3(String f3) {
+			this.f3 = f3;
+			return this;
+		}
+
+		public boolean isF4() {
+			return f4;
+		}
+
+		public void setF4(boolean f4) {
+			this.f4 = f4;
+		}
+	}
+
+	//====================================================================================================
+	// Classes and members that can't be accessed by generated code fall back to reflection.
+	//====================================================================================================
+	@Test
+	public void testReflectionFallback() throws Exception {
+		JsonSerializer s = new JsonSerializerBuilder().simple().accessorStrategy(AccessorStrategy.GENERATED).beanClassVisibility(Visibility.DEFAULT).beanFieldVisibility(Visibility.PROTECTED).build();
+		JsonParser p = new JsonParserBuilder().accessorStrategy(AccessorStrategy.GENERATED).beanFieldVisibility(Visibility.PROTECTED).build();
+
+		C1 c1 = new C1();
+		c1.f1 = 1;
+		c1.f2 = 2;
+		assertEquals("{f1:1,f2:2}", s.serialize(c1));
+		C1 c1b = p.parse("{f1:3,f2:4}", C1.class);
+		assertEquals(3, c1b.f1);
+		assertEquals(4, c1b.f2);
+
+		C2 c2 = new C2();
+		c2.f1 = 5;
+		assertEquals("{f1:5}", s.serialize(c2));
+	}
+
+	public static class C1 {
+		public int f1;
+		protected int f2;
+	}
+
+	static class C2 {
+		public int f1;
+	}
+
+	//====================================================================================================
+	// Exceptions thrown by getters and setters.
+	//====================================================================================================
+	@Test
+	public void testExceptions() throws Exception {
+		BeanSession session = PropertyStore.create().setProperty(BeanContext.BEAN_accessorStrategy, AccessorStrategy.GENERATED).getBeanContext().createSession();
+		try {
+			session.toBeanMap(new D()).get("f1");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertEquals("foo", e.getCause().getCause().getMessage());
+			assertTrue(getStackTrace(e).contains("Exception occurred while getting property 'f1'"));
+		}
+		try {
+			generatedParser.parse("{f1:1}", D.class);
+			fail();
+		} catch (Exception e) {
+			assertTrue(getStackTrace(e).contains("Error occurred trying to set property 'f1'"));
+		}
+	}
+
+	public static class D {
+		public int getF1() {
+			throw new RuntimeException("foo");
+		}
+
+		public void setF1(int f1) {
+			throw new RuntimeException("bar");
+		}
+	}
+
+	//====================================================================================================
+	// Values that don't exactly match a primitive setter are rejected the same way as with reflection.
+	//====================================================================================================
+	@Test
+	public void testNoSilentNarrowing() throws Exception {
+		for (AccessorStrategy as : AccessorStrategy.values()) {
+			BeanSession session = PropertyStore.create().setProperty(BeanContext.BEAN_accessorStrategy, as).getBeanContext().createSession();
+			E e = new E();
+			BeanMap<E> m = session.toBeanMap(e);
+			m.put("f2", "123");
+			assertEquals(123, e.f2);
+			try {
+				m.put("f1", "4294967297");
+				fail("Exception expected for " + as);
+			} catch (BeanRuntimeException x) {
+				assertTrue(getStackTrace(x).contains("IllegalArgumentException"));
+			}
+			assertEquals(0, e.f1);
+		}
+	}
+
+	public static class E {
+		@BeanProperty(swap=LongSwap.class)
+		public int f1;
+		public long f2;
+	}
+
+	public static class LongSwap extends PojoSwap<Object,Object> {
+		@Override /* PojoSwap */
+		public Object swap(BeanSession session, Object o) {
+			return o;
+		}
+		@Override /* PojoSwap */
+		public Object unswap(BeanSession session, Object o, ClassMeta<?> hint) {
+			return Long.valueOf(o.toString());
+		}
+	}
+
+	private static String getStackTrace(Throwable t) {
+		StringWriter sw = new StringWriter();
+		t.printStackTrace(new PrintWriter(sw));
+		return sw.toString();
+	}
+}
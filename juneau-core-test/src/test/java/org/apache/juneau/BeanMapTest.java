@@ -1924,4 +1924,42 @@ public class BeanMapTest {
 	public static class Z {
 		public String a, b, c;
 	}
+
+	//====================================================================================================
+	// forEachValue(boolean, BeanPropertyConsumer).
+	//====================================================================================================
+	@Test
+	public void testForEachValue() throws Exception {
+		Z z = new Z();
+		z.b = "foo";
+		BeanMap<Z> bm = BeanContext.DEFAULT.createSession().toBeanMap(z);
+		final List<String> l = new ArrayList<String>();
+		BeanPropertyConsumer action = new BeanPropertyConsumer() {
+			@Override
+			public void accept(BeanPropertyMeta pMeta, String pName, Object value, Throwable thrown) {
+				l.add(pName + "=" + value + (thrown == null ? "" : "!" + thrown.getCause().getCause().getMessage()));
+			}
+		};
+
+		bm.forEachValue(true, action);
+		assertObjectEquals("['b=foo']", l);
+
+		l.clear();
+		bm.forEachValue(false, action);
+		assertObjectEquals("['a=null','b=foo','c=null']", l);
+
+		l.clear();
+		BeanContext.DEFAULT.createSession().toBeanMap(new Z2()).forEachValue(false, action);
+		assertObjectEquals("['a=null!foo','b=bar']", l);
+	}
+
+	@Bean(properties="a,b")
+	public static class Z2 {
+		public String getA() {
+			throw new RuntimeException("foo");
+		}
+		public String getB() {
+			return "bar";
+		}
+	}
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ package org.apache.juneau;
 import static org.junit.Assert.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.transform.*;
 import org.junit.*;
@@ -278,4 +279,75 @@ public class ClassMetaTest {
 	public static class HI1Swap extends PojoSwap<HI1,Map> {}
 	public static class HC2Swap extends PojoSwap<HC2,Map> {}
 	public static class HI2Swap extends PojoSwap<HI2,Map> {}
+
+	//====================================================================================================
+	// Concurrent creation of ClassMetas, including classes that form reference cycles.
+	//====================================================================================================
+	@Test
+	public void testConcurrentCreation() throws Exception {
+		final Class<?>[] types = {J1.class, J2.class, J3.class, J4.class, J5.class, J6.class};
+		int threads = 8;
+		ExecutorService es = Executors.newFixedThreadPool(threads);
+		try {
+			for (int round = 0; round < 50; round++) {
+
+				// A fresh context per round so that nothing is cached yet.
+				final BeanContext ctx = PropertyStore.create().setProperty(BeanContext.BEAN_beanTypePropertyName, "_concurrent" + round).getBeanContext();
+				final CyclicBarrier barrier = new CyclicBarrier(threads);
+				List<Future<Map<Class<?>,ClassMeta<?>>>> results = new ArrayList<Future<Map<Class<?>,ClassMeta<?>>>>();
+
+				for (int i = 0; i < threads; i++) {
+					final int offset = i;
+					results.add(es.submit(new Callable<Map<Class<?>,ClassMeta<?>>>() {
+						@Override
+						public Map<Class<?>,ClassMeta<?>> call() throws Exception {
+							Map<Class<?>,ClassMeta<?>> m = new HashMap<Class<?>,ClassMeta<?>>();
+							barrier.await();
+							// Each thread requests the types in a different order to provoke cross-thread cycles.
+							for (int j = 0; j < types.length; j++) {
+								Class<?> c = types[(j + offset) % types.length];
+								ClassMeta<?> cm = ctx.getClassMeta(c);
+								// Half-initialized metas don't have their bean meta set yet.
+								if (cm.getBeanMeta() == null)
+									throw new RuntimeException("Half-initialized ClassMeta returned for " + c);
+								m.put(c, cm);
+							}
+							return m;
+						}
+					}));
+				}
+
+				Map<Class<?>,ClassMeta<?>> first = null;
+				for (Future<Map<Class<?>,ClassMeta<?>>> f : results) {
+					Map<Class<?>,ClassMeta<?>> m = f.get(30, TimeUnit.SECONDS);
+					if (first == null)
+						first = m;
+					for (Class<?> c : types)
+						assertSame("Duplicate ClassMeta created for " + c, first.get(c), m.get(c));
+				}
+
+				for (Class<?> c : types) {
+					assertSame(first.get(c), ctx.getClassMeta(c));
+					for (BeanPropertyMeta p : first.get(c).getBeanMeta().getPropertyMetas()) {
+						ClassMeta<?> pcm = p.getClassMeta();
+						assertNotNull(pcm.getInnerClass());
+						// Property metas must be the published instances, not copies or rolled-back ones.
+						if (first.containsKey(pcm.getInnerClass()))
+							assertSame(first.get(pcm.getInnerClass()), pcm);
+					}
+				}
+				assertSame(first.get(J2.class), first.get(J1.class).getBeanMeta().getPropertyMeta("j2").getClassMeta());
+				assertSame(first.get(J1.class), first.get(J3.class).getBeanMeta().getPropertyMeta("j1").getClassMeta());
+			}
+		} finally {
+			es.shutdownNow();
+		}
+	}
+
+	public static class J1 { public J2 j2; public J1 j1; public List<J3> j3; }
+	public static class J2 { public J1 j1; public J3 j3; }
+	public static class J3 { public J1 j1; public J2 j2; public String s; }
+	public static class J4 { public J5 j5; public Map<String,J6> j6; }
+	public static class J5 { public J4 j4; public int i; }
+	public static class J6 { public J1 j1; public J6[] j6; }
 }
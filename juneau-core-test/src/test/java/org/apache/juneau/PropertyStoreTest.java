@@ -203,6 +203,29 @@ public class PropertyStoreTest {
 		assertEquals(p1.hashCode(), p2.hashCode());
 	}
 
+	//====================================================================================================
+	// Stores with colliding hash codes must not share contexts.
+	//====================================================================================================
+	@Test
+	public void testContextCacheHashCollisions() throws Exception {
+		// "Aa" and "BB" have the same String.hashCode().
+		PropertyStore f1 = PropertyStore.create().setProperty(BeanContext.BEAN_beanTypePropertyName, "Aa");
+		PropertyStore f2 = PropertyStore.create().setProperty(BeanContext.BEAN_beanTypePropertyName, "BB");
+		assertEquals(f1.hashCode(), f2.hashCode());
+
+		BeanContext bc1 = f1.getBeanContext(), bc2 = f2.getBeanContext();
+		assertNotSame(bc1, bc2);
+		assertFalse(bc1.equals(bc2));
+		assertFalse(bc1.hasSameCache(bc2));
+		assertEquals("Aa", bc1.getBeanTypePropertyName());
+		assertEquals("BB", bc2.getBeanTypePropertyName());
+
+		// Equivalent stores still share contexts.
+		PropertyStore f3 = PropertyStore.create().setProperty(BeanContext.BEAN_beanTypePropertyName, "Aa");
+		assertSame(bc1, f3.getBeanContext());
+		assertTrue(PropertyStore.getLiveContextCount() >= 2);
+	}
+
 	@SuppressWarnings("unchecked")
 	private static class ConversionTest {
 		PropertyStore config = PropertyStore.create();
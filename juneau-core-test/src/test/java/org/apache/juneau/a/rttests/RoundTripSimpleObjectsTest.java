@@ -737,6 +737,73 @@ public class RoundTripSimpleObjectsTest extends RoundTripTest {
 		t = roundTrip(t, Vector.class, Integer.class);
 	}
 
+	//====================================================================================================
+	// testPrimitiveArrays
+	//====================================================================================================
+	@Test
+	public void testPrimitiveArrays() throws Exception {
+		long[] t1 = roundTrip(new long[]{1l,Long.MAX_VALUE,Long.MIN_VALUE}, long[].class);
+		assertEquals(1l, t1[0]);
+		assertEquals(Long.MAX_VALUE, t1[1]);
+		assertEquals(Long.MIN_VALUE, t1[2]);
+
+		short[] t2 = roundTrip(new short[]{1,Short.MAX_VALUE,Short.MIN_VALUE}, short[].class);
+		assertEquals(1, t2[0]);
+		assertEquals(Short.MAX_VALUE, t2[1]);
+		assertEquals(Short.MIN_VALUE, t2[2]);
+
+		float[] t3 = roundTrip(new float[]{1.5f,-2.25f}, float[].class);
+		assertEquals(1.5f, t3[0], 0f);
+		assertEquals(-2.25f, t3[1], 0f);
+
+		double[] t4 = roundTrip(new double[]{1.5d,-2.25d,Double.MAX_VALUE}, double[].class);
+		assertEquals(1.5d, t4[0], 0d);
+		assertEquals(-2.25d, t4[1], 0d);
+		assertEquals(Double.MAX_VALUE, t4[2], 0d);
+
+		boolean[] t5 = roundTrip(new boolean[]{true,false,true}, boolean[].class);
+		assertTrue(t5[0]);
+		assertFalse(t5[1]);
+		assertTrue(t5[2]);
+
+		int[] t6 = roundTrip(new int[0], int[].class);
+		assertEquals(0, t6.length);
+
+		int[] t7 = new int[100];
+		for (int i = 0; i < t7.length; i++)
+			t7[i] = i * 1000;
+		t7 = roundTrip(t7, int[].class);
+		assertEquals(100, t7.length);
+		assertEquals(99000, t7[99]);
+	}
+
+	//====================================================================================================
+	// testPrimitiveArraysMatchBoxedArrays
+	// Primitive arrays are written directly from the array, but must produce the same output as boxed arrays.
+	//====================================================================================================
+	@Test
+	public void testPrimitiveArraysMatchBoxedArrays() throws Exception {
+		// Schema output describes the Java type, and RDF output contains generated blank node IDs.
+		if (isValidationOnly() || label.startsWith("Rdf"))
+			return;
+		Serializer s = getSerializer();
+		assertSameOutput(s, new int[]{1,-2,3}, new Integer[]{1,-2,3});
+		assertSameOutput(s, new long[]{1l,Long.MAX_VALUE}, new Long[]{1l,Long.MAX_VALUE});
+		assertSameOutput(s, new double[]{1.5d,-2d}, new Double[]{1.5d,-2d});
+		assertSameOutput(s, new float[]{1.5f,-2f}, new Float[]{1.5f,-2f});
+		assertSameOutput(s, new boolean[]{true,false}, new Boolean[]{true,false});
+		assertSameOutput(s, new int[0], new Integer[0]);
+		assertSameOutput(s, new int[][]{{1,2},{3}}, new Integer[][]{{1,2},{3}});
+	}
+
+	private void assertSameOutput(Serializer s, Object primitiveArray, Object boxedArray) throws Exception {
+		Object o1 = serialize(primitiveArray, s), o2 = serialize(boxedArray, s);
+		if (o1 instanceof byte[])
+			assertTrue(Arrays.equals((byte[])o2, (byte[])o1));
+		else
+			assertEquals(o2, o1);
+	}
+
 	//====================================================================================================
 	// testNull
 	//====================================================================================================
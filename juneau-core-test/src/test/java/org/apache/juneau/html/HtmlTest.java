@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.html.annotation.*;
 import org.apache.juneau.testbeans.*;
 import org.junit.*;
@@ -44,6 +45,36 @@ public class HtmlTest {
 		public String f1 = "f1";
 	}
 
+	//====================================================================================================
+	// Verifies that lists of beans are converted to tables correctly with HTML_staticTableHeaders.
+	//====================================================================================================
+	@Test
+	public void testTablesStaticHeaders() throws Exception {
+		HtmlSerializer s = new HtmlSerializerBuilder().sq().staticTableHeaders(true).build();
+		Object[] t;
+		String html;
+
+		t = new Object[] {new A1(), new A1()};
+		html = s.serialize(t);
+		assertEquals("<table _type='array'><tr><th>f1</th></tr><tr><td>f1</td></tr><tr><td>f1</td></tr></table>", html);
+
+		// Columns are rendered even if all values are null.
+		t = new Object[] {new A2(), new A2()};
+		html = s.serialize(t);
+		assertEquals("<table _type='array'><tr><th>f1</th><th>f2</th></tr><tr><td>f1</td><td><null/></td></tr><tr><td>f1</td><td><null/></td></tr></table>", html);
+		html = HtmlSerializer.DEFAULT_SQ.serialize(t);
+		assertEquals("<table _type='array'><tr><th>f1</th></tr><tr><td>f1</td></tr><tr><td>f1</td></tr></table>", html);
+
+		// Mixed classes are handled normally.
+		t = new Object[] {new A1(), new A2()};
+		assertEquals(HtmlSerializer.DEFAULT_SQ.serialize(t), s.serialize(t));
+	}
+
+	@Bean(properties="f1,f2")
+	public static class A2 {
+		public String f1 = "f1", f2;
+	}
+
 	//====================================================================================================
 	// Test URI_ANCHOR_SET options
 	//====================================================================================================
@@ -0,0 +1,108 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class CacheTest {
+
+	//====================================================================================================
+	// Basic get/put and stats
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(false, 10);
+		assertNull(c.get("a"));
+		assertEquals("1", c.put("a", "1"));
+		assertEquals("1", c.put("a", "2"));
+		assertEquals("1", c.get("a"));
+		assertEquals(1, c.size());
+		assertEquals(1, c.getHits());
+		assertEquals(1, c.getMisses());
+		assertEquals(0, c.getEvictions());
+	}
+
+	//====================================================================================================
+	// Disabled cache
+	//====================================================================================================
+	@Test
+	public void testDisabled() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(true, 10);
+		assertEquals("1", c.put("a", "1"));
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	//====================================================================================================
+	// A burst of one-time keys must not flush entries that are still in use.
+	//====================================================================================================
+	@Test
+	public void testEvictionKeepsUsedEntries() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(false, 100);
+		for (int i = 0; i < 10; i++)
+			c.put("hot"+i, "v"+i);
+		for (int i = 0; i < 10000; i++) {
+			c.put("cold"+i, "v"+i);
+			if (i % 50 == 0)
+				for (int j = 0; j < 10; j++)
+					assertEquals("v"+j, c.get("hot"+j));
+		}
+
+		assertEquals(100, c.size());
+		assertEquals(9910, c.getEvictions());
+		assertEquals(2000, c.getHits());
+		assertEquals(0, c.getMisses());
+		assertNull(c.get("cold0"));
+		assertEquals("v9999", c.get("cold9999"));
+	}
+
+	//====================================================================================================
+	// Expired entries are not returned and can be replaced.
+	//====================================================================================================
+	@Test
+	public void testExpiry() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(false, 10, 20);
+		c.put("a", "1");
+		assertEquals("1", c.get("a"));
+		Thread.sleep(50);
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+		assertEquals("2", c.put("a", "2"));
+		assertEquals("2", c.get("a"));
+		assertEquals(0, c.getEvictions());
+	}
+
+	//====================================================================================================
+	// Expired entries left behind in the eviction order are skipped.
+	//====================================================================================================
+	@Test
+	public void testExpiryThenEviction() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(false, 2, 30);
+		for (int i = 0; i < 5; i++) {
+			c.put("a", "a"+i);
+			Thread.sleep(50);
+			assertNull(c.get("a"));
+		}
+		assertEquals(0, c.size());
+		c.put("x", "x");
+		c.put("y", "y");
+		c.put("z", "z");
+		assertEquals(2, c.size());
+		assertEquals(1, c.getEvictions());
+		assertNull(c.get("x"));
+		assertEquals("z", c.get("z"));
+	}
+}
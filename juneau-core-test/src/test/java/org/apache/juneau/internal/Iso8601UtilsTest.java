@@ -0,0 +1,154 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.text.*;
+import java.util.*;
+
+import javax.xml.bind.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.transforms.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class Iso8601UtilsTest {
+
+	//====================================================================================================
+	// Formatting matches DatatypeConverter.printDateTime().
+	//====================================================================================================
+	@Test
+	public void testPrintDateTime() throws Exception {
+		Random r = new Random(1);
+		String[] tzs = {"GMT", "EST", "PST", "Asia/Kolkata", "America/St_Johns"};
+		for (int i = 0; i < 1000; i++) {
+			Calendar c = new GregorianCalendar(TimeZone.getTimeZone(tzs[i % tzs.length]));
+			c.setTimeInMillis((long)(r.nextDouble() * 4e12));
+			if (i % 2 == 0)
+				c.set(Calendar.MILLISECOND, 0);
+			assertEquals(DatatypeConverter.printDateTime(c), Iso8601Utils.printDateTime(c));
+		}
+
+		Calendar c = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+		c.setTimeInMillis(983614272000L);
+		assertEquals("2001-03-03T10:11:12Z", Iso8601Utils.printDateTime(c));
+		assertEquals("2001-03-03T10:11:12.000Z", Iso8601Utils.printDateTime(c, true));
+		c.setTimeInMillis(983614272012L);
+		assertEquals("2001-03-03T10:11:12.012Z", Iso8601Utils.printDateTime(c));
+		assertEquals("2001-03-03T10:11:12.012Z", Iso8601Utils.printDateTime(c, true));
+	}
+
+	//====================================================================================================
+	// Parsing matches DatatypeConverter.parseDateTime().
+	//====================================================================================================
+	@Test
+	public void testParseDateTime() throws Exception {
+		String[] in = {
+			"2001-07-04T15:30:45-05:00",
+			"2001-07-04T15:30:45Z",
+			"2001-07-04T15:30:45.1Z",
+			"2001-07-04T15:30:45.123456+05:30",
+			"2001-07-04T15:30:45-00:00",
+			"2001-07-04T15:30:45",
+			"2000-02-29T00:00:00+14:00",
+			" 2001-07-04T15:30:45Z ",
+			"2001-07-04",
+			"2001-07",
+			"2001",
+		};
+		for (String s : in)
+			assertEquals(s, DatatypeConverter.parseDateTime(s), Iso8601Utils.parseDateTime(s));
+
+		String[] invalid = {
+			"2001-13-04T15:30:45Z",
+			"2001-02-29T15:30:45Z",
+			"2001-07-04T24:30:45Z",
+			"2001-07-04T15:30:45+15:00",
+			"2001-07-04T15:30Z",
+		};
+		for (String s : invalid) {
+			try {
+				Iso8601Utils.parseDateTime(s);
+				fail("Exception expected for " + s);
+			} catch (IllegalArgumentException e) {
+				// OK
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Millisecond-precision swaps with non-zero milliseconds.
+	//====================================================================================================
+	@Test
+	public void testMillisecondSwaps() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession(null, Locale.US, TimeZone.getTimeZone("PST"), null);
+		Date d = new Date(983614272123L);
+		assertEquals("2001-03-03T02:11:12.123-08:00", new DateSwap.ISO8601DTP().swap(session, d));
+		assertEquals("2001-03-03T10:11:12.123Z", new DateSwap.ISO8601DTPZ().swap(session, d));
+
+		Calendar c = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+		c.setTime(d);
+		assertEquals("2001-03-03T02:11:12.123-08:00", new CalendarSwap.ISO8601DTP().swap(session, c));
+		assertEquals("2001-03-03T10:11:12.123Z", new CalendarSwap.ISO8601DTPZ().swap(session, c));
+	}
+
+	//====================================================================================================
+	// Date formatters are cached and shared.
+	//====================================================================================================
+	@Test
+	public void testDateFormatCache() throws Exception {
+		TimeZone gmt = TimeZone.getTimeZone("GMT");
+		SafeDateFormat f1 = SafeDateFormat.get("yyyy/MM/dd", -1, -1, Locale.US, gmt);
+		SafeDateFormat f2 = SafeDateFormat.get("yyyy/MM/dd", -1, -1, Locale.US, gmt);
+		assertSame(f1, f2);
+		assertNotSame(f1, SafeDateFormat.get("yyyy/MM/dd", -1, -1, Locale.JAPAN, gmt));
+		assertNotSame(f1, SafeDateFormat.get("yyyy/MM/dd", -1, -1, Locale.US, TimeZone.getTimeZone("PST")));
+		assertEquals("2001/03/03", f1.format(new Date(983614272000L)));
+		assertEquals(983577600000L, f1.parse("2001/03/03").getTime());
+	}
+
+	//====================================================================================================
+	// Subclasses that override getDateFormat() still control the format.
+	//====================================================================================================
+	@Test
+	public void testCustomDateFormat() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession(null, Locale.US, TimeZone.getTimeZone("GMT"), null);
+		Date d = new Date(983614272000L);
+		DateSwap ds = new DateSwap.DateSimple() {
+			@Override /* DateSwap */
+			protected DateFormat getDateFormat(BeanSession s) {
+				DateFormat df = new SimpleDateFormat("dd.MM.yyyy", s.getLocale());
+				df.setTimeZone(s.getTimeZone());
+				return df;
+			}
+		};
+		assertEquals("03.03.2001", ds.swap(session, d));
+		assertEquals(983577600000L, ds.unswap(session, "03.03.2001", null).getTime());
+		assertEquals("2001/03/03", new DateSwap.DateSimple().swap(session, d));
+
+		Calendar c = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+		c.setTime(d);
+		CalendarSwap cs = new CalendarSwap.DateSimple() {
+			@Override /* CalendarSwap */
+			protected DateFormat getDateFormat(BeanSession s, Calendar c2) {
+				DateFormat df = new SimpleDateFormat("dd.MM.yyyy", s.getLocale());
+				df.setTimeZone(s.getTimeZone());
+				return df;
+			}
+		};
+		assertEquals("03.03.2001", cs.swap(session, c));
+		assertEquals("2001/03/03", new CalendarSwap.DateSimple().swap(session, c));
+	}
+}
@@ -0,0 +1,128 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class MethodInvokerTest {
+
+	private static MethodInvoker invoker(Class<?> c, String name) throws Exception {
+		for (Method m : c.getMethods()) {
+			if (m.getName().equals(name)) {
+				assertTrue(PropertyAccessorGenerator.canInvoke(m));
+				MethodInvoker mi = PropertyAccessorGenerator.generateInvoker(m);
+				assertNotNull(mi);
+				return mi;
+			}
+		}
+		throw new RuntimeException("Method not found: " + name);
+	}
+
+	@Test
+	public void testArgsAndReturnTypes() throws Exception {
+		A a = new A();
+		assertEquals("x1true2.5", invoker(A.class, "concat").invoke(a, new Object[]{"x", 1, true, 2.5d}));
+		assertEquals(Long.valueOf(28), invoker(A.class, "sum").invoke(a, new Object[]{1, 2L, 3d, 4f, (short)5, (byte)6, 7}));
+		assertNull(invoker(A.class, "doVoid").invoke(a, new Object[]{"foo"}));
+		assertEquals("foo", a.last);
+		assertEquals('c', invoker(A.class, "getChar").invoke(a, new Object[]{'c'}));
+		assertArrayEquals(new int[]{1,2}, (int[])invoker(A.class, "array").invoke(a, new Object[]{new int[]{1,2}}));
+		assertEquals(Arrays.asList("a"), invoker(I.class, "list").invoke(a, new Object[]{"a"}));
+	}
+
+	@Test
+	public void testExceptions() throws Exception {
+		A a = new A();
+		try {
+			invoker(A.class, "fail").invoke(a, new Object[]{new ClassCastException("foo")});
+			fail("Exception expected");
+		} catch (InvocationTargetException e) {
+			assertTrue(e.getTargetException() instanceof ClassCastException);
+			assertEquals("foo", e.getTargetException().getMessage());
+		}
+		try {
+			invoker(A.class, "concat").invoke(a, new Object[]{1, 1, true, 2.5d});
+			fail("Exception expected");
+		} catch (ClassCastException e) {
+			// Argument conversion failures are not wrapped.
+		}
+		try {
+			invoker(A.class, "concat").invoke(a, new Object[]{"x", null, true, 2.5d});
+			fail("Exception expected");
+		} catch (NullPointerException e) {
+			// Argument conversion failures are not wrapped.
+		}
+	}
+
+	@Test
+	public void testCanInvoke() throws Exception {
+		assertFalse(PropertyAccessorGenerator.canInvoke(B.class.getMethod("foo")));
+		assertFalse(PropertyAccessorGenerator.canInvoke(A.class.getMethod("staticMethod")));
+		assertFalse(PropertyAccessorGenerator.canInvoke(A.class.getMethod("privateType")));
+	}
+
+	public static interface I {
+		List<String> list(String s);
+	}
+
+	public static class A implements I {
+		String last;
+
+		public String concat(String s, int i, boolean b, double d) {
+			return s + i + b + d;
+		}
+
+		public long sum(int i, long l, double d, float f, short s, byte b, Integer i2) {
+			return (long)(i + l + d + f + s + b + i2);
+		}
+
+		public void doVoid(String s) {
+			last = s;
+		}
+
+		public char getChar(char c) {
+			return c;
+		}
+
+		public int[] array(int[] a) {
+			return a;
+		}
+
+		public void fail(RuntimeException e) {
+			throw e;
+		}
+
+		@Override /* I */
+		public List<String> list(String s) {
+			return Collections.singletonList(s);
+		}
+
+		public static void staticMethod() {}
+
+		public C privateType() {
+			return null;
+		}
+	}
+
+	static class B {
+		public void foo() {}
+	}
+
+	private static class C {}
+}
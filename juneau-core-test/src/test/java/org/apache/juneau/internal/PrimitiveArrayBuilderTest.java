@@ -0,0 +1,90 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class PrimitiveArrayBuilderTest {
+
+	//====================================================================================================
+	// Values are narrowed to the component type and the array grows as needed.
+	//====================================================================================================
+	@Test
+	public void testNumbers() throws Exception {
+		PrimitiveArrayBuilder b = new PrimitiveArrayBuilder(int.class, 0);
+		for (int i = 0; i < 100; i++)
+			b.add(i);
+		b.add(1.9d);
+		b.add((Object)null);
+		b.add((Object)Long.valueOf(5));
+		int[] a = (int[])b.getArray();
+		assertEquals(103, a.length);
+		assertEquals(99, a[99]);
+		assertEquals(1, a[100]);
+		assertEquals(0, a[101]);
+		assertEquals(5, a[102]);
+
+		b = new PrimitiveArrayBuilder(double.class, 2);
+		b.add(1).add(2.5d);
+		b.add((Object)Float.valueOf(0.5f));
+		assertEquals("[1.0, 2.5, 0.5]", Arrays.toString((double[])b.getArray()));
+		assertEquals("[1.0, 2.5, 0.5]", new ArrayList<Object>(b).toString());
+		assertEquals(3, b.size());
+
+		b = new PrimitiveArrayBuilder(byte.class, 2);
+		b.add(1).add(2);
+		assertEquals("[1, 2]", Arrays.toString((byte[])b.getArray()));
+	}
+
+	//====================================================================================================
+	// Booleans and numbers can't be mixed.
+	//====================================================================================================
+	@Test
+	public void testBooleans() throws Exception {
+		PrimitiveArrayBuilder b = new PrimitiveArrayBuilder(boolean.class, 1);
+		assertTrue(b.isBoolean());
+		b.add(true);
+		b.add((Object)Boolean.FALSE);
+		b.add((Object)null);
+		assertEquals("[true, false, false]", Arrays.toString((boolean[])b.getArray()));
+		try {
+			b.add(1);
+			fail("Exception expected");
+		} catch (IllegalStateException e) {}
+		try {
+			new PrimitiveArrayBuilder(int.class, 1).add(true);
+			fail("Exception expected");
+		} catch (IllegalStateException e) {}
+	}
+
+	//====================================================================================================
+	// Only primitive numbers and booleans are supported.
+	//====================================================================================================
+	@Test
+	public void testIsSupported() throws Exception {
+		assertTrue(PrimitiveArrayBuilder.isSupported(int.class));
+		assertTrue(PrimitiveArrayBuilder.isSupported(boolean.class));
+		assertFalse(PrimitiveArrayBuilder.isSupported(char.class));
+		assertFalse(PrimitiveArrayBuilder.isSupported(Integer.class));
+		assertFalse(PrimitiveArrayBuilder.isSupported(null));
+		try {
+			new PrimitiveArrayBuilder(String.class, 1);
+			fail("Exception expected");
+		} catch (IllegalArgumentException e) {}
+	}
+}
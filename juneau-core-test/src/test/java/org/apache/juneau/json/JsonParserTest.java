@@ -14,6 +14,9 @@ package org.apache.juneau.json;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
@@ -322,4 +325,129 @@ public class JsonParserTest {
 			return "f="+f;
 		}
 	}
+
+	//====================================================================================================
+	// Incremental parsing of arrays.
+	//====================================================================================================
+	@Test
+	public void testIterate() throws Exception {
+		ParserIterator<D> i = p.iterate(" /*x*/ [{f:1}, {f:2} ,{f:3}] ", D.class);
+		assertTrue(i.hasNext());
+		assertTrue(i.hasNext());
+		assertEquals(1, i.next().f);
+		assertEquals(2, i.next().f);
+		assertEquals(3, i.next().f);
+		assertFalse(i.hasNext());
+		i.close();
+
+		ParserIterator<List<Integer>> i2 = p.iterate("[[1,2],[3]]", List.class, Integer.class);
+		assertEquals(Arrays.asList(1,2), i2.next());
+		assertEquals(Arrays.asList(3), i2.next());
+		assertFalse(i2.hasNext());
+
+		assertFalse(p.iterate("[]", D.class).hasNext());
+		assertFalse(p.iterate(null, D.class).hasNext());
+	}
+
+	@Test
+	public void testIterateLazy() throws Exception {
+		// Elements after the current one haven't been read yet.
+		final StringBuilder sb = new StringBuilder();
+		for (int j = 0; j < 1000; j++)
+			sb.append(j == 0 ? "[" : ",").append("{f:").append(j).append('}');
+		sb.append(']');
+		final int[] read = new int[1];
+		Reader r = new StringReader(sb.toString()) {
+			@Override /* Reader */
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				int n = super.read(cbuf, off, len);
+				if (n > 0)
+					read[0] += n;
+				return n;
+			}
+		};
+		ParserIterator<D> i = p.iterate(r, D.class);
+		assertEquals(0, i.next().f);
+		assertTrue(read[0] < sb.length());
+		int count = 1;
+		while (i.hasNext())
+			assertEquals(count++, i.next().f);
+		assertEquals(1000, count);
+	}
+
+	@Test
+	public void testIterateInvalid() throws Exception {
+		try {
+			p.iterate("{f:1}", D.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getLocalizedMessage().contains("Expected '[' at beginning of JSON array."));
+		}
+
+		ParserIterator<D> i = p.iterate("[{f:1},]", D.class);
+		i.next();
+		try {
+			i.hasNext();
+			fail("Exception expected");
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+			assertTrue(e.getCause().getLocalizedMessage().contains("Unexpected trailing comma in array."));
+		}
+		assertFalse(i.hasNext());
+
+		i = p.iterate("[{f:1}{f:2}]", D.class);
+		i.next();
+		try {
+			i.next();
+			fail("Exception expected");
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getCause().getLocalizedMessage().contains("Expected ',' or ']'."));
+		}
+
+		i = p.iterate("[{f:1}] x", D.class);
+		i.next();
+		try {
+			i.hasNext();
+			fail("Exception expected");
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getCause().getLocalizedMessage().contains("Remainder after parse"));
+		}
+	}
+
+	//====================================================================================================
+	// Primitive arrays are filled directly without an intermediate list.
+	//====================================================================================================
+	@Test
+	public void testPrimitiveArrays() throws Exception {
+		int[] i = p.parse(" /*x*/ [1, null, '3', 0x10] ", int[].class);
+		assertEquals("[1,0,3,16]", Arrays.toString(i).replace(" ", ""));
+
+		long[] l = p.parse("[9223372036854775807,-1]", long[].class);
+		assertEquals(Long.MAX_VALUE, l[0]);
+		assertEquals(-1l, l[1]);
+
+		double[] d = p.parse("[1,2.5,-1e3]", double[].class);
+		assertEquals("[1.0,2.5,-1000.0]", Arrays.toString(d).replace(" ", ""));
+
+		boolean[] b = p.parse("[true,false,null,'true']", boolean[].class);
+		assertEquals("[true,false,false,true]", Arrays.toString(b).replace(" ", ""));
+
+		assertEquals(0, p.parse("[]", float[].class).length);
+
+		int[][] i2 = p.parse("[[1,2],null,[]]", int[][].class);
+		assertEquals(2, i2[0].length);
+		assertNull(i2[1]);
+		assertEquals(0, i2[2].length);
+
+		try {
+			sp.parse("[1,]", int[].class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getLocalizedMessage().contains("Unexpected trailing comma in array."));
+		}
+	}
+
+	public static class D {
+		public int f;
+	}
 }
@@ -14,6 +14,10 @@ package org.apache.juneau.msgpack;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.junit.*;
 
@@ -203,6 +207,87 @@ public class MsgPackSerialzierTest {
 		test(new ObjectMap("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// Values spanning the internal stream buffers.
+	//====================================================================================================
+	@Test
+	public void testBufferBoundaries() throws Exception {
+		List<Object> l = new ArrayList<Object>();
+		for (int i = 0; i < 3000; i++) {
+			l.add(i);
+			l.add(Long.MAX_VALUE - i);
+			l.add(i + 0.5d);
+			l.add("s" + i);
+		}
+		l.add(repeat("x", 8191));
+		l.add(repeat("x", 8192));
+		l.add(repeat("\u00e9", 5000));
+		l.add(repeat("x", 100000));
+
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+
+		// Parse from a byte array, a stream that returns one byte per read, and a large-buffered stream.
+		assertEquals(l, MsgPackParser.DEFAULT.parse(b, List.class));
+		assertEquals(l, MsgPackParser.DEFAULT.parse(new TrickleInputStream(b), List.class));
+		assertEquals(l, MsgPackParser.DEFAULT.parse(new ByteArrayInputStream(b), List.class));
+
+		// Serializing to an output stream should produce the same bytes.
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		MsgPackSerializer.DEFAULT.serialize(l, baos);
+		assertTrue(Arrays.equals(b, baos.toByteArray()));
+	}
+
+	//====================================================================================================
+	// ByteBuffer input and output.
+	//====================================================================================================
+	@Test
+	public void testByteBuffers() throws Exception {
+		Person p = new Person();
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(p);
+
+		for (ByteBuffer bb : new ByteBuffer[]{ByteBuffer.allocate(100), ByteBuffer.allocateDirect(100)}) {
+			bb.position(10);
+			MsgPackSerializer.DEFAULT.serialize(p, bb);
+			assertEquals(10 + b.length, bb.position());
+
+			bb.flip().position(10);
+			Person p2 = MsgPackParser.DEFAULT.parse(bb, Person.class);
+			assertEquals("John Smith", p2.name);
+			assertEquals(21, p2.age);
+			assertEquals(10, bb.position());
+		}
+
+		// Heap buffers that are slices of larger arrays.
+		byte[] b2 = new byte[b.length + 20];
+		System.arraycopy(b, 0, b2, 10, b.length);
+		ByteBuffer bb = ByteBuffer.wrap(b2, 10, b.length).slice();
+		assertEquals("John Smith", MsgPackParser.DEFAULT.parse(bb, Person.class).name);
+
+		try {
+			MsgPackSerializer.DEFAULT.serialize(p, ByteBuffer.allocate(5));
+			fail("Exception expected");
+		} catch (Exception e) {
+			assertTrue(e.getLocalizedMessage().contains("Buffer overflow"));
+		}
+	}
+
+	private static String repeat(String s, int count) {
+		StringBuilder sb = new StringBuilder(s.length() * count);
+		for (int i = 0; i < count; i++)
+			sb.append(s);
+		return sb.toString();
+	}
+
+	private static class TrickleInputStream extends ByteArrayInputStream {
+		TrickleInputStream(byte[] b) {
+			super(b);
+		}
+		@Override /* InputStream */
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, 1));
+		}
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
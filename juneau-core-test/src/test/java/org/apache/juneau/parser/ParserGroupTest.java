@@ -13,6 +13,7 @@
 package org.apache.juneau.parser;
 
 import static org.apache.juneau.TestUtils.*;
+import static org.junit.Assert.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -67,6 +68,22 @@ public class ParserGroupTest {
 		}
 	}
 	
+	//====================================================================================================
+	// Equivalent Content-Type headers share cache entries.
+	//====================================================================================================
+	@Test
+	public void testMatchCacheNormalization() throws Exception {
+		ParserGroup g = new ParserGroupBuilder().append(Parser1.class, Parser2.class, Parser3.class).build();
+		ParserMatch pm = g.getParserMatch("text/foo;a=1;b=2");
+		assertType(Parser1.class, pm.getParser());
+
+		assertSame(pm, g.getParserMatch("text/foo; b=2; a=1"));
+		assertSame(pm, g.getParserMatch("text/foo;a=1;b=2"));
+		assertEquals(2, (long)g.getMatchCacheStats().getLong("hits"));
+
+		assertNull(g.getParserMatch("text/unknown"));
+	}
+
 	//====================================================================================================
 	// Test inheritence
 	//====================================================================================================
@@ -0,0 +1,194 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.csv.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class IteratorSerializationTest {
+
+	//====================================================================================================
+	// Iterators, enumerations, and iterables are serialized as arrays.
+	//====================================================================================================
+	@Test
+	public void testJson() throws Exception {
+		WriterSerializer s = JsonSerializer.DEFAULT_LAX;
+		assertEquals("['foo','bar']", s.serialize(list("foo","bar").iterator()));
+		assertEquals("['foo','bar']", s.serialize(new Vector<String>(list("foo","bar")).elements()));
+		assertEquals("['foo','bar']", s.serialize(new A(list("foo","bar"))));
+		assertEquals("[]", s.serialize(list().iterator()));
+		assertEquals("{f1:['foo','bar']}", s.serialize(new B(list("foo","bar").iterator())));
+	}
+
+	@Test
+	public void testXml() throws Exception {
+		WriterSerializer s = XmlSerializer.DEFAULT_SQ;
+		assertEquals("<array><string>foo</string><string>bar</string></array>", s.serialize(list("foo","bar").iterator()));
+		assertEquals("<object><f1><string>foo</string><string>bar</string></f1></object>", s.serialize(new B(list("foo","bar").iterator())));
+	}
+
+	@Test
+	public void testUon() throws Exception {
+		assertEquals("@(foo,bar)", UonSerializer.DEFAULT.serialize(list("foo","bar").iterator()));
+		assertEquals("@()", UonSerializer.DEFAULT.serialize(list().iterator()));
+		assertEquals("0=foo&1=bar", UrlEncodingSerializer.DEFAULT.serialize(list("foo","bar").iterator()));
+		assertEquals("f1=@(foo,bar)", UrlEncodingSerializer.DEFAULT.serialize(new B(list("foo","bar").iterator())));
+	}
+
+	@Test
+	public void testMsgPack() throws Exception {
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(list("foo","bar").iterator());
+		assertArrayEquals(MsgPackSerializer.DEFAULT.serialize(list("foo","bar")), b);
+		assertEquals(list("foo","bar"), MsgPackParser.DEFAULT.parse(b, List.class, String.class));
+	}
+
+	@Test
+	public void testCsv() throws Exception {
+		List<C> l = new ArrayList<C>();
+		l.add(new C("b1",1));
+		l.add(new C("b2",2));
+		assertEquals("b,c\nb1,1\nb2,2\n", CsvSerializer.DEFAULT.serialize(l.iterator()));
+	}
+
+	//====================================================================================================
+	// Elements are written as they're pulled from the iterator.
+	//====================================================================================================
+	@Test
+	public void testStreaming() throws Exception {
+		final StringWriter sw = new StringWriter();
+		final List<Integer> lengths = new ArrayList<Integer>();
+		Iterator<C> i = new Iterator<C>() {
+			int count = 0;
+			@Override
+			public boolean hasNext() {
+				return count < 3;
+			}
+			@Override
+			public C next() {
+				lengths.add(sw.getBuffer().length());
+				return new C("b"+count, count++);
+			}
+			@Override
+			public void remove() {}
+		};
+		JsonSerializer.DEFAULT_LAX.serialize(i, sw);
+		assertEquals("[{b:'b0',c:0},{b:'b1',c:1},{b:'b2',c:2}]", sw.toString());
+		assertEquals("[1, 14, 27]", lengths.toString());
+	}
+
+	//====================================================================================================
+	// Iterables with string conversions or that iterate over themselves are still serialized as strings.
+	//====================================================================================================
+	@Test
+	public void testStringIterables() throws Exception {
+		WriterSerializer s = JsonSerializer.DEFAULT_LAX;
+		assertEquals("'a/b'", s.serialize(D.of("a/b")));
+		assertEquals("'a/b'", s.serialize(new E("a/b")));
+		assertEquals("{f1:'a/b'}", s.serialize(new F(new E("a/b"))));
+		assertEquals("<string>a/b</string>", XmlSerializer.DEFAULT_SQ.serialize(D.of("a/b")));
+		assertFalse(BeanContext.DEFAULT.getClassMeta(D.class).isIterable());
+		assertFalse(BeanContext.DEFAULT.getClassMeta(E.class).isIterable());
+		assertTrue(BeanContext.DEFAULT.getClassMeta(A.class).isIterable());
+	}
+
+	private static List<String> list(String...s) {
+		return new ArrayList<String>(Arrays.asList(s));
+	}
+
+	public static class A implements Iterable<String> {
+		private final List<String> l;
+		public A(List<String> l) {
+			this.l = l;
+		}
+		@Override
+		public Iterator<String> iterator() {
+			return l.iterator();
+		}
+	}
+
+	public static class B {
+		public Iterator<String> f1;
+		public B(Iterator<String> f1) {
+			this.f1 = f1;
+		}
+	}
+
+	// Like java.nio.file.Path, iterates over its own type.
+	public static class D implements Iterable<D> {
+		private final String[] segments;
+		private D(String[] segments) {
+			this.segments = segments;
+		}
+		public static D of(String s) {
+			return new D(s.split("/"));
+		}
+		@Override
+		public Iterator<D> iterator() {
+			List<D> l = new ArrayList<D>();
+			for (String x : segments)
+				l.add(new D(new String[]{x}));
+			return l.iterator();
+		}
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			for (String x : segments)
+				sb.append(sb.length() == 0 ? "" : "/").append(x);
+			return sb.toString();
+		}
+	}
+
+	// Has a String constructor.
+	public static class E implements Iterable<String> {
+		private final String s;
+		public E(String s) {
+			this.s = s;
+		}
+		@Override
+		public Iterator<String> iterator() {
+			return Arrays.asList(s.split("/")).iterator();
+		}
+		@Override
+		public String toString() {
+			return s;
+		}
+	}
+
+	public static class F {
+		public E f1;
+		public F(E f1) {
+			this.f1 = f1;
+		}
+	}
+
+	public static class C {
+		public String b;
+		public int c;
+		public C(String b, int c) {
+			this.b = b;
+			this.c = c;
+		}
+	}
+}
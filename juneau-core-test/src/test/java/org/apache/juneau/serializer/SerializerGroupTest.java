@@ -13,6 +13,7 @@
 package org.apache.juneau.serializer;
 
 import static org.apache.juneau.TestUtils.*;
+import static org.junit.Assert.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -72,6 +73,24 @@ public class SerializerGroupTest {
 		}
 	}
 
+	//====================================================================================================
+	// Equivalent Accept headers share cache entries.
+	//====================================================================================================
+	@Test
+	public void testMatchCacheNormalization() throws Exception {
+		SerializerGroup sg = new SerializerGroupBuilder().append(SA1.class, SA2.class, SA3.class).build();
+		SerializerMatch sm = sg.getSerializerMatch("text/foo;q=0.9,text/baz;q=0.8");
+		assertType(SA1.class, sm.getSerializer());
+		long misses = sg.getMatchCacheStats().getLong("misses");
+
+		assertSame(sm, sg.getSerializerMatch(" text/baz;q=0.8 , text/foo;q=0.9"));
+		assertSame(sm, sg.getSerializerMatch("text/foo;q=0.9,text/baz;q=0.8"));
+		assertEquals(misses + 1, (long)sg.getMatchCacheStats().getLong("misses"));
+		assertEquals(2, (long)sg.getMatchCacheStats().getLong("hits"));
+
+		assertNull(sg.getSerializerMatch("text/unknown"));
+	}
+
 	//====================================================================================================
 	// Test inheritence
 	//====================================================================================================
@@ -14,6 +14,8 @@ package org.apache.juneau.utils;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+
 import org.apache.juneau.internal.*;
 import org.apache.juneau.svl.*;
 import org.junit.*;
@@ -289,6 +291,44 @@ public class StringVarResolverTest {
 		assertEquals("x", vr.resolve(in));
 	}
 
+	//====================================================================================================
+	// Compiled templates
+	//====================================================================================================
+	@Test
+	public void testCompile() throws Exception {
+		VarResolver vr = new VarResolverBuilder().vars(XVar.class).build();
+		VarResolverSession s = vr.createSession();
+
+		VarTemplate t = vr.compile("z$X{y}z$X{$X{y}}z");
+		assertSame(t, vr.compile("z$X{y}z$X{$X{y}}z"));
+		assertFalse(t.isConstant());
+		assertEquals("zxyxzxxyxxz", t.resolve(s));
+		assertEquals("zxyxzxxyxxz", t.resolveTo(s, new StringWriter()).toString());
+		assertEquals("zxyxzxxyxxz", s.resolve(t));
+
+		// Strings without vars are folded into constants.
+		t = vr.compile("foo\\$bar");
+		assertTrue(t.isConstant());
+		assertEquals("foo$bar", t.resolve(s));
+
+		t = vr.compile("$X.{y}");
+		assertTrue(t.isConstant());
+		assertEquals("$X.{y}", t.resolve(s));
+
+		t = vr.compile(null);
+		assertTrue(t.isConstant());
+		assertEquals("", t.resolve(s));
+
+		// Unknown vars are looked up when evaluated, so the same template can be used with other resolvers.
+		t = vr.compile("a$Y{y}b");
+		assertEquals("a$Y{y}b", t.resolve(s));
+		assertEquals("a$Y{y}b", t.resolve(new VarResolverBuilder().vars(BlankVar.class).build().createSession()));
+
+		// Same results as resolving the string directly.
+		for (String in : new String[]{"$X{y}", "$X{$X{y}}", "x$X{y}\\$X{y}", "$X{y\\}}", "$X{y", "$X{y}$", "\\", "$X{\\$X{y}}"})
+			assertEquals(vr.resolve(in), vr.compile(in).resolve(s));
+	}
+
 	public static class AlwaysNullVar extends SimpleVar {
 		public AlwaysNullVar() {
 			super("A");
@@ -12,9 +12,18 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.xml;
 
+import static org.apache.juneau.xml.XmlParserContext.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.util.concurrent.atomic.*;
+
+import javax.xml.stream.*;
+import javax.xml.stream.util.*;
+import javax.xml.transform.*;
+
 import org.apache.juneau.*;
+import org.apache.juneau.html.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
 
@@ -92,4 +101,150 @@ public class XmlParserTest {
 		m = p.parse(xml, ObjectMap.class);
 		assertEquals("{A:{}}", m.toString());
 	}
+
+	//====================================================================================================
+	// The StAX factory is created once per parser and reused until a session overrides a StAX setting.
+	//====================================================================================================
+	@Test
+	public void testInputFactory() throws Exception {
+		CountingInputFactory.INSTANCES.set(0);
+		CountingInputFactory.READERS.set(0);
+		XmlParser p = new XmlParserBuilder().inputFactory(CountingInputFactory.class).build();
+
+		for (int i = 0; i < 3; i++)
+			assertEquals("{b:'1'}", p.parse("<A><b>1</b></A>", ObjectMap.class).toString());
+		assertEquals(1, CountingInputFactory.INSTANCES.get());
+		assertEquals(3, CountingInputFactory.READERS.get());
+
+		// Overriding a StAX setting on the session requires a differently-configured factory.
+		XMLReporter reporter = new XMLReporter() {
+			@Override /* XMLReporter */
+			public void report(String message, String errorType, Object relatedInformation, Location location) {}
+		};
+		ParserSession s = p.createSession("<A><b>2</b></A>", new ObjectMap().append(XML_reporter, reporter), null, null, null, null, null);
+		assertEquals("{b:'2'}", p.parseSession(s, p.getBeanContext().getClassMeta(ObjectMap.class)).toString());
+		assertEquals(2, CountingInputFactory.INSTANCES.get());
+
+		// Overriding only non-StAX settings reuses the cached factory.
+		s = p.createSession("<A><b>3</b></A>", new ObjectMap().append(XML_preserveRootElement, false), null, null, null, null, null);
+		assertEquals("{b:'3'}", p.parseSession(s, p.getBeanContext().getClassMeta(ObjectMap.class)).toString());
+		assertEquals(2, CountingInputFactory.INSTANCES.get());
+		assertEquals(5, CountingInputFactory.READERS.get());
+
+		// The HTML parser uses the same setting.
+		HtmlParser hp = new HtmlParserBuilder().inputFactory(CountingInputFactory.class).build();
+		assertEquals("foo", hp.parse("<string>foo</string>", String.class));
+		assertEquals("bar", hp.parse("<string>bar</string>", String.class));
+		assertEquals(3, CountingInputFactory.INSTANCES.get());
+	}
+
+	/**
+	 * Delegates to the default StAX implementation and counts how often it's instantiated and used.
+	 */
+	public static class CountingInputFactory extends XMLInputFactory {
+		static final AtomicInteger INSTANCES = new AtomicInteger(), READERS = new AtomicInteger();
+		private final XMLInputFactory f = XMLInputFactory.newInstance();
+
+		public CountingInputFactory() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public XMLStreamReader createXMLStreamReader(Reader reader) throws XMLStreamException {
+			READERS.incrementAndGet();
+			return f.createXMLStreamReader(reader);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(Source source) throws XMLStreamException {
+			return f.createXMLStreamReader(source);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(InputStream stream) throws XMLStreamException {
+			return f.createXMLStreamReader(stream);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(InputStream stream, String encoding) throws XMLStreamException {
+			return f.createXMLStreamReader(stream, encoding);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(String systemId, InputStream stream) throws XMLStreamException {
+			return f.createXMLStreamReader(systemId, stream);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(String systemId, Reader reader) throws XMLStreamException {
+			return f.createXMLStreamReader(systemId, reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(Reader reader) throws XMLStreamException {
+			return f.createXMLEventReader(reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(String systemId, Reader reader) throws XMLStreamException {
+			return f.createXMLEventReader(systemId, reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(XMLStreamReader reader) throws XMLStreamException {
+			return f.createXMLEventReader(reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(Source source) throws XMLStreamException {
+			return f.createXMLEventReader(source);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(InputStream stream) throws XMLStreamException {
+			return f.createXMLEventReader(stream);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(InputStream stream, String encoding) throws XMLStreamException {
+			return f.createXMLEventReader(stream, encoding);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(String systemId, InputStream stream) throws XMLStreamException {
+			return f.createXMLEventReader(systemId, stream);
+		}
+		@Override
+		public XMLStreamReader createFilteredReader(XMLStreamReader reader, StreamFilter filter) throws XMLStreamException {
+			return f.createFilteredReader(reader, filter);
+		}
+		@Override
+		public XMLEventReader createFilteredReader(XMLEventReader reader, EventFilter filter) throws XMLStreamException {
+			return f.createFilteredReader(reader, filter);
+		}
+		@Override
+		public XMLResolver getXMLResolver() {
+			return f.getXMLResolver();
+		}
+		@Override
+		public void setXMLResolver(XMLResolver resolver) {
+			f.setXMLResolver(resolver);
+		}
+		@Override
+		public XMLReporter getXMLReporter() {
+			return f.getXMLReporter();
+		}
+		@Override
+		public void setXMLReporter(XMLReporter reporter) {
+			f.setXMLReporter(reporter);
+		}
+		@Override
+		public void setProperty(String name, Object value) {
+			f.setProperty(name, value);
+		}
+		@Override
+		public Object getProperty(String name) {
+			return f.getProperty(name);
+		}
+		@Override
+		public boolean isPropertySupported(String name) {
+			return f.isPropertySupported(name);
+		}
+		@Override
+		public void setEventAllocator(XMLEventAllocator allocator) {
+			f.setEventAllocator(allocator);
+		}
+		@Override
+		public XMLEventAllocator getEventAllocator() {
+			return f.getEventAllocator();
+		}
+	}
 }
\ No newline at end of file
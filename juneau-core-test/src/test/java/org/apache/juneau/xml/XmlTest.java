@@ -1029,4 +1029,45 @@ public class XmlTest {
 			f3 = "f3";
 		}
 	}
+
+	//====================================================================================================
+	// XML_precomputeNamespaces
+	//====================================================================================================
+	@Test
+	public void testPrecomputeNamespaces() throws Exception {
+		XmlSerializerBuilder s = new XmlSerializerBuilder().sq().ns().addNamespaceUrisToRoot(true).autoDetectNamespaces(true);
+		XmlSerializer s1 = s.build();
+		XmlSerializer s2 = s.precomputeNamespaces(true).build();
+		XmlParser p = XmlParser.DEFAULT;
+		String r;
+
+		// Namespaces determined from declared types only.
+		Q t = new Q();
+		r = s2.serialize(t);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:ns='http://ns' xmlns:nsf1='http://nsf1' xmlns:nsf3='http://nsf3' nsf1:f1='http://f1' ns:f2='f2' nsf3:x3='f3'/>", r);
+		assertEquals(s1.serialize(t), r);
+		validateXml(t, s2);
+
+		// Object-typed properties are inspected at serialization time.
+		R t2 = new R();
+		t2.f1 = new T1();
+		r = s2.serialize(t2);
+		assertEquals(s1.serialize(t2), r);
+		assertTrue(r.contains("xmlns:foo='http://foo'"));
+		assertTrue(r.contains("xmlns:bar='http://bar'"));
+		assertTrue(r.contains("xmlns:baz='http://baz'"));
+
+		// Collections of beans.
+		List<T1> l = new ArrayList<T1>();
+		l.add(new T1());
+		l.add(new T1());
+		r = s2.serialize(l);
+		assertEquals(s1.serialize(l), r);
+		l = p.parse(r, List.class, T1.class);
+		assertEquals(2, l.size());
+	}
+
+	public static class R {
+		public Object f1;
+	}
 }
\ No newline at end of file
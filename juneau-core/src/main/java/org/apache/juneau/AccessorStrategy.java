@@ -0,0 +1,33 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+/**
+ * Defines how bean property getters, setters and fields are invoked.
+ * <p>
+ * Used in conjunction with the {@link BeanContext#BEAN_accessorStrategy} bean context property.
+ */
+public enum AccessorStrategy {
+
+	/** Invoke getters/setters and fields through Java reflection. */
+	REFLECTION,
+
+	/**
+	 * Invoke getters/setters and fields through accessor classes generated at runtime.
+	 * <p>
+	 * Accessors can only be generated for <jk>public</jk> members of <jk>public</jk> classes.
+	 * Reflection is used for all other properties, or when the accessor class cannot be defined in the
+	 * 	current environment (e.g. because of a security manager).
+	 */
+	GENERATED;
+}
@@ -20,10 +20,10 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
@@ -349,6 +349,25 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_useJavaBeanIntrospector = "BeanContext.useJavaBeanIntrospector";
 
+	/**
+	 * <b>Configuration property:</b>  Strategy for invoking bean getters, setters, and fields.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"BeanContext.accessorStrategy"</js>
+	 * 	<li><b>Data type:</b> {@link AccessorStrategy}
+	 * 	<li><b>Default:</b> {@link AccessorStrategy#REFLECTION}
+	 * 	<li><b>Session-overridable:</b> <jk>false</jk>
+	 * </ul>
+	 * <p>
+	 * When set to {@link AccessorStrategy#GENERATED}, a small accessor class is generated for each bean class
+	 * 	so that getters, setters and public fields are invoked directly instead of through
+	 * 	{@link Method#invoke(Object, Object...)}.
+	 * This reduces the per-property overhead of serializing and parsing beans at the cost of generating
+	 * 	one class per bean class.
+	 * Properties that cannot be accessed by generated code (e.g. non-public methods) use reflection.
+	 */
+	public static final String BEAN_accessorStrategy = "BeanContext.accessorStrategy";
+
 	/**
 	 * <b>Configuration property:</b>  Use interface proxies.
 	 * <p>
@@ -773,7 +792,8 @@ public class BeanContext extends Context {
 	// This map ensures that if the BeanContext properties in the ConfigFactory are the same,
 	// then we reuse the same Class->ClassMeta cache map.
 	// This significantly reduces the number of times we need to construct ClassMeta objects which can be expensive.
-	private static final ConcurrentHashMap<Integer,Map<Class,ClassMeta>> cmCacheCache = new ConcurrentHashMap<Integer,Map<Class,ClassMeta>>();
+	// The maps are weakly referenced so that they can be garbage collected along with the last bean context using them.
+	private static final WeakValueCache<PropertyStore.Snapshot,ClassMetaCache> cmCacheCache = new WeakValueCache<PropertyStore.Snapshot,ClassMetaCache>(Integer.getInteger("juneau.classMetaCache.maxSize", 1000));
 
 	/** Default config.  All default settings. */
 	public static final BeanContext DEFAULT = PropertyStore.create().getContext(BeanContext.class);
@@ -803,6 +823,8 @@ public class BeanContext extends Context {
 		beanMethodVisibility,
 		beanFieldVisibility;
 
+	final AccessorStrategy accessorStrategy;
+
 	final Class<?>[] notBeanClasses, beanDictionaryClasses;
 	final String[] notBeanPackageNames, notBeanPackagePrefixes;
 	final BeanFilter[] beanFilters;
@@ -815,7 +837,7 @@ public class BeanContext extends Context {
 	final TimeZone timeZone;
 	final MediaType mediaType;
 
-	final Map<Class,ClassMeta> cmCache;
+	final ClassMetaCache cmCache;
 	final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
 	final ClassMeta<String> cmString;  // Reusable ClassMeta that represents general Strings.
 	final ClassMeta<Class> cmClass;  // Reusable ClassMeta that represents general Classes.
@@ -825,6 +847,7 @@ public class BeanContext extends Context {
 
 	final String beanTypePropertyName;
 
+	final PropertyStore.Snapshot snapshot;
 	final int hashCode;
 
 	/**
@@ -838,8 +861,9 @@ public class BeanContext extends Context {
 		super(ps);
 
 		PropertyStore.PropertyMap pm = ps.getPropertyMap("BeanContext");
-		hashCode = pm.hashCode();
 		classLoader = ps.classLoader;
+		snapshot = new PropertyStore.Snapshot(pm.snapshot(), classLoader);
+		hashCode = pm.hashCode();
 		defaultParser = ps.defaultParser;
 
 		beansRequireDefaultConstructor = pm.get(BEAN_beansRequireDefaultConstructor, boolean.class, false);
@@ -862,6 +886,7 @@ public class BeanContext extends Context {
 		beanClassVisibility = pm.get(BEAN_beanClassVisibility, Visibility.class, PUBLIC);
 		beanMethodVisibility = pm.get(BEAN_methodVisibility, Visibility.class, PUBLIC);
 		beanFieldVisibility = pm.get(BEAN_beanFieldVisibility, Visibility.class, PUBLIC);
+		accessorStrategy = pm.get(BEAN_accessorStrategy, AccessorStrategy.class, AccessorStrategy.REFLECTION);
 
 		notBeanClasses = pm.get(BEAN_notBeanClasses, Class[].class, new Class[0]);
 
@@ -916,13 +941,14 @@ public class BeanContext extends Context {
 		timeZone = pm.get(BEAN_timeZone, TimeZone.class, null);
 		mediaType = pm.get(BEAN_mediaType, MediaType.class, null);
 
-		if (! cmCacheCache.containsKey(hashCode)) {
-			ConcurrentHashMap<Class,ClassMeta> cm = new ConcurrentHashMap<Class,ClassMeta>();
-			cm.putIfAbsent(String.class, new ClassMeta(String.class, this, null, null, findPojoSwap(String.class), findChildPojoSwaps(String.class)));
-			cm.putIfAbsent(Object.class, new ClassMeta(Object.class, this, null, null, findPojoSwap(Object.class), findChildPojoSwaps(Object.class)));
-			cmCacheCache.putIfAbsent(hashCode, cm);
+		ClassMetaCache cmc = cmCacheCache.get(snapshot);
+		if (cmc == null) {
+			cmc = new ClassMetaCache();
+			cmc.put(String.class, new ClassMeta(String.class, this, null, null, findPojoSwap(String.class), findChildPojoSwaps(String.class)));
+			cmc.put(Object.class, new ClassMeta(Object.class, this, null, null, findPojoSwap(Object.class), findChildPojoSwaps(Object.class)));
+			cmc = cmCacheCache.put(snapshot, cmc);
 		}
-		this.cmCache = cmCacheCache.get(hashCode);
+		this.cmCache = cmc;
 		this.cmString = cmCache.get(String.class);
 		this.cmObject = cmCache.get(Object.class);
 		this.cmClass = cmCache.get(Class.class);
@@ -1017,7 +1043,7 @@ public class BeanContext extends Context {
 	protected static void dumpCacheStats() {
 		try {
 			int ctCount = 0;
-			for (Map<Class,ClassMeta> cm : cmCacheCache.values())
+			for (ClassMetaCache cm : cmCacheCache.values())
 				ctCount += cm.size();
 			System.out.println(MessageFormat.format("ClassMeta cache: {0} instances in {1} caches", ctCount, cmCacheCache.size())); // NOT DEBUG
 		} catch (Exception e) {
@@ -1060,18 +1086,23 @@ public class BeanContext extends Context {
 			return null;
 
 		ClassMeta<T> cm = cmCache.get(type);
-		if (cm == null) {
-
-			synchronized (this) {
-				// Make sure someone didn't already set it while this thread was blocked.
-				cm = cmCache.get(type);
-				if (cm == null)
-					cm = new ClassMeta<T>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwap(type), findChildPojoSwaps(type));
-			}
-		}
+		if (cm == null)
+			cm = cmCache.getOrCreate(type, this);
 		return cm;
 	}
 
+	/**
+	 * Constructs a new {@link ClassMeta} for the specified class.
+	 * <p>
+	 * Called from {@link ClassMetaCache} on a cache miss.
+	 *
+	 * @param type The class to create a meta for.
+	 * @return A new meta.
+	 */
+	final <T> ClassMeta<T> newClassMeta(Class<T> type) {
+		return new ClassMeta<T>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwap(type), findChildPojoSwaps(type));
+	}
+
 	/**
 	 * Used to resolve <code>ClassMetas</code> of type <code>Collection</code> and <code>Map</code> that have
 	 * <code>ClassMeta</code> values that themselves could be collections or maps.
@@ -1517,7 +1548,7 @@ public class BeanContext extends Context {
 		if (this == o)
 			return true;
 		if (o instanceof BeanContext)
-			return ((BeanContext)o).hashCode == hashCode;
+			return ((BeanContext)o).snapshot.equals(snapshot);
 		return false;
 	}
 
@@ -1542,6 +1573,7 @@ public class BeanContext extends Context {
 				.append("ignoreInvocationExceptionsOnGetters", ignoreInvocationExceptionsOnGetters)
 				.append("ignoreInvocationExceptionsOnSetters", ignoreInvocationExceptionsOnSetters)
 				.append("useJavaBeanIntrospector", useJavaBeanIntrospector)
+				.append("accessorStrategy", accessorStrategy)
 				.append("beanFilters", beanFilters)
 				.append("pojoSwaps", pojoSwaps)
 				.append("notBeanClasses", notBeanClasses)
@@ -439,6 +439,70 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 		return l;
 	}
 
+	/**
+	 * Invokes all the getters on this bean and passes the values to the specified consumer.
+	 * <p>
+	 * Equivalent to iterating over {@link #getValues(boolean, BeanPropertyValue...)}, but does not create a list or
+	 * 	{@link BeanPropertyValue} objects.
+	 * Serializers should use this method since it is called once per serialized bean.
+	 * <p>
+	 * Exceptions thrown by the getters are passed to the consumer.
+	 * Exceptions thrown by the consumer are propagated to the caller and stop the iteration.
+	 *
+	 * @param ignoreNulls Don't pass properties whose values are null.
+	 * @param action The consumer of the property values.
+	 * @throws Exception Thrown by the consumer.
+	 */
+	public void forEachValue(boolean ignoreNulls, BeanPropertyConsumer action) throws Exception {
+
+		// Dyna property values must be sorted together with the normal properties.
+		if (meta.sortProperties && meta.dynaProperty != null) {
+			for (BeanPropertyValue v : getValues(ignoreNulls))
+				action.accept(v.getMeta(), v.getName(), v.getValue(), v.getThrown());
+			return;
+		}
+
+		for (BeanPropertyMeta bpm : getProperties()) {
+			if (bpm.isDyna()) {
+				Map<String,Object> dynaMap;
+				try {
+					dynaMap = bpm.getDynaMap(bean);
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable t) {
+					action.accept(bpm, bpm.getName(), null, t);
+					continue;
+				}
+				for (String pName : dynaMap.keySet()) {
+					Object val;
+					try {
+						val = bpm.get(this, pName);
+					} catch (Error e) {
+						throw e;
+					} catch (Throwable t) {
+						action.accept(bpm, bpm.getName(), null, t);
+						break;
+					}
+					if (val != null || ! ignoreNulls)
+						action.accept(bpm, pName, val, null);
+				}
+			} else {
+				Object val;
+				try {
+					val = bpm.get(this, null);
+				} catch (Error e) {
+					// Errors should always be uncaught.
+					throw e;
+				} catch (Throwable t) {
+					action.accept(bpm, bpm.getName(), null, t);
+					continue;
+				}
+				if (val != null || ! ignoreNulls)
+					action.accept(bpm, bpm.getName(), val, null);
+			}
+		}
+	}
+
 	/**
 	 * Given a string containing variables of the form <code>"{property}"</code>, replaces those variables with
 	 * property values in this bean.
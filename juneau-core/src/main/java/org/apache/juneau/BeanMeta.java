@@ -353,6 +353,9 @@ public class BeanMeta<T> {
 				if (dictionaryName == null)
 					dictionaryName = findDictionaryName(this.classMeta);
 
+				if (ctx.accessorStrategy == AccessorStrategy.GENERATED)
+					BeanPropertyMeta.generateAccessor(c, normalProps.values());
+
 				for (Map.Entry<String,BeanPropertyMeta.Builder> e : normalProps.entrySet()) {
 					BeanPropertyMeta pMeta = e.getValue().build();
 					if (pMeta.isDyna())
@@ -0,0 +1,33 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+/**
+ * Callback for visiting bean property values without creating intermediate {@link BeanPropertyValue} objects.
+ * <p>
+ * Used by {@link BeanMap#forEachValue(boolean, BeanPropertyConsumer)}.
+ */
+public interface BeanPropertyConsumer {
+
+	/**
+	 * Called once for each bean property value.
+	 *
+	 * @param pMeta The bean property metadata.
+	 * @param pName The bean property name.
+	 * @param value The bean property value, or <jk>null</jk> if the getter threw an exception.
+	 * @param thrown The exception thrown by calling the property getter, or <jk>null</jk> if the getter succeeded.
+	 * @throws Exception Any exception thrown by the consumer is propagated to the caller of
+	 * 	{@link BeanMap#forEachValue(boolean, BeanPropertyConsumer)}.
+	 */
+	void accept(BeanPropertyMeta pMeta, String pName, Object value, Throwable thrown) throws Exception;
+}
@@ -64,6 +64,13 @@ public class BeanPropertyMeta {
 	private final Object overrideValue;                       // The bean property value (if it's an overridden delegate).
 	private final BeanPropertyMeta delegateFor;               // The bean property that this meta is a delegate for.
 
+	private static final Object[] NO_ARGS = new Object[0];   // Avoids a varargs array allocation on every getter call.
+
+	private final PropertyAccessor getAccessor, setAccessor;  // Generated accessors (null if reflection is used).
+	private final int accessorIndex;                          // The index of this property in the generated accessors.
+	private final Class<?> setAccessorType;                   // The value type accepted by the generated setter (boxed).
+	private final boolean setAccessorNullable;                // Whether the generated setter accepts null.
+
 	/**
 	 * BeanPropertyMeta builder class.
 	 */
@@ -81,6 +88,10 @@ public class BeanPropertyMeta {
 		private Object overrideValue;
 		private BeanPropertyMeta delegateFor;
 		private MetadataMap extMeta = new MetadataMap();
+		private PropertyAccessor getAccessor, setAccessor;
+		private int accessorIndex = -1;
+		private Class<?> setAccessorType;
+		private boolean setAccessorNullable;
 
 		Builder(BeanMeta<?> beanMeta, String name) {
 			this.beanMeta = beanMeta;
@@ -256,6 +267,72 @@ public class BeanPropertyMeta {
 			return this;
 		}
 
+		/*
+		 * Returns the getter method or field used by invokeGetter(), or null if this property can't use
+		 * 	a generated accessor.
+		 */
+		private Member getGetMember() {
+			if (isDyna || overrideValue != null)
+				return null;
+			return getter != null ? getter : field;
+		}
+
+		/*
+		 * Returns the setter method or field used by invokeSetter(), or null if this property can't use
+		 * 	a generated accessor.
+		 */
+		private Member getSetMember() {
+			if (isDyna || overrideValue != null)
+				return null;
+			return setter != null ? setter : field;
+		}
+	}
+
+	/**
+	 * Generates a {@link PropertyAccessor} for the specified bean class and assigns it to the property builders
+	 * 	whose getters, setters, or fields can be invoked through it.
+	 * <p>
+	 * Must be called after the builders have been validated.
+	 * Properties that cannot be handled by the generated accessor continue to use reflection.
+	 *
+	 * @param c The bean class.
+	 * @param builders The property builders.
+	 */
+	static void generateAccessor(Class<?> c, Collection<BeanPropertyMeta.Builder> builders) {
+		if (! PropertyAccessorGenerator.canAccess(c))
+			return;
+		List<BeanPropertyMeta.Builder> l = new ArrayList<BeanPropertyMeta.Builder>();
+		List<Member> getters = new ArrayList<Member>(), setters = new ArrayList<Member>();
+		for (BeanPropertyMeta.Builder b : builders) {
+			Member g = b.getGetMember(), s = b.getSetMember();
+			if (g != null && ! PropertyAccessorGenerator.canGet(g))
+				g = null;
+			if (s != null && ! PropertyAccessorGenerator.canSet(s))
+				s = null;
+			if (g != null || s != null) {
+				l.add(b);
+				getters.add(g);
+				setters.add(s);
+			}
+		}
+		if (l.isEmpty())
+			return;
+		PropertyAccessor a = PropertyAccessorGenerator.generate(c, getters.toArray(new Member[getters.size()]), setters.toArray(new Member[setters.size()]));
+		if (a == null)
+			return;
+		for (int i = 0; i < l.size(); i++) {
+			BeanPropertyMeta.Builder b = l.get(i);
+			b.accessorIndex = i;
+			b.getAccessor = getters.get(i) == null ? null : a;
+			Member s = setters.get(i);
+			if (s != null) {
+				Class<?> t = s instanceof Method ? ((Method)s).getParameterTypes()[0] : ((Field)s).getType();
+				b.setAccessor = a;
+				b.setAccessorType = getWrapperIfPrimitive(t);
+				b.setAccessorNullable = ! t.isPrimitive();
+			}
+		}
+
 	}
 
 	/**
@@ -280,6 +357,11 @@ public class BeanPropertyMeta {
 		this.delegateFor = b.delegateFor;
 		this.extMeta = b.extMeta;
 		this.isDyna = b.isDyna;
+		this.getAccessor = b.getAccessor;
+		this.setAccessor = b.setAccessor;
+		this.accessorIndex = b.accessorIndex;
+		this.setAccessorType = b.setAccessorType;
+		this.setAccessorNullable = b.setAccessorNullable;
 	}
 
 	/**
@@ -648,15 +730,23 @@ public class BeanPropertyMeta {
 		if (isDyna) {
 			Map m = null;
 			if (getter != null)
-				m = (Map)getter.invoke(bean);
+				m = (Map)getter.invoke(bean, NO_ARGS);
 			else if (field != null)
 				m = (Map)field.get(bean);
 			else
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (getAccessor != null) {
+			try {
+				return getAccessor.get(bean, accessorIndex);
+			} catch (Throwable t) {
+				// Same exception type that reflection would have produced.
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (getter != null)
-			return getter.invoke(bean);
+			return getter.invoke(bean, NO_ARGS);
 		if (field != null)
 			return field.get(bean);
 		throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
@@ -670,11 +760,20 @@ public class BeanPropertyMeta {
 			if (field != null)
 				m = (Map<String,Object>)field.get(bean);
 			else if (getter != null)
-				m = (Map<String,Object>)getter.invoke(bean);
+				m = (Map<String,Object>)getter.invoke(bean, NO_ARGS);
 			else
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		// Values that would need a widening conversion (or that don't match the type at all) go through
+		// reflection so that the conversion rules and exceptions are exactly those of Method.invoke()/Field.set().
+		if (setAccessor != null && (val == null ? setAccessorNullable : setAccessorType.isInstance(val))) {
+			try {
+				return setAccessor.set(bean, accessorIndex, val);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
@@ -698,7 +797,7 @@ public class BeanPropertyMeta {
 	public Map<String,Object> getDynaMap(Object bean) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 		if (isDyna) {
 			if (getter != null)
-				return (Map)getter.invoke(bean);
+				return (Map)getter.invoke(bean, NO_ARGS);
 			if (field != null)
 				return (Map)field.get(bean);
 			throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
@@ -80,7 +80,8 @@ public final class ClassMeta<T> implements Type {
 	private final boolean
 		isDelegate,                                          // True if this class extends Delegate.
 		isAbstract,                                          // True if this class is abstract.
-		isMemberClass;                                       // True if this is a non-static member class.
+		isMemberClass,                                       // True if this is a non-static member class.
+		isIterable;                                          // True if this is an Iterator, Enumeration, or Iterable that isn't a collection or bean.
 	private final Object primitiveDefault;                  // Default value for primitive type classes.
 	private final Map<String,Method>
 		remoteableMethods,                                   // Methods annotated with @RemoteMethod.
@@ -139,9 +140,9 @@ public final class ClassMeta<T> implements Type {
 		this.innerClass = innerClass;
 		this.beanContext = beanContext;
 
-		// We always immediately add this class meta to the bean context cache so that we can resolve recursive references.
+		// We always immediately register this class meta with the bean context cache so that we can resolve recursive references.
 		if (beanContext != null && beanContext.cmCache != null)
-			beanContext.cmCache.put(innerClass, this);
+			beanContext.cmCache.register(innerClass, this);
 
 		ClassMetaBuilder<T> builder = new ClassMetaBuilder(innerClass, beanContext, implClass, beanFilter, pojoSwap, childPojoSwaps);
 
@@ -177,6 +178,7 @@ public final class ClassMeta<T> implements Type {
 		this.beanRegistry = builder.beanRegistry;
 		this.isMemberClass = builder.isMemberClass;
 		this.isAbstract = builder.isAbstract;
+		this.isIterable = builder.isIterable;
 		this.implClass = builder.implClass;
 		this.childUnswapMap = builder.childUnswapMap;
 		this.childSwapMap = builder.childSwapMap;
@@ -209,6 +211,7 @@ public final class ClassMeta<T> implements Type {
 		this.isDelegate = mainType.isDelegate;
 		this.isAbstract = mainType.isAbstract;
 		this.isMemberClass = mainType.isMemberClass;
+		this.isIterable = mainType.isIterable;
 		this.primitiveDefault = mainType.primitiveDefault;
 		this.remoteableMethods = mainType.remoteableMethods;
 		this.publicMethods = mainType.publicMethods;
@@ -256,6 +259,7 @@ public final class ClassMeta<T> implements Type {
 		this.isDelegate = false;
 		this.isAbstract = false;
 		this.isMemberClass = false;
+		this.isIterable = false;
 		this.primitiveDefault = null;
 		this.remoteableMethods = null;
 		this.publicMethods = null;
@@ -285,7 +289,8 @@ public final class ClassMeta<T> implements Type {
 		boolean
 			isDelegate = false,
 			isMemberClass = false,
-			isAbstract = false;
+			isAbstract = false,
+			isIterable = false;
 		Method
 			fromStringMethod = null,
 			swapMethod = null,
@@ -646,6 +651,15 @@ public final class ClassMeta<T> implements Type {
 			if (beanMeta != null)
 				dictionaryName = beanMeta.getDictionaryName();
 
+			// Iterables that can be converted to and from strings (or that iterate over themselves, like java.nio.file.Path)
+			// keep being serialized as strings.
+			if (cc == OTHER && beanMeta == null) {
+				if (isParentClass(Iterator.class, c) || isParentClass(Enumeration.class, c))
+					isIterable = true;
+				else if (isParentClass(Iterable.class, c))
+					isIterable = fromStringMethod == null && stringConstructor == null && swapMethod == null && this.pojoSwap == null && ! isSelfIterable(c, c);
+			}
+
 			serializedClassMeta = (this.pojoSwap == null ? ClassMeta.this : findClassMeta(this.pojoSwap.getSwapClass()));
 			if (serializedClassMeta == null)
 				serializedClassMeta = ClassMeta.this;
@@ -658,6 +672,27 @@ public final class ClassMeta<T> implements Type {
 				beanRegistry = new BeanRegistry(beanContext, null, b.beanDictionary());
 		}
 
+		/*
+		 * Returns true if the specified class (or one of its parents) implements Iterable of a type that the
+		 * 	original class is assignable to (e.g. java.nio.file.Path implements Iterable<Path>).
+		 */
+		private boolean isSelfIterable(Class<?> c, Class<?> t) {
+			for (Type i : t.getGenericInterfaces()) {
+				if (i instanceof ParameterizedType) {
+					ParameterizedType pt = (ParameterizedType)i;
+					if (pt.getRawType() == Iterable.class) {
+						Type a = pt.getActualTypeArguments()[0];
+						return a instanceof Class && ((Class<?>)a).isAssignableFrom(c);
+					}
+					i = pt.getRawType();
+				}
+				if (i instanceof Class && isSelfIterable(c, (Class<?>)i))
+					return true;
+			}
+			Class<?> s = t.getSuperclass();
+			return s != null && isSelfIterable(c, s);
+		}
+
 		private BeanFilter findBeanFilter() {
 			try {
 				Map<Class<?>,Bean> ba = ReflectionUtils.findAnnotationsMap(Bean.class, innerClass);
@@ -951,6 +986,22 @@ public final class ClassMeta<T> implements Type {
 		return cc == COLLECTION || cc == ARRAY;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class is an {@link Iterator}, {@link Enumeration}, or an {@link Iterable} that
+	 * 	isn't a {@link Collection} or bean.
+	 * <p>
+	 * Iterables that can be converted from strings or have swaps (which are serialized as before), and iterables of
+	 * 	their own type (e.g. <code>java.nio.file.Path</code>) are not included.
+	 * <p>
+	 * Serializers write objects of these types as arrays by pulling one element at a time from them, so the elements
+	 * 	never need to be held in memory at the same time.
+	 *
+	 * @return <jk>true</jk> if this class is an iterator-like class.
+	 */
+	public boolean isIterable() {
+		return isIterable;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this class is {@link Class}.
 	 *
@@ -0,0 +1,268 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Cache of {@link ClassMeta} objects shared by all {@link BeanContext BeanContexts} with the same settings.
+ * <p>
+ * Lookups never block and only ever return fully-constructed metas.
+ * Missing metas are constructed per class instead of under a single lock:
+ * <ul class='spaced-list'>
+ * 	<li>The first thread to request a class constructs its meta.
+ * 		Other threads requesting the same class wait for it, while metas of unrelated classes are constructed in
+ * 		parallel.
+ * 	<li>Recursive references to a class whose meta is being constructed by the same thread resolve to the
+ * 		in-progress meta.
+ * 	<li>Metas constructed while constructing another meta are published together when the outermost construction
+ * 		finishes, so other threads never see a meta that references an incomplete one.
+ * 	<li>In-progress metas are never handed to other threads.
+ * 		If two or more threads end up waiting on each other (i.e. they started constructing different classes of
+ * 		the same reference cycle), the thread with the lowest ID in the cycle abandons everything it has constructed
+ * 		so far, waits for the other threads to finish, and then starts over.
+ * </ul>
+ */
+@SuppressWarnings({"rawtypes","unchecked"})
+final class ClassMetaCache {
+
+	// How long to wait on another thread between deadlock checks.
+	private static final long WAIT_MS = 10;
+
+	// The pending construction each thread is currently waiting on.  Used for cycle detection.
+	private static final ConcurrentHashMap<Thread,Pending> waits = new ConcurrentHashMap<Thread,Pending>();
+
+	// The metas constructed by the current thread that have not yet been published.
+	private static final ThreadLocal<List<Pending>> transaction = new ThreadLocal<List<Pending>>();
+
+	private final ConcurrentHashMap<Class,ClassMeta> metas = new ConcurrentHashMap<Class,ClassMeta>();
+	private final ConcurrentHashMap<Class,Pending> pending = new ConcurrentHashMap<Class,Pending>();
+
+	/**
+	 * Returns the fully-constructed meta for the specified class.
+	 *
+	 * @param c The class.
+	 * @return The meta, or <jk>null</jk> if it hasn't been constructed yet.
+	 */
+	<T> ClassMeta<T> get(Class<T> c) {
+		return metas.get(c);
+	}
+
+	/**
+	 * Adds an already-constructed meta to this cache if one isn't already present.
+	 *
+	 * @param c The class.
+	 * @param cm The fully-constructed meta.
+	 */
+	void put(Class<?> c, ClassMeta<?> cm) {
+		metas.putIfAbsent(c, cm);
+	}
+
+	/**
+	 * Returns the number of fully-constructed metas in this cache.
+	 *
+	 * @return The number of fully-constructed metas in this cache.
+	 */
+	int size() {
+		return metas.size();
+	}
+
+	/**
+	 * Called from the {@link ClassMeta} constructor before the meta is initialized so that recursive references
+	 * 	within the constructing thread can be resolved.
+	 *
+	 * @param c The class.
+	 * @param cm The meta being constructed.
+	 */
+	void register(Class<?> c, ClassMeta<?> cm) {
+		Pending p = pending.get(c);
+		if (p != null && p.owner == Thread.currentThread() && p.meta == null)
+			p.meta = cm;
+	}
+
+	/**
+	 * Returns the meta for the specified class, constructing it if necessary.
+	 *
+	 * @param c The class.
+	 * @param ctx The bean context that creates the meta.
+	 * @return The meta.
+	 */
+	<T> ClassMeta<T> getOrCreate(Class<T> c, BeanContext ctx) {
+		Thread t = Thread.currentThread();
+		while (true) {
+			ClassMeta<T> cm = metas.get(c);
+			if (cm != null)
+				return cm;
+
+			Pending p = new Pending(this, c);
+			Pending existing = pending.putIfAbsent(c, p);
+
+			if (existing == null) {
+				// Another thread may have published it between the two lookups above.
+				cm = metas.get(c);
+				if (cm != null) {
+					pending.remove(c, p);
+					p.done.countDown();
+					return cm;
+				}
+				if (transaction.get() != null)
+					return construct(p, ctx);
+				try {
+					return construct(p, ctx);
+				} catch (Retry e) {
+					// Our transaction was rolled back to break a cycle.  Wait for the other thread and start over.
+					await(e.blocker, t);
+					continue;
+				}
+			}
+
+			// Recursive reference within this thread.
+			if (existing.owner == t) {
+				if (existing.meta != null)
+					return existing.meta;
+				// Reference occurred before the ClassMeta constructor was called.
+				// The copy constructed here registers itself first, so it's the one that gets used and published.
+				return ctx.newClassMeta(c);
+			}
+
+			cm = await(existing, t);
+			if (cm != null)
+				return cm;
+		}
+	}
+
+	/*
+	 * Constructs the meta for the pending entry owned by this thread.
+	 */
+	private <T> ClassMeta<T> construct(Pending p, BeanContext ctx) {
+		List<Pending> tx = transaction.get();
+		boolean isOutermost = (tx == null);
+		if (isOutermost) {
+			tx = new ArrayList<Pending>();
+			transaction.set(tx);
+		}
+		tx.add(p);
+		boolean rolledBack = false;
+		try {
+			ClassMeta<T> cm = ctx.newClassMeta(p.type);
+			// Return the registered meta so that the returned and published instances are always the same.
+			if (p.meta == null)
+				p.meta = cm;
+			p.isComplete = true;
+			return p.meta;
+		} catch (Retry e) {
+			rolledBack = true;
+			throw e;
+		} finally {
+			if (isOutermost) {
+				transaction.remove();
+				publish(tx, rolledBack);
+			}
+		}
+	}
+
+	/*
+	 * Makes the metas of a finished transaction visible to all threads and wakes up waiting threads.
+	 * Metas whose construction failed are discarded so that they'll be constructed again on the next request.
+	 * If the transaction was rolled back, all of its metas are discarded since they may reference incomplete ones.
+	 */
+	private static void publish(List<Pending> tx, boolean rolledBack) {
+		if (! rolledBack)
+			for (Pending p : tx)
+				if (p.isComplete)
+					p.cache.metas.putIfAbsent(p.type, p.meta);
+		for (Pending p : tx) {
+			p.cache.pending.remove(p.type, p);
+			p.done.countDown();
+		}
+	}
+
+	/*
+	 * Waits for another thread to finish constructing a meta.
+	 * Returns null when the caller should look it up again.
+	 * Only a thread that is itself in the middle of constructing metas can be part of a deadlock, so top-level
+	 * callers simply wait.  A constructing thread that finds itself in a cycle of waiting threads throws
+	 * a Retry if it has the lowest ID in the cycle, which rolls back its transaction.
+	 */
+	private <T> ClassMeta<T> await(Pending p, Thread t) {
+		boolean constructing = transaction.get() != null;
+		waits.put(t, p);
+		try {
+			while (true) {
+				if (constructing && isCycleVictim(p, t))
+					throw new Retry(p);
+				if (p.done.await(WAIT_MS, TimeUnit.MILLISECONDS))
+					return null;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BeanRuntimeException(e);
+		} finally {
+			waits.remove(t);
+		}
+	}
+
+	/*
+	 * Returns true if the owner of the specified entry is (indirectly) waiting on the specified thread, and the
+	 * 	specified thread has the lowest ID of all the threads in the cycle.
+	 * Picking a single victim keeps the other threads of the cycle from rolling back at the same time.
+	 * Entries that have already been published are ignored since their waiters are about to wake up.
+	 */
+	private static boolean isCycleVictim(Pending p, Thread t) {
+		Set<Thread> visited = new HashSet<Thread>();
+		while (p != null && p.done.getCount() > 0 && visited.add(p.owner)) {
+			if (p.owner == t) {
+				for (Thread t2 : visited)
+					if (t2.getId() < t.getId())
+						return false;
+				return true;
+			}
+			p = waits.get(p.owner);
+		}
+		return false;
+	}
+
+	/*
+	 * Thrown to roll back the transaction of a thread that's part of a cycle of waiting threads.
+	 * An Error so that it isn't swallowed by the catch(Exception) blocks in the ClassMeta/BeanMeta constructors.
+	 */
+	private static final class Retry extends Error {
+		private static final long serialVersionUID = 1L;
+
+		final Pending blocker;  // The entry the rolled back thread was waiting on.
+
+		Retry(Pending blocker) {
+			this.blocker = blocker;
+		}
+
+		@Override /* Throwable */
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+	private static final class Pending {
+		final ClassMetaCache cache;
+		final Class type;
+		final Thread owner = Thread.currentThread();
+		final CountDownLatch done = new CountDownLatch(1);
+		volatile ClassMeta meta;
+		volatile boolean isComplete;
+
+		Pending(ClassMetaCache cache, Class type) {
+			this.cache = cache;
+			this.type = type;
+		}
+	}
+}
@@ -482,6 +482,32 @@ public abstract class CoreObjectBuilder {
 		return property(BEAN_useJavaBeanIntrospector, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Strategy for invoking bean getters, setters, and fields.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"BeanContext.accessorStrategy"</js>
+	 * 	<li><b>Data type:</b> {@link AccessorStrategy}
+	 * 	<li><b>Default:</b> {@link AccessorStrategy#REFLECTION}
+	 * 	<li><b>Session-overridable:</b> <jk>false</jk>
+	 * </ul>
+	 * <p>
+	 * When set to {@link AccessorStrategy#GENERATED}, getters, setters and public fields are invoked through
+	 * 	classes generated at runtime instead of through reflection.
+	 * <p>
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>BEAN_accessorStrategy</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_accessorStrategy
+	 */
+	public CoreObjectBuilder accessorStrategy(AccessorStrategy value) {
+		return property(BEAN_accessorStrategy, value);
+	}
+
 	/**
 	 * <b>Configuration property:</b>  Use interface proxies.
 	 * <p>
@@ -189,14 +189,14 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 	private void parseReader(Reader r, Parser p) throws ParseException {
 		if (p == null)
 			p = JsonParser.DEFAULT;
-		p.parseIntoMap(r, this, session.string(), session.object());
+		p.parseIntoMap(r, this, getBeanSession().string(), getBeanSession().object());
 	}
 
 	/**
 	 * Construct an empty JSON object (i.e. an empty {@link LinkedHashMap}).
 	 */
 	public ObjectMap() {
-		this(BeanContext.DEFAULT.createSession());
+		super();
 	}
 
 	/**
@@ -275,10 +275,14 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 
 	/**
 	 * Returns the {@link BeanSession} currently associated with this map.
+	 * <p>
+	 * If no session was specified, a session on {@link BeanContext#DEFAULT} is created the first time it's needed.
 	 *
 	 * @return The {@link BeanSession} currently associated with this map.
 	 */
 	public BeanSession getBeanSession() {
+		if (session == null)
+			session = BeanContext.DEFAULT.createSession();
 		return session;
 	}
 
@@ -361,7 +365,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 		if (o == null)
 			return null;
 		PojoSwap swap = pojoSwap;
-		return (T)swap.unswap(session, o, null);
+		return (T)swap.unswap(getBeanSession(), o, null);
 	}
 
 	/**
@@ -379,7 +383,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 		Object o = get(key);
 		if (o == null)
 			return def;
-		T t = session.convertToType(o, type);
+		T t = getBeanSession().convertToType(o, type);
 		if (t == null)
 			return def;
 		return t;
@@ -414,7 +418,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 		Object o = get(key);
 		if (o == null)
 			return def;
-		return session.convertToType(o, type);
+		return getBeanSession().convertToType(o, type);
 	}
 
 	/**
@@ -936,7 +940,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 	 * @return The data type of the object at the specified key, or <jk>null</jk> if the value is null or does not exist.
 	 */
 	public ClassMeta<?> getClassMeta(String key) {
-		return session.getClassMetaForObject(get(key));
+		return getBeanSession().getClassMetaForObject(get(key));
 	}
 
 	/**
@@ -1072,9 +1076,9 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T cast(Class<T> type) {
-		ClassMeta<?> c2 = session.getClassMeta(type);
-		String typePropertyName = session.getBeanTypePropertyName(c2);
-		ClassMeta<?> c1 = session.getBeanRegistry().getClassMeta((String)get(typePropertyName));
+		ClassMeta<?> c2 = getBeanSession().getClassMeta(type);
+		String typePropertyName = getBeanSession().getBeanTypePropertyName(c2);
+		ClassMeta<?> c1 = getBeanSession().getBeanRegistry().getClassMeta((String)get(typePropertyName));
 		ClassMeta<?> c = c1 == null ? c2 : narrowClassMeta(c1, c2);
 		if (c.isObject())
 			return (T)this;
@@ -1092,7 +1096,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 	 */
 	@SuppressWarnings({"unchecked"})
 	public <T> T cast(ClassMeta<T> cm) {
-		ClassMeta<?> c1 = session.getBeanRegistry().getClassMeta((String)get(session.getBeanTypePropertyName(cm)));
+		ClassMeta<?> c1 = getBeanSession().getBeanRegistry().getClassMeta((String)get(getBeanSession().getBeanTypePropertyName(cm)));
 		ClassMeta<?> c = narrowClassMeta(c1, cm);
 		return (T)cast2(c);
 	}
@@ -1110,11 +1114,11 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 		if (c1.isMap()) {
 			ClassMeta<?> k = getNarrowedClassMeta(c1.getKeyType(), c2.getKeyType());
 			ClassMeta<?> v = getNarrowedClassMeta(c1.getValueType(), c2.getValueType());
-			return session.getClassMeta(c.getInnerClass(), k, v);
+			return getBeanSession().getClassMeta(c.getInnerClass(), k, v);
 		}
 		if (c1.isCollection()) {
 			ClassMeta<?> e = getNarrowedClassMeta(c1.getElementType(), c2.getElementType());
-			return session.getClassMeta(c.getInnerClass(), e);
+			return getBeanSession().getClassMeta(c.getInnerClass(), e);
 		}
 		return c;
 	}
@@ -1139,19 +1143,19 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 			Object value = get("value");
 
 			if (cm.isMap()) {
-				Map m2 = (cm.canCreateNewInstance() ? (Map)cm.newInstance() : new ObjectMap(session));
+				Map m2 = (cm.canCreateNewInstance() ? (Map)cm.newInstance() : new ObjectMap(getBeanSession()));
 				ClassMeta<?> kType = cm.getKeyType(), vType = cm.getValueType();
 				for (Map.Entry<String,Object> e : entrySet()) {
 					Object k = e.getKey();
 					Object v = e.getValue();
-					if (! k.equals(session.getBeanTypePropertyName(cm))) {
+					if (! k.equals(getBeanSession().getBeanTypePropertyName(cm))) {
 
 						// Attempt to recursively cast child maps.
 						if (v instanceof ObjectMap)
 							v = ((ObjectMap)v).cast(vType);
 
-						k = (kType.isString() ? k : session.convertToType(k, kType));
-						v = (vType.isObject() ? v : session.convertToType(v, vType));
+						k = (kType.isString() ? k : getBeanSession().convertToType(k, kType));
+						v = (vType.isObject() ? v : getBeanSession().convertToType(v, vType));
 
 						m2.put(k, v);
 					}
@@ -1159,13 +1163,13 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 				return (T)m2;
 
 			} else if (cm.isBean()) {
-				BeanMap<? extends T> bm = session.newBeanMap(cm.getInnerClass());
+				BeanMap<? extends T> bm = getBeanSession().newBeanMap(cm.getInnerClass());
 
 				// Iterate through all the entries in the map and set the individual field values.
 				for (Map.Entry<String,Object> e : entrySet()) {
 					String k = e.getKey();
 					Object v = e.getValue();
-					if (! k.equals(session.getBeanTypePropertyName(cm))) {
+					if (! k.equals(getBeanSession().getBeanTypePropertyName(cm))) {
 
 						// Attempt to recursively cast child maps.
 						if (v instanceof ObjectMap)
@@ -1179,10 +1183,10 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 
 			} else if (cm.isCollectionOrArray()) {
 				List items = (List)get("items");
-				return session.convertToType(items, cm);
+				return getBeanSession().convertToType(items, cm);
 
 			} else if (value != null) {
-				return session.convertToType(value, cm);
+				return getBeanSession().convertToType(value, cm);
 			}
 
 		} catch (Exception e) {
@@ -222,9 +222,10 @@ public final class PropertyStore {
 	private final Map<Class<? extends Context>,Context> contexts = new ConcurrentHashMap<Class<? extends Context>,Context>();
 
 	// Global Context cache.
-	// Property stores that are the 'same' will use the same maps from this cache.
-	// 'same' means the context properties are all the same when converted to strings.
-	private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Class<? extends Context>,Context>> globalContextCache = new ConcurrentHashMap<Integer, ConcurrentHashMap<Class<? extends Context>,Context>>();
+	// Property stores that are the 'same' will use the same contexts from this cache.
+	// 'same' means the snapshots of the property stores are equal (see Snapshot).
+	// Contexts are weakly referenced so that contexts created by short-lived stores can be garbage collected.
+	private static final WeakValueCache<Snapshot,Context> globalContextCache = new WeakValueCache<Snapshot,Context>(Integer.getInteger("juneau.contextCache.maxSize", 1000));
 
 	private ReadWriteLock lock = new ReentrantReadWriteLock();
 	private Lock rl = lock.readLock(), wl = lock.writeLock();
@@ -550,15 +551,12 @@ public final class PropertyStore {
 				if (! contexts.containsKey(c)) {
 
 					// Try to get it from the global cache.
-					Integer key = hashCode();
-					if (! globalContextCache.containsKey(key))
-						globalContextCache.putIfAbsent(key, new ConcurrentHashMap<Class<? extends Context>,Context>());
-					ConcurrentHashMap<Class<? extends Context>, Context> cacheForThisConfig = globalContextCache.get(key);
+					Snapshot key = new Snapshot(c, snapshot());
+					Context ctx = globalContextCache.get(key);
+					if (ctx == null)
+						ctx = globalContextCache.put(key, c.getConstructor(PropertyStore.class).newInstance(this));
 
-					if (! cacheForThisConfig.containsKey(c))
-						cacheForThisConfig.putIfAbsent(c, c.getConstructor(PropertyStore.class).newInstance(this));
-
-					contexts.put(c, cacheForThisConfig.get(c));
+					contexts.put(c, ctx);
 				}
 				return (T)contexts.get(c);
 			} catch (Exception e) {
@@ -600,7 +598,13 @@ public final class PropertyStore {
 	 * @return This object (for method chaining).
 	 */
 	public PropertyStore setClassLoader(ClassLoader classLoader) {
-		this.classLoader = (classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader);
+		wl.lock();
+		try {
+			this.classLoader = (classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader);
+			contexts.clear();
+		} finally {
+			wl.unlock();
+		}
 		return this;
 	}
 
@@ -613,7 +617,13 @@ public final class PropertyStore {
 	 * @return This object (for method chaining).
 	 */
 	public PropertyStore setDefaultParser(ReaderParser defaultParser) {
-		this.defaultParser = defaultParser == null ? JsonParser.DEFAULT : defaultParser;
+		wl.lock();
+		try {
+			this.defaultParser = defaultParser == null ? JsonParser.DEFAULT : defaultParser;
+			contexts.clear();
+		} finally {
+			wl.unlock();
+		}
 		return this;
 	}
 
@@ -813,6 +823,34 @@ public final class PropertyStore {
 		return c.get();
 	}
 
+	/**
+	 * Returns the number of contexts in the global context cache that are still in use.
+	 * <p>
+	 * Contexts are shared between property stores with the same properties and are garbage collected once they're
+	 * 	no longer referenced.
+	 * This number should stay stable in applications that don't create serializers or parsers with new settings
+	 * 	on the fly.
+	 *
+	 * @return The number of live contexts.
+	 */
+	public static int getLiveContextCount() {
+		return globalContextCache.size();
+	}
+
+	/*
+	 * Returns a snapshot of all the properties, the classloader, and the default parser of this store.
+	 * Must be called while holding the read or write lock.
+	 */
+	private Snapshot snapshot() {
+		Object[] o = new Object[properties.size() + 2];
+		int i = 0;
+		for (PropertyMap m : properties.values())
+			o[i++] = m.snapshot();
+		o[i++] = classLoader;
+		o[i++] = defaultParser;
+		return new Snapshot(o);
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// Utility classes and methods.
@@ -829,6 +867,41 @@ public final class PropertyStore {
 		}
 	}
 
+	/**
+	 * Immutable copy of a set of property values that can be compared with other snapshots.
+	 * <p>
+	 * Used as a key for sharing contexts and caches between equivalent property stores.
+	 * Unlike {@link PropertyStore#hashCode()}, two snapshots are only considered equal if all their values are equal,
+	 * 	so colliding hash codes never cause unrelated stores to share a context.
+	 * <p>
+	 * Numbers and booleans are compared by their string values (e.g. <code>123</code> and <js>"123"</js> are the same).
+	 */
+	static final class Snapshot {
+		private final Object[] values;
+		private final int hashCode;
+
+		Snapshot(Object...values) {
+			this.values = values;
+			this.hashCode = Arrays.deepHashCode(values);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (o instanceof Snapshot) {
+				Snapshot s = (Snapshot)o;
+				return s.hashCode == hashCode && Arrays.deepEquals(s.values, values);
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Contains all the properties for a particular property prefix (e.g. <js>'BeanContext'</js>)
 	 * <p>
@@ -1047,6 +1120,26 @@ public final class PropertyStore {
 			}
 		}
 
+		/**
+		 * Returns an immutable snapshot of the properties in this map.
+		 *
+		 * @return A new snapshot.
+		 */
+		Snapshot snapshot() {
+			rl.lock();
+			try {
+				List<Object> l = new ArrayList<Object>(map.size() * 2 + 1);
+				l.add(prefix);
+				for (Property p : map.values()) {
+					l.add(p.name);
+					l.add(p.snapshot());
+				}
+				return new Snapshot(l.toArray());
+			} finally {
+				rl.unlock();
+			}
+		}
+
 		@Override
 		public String toString() {
 			return "PropertyMap(id="+System.identityHashCode(this)+")";
@@ -1093,6 +1186,34 @@ public final class PropertyStore {
 			return value;
 		}
 
+		/*
+		 * Returns a normalized copy of the value of this property.
+		 */
+		Object snapshot() {
+			if (value instanceof Map) {
+				List<Object> l = new ArrayList<Object>();
+				synchronized(value) {
+					for (Map.Entry<?,?> e : ((Map<?,?>)value).entrySet()) {
+						l.add(normalize(e.getKey()));
+						l.add(normalize(e.getValue()));
+					}
+				}
+				return l;
+			} else if (value instanceof Collection) {
+				List<Object> l = new ArrayList<Object>();
+				for (Object o : (Collection<?>)value)
+					l.add(normalize(o));
+				return l;
+			}
+			return normalize(value);
+		}
+
+		private static Object normalize(Object o) {
+			if (o instanceof Number || o instanceof Boolean)
+				return o.toString();
+			return o;
+		}
+
 		@Override /* Object */
 		public int hashCode() {
 			HashCode c = new NormalizingHashCode().add(name);
@@ -137,6 +137,12 @@ public class CsvParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public CsvParserBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public CsvParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
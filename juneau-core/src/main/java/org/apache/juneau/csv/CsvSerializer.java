@@ -51,15 +51,19 @@ public final class CsvSerializer extends WriterSerializer {
 	protected void doSerialize(SerializerSession session, Object o) throws Exception {
 		Writer out = session.getWriter();
 		ClassMeta cm = session.getClassMetaForObject(o);
-		Collection l = null;
+		Iterator l = null;
 		if (cm.isArray()) {
-			l = Arrays.asList((Object[])o);
+			l = Arrays.asList((Object[])o).iterator();
+		} else if (cm.isIterable()) {
+			// Rows are pulled from the iterator and written one at a time.
+			l = toIterator(o);
 		} else {
-			l = (Collection)o;
+			l = ((Collection)o).iterator();
 		}
 		// TODO - Doesn't support DynaBeans.
-		if (l.size() > 0) {
-			ClassMeta entryType = session.getClassMetaForObject(l.iterator().next());
+		if (l.hasNext()) {
+			Object first = l.next();
+			ClassMeta entryType = session.getClassMetaForObject(first);
 			if (entryType.isBean()) {
 				BeanMeta<?> bm = entryType.getBeanMeta();
 				int i = 0;
@@ -69,20 +73,24 @@ public final class CsvSerializer extends WriterSerializer {
 					append(out, pm.getName());
 				}
 				out.append('\n');
-				for (Object o2 : l) {
-					i = 0;
-					BeanMap bean = session.toBeanMap(o2);
-					for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-						if (i++ > 0)
-							out.append(',');
-						append(out, pm.get(bean, pm.getName()));
-					}
-					out.append('\n');
-				}
+				appendRow(session, out, bm, first);
+				while (l.hasNext())
+					appendRow(session, out, bm, l.next());
 			}
 		}
 	}
 
+	private static void appendRow(SerializerSession session, Writer out, BeanMeta<?> bm, Object o) throws IOException {
+		int i = 0;
+		BeanMap bean = session.toBeanMap(o);
+		for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
+			if (i++ > 0)
+				out.append(',');
+			append(out, pm.get(bean, pm.getName()));
+		}
+		out.append('\n');
+	}
+
 	private static void append(Writer w, Object o) throws IOException {
 		if (o == null)
 			w.append("null");
@@ -222,6 +222,12 @@ public class CsvSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public CsvSerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public CsvSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -15,7 +15,7 @@ package org.apache.juneau.dto.atom;
 import java.net.*;
 import java.util.*;
 
-import javax.xml.bind.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Static utility methods for ATOM marshalling code.
@@ -43,7 +43,7 @@ class Utils {
 	 * @return A new {@link Calendar} object.
 	 */
 	static final Calendar parseDateTime(String lexicalXSDDateTime) {
-		return DatatypeConverter.parseDateTime(lexicalXSDDateTime);
+		return Iso8601Utils.parseDateTime(lexicalXSDDateTime);
 	}
 
 }
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.html;
 
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.html.annotation.*;
 import org.apache.juneau.internal.*;
@@ -24,6 +26,9 @@ public class HtmlClassMeta extends ClassMetaExtended {
 	private final Html html;
 	private final boolean asXml, noTables, noTableHeaders, asPlainText;
 
+	// Lazily computed by getTableColumns().
+	private volatile BeanPropertyMeta[] tableColumns;
+
 	/**
 	 * Constructor.
 	 *
@@ -89,4 +94,31 @@ public class HtmlClassMeta extends ClassMetaExtended {
 	public boolean isNoTableHeaders() {
 		return noTableHeaders;
 	}
+
+	/**
+	 * Returns the bean properties to render as table columns when a collection of this bean class is serialized
+	 * as a table.
+	 * <p>
+	 * The columns are derived from the bean metadata alone and are computed once and cached.
+	 *
+	 * @return The bean properties in column order, or <jk>null</jk> if this class is not a bean or has
+	 * 	dynamic properties (i.e. <code>name=<js>"*"</js></code>) whose names can only be determined from the values.
+	 */
+	protected BeanPropertyMeta[] getTableColumns() {
+		BeanPropertyMeta[] c = tableColumns;
+		if (c == null) {
+			BeanMeta<?> bm = getClassMeta().getBeanMeta();
+			if (bm == null)
+				return null;
+			List<BeanPropertyMeta> l = new ArrayList<BeanPropertyMeta>();
+			for (BeanPropertyMeta pMeta : bm.getPropertyMetas()) {
+				if (pMeta.isDyna())
+					return null;
+				l.add(pMeta);
+			}
+			c = l.toArray(new BeanPropertyMeta[l.size()]);
+			tableColumns = c;
+		}
+		return c;
+	}
 }
@@ -75,6 +75,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* XmlParserBuilder */
+	public HtmlParserBuilder inputFactory(Class<? extends XMLInputFactory> value) {
+		super.inputFactory(value);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder trimStrings(boolean value) {
 		super.trimStrings(value);
@@ -165,6 +171,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public HtmlParserBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public HtmlParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
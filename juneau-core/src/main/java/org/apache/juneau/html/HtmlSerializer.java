@@ -400,9 +400,8 @@ public class HtmlSerializer extends XmlSerializer {
 		out.eTag(i, "table").nl();
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private void serializeBeanMap(HtmlSerializerSession session, HtmlWriter out, BeanMap<?> m, ClassMeta<?> eType, BeanPropertyMeta ppMeta) throws Exception {
-		int i = session.getIndent();
+	private void serializeBeanMap(final HtmlSerializerSession session, final HtmlWriter out, final BeanMap<?> m, ClassMeta<?> eType, BeanPropertyMeta ppMeta) throws Exception {
+		final int i = session.getIndent();
 
 		out.oTag(i, "table");
 
@@ -418,49 +417,49 @@ public class HtmlSerializer extends XmlSerializer {
 			out.eTag(i+1, "tr").nl();
 		}
 
-		for (BeanPropertyValue p : m.getValues(session.isTrimNulls())) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
-			HtmlBeanPropertyMeta hbpMeta = pMeta.getExtendedMeta(HtmlBeanPropertyMeta.class);
-			String link = hbpMeta.getLink();
-			HtmlRender render = hbpMeta.getRender();
-
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
-				session.addBeanGetterWarning(pMeta, t);
-
-			if (session.canIgnoreValue(cMeta, key, value))
-				continue;
-
-			out.sTag(i+1, "tr").nl();
-			out.sTag(i+2, "td").text(key).eTag("td").nl();
-			out.oTag(i+2, "td");
-			String style = render.getStyle(session, value);
-			if (style != null)
-				out.attr("style", style);
-			out.cTag();
-
-			try {
-				if (link != null)
-					out.oTag(i+3, "a").attrUri("href", m.resolveVars(link)).cTag();
-				ContentResult cr = serializeAnything(session, out, render.getContent(session, value), cMeta, key, 2, pMeta, false);
-				if (cr == CR_NORMAL)
-					out.i(i+2);
-				if (link != null)
-					out.eTag("a");
-			} catch (SerializeException e) {
-				throw e;
-			} catch (Error e) {
-				throw e;
-			} catch (Throwable e) {
-				e.printStackTrace();
-				session.addBeanGetterWarning(pMeta, e);
+		m.forEachValue(session.isTrimNulls(), new BeanPropertyConsumer() {
+			@Override /* BeanPropertyConsumer */
+			@SuppressWarnings({ "rawtypes", "unchecked" })
+			public void accept(BeanPropertyMeta pMeta, String key, Object value, Throwable t) throws Exception {
+				ClassMeta<?> cMeta = pMeta.getClassMeta();
+				HtmlBeanPropertyMeta hbpMeta = pMeta.getExtendedMeta(HtmlBeanPropertyMeta.class);
+				String link = hbpMeta.getLink();
+				HtmlRender render = hbpMeta.getRender();
+
+				if (t != null)
+					session.addBeanGetterWarning(pMeta, t);
+
+				if (session.canIgnoreValue(cMeta, key, value))
+					return;
+
+				out.sTag(i+1, "tr").nl();
+				out.sTag(i+2, "td").text(key).eTag("td").nl();
+				out.oTag(i+2, "td");
+				String style = render.getStyle(session, value);
+				if (style != null)
+					out.attr("style", style);
+				out.cTag();
+
+				try {
+					if (link != null)
+						out.oTag(i+3, "a").attrUri("href", m.resolveVars(link)).cTag();
+					ContentResult cr = serializeAnything(session, out, render.getContent(session, value), cMeta, key, 2, pMeta, false);
+					if (cr == CR_NORMAL)
+						out.i(i+2);
+					if (link != null)
+						out.eTag("a");
+				} catch (SerializeException e) {
+					throw e;
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable e) {
+					e.printStackTrace();
+					session.addBeanGetterWarning(pMeta, e);
+				}
+				out.eTag("td").nl();
+				out.eTag(i+1, "tr").nl();
 			}
-			out.eTag("td").nl();
-			out.eTag(i+1, "tr").nl();
-		}
+		});
 		out.eTag(i, "table").nl();
 	}
 
@@ -490,6 +489,15 @@ public class HtmlSerializer extends XmlSerializer {
 		HtmlBeanPropertyMeta hbpMeta = (ppMeta == null ? null : ppMeta.getExtendedMeta(HtmlBeanPropertyMeta.class));
 		String btpn = session.getBeanTypePropertyName(eType);
 
+		// Collections of beans of a single class can be rendered using the column headers from the bean metadata.
+		if (session.isStaticTableHeaders()) {
+			BeanPropertyMeta[] cols = getStaticTableColumns(session, c, hbpMeta);
+			if (cols != null) {
+				serializeBeanTable(session, out, c, eType, cols, btpn, type2);
+				return;
+			}
+		}
+
 		// Look at the objects to see how we're going to handle them.  Check the first object to see how we're going to handle this.
 		// If it's a map or bean, then we'll create a table.
 		// Otherwise, we'll create a list.
@@ -545,25 +553,7 @@ public class HtmlSerializer extends XmlSerializer {
 
 					for (Object k : th) {
 						BeanMapEntry p = m2.getProperty(session.toString(k));
-						BeanPropertyMeta pMeta = p.getMeta();
-						HtmlBeanPropertyMeta hpMeta = pMeta.getExtendedMeta(HtmlBeanPropertyMeta.class);
-						String link = hpMeta.getLink();
-						HtmlRender render = hpMeta.getRender();
-
-						Object value = p.getValue();
-						out.oTag(i+2, "td");
-						String style = render.getStyle(session, value);
-						if (style != null)
-							out.attr("style", style);
-						out.cTag();
-						if (link != null)
-							out.oTag(i+3, "a").attrUri("href", m2.resolveVars(link)).cTag();
-						ContentResult cr = serializeAnything(session, out, render.getContent(session, value), pMeta.getClassMeta(), p.getKey().toString(), 2, pMeta, false);
-						if (cr == CR_NORMAL)
-							out.i(i+2);
-						if (link != null)
-							out.eTag("a");
-						out.eTag("td").nl();
+						serializeBeanCell(session, out, m2, p.getMeta(), p.getKey(), p.getValue(), i);
 					}
 				}
 				out.eTag(i+1, "tr").nl();
@@ -586,6 +576,100 @@ public class HtmlSerializer extends XmlSerializer {
 		}
 	}
 
+	/*
+	 * Serializes a collection of beans of a single class as a table using the specified columns.
+	 * Each getter is called once per row while the row is rendered.
+	 */
+	@SuppressWarnings("rawtypes")
+	private void serializeBeanTable(HtmlSerializerSession session, HtmlWriter out, Collection c, ClassMeta<?> eType, BeanPropertyMeta[] cols, String btpn, String type2) throws Exception {
+		int i = session.getIndent();
+
+		out.oTag(i, "table").attr(btpn, type2).append('>').nl();
+		out.sTag(i+1, "tr").nl();
+		for (BeanPropertyMeta pMeta : cols) {
+			out.sTag(i+2, "th");
+			out.text(pMeta.getName());
+			out.eTag("th").nl();
+		}
+		out.eTag(i+1, "tr").nl();
+
+		ClassMeta<?> cm = null;
+		String typeName = null, typeProperty = null;
+
+		for (Object o : c) {
+			if (cm == null) {
+				cm = session.getClassMetaForObject(o);
+				if (eType.getElementType() != cm) {
+					typeName = cm.getDictionaryName();
+					typeProperty = session.getBeanTypePropertyName(cm);
+				}
+			}
+
+			out.oTag(i+1, "tr");
+			if (typeName != null)
+				out.attr(typeProperty, typeName);
+			out.cTag().nl();
+
+			BeanMap<?> m = session.toBeanMap(o);
+			for (BeanPropertyMeta pMeta : cols) {
+				String key = pMeta.getName();
+				serializeBeanCell(session, out, m, pMeta, key, pMeta.get(m, key), i);
+			}
+			out.eTag(i+1, "tr").nl();
+		}
+		out.eTag(i, "table").nl();
+	}
+
+	/*
+	 * Serializes a single bean property value as a table cell.
+	 */
+	private void serializeBeanCell(HtmlSerializerSession session, HtmlWriter out, BeanMap<?> m, BeanPropertyMeta pMeta, String key, Object value, int i) throws Exception {
+		HtmlBeanPropertyMeta hpMeta = pMeta.getExtendedMeta(HtmlBeanPropertyMeta.class);
+		String link = hpMeta.getLink();
+		HtmlRender render = hpMeta.getRender();
+
+		out.oTag(i+2, "td");
+		String style = render.getStyle(session, value);
+		if (style != null)
+			out.attr("style", style);
+		out.cTag();
+		if (link != null)
+			out.oTag(i+3, "a").attrUri("href", m.resolveVars(link)).cTag();
+		ContentResult cr = serializeAnything(session, out, render.getContent(session, value), pMeta.getClassMeta(), key, 2, pMeta, false);
+		if (cr == CR_NORMAL)
+			out.i(i+2);
+		if (link != null)
+			out.eTag("a");
+		out.eTag("td").nl();
+	}
+
+	/*
+	 * Returns the table columns for the specified collection if it consists only of beans of a single class.
+	 * Only the classes of the entries are inspected, so no getters are called.
+	 * Returns null if the collection should be handled by getTableHeaders().
+	 */
+	@SuppressWarnings("rawtypes")
+	private static BeanPropertyMeta[] getStaticTableColumns(SerializerSession session, Collection c, HtmlBeanPropertyMeta hbpMeta) {
+		Class<?> c1 = null;
+		for (Object o : c) {
+			if (o == null)
+				return null;
+			if (c1 == null)
+				c1 = o.getClass();
+			else if (c1 != o.getClass())
+				return null;
+		}
+		if (c1 == null || c1.isAnnotationPresent(HtmlLink.class))
+			return null;
+		ClassMeta<?> cm = session.getClassMeta(c1);
+		if (! cm.isBean() || cm.getPojoSwap() != null)
+			return null;
+		HtmlClassMeta h = cm.getExtendedMeta(HtmlClassMeta.class);
+		if (h.isNoTables() || h.isNoTableHeaders() || (hbpMeta != null && (hbpMeta.isNoTables() || hbpMeta.isNoTableHeaders())))
+			return null;
+		return h.getTableColumns();
+	}
+
 	/*
 	 * Returns the table column headers for the specified collection of objects.
 	 * Returns null if collection should not be serialized as a 2-dimensional table.
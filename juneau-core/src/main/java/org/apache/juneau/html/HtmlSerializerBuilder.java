@@ -189,6 +189,32 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return property(HTML_addKeyValueTableHeaders, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Derive collection table headers from bean metadata.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"HtmlSerializer.staticTableHeaders"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 * <p>
+	 * When a collection contains beans that are all of the same class, take the table column headers from the
+	 * bean properties of that class instead of calling every getter on every bean to find them.
+	 * <p>
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>HTML_staticTableHeaders</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see HtmlSerializerContext#HTML_staticTableHeaders
+	 */
+	public HtmlSerializerBuilder staticTableHeaders(boolean value) {
+		return property(HTML_staticTableHeaders, value);
+	}
+
 	@Override /* XmlSerializerBuilder */
 	public HtmlSerializerBuilder enableNamespaces(boolean value) {
 		super.enableNamespaces(value);
@@ -201,6 +227,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* XmlSerializerBuilder */
+	public HtmlSerializerBuilder precomputeNamespaces(boolean value) {
+		super.precomputeNamespaces(value);
+		return this;
+	}
+
 	@Override /* XmlSerializerBuilder */
 	public HtmlSerializerBuilder addNamespaceUrisToRoot(boolean value) {
 		super.addNamespaceUrisToRoot(value);
@@ -399,6 +431,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public HtmlSerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public HtmlSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
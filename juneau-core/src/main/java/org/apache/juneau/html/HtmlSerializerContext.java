@@ -127,6 +127,31 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 	 */
 	public static final String HTML_addKeyValueTableHeaders = "HtmlSerializer.addKeyValueTableHeaders";
 
+	/**
+	 * <b>Configuration property:</b>  Derive collection table headers from bean metadata.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"HtmlSerializer.staticTableHeaders"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 * <p>
+	 * When a collection contains beans that are all of the same class, the table column headers are taken from
+	 * the bean properties of that class instead of being collected from the property values of every bean.
+	 * The bean getters are then only called once per cell while the rows are rendered.
+	 * <p>
+	 * The column headers are computed once per class and cached.
+	 * Collections containing <jk>null</jk> entries, maps, swapped objects, or beans of different classes are
+	 * rendered the normal way.
+	 * <p>
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>Columns are rendered for all bean properties, including properties whose values are <jk>null</jk> on every row.
+	 * </ul>
+	 */
+	public static final String HTML_staticTableHeaders = "HtmlSerializer.staticTableHeaders";
+
 	/**
 	 * <b>Configuration property:</b>  Add <js>"_type"</js> properties when needed.
 	 * <p>
@@ -152,6 +177,7 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 		lookForLabelParameters,
 		detectLinksInStrings,
 		addKeyValueTableHeaders,
+		staticTableHeaders,
 		addBeanTypeProperties;
 	final String labelParameter;
 
@@ -169,6 +195,7 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 		detectLinksInStrings = ps.getProperty(HTML_detectLinksInStrings, Boolean.class, true);
 		labelParameter = ps.getProperty(HTML_labelParameter, String.class, "label");
 		addKeyValueTableHeaders = ps.getProperty(HTML_addKeyValueTableHeaders, Boolean.class, false);
+		staticTableHeaders = ps.getProperty(HTML_staticTableHeaders, Boolean.class, false);
 		addBeanTypeProperties = ps.getProperty(HTML_addBeanTypeProperties, boolean.class, ps.getProperty(SERIALIZER_addBeanTypeProperties, boolean.class, true));
 	}
 
@@ -181,6 +208,7 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 				.append("detectLinksInStrings", detectLinksInStrings)
 				.append("labelParameter", labelParameter)
 				.append("addKeyValueTableHeaders", addKeyValueTableHeaders)
+				.append("staticTableHeaders", staticTableHeaders)
 				.append("addBeanTypeProperties", addBeanTypeProperties)
 			);
 	}
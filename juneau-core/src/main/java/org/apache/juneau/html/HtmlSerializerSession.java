@@ -37,6 +37,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		detectLinksInStrings,
 		lookForLabelParameters,
 		addKeyValueTableHeaders,
+		staticTableHeaders,
 		addBeanTypeProperties;
 	private final Pattern urlPattern = Pattern.compile("http[s]?\\:\\/\\/.*");
 	private final Pattern labelPattern;
@@ -73,6 +74,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 			lookForLabelParameters = ctx.lookForLabelParameters;
 			labelParameter = ctx.labelParameter;
 			addKeyValueTableHeaders = ctx.addKeyValueTableHeaders;
+			staticTableHeaders = ctx.staticTableHeaders;
 			addBeanTypeProperties = ctx.addBeanTypeProperties;
 		} else {
 			anchorText = Enum.valueOf(AnchorText.class, op.getString(HTML_uriAnchorText, ctx.uriAnchorText));
@@ -80,6 +82,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 			lookForLabelParameters = op.getBoolean(HTML_lookForLabelParameters, ctx.lookForLabelParameters);
 			labelParameter = op.getString(HTML_labelParameter, ctx.labelParameter);
 			addKeyValueTableHeaders = op.getBoolean(HTML_addKeyValueTableHeaders, ctx.addKeyValueTableHeaders);
+			staticTableHeaders = op.getBoolean(HTML_staticTableHeaders, ctx.staticTableHeaders);
 			addBeanTypeProperties = op.getBoolean(MSGPACK_addBeanTypeProperties, ctx.addBeanTypeProperties);
 		}
 		labelPattern = Pattern.compile("[\\?\\&]" + Pattern.quote(labelParameter) + "=([^\\&]*)");
@@ -165,6 +168,15 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		return addKeyValueTableHeaders;
 	}
 
+	/**
+	 * Returns the {@link HtmlSerializerContext#HTML_staticTableHeaders} setting value for this session.
+	 *
+	 * @return The {@link HtmlSerializerContext#HTML_staticTableHeaders} setting value for this session.
+	 */
+	public final boolean isStaticTableHeaders() {
+		return staticTableHeaders;
+	}
+
 	/**
 	 * Returns the {@link HtmlSerializerContext#HTML_addBeanTypeProperties} setting value for this session.
 	 *
@@ -12,12 +12,26 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
- * Simple in-memory cache of objects.
+ * Simple bounded in-memory cache of objects.
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Lookups are lock-free reads against a ConcurrentHashMap.
+ * Once the cache grows past its maximum size, entries are evicted using the CLOCK (second-chance) algorithm, an
+ * approximation of least-recently-used eviction:
+ * <ul class='spaced-list'>
+ * 	<li>Every hit marks the entry as referenced.
+ * 	<li>On eviction, entries are visited in insertion order.  Referenced entries have their mark cleared and are
+ * 		given a second chance.  The first unreferenced entry is removed.
+ * </ul>
+ * <p>
+ * This means a burst of distinct keys that are only ever seen once (e.g. unusual HTTP header values) only evicts
+ * other one-time keys and the previously-used entries stay cached.
+ * <p>
+ * Entries can optionally expire after a fixed amount of time after they were added.
  *
  * @param <K> The key type.
  * @param <V> The value type.
@@ -25,21 +39,40 @@ import java.util.concurrent.*;
 public class Cache<K,V> {
 	private final boolean nocache;
 	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final long expireMs;
+	private final ConcurrentHashMap<K,Entry<K,V>> cache;
+	private final ConcurrentLinkedQueue<Entry<K,V>> clock;
+	private final AtomicInteger size = new AtomicInteger(), stale = new AtomicInteger();
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
 
 	/**
 	 * Constructor.
 	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize The maximum size of the cache.  If this threshold is reached, entries are evicted.
 	 */
 	public Cache(boolean disabled, int maxSize) {
+		this(disabled, maxSize, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param disabled If <jk>true</jk> then the cache is disabled.
+	 * @param maxSize The maximum size of the cache.  If this threshold is reached, entries are evicted.
+	 * @param expireMs The number of milliseconds after which an entry expires.  <code>0</code> means never.
+	 */
+	public Cache(boolean disabled, int maxSize, long expireMs) {
 		this.nocache = disabled;
-		this.maxSize = maxSize;
-		if (! nocache)
-			cache = new ConcurrentHashMap<K,V>();
-		else
+		this.maxSize = Math.max(maxSize, 1);
+		this.expireMs = expireMs;
+		if (! nocache) {
+			cache = new ConcurrentHashMap<K,Entry<K,V>>();
+			clock = new ConcurrentLinkedQueue<Entry<K,V>>();
+		} else {
 			cache = null;
+			clock = null;
+		}
 	}
 
 	/**
@@ -51,7 +84,20 @@ public class Cache<K,V> {
 	public V get(K key) {
 		if (nocache)
 			return null;
-		return cache.get(key);
+		Entry<K,V> e = cache.get(key);
+		if (e == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		if (e.isExpired()) {
+			expire(e);
+			misses.incrementAndGet();
+			return null;
+		}
+		if (! e.referenced)
+			e.referenced = true;
+		hits.incrementAndGet();
+		return e.value;
 	}
 
 	/**
@@ -66,16 +112,134 @@ public class Cache<K,V> {
 		if (nocache)
 			return value;
 
+		Entry<K,V> e = new Entry<K,V>(key, value, expireMs == 0 ? 0 : System.currentTimeMillis() + expireMs);
+		while (true) {
+			Entry<K,V> e2 = cache.putIfAbsent(key, e);
+			if (e2 == null)
+				break;
+			if (! e2.isExpired())
+				return e2.value;
+			expire(e2);
+		}
+		clock.add(e);
+
 		// Prevent OOM in case of DDOS
-		if (cache.size() > maxSize)
-			cache.clear();
+		if (size.incrementAndGet() > maxSize)
+			evict();
+		else if (stale.get() > maxSize && stale.getAndSet(0) > maxSize)
+			sweep();
 
-		while (true) {
-			V v = cache.get(key);
-			if (v != null)
-				return v;
-			cache.putIfAbsent(key, value);
-			return value;
+		return value;
+	}
+
+	/**
+	 * Returns the number of entries currently in this cache.
+	 *
+	 * @return The number of entries currently in this cache.
+	 */
+	public int size() {
+		return nocache ? 0 : size.get();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that found a value.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that did not find a value.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of entries removed to keep this cache under its maximum size.
+	 * <p>
+	 * Does not include expired entries.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "Cache[size="+size()+",maxSize="+maxSize+",hits="+hits+",misses="+misses+",evictions="+evictions+"]";
+	}
+
+	/*
+	 * Expired entries are left in the clock since removing them there is a linear scan.
+	 * The clock hand skips them, and sweep() clears them out if they pile up without any evictions.
+	 */
+	private void expire(Entry<K,V> e) {
+		if (remove(e))
+			stale.incrementAndGet();
+	}
+
+	private boolean remove(Entry<K,V> e) {
+		if (cache.remove(e.key, e)) {
+			size.decrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/*
+	 * Advances the clock hand until enough entries have been removed.
+	 * Every referenced entry gets its mark cleared at most once per pass, so this always terminates.
+	 */
+	private void evict() {
+		while (size.get() > maxSize) {
+			Entry<K,V> e = clock.poll();
+			if (e == null)
+				return;
+			if (cache.get(e.key) != e) {
+				stale.decrementAndGet();  // Already removed.
+				continue;
+			}
+			if (e.referenced && ! e.isExpired()) {
+				e.referenced = false;
+				clock.add(e);
+			} else if (remove(e) && ! e.isExpired()) {
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	/*
+	 * Drops entries from the clock that are no longer in the cache.
+	 * Only runs after more than maxSize entries have expired, so the scan is amortized across those expirations.
+	 */
+	private void sweep() {
+		for (Iterator<Entry<K,V>> i = clock.iterator(); i.hasNext();) {
+			Entry<K,V> e = i.next();
+			if (cache.get(e.key) != e)
+				i.remove();
+		}
+	}
+
+	private static final class Entry<K,V> {
+		final K key;
+		final V value;
+		final long expires;
+		volatile boolean referenced;
+
+		Entry(K key, V value, long expires) {
+			this.key = key;
+			this.value = value;
+			this.expires = expires;
+		}
+
+		boolean isExpired() {
+			return expires != 0 && System.currentTimeMillis() > expires;
 		}
 	}
 }
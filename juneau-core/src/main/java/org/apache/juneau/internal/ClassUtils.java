@@ -519,6 +519,27 @@ public final class ClassUtils {
 		return null;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified method of a base class is overridden by a class or any of its parents.
+	 *
+	 * @param c The class to check.
+	 * @param base The base class declaring the method.  Must be a parent of <code>c</code>.
+	 * @param name The method name.
+	 * @param parameterTypes The parameter types of the method.
+	 * @return <jk>true</jk> if a class between <code>c</code> and <code>base</code> declares the method.
+	 */
+	public static boolean isOverridden(Class<?> c, Class<?> base, String name, Class<?>...parameterTypes) {
+		for (; c != null && c != base; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod(name, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// Not declared on this class.
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Finds a public constructor with the specified parameters without throwing an exception.
 	 *
@@ -12,7 +12,6 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
-import java.lang.ref.*;
 import java.text.*;
 import java.util.*;
 
@@ -50,6 +49,9 @@ public final class DateUtils {
 		DEFAULT_TWO_DIGIT_YEAR_START = calendar.getTime();
 	}
 
+	// Thread-safe formatters keyed by pattern.  All use the default two-digit year start.
+	private static final Cache<String,SafeDateFormat> FORMATS = new Cache<String,SafeDateFormat>(false, 100);
+
 	/**
 	 * Parses a date value. The formats used for parsing the date value are retrieved from the default http params.
 	 *
@@ -85,7 +87,6 @@ public final class DateUtils {
 	 */
 	public static Date parseDate(final String dateValue, final String[] dateFormats, final Date startDate) {
 		final String[] localDateFormats = dateFormats != null ? dateFormats : DEFAULT_PATTERNS;
-		final Date localStartDate = startDate != null ? startDate : DEFAULT_TWO_DIGIT_YEAR_START;
 		String v = dateValue;
 		// trim single quotes around date if present
 		// see issue #5279
@@ -93,8 +94,7 @@ public final class DateUtils {
 			v = v.substring(1, v.length() - 1);
 		}
 		for (final String dateFormat : localDateFormats) {
-			final SimpleDateFormat dateParser = DateFormatHolder.formatFor(dateFormat);
-			dateParser.set2DigitYearStart(localStartDate);
+			final SafeDateFormat dateParser = (startDate == null ? formatFor(dateFormat) : new SafeDateFormat(dateFormat, -1, -1, Locale.US, GMT, startDate));
 			final ParsePosition pos = new ParsePosition(0);
 			final Date result = dateParser.parse(v, pos);
 			if (pos.getIndex() != 0) {
@@ -127,60 +127,20 @@ public final class DateUtils {
 	 * @see SimpleDateFormat
 	 */
 	public static String formatDate(final Date date, final String pattern) {
-		final SimpleDateFormat formatter = DateFormatHolder.formatFor(pattern);
-		return formatter.format(date);
+		return formatFor(pattern).format(date);
 	}
 
-	/**
-	 * Clears thread-local variable containing {@link java.text.DateFormat} cache.
+	/*
+	 * Returns the shared formatter for the specified pattern.
 	 */
-	public static void clearThreadLocal() {
-		DateFormatHolder.clearThreadLocal();
+	private static SafeDateFormat formatFor(String pattern) {
+		SafeDateFormat f = FORMATS.get(pattern);
+		if (f == null)
+			f = FORMATS.put(pattern, new SafeDateFormat(pattern, -1, -1, Locale.US, GMT, DEFAULT_TWO_DIGIT_YEAR_START));
+		return f;
 	}
 
 	/** This class should not be instantiated. */
 	private DateUtils() {
 	}
-
-	/**
-	 * A factory for {@link SimpleDateFormat}s. The instances are stored in a threadlocal way because SimpleDateFormat
-	 * is not threadsafe as noted in {@link SimpleDateFormat its javadoc}.
-	 *
-	 */
-	final static class DateFormatHolder {
-		private static final ThreadLocal<SoftReference<Map<String,SimpleDateFormat>>> THREADLOCAL_FORMATS = new ThreadLocal<SoftReference<Map<String,SimpleDateFormat>>>() {
-			@Override
-			protected SoftReference<Map<String,SimpleDateFormat>> initialValue() {
-				return new SoftReference<Map<String,SimpleDateFormat>>(new HashMap<String,SimpleDateFormat>());
-			}
-		};
-
-		/**
-		 * creates a {@link SimpleDateFormat} for the requested format string.
-		 *
-		 * @param pattern a non-<code>null</code> format String according to {@link SimpleDateFormat}. The format is not
-		 * 	checked against <code>null</code> since all paths go through {@link DateUtils}.
-		 * @return the requested format. This simple dateformat should not be used to
-		 * 	{@link SimpleDateFormat#applyPattern(String) apply} to a different pattern.
-		 */
-		public static SimpleDateFormat formatFor(final String pattern) {
-			final SoftReference<Map<String,SimpleDateFormat>> ref = THREADLOCAL_FORMATS.get();
-			Map<String,SimpleDateFormat> formats = ref.get();
-			if (formats == null) {
-				formats = new HashMap<String,SimpleDateFormat>();
-				THREADLOCAL_FORMATS.set(new SoftReference<Map<String,SimpleDateFormat>>(formats));
-			}
-			SimpleDateFormat format = formats.get(pattern);
-			if (format == null) {
-				format = new SimpleDateFormat(pattern, Locale.US);
-				format.setTimeZone(TimeZone.getTimeZone("GMT"));
-				formats.put(pattern, format);
-			}
-			return format;
-		}
-
-		public static void clearThreadLocal() {
-			THREADLOCAL_FORMATS.remove();
-		}
-	}
-}
\ No newline at end of file
+}
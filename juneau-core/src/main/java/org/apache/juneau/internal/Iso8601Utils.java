@@ -0,0 +1,215 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+import javax.xml.bind.*;
+
+/**
+ * Fast formatting and parsing of ISO8601 (<code>xsd:dateTime</code>) date-time strings.
+ * <p>
+ * Produces the same results as {@link DatatypeConverter#printDateTime(Calendar)} and
+ * 	{@link DatatypeConverter#parseDateTime(String)} without going through <code>XMLGregorianCalendar</code>.
+ * Parsing handles the common <js>"yyyy-MM-ddTHH:mm:ss[.S][Z|+hh:mm]"</js> form directly and falls back to
+ * 	{@link DatatypeConverter} for everything else (e.g. <js>"2001-07-04"</js>).
+ */
+public final class Iso8601Utils {
+
+	private static final Date PURE_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
+
+	/**
+	 * Formats the specified calendar as an ISO8601 date-time string.
+	 * <p>
+	 * Equivalent to {@link DatatypeConverter#printDateTime(Calendar)}.
+	 * Milliseconds are only included if they're not zero.
+	 *
+	 * @param c The calendar to format.
+	 * @return The formatted string (e.g. <js>"2001-07-04T15:30:45-05:00"</js>).
+	 */
+	public static String printDateTime(Calendar c) {
+		return printDateTime(c, false);
+	}
+
+	/**
+	 * Formats the specified calendar as an ISO8601 date-time string.
+	 *
+	 * @param c The calendar to format.
+	 * @param millis If <jk>true</jk>, milliseconds are always included (e.g. <js>"2001-07-04T15:30:45.000Z"</js>).
+	 * 	If <jk>false</jk>, milliseconds are only included if they're not zero.
+	 * @return The formatted string.
+	 */
+	public static String printDateTime(Calendar c, boolean millis) {
+		StringBuilder sb = new StringBuilder(29);
+
+		int year = c.get(Calendar.YEAR);
+		String y = Integer.toString(year <= 0 ? 1 - year : year);
+		if (year <= 0)
+			sb.append('-');
+		for (int i = y.length(); i < 4; i++)
+			sb.append('0');
+		sb.append(y).append('-');
+		append2(sb, c.get(Calendar.MONTH) + 1).append('-');
+		append2(sb, c.get(Calendar.DAY_OF_MONTH)).append('T');
+		append2(sb, c.get(Calendar.HOUR_OF_DAY)).append(':');
+		append2(sb, c.get(Calendar.MINUTE)).append(':');
+		append2(sb, c.get(Calendar.SECOND));
+
+		if (millis || c.isSet(Calendar.MILLISECOND)) {
+			int ms = c.get(Calendar.MILLISECOND);
+			if (millis || ms != 0) {
+				sb.append('.');
+				if (ms < 100)
+					sb.append('0');
+				if (ms < 10)
+					sb.append('0');
+				sb.append(ms);
+			}
+		}
+
+		TimeZone tz = c.getTimeZone();
+		if (tz != null) {
+			int offset = tz.getOffset(c.getTimeInMillis());
+			if (offset == 0) {
+				sb.append('Z');
+			} else {
+				if (offset > 0) {
+					sb.append('+');
+				} else {
+					sb.append('-');
+					offset = -offset;
+				}
+				offset /= 60 * 1000;
+				append2(sb, offset / 60).append(':');
+				append2(sb, offset % 60);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Parses the specified ISO8601 date-time string.
+	 * <p>
+	 * Equivalent to {@link DatatypeConverter#parseDateTime(String)}.
+	 *
+	 * @param s The string to parse.
+	 * @return The parsed calendar.
+	 * @throws IllegalArgumentException If the string is not a valid ISO8601 date-time string.
+	 */
+	public static Calendar parseDateTime(String s) throws IllegalArgumentException {
+		Calendar c = parseFast(s.trim());
+		if (c == null)
+			c = DatatypeConverter.parseDateTime(s);
+		return c;
+	}
+
+	/*
+	 * Parses strings of the form "yyyy-MM-ddTHH:mm:ss[.S+][Z|(+|-)hh:mm]".
+	 * Returns null if the string is not of that form or contains out-of-range values, in which case the string
+	 * is handed to DatatypeConverter to either handle or produce the appropriate error.
+	 */
+	private static Calendar parseFast(String s) {
+		int len = s.length();
+		if (len < 19 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(13) != ':' || s.charAt(16) != ':')
+			return null;
+
+		int year = digits(s, 0, 4), month = digits(s, 5, 2), day = digits(s, 8, 2);
+		int hour = digits(s, 11, 2), minute = digits(s, 14, 2), second = digits(s, 17, 2);
+		if (year < 1 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+			return null;
+		if (day > 28 && day > maxDay(year, month))
+			return null;
+
+		int i = 19, millis = -1;
+		if (i < len && s.charAt(i) == '.') {
+			int start = ++i;
+			millis = 0;
+			while (i < len && isDigit(s.charAt(i))) {
+				if (i - start < 3)
+					millis = millis * 10 + (s.charAt(i) - '0');
+				i++;
+			}
+			if (i == start)
+				return null;
+			for (int j = i - start; j < 3; j++)
+				millis *= 10;
+		}
+
+		String tzId = null;
+		if (i < len) {
+			char ch = s.charAt(i);
+			if (ch == 'Z' && i + 1 == len) {
+				tzId = "GMT+0";
+			} else if ((ch == '+' || ch == '-') && i + 6 == len && s.charAt(i + 3) == ':') {
+				int tzh = digits(s, i + 1, 2), tzm = digits(s, i + 4, 2);
+				if (tzh < 0 || tzm < 0 || tzm > 59 || tzh * 60 + tzm > 14 * 60)
+					return null;
+				if (tzh == 0 && tzm == 0)
+					ch = '+';
+				// Same custom timezone ID as XMLGregorianCalendar.toGregorianCalendar().
+				StringBuilder sb = new StringBuilder(8).append("GMT").append(ch).append(tzh);
+				if (tzm != 0) {
+					if (tzm < 10)
+						sb.append('0');
+					sb.append(tzm);
+				}
+				tzId = sb.toString();
+			} else {
+				return null;
+			}
+		}
+
+		GregorianCalendar c = new GregorianCalendar(tzId == null ? TimeZone.getDefault() : TimeZone.getTimeZone(tzId), Locale.getDefault());
+		c.clear();
+		c.setGregorianChange(PURE_GREGORIAN_CHANGE);
+		c.set(Calendar.ERA, GregorianCalendar.AD);
+		c.set(Calendar.YEAR, year);
+		c.set(Calendar.MONTH, month - 1);
+		c.set(Calendar.DAY_OF_MONTH, day);
+		c.set(Calendar.HOUR_OF_DAY, hour);
+		c.set(Calendar.MINUTE, minute);
+		c.set(Calendar.SECOND, second);
+		if (millis != -1)
+			c.set(Calendar.MILLISECOND, millis);
+		return c;
+	}
+
+	private static int digits(String s, int start, int count) {
+		int n = 0;
+		for (int i = start; i < start + count; i++) {
+			char c = s.charAt(i);
+			if (! isDigit(c))
+				return -1;
+			n = n * 10 + (c - '0');
+		}
+		return n;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static int maxDay(int year, int month) {
+		if (month == 2)
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		if (month == 4 || month == 6 || month == 9 || month == 11)
+			return 30;
+		return 31;
+	}
+
+	private static StringBuilder append2(StringBuilder sb, int n) {
+		if (n < 10)
+			sb.append('0');
+		return sb.append(n);
+	}
+}
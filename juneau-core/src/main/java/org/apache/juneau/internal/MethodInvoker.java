@@ -0,0 +1,37 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.lang.reflect.*;
+
+/**
+ * Direct (non-reflective) invocation of a single method.
+ * <p>
+ * Subclasses are generated at runtime by {@link PropertyAccessorGenerator#generateInvoker(Method)}.
+ */
+public abstract class MethodInvoker {
+
+	/**
+	 * Calls the method on the specified object.
+	 * <p>
+	 * Primitive arguments are unboxed, and primitive return values are returned boxed.
+	 *
+	 * @param target The object to call the method on.
+	 * @param args The method arguments.
+	 * @return The value returned by the method, or <jk>null</jk> if it's a <jk>void</jk> method.
+	 * @throws InvocationTargetException If the method threw an exception.
+	 * @throws ClassCastException If the target or one of the arguments is not of the expected type.
+	 * @throws NullPointerException If an argument for a primitive parameter is <jk>null</jk>.
+	 */
+	public abstract Object invoke(Object target, Object[] args) throws InvocationTargetException;
+}
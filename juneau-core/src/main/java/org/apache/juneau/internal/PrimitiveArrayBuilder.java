@@ -0,0 +1,199 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Builds arrays of primitive numbers and booleans one element at a time.
+ * <p>
+ * Used by parsers to fill arrays such as <code><jk>int</jk>[]</code> and <code><jk>double</jk>[]</code> directly
+ * 	instead of collecting boxed elements into an intermediate list and copying them over with reflection.
+ * <p>
+ * The backing array doubles in size as needed and is trimmed to the number of elements in {@link #getArray()}.
+ * <p>
+ * This class is also a {@link Collection} so that it can be passed to parse methods that fill collections.
+ * 	Values added through {@link #add(Object)} are unboxed into the backing array as they arrive.
+ */
+public final class PrimitiveArrayBuilder extends AbstractCollection<Object> {
+
+	private final Class<?> componentType;
+	private Object array;
+	private int size, capacity;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param componentType The primitive component type of the array.
+	 * 	Must be one of the types accepted by {@link #isSupported(Class)}.
+	 * @param capacity The initial capacity of the array.
+	 */
+	public PrimitiveArrayBuilder(Class<?> componentType, int capacity) {
+		if (! isSupported(componentType))
+			throw new IllegalArgumentException("Unsupported component type: " + componentType);
+		this.componentType = componentType;
+		this.capacity = Math.max(capacity, 0);
+		this.array = Array.newInstance(componentType, this.capacity);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified class is a primitive number or boolean type.
+	 * <p>
+	 * <jk>char</jk> and <jk>void</jk> are not supported.
+	 *
+	 * @param c The class to check.
+	 * @return <jk>true</jk> if this builder can create arrays of the specified type.
+	 */
+	public static boolean isSupported(Class<?> c) {
+		return c != null && c.isPrimitive() && c != char.class && c != void.class;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this builder is creating a <code><jk>boolean</jk>[]</code> array.
+	 *
+	 * @return <jk>true</jk> if this builder is creating a <code><jk>boolean</jk>[]</code> array.
+	 */
+	public boolean isBoolean() {
+		return componentType == boolean.class;
+	}
+
+	/**
+	 * Appends an integer value, narrowing it to the component type of the array.
+	 *
+	 * @param v The value to append.
+	 * @return This object (for method chaining).
+	 * @throws IllegalStateException If this is a <code><jk>boolean</jk>[]</code> builder.
+	 */
+	public PrimitiveArrayBuilder add(long v) {
+		ensureCapacity();
+		Object a = array;
+		if (a instanceof int[])
+			((int[])a)[size++] = (int)v;
+		else if (a instanceof long[])
+			((long[])a)[size++] = v;
+		else if (a instanceof double[])
+			((double[])a)[size++] = v;
+		else if (a instanceof float[])
+			((float[])a)[size++] = v;
+		else if (a instanceof short[])
+			((short[])a)[size++] = (short)v;
+		else if (a instanceof byte[])
+			((byte[])a)[size++] = (byte)v;
+		else
+			throw new IllegalStateException("Cannot add a number to a boolean array.");
+		return this;
+	}
+
+	/**
+	 * Appends a floating-point value, narrowing it to the component type of the array.
+	 *
+	 * @param v The value to append.
+	 * @return This object (for method chaining).
+	 * @throws IllegalStateException If this is a <code><jk>boolean</jk>[]</code> builder.
+	 */
+	public PrimitiveArrayBuilder add(double v) {
+		ensureCapacity();
+		Object a = array;
+		if (a instanceof double[])
+			((double[])a)[size++] = v;
+		else if (a instanceof float[])
+			((float[])a)[size++] = (float)v;
+		else if (a instanceof int[])
+			((int[])a)[size++] = (int)v;
+		else if (a instanceof long[])
+			((long[])a)[size++] = (long)v;
+		else if (a instanceof short[])
+			((short[])a)[size++] = (short)v;
+		else if (a instanceof byte[])
+			((byte[])a)[size++] = (byte)v;
+		else
+			throw new IllegalStateException("Cannot add a number to a boolean array.");
+		return this;
+	}
+
+	/**
+	 * Appends a boolean value.
+	 *
+	 * @param v The value to append.
+	 * @return This object (for method chaining).
+	 * @throws IllegalStateException If this is not a <code><jk>boolean</jk>[]</code> builder.
+	 */
+	public PrimitiveArrayBuilder add(boolean v) {
+		if (! isBoolean())
+			throw new IllegalStateException("Cannot add a boolean to a numeric array.");
+		ensureCapacity();
+		((boolean[])array)[size++] = v;
+		return this;
+	}
+
+	/**
+	 * Appends a boxed value.
+	 * <p>
+	 * <jk>null</jk> values are stored as the primitive default (e.g. <code>0</code> or <jk>false</jk>).
+	 * <br>{@link Number Numbers} are narrowed to the component type of the array.
+	 *
+	 * @param o The value to append.  Must be <jk>null</jk>, a {@link Number}, or a {@link Boolean}.
+	 * @return Always <jk>true</jk>.
+	 * @throws IllegalStateException If the value doesn't match the component type of the array.
+	 */
+	@Override /* Collection */
+	public boolean add(Object o) {
+		if (o == null) {
+			ensureCapacity();
+			size++;
+		} else if (o instanceof Boolean) {
+			add(((Boolean)o).booleanValue());
+		} else if (o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) {
+			add(((Number)o).longValue());
+		} else if (o instanceof Number) {
+			add(((Number)o).doubleValue());
+		} else {
+			throw new IllegalStateException("Cannot add value of type '"+o.getClass().getName()+"' to array of type '"+componentType.getName()+"'.");
+		}
+		return true;
+	}
+
+	@Override /* Collection */
+	public int size() {
+		return size;
+	}
+
+	@Override /* Collection */
+	public Iterator<Object> iterator() {
+		return ArrayUtils.iterator(getArray());
+	}
+
+	/**
+	 * Returns the array containing the elements added to this builder.
+	 *
+	 * @return A primitive array whose length is the number of elements added to this builder.
+	 */
+	public Object getArray() {
+		if (size == capacity)
+			return array;
+		Object a = Array.newInstance(componentType, size);
+		System.arraycopy(array, 0, a, 0, size);
+		return a;
+	}
+
+	private void ensureCapacity() {
+		if (size < capacity)
+			return;
+		int newCapacity = Math.max(capacity * 2, 16);
+		Object a = Array.newInstance(componentType, newCapacity);
+		System.arraycopy(array, 0, a, 0, size);
+		array = a;
+		capacity = newCapacity;
+	}
+}
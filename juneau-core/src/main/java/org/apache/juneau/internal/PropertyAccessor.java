@@ -0,0 +1,48 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+/**
+ * Direct (non-reflective) access to the properties of a single bean class.
+ * <p>
+ * Subclasses are generated at runtime by {@link PropertyAccessorGenerator}.
+ * Properties are identified by the index they were given when the accessor was generated.
+ */
+public abstract class PropertyAccessor {
+
+	/**
+	 * Returns the value of the specified property on the specified bean.
+	 * <p>
+	 * Primitive values are returned boxed.
+	 *
+	 * @param bean The bean to read from.
+	 * @param index The index of the property.
+	 * @return The property value.
+	 * @throws IllegalArgumentException If the property at the specified index has no generated getter.
+	 */
+	public abstract Object get(Object bean, int index);
+
+	/**
+	 * Sets the value of the specified property on the specified bean.
+	 * <p>
+	 * Values for primitive properties are unboxed.
+	 *
+	 * @param bean The bean to write to.
+	 * @param index The index of the property.
+	 * @param value The new property value.
+	 * @return The value returned by the setter method (primitive values boxed), or <jk>null</jk> if the setter
+	 * 	returns <jk>void</jk> or the property is a field.
+	 * @throws IllegalArgumentException If the property at the specified index has no generated setter.
+	 */
+	public abstract Object set(Object bean, int index, Object value);
+}
@@ -0,0 +1,592 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Generates {@link PropertyAccessor} subclasses that call bean getters, setters and fields directly
+ * 	instead of going through {@link Method#invoke(Object, Object...)} and {@link Field#get(Object)}.
+ * <p>
+ * Also generates {@link MethodInvoker} subclasses that do the same for arbitrary single methods.
+ * <p>
+ * Each generated class is defined in its own class loader whose parent is the class loader of the bean class.
+ * Because of this, only public members of public classes can be accessed.
+ * Use {@link #canAccess(Class)}, {@link #canGet(Member)} and {@link #canSet(Member)} to determine which members
+ * 	can be handled, and fall back to reflection for the others.
+ * <p>
+ * The generated class files use the pre-Java 6 class file format so that no stack map frames need to be computed.
+ */
+public final class PropertyAccessorGenerator {
+
+	private static final String
+		SUPER_CLASS = internalName(PropertyAccessor.class),
+		INVOKER_SUPER_CLASS = internalName(MethodInvoker.class),
+		IAE = "java/lang/IllegalArgumentException",
+		ITE = "java/lang/reflect/InvocationTargetException";
+
+	// Opcodes.
+	private static final int
+		ACONST_NULL = 0x01, ICONST_0 = 0x03, BIPUSH = 0x10, SIPUSH = 0x11, AALOAD = 0x32, ASTORE_3 = 0x4e,
+		ALOAD = 0x19, ASTORE = 0x3a, ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ALOAD_2 = 0x2c, ALOAD_3 = 0x2d, ILOAD_2 = 0x1c,
+		DUP = 0x59, TABLESWITCH = 0xaa, ARETURN = 0xb0, RETURN = 0xb1, GETFIELD = 0xb4, PUTFIELD = 0xb5,
+		INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, INVOKESTATIC = 0xb8, INVOKEINTERFACE = 0xb9, NEW = 0xbb,
+		ATHROW = 0xbf, CHECKCAST = 0xc0;
+
+	/**
+	 * Returns <jk>true</jk> if accessors can be generated for the specified bean class.
+	 *
+	 * @param c The bean class.
+	 * @return <jk>true</jk> if accessors can be generated for the specified bean class.
+	 */
+	public static boolean canAccess(Class<?> c) {
+		return c != null
+			&& Modifier.isPublic(c.getModifiers())
+			&& ! (c.isArray() || c.isPrimitive() || c.isAnonymousClass() || c.isLocalClass())
+			&& ! c.getName().startsWith("java.");
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified getter method or field can be called from a generated accessor.
+	 *
+	 * @param m The getter method or field.
+	 * @return <jk>true</jk> if the specified member can be called from a generated accessor.
+	 */
+	public static boolean canGet(Member m) {
+		if (! isPublicInstance(m))
+			return false;
+		if (m instanceof Method) {
+			Method mm = (Method)m;
+			return mm.getParameterTypes().length == 0 && mm.getReturnType() != void.class;
+		}
+		return m instanceof Field;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified setter method or field can be called from a generated accessor.
+	 *
+	 * @param m The setter method or field.
+	 * @return <jk>true</jk> if the specified member can be called from a generated accessor.
+	 */
+	public static boolean canSet(Member m) {
+		if (! isPublicInstance(m))
+			return false;
+		if (m instanceof Method) {
+			Class<?>[] pt = ((Method)m).getParameterTypes();
+			return pt.length == 1 && isAccessibleType(pt[0]);
+		}
+		if (m instanceof Field) {
+			Field f = (Field)m;
+			return ! Modifier.isFinal(f.getModifiers()) && isAccessibleType(f.getType());
+		}
+		return false;
+	}
+
+	/**
+	 * Generates a new accessor for the specified bean class.
+	 *
+	 * @param c The bean class.  Must pass {@link #canAccess(Class)}.
+	 * @param getters The getter methods or fields indexed by property index.
+	 * 	Entries can be <jk>null</jk>.  Non-null entries must pass {@link #canGet(Member)}.
+	 * @param setters The setter methods or fields indexed by property index.
+	 * 	Entries can be <jk>null</jk>.  Non-null entries must pass {@link #canSet(Member)}.
+	 * @return A new accessor, or <jk>null</jk> if the class could not be generated or loaded.
+	 */
+	public static PropertyAccessor generate(Class<?> c, Member[] getters, Member[] setters) {
+		try {
+			String name = c.getName() + "$$JuneauAccessor";
+			byte[] b = generateClass(internalName(name), c, getters, setters);
+			AccessorClassLoader cl = new AccessorClassLoader(c.getClassLoader());
+			return (PropertyAccessor)cl.define(name, b).newInstance();
+		} catch (Throwable t) {
+			// Class loading rules (e.g. security managers or restrictive class loaders) forbid it.
+			return null;
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified method can be called from a generated invoker.
+	 *
+	 * @param m The method.
+	 * @return <jk>true</jk> if {@link #generateInvoker(Method)} can handle the specified method.
+	 */
+	public static boolean canInvoke(Method m) {
+		if (! (isPublicInstance(m) && canAccess(m.getDeclaringClass()) && isAccessibleType(m.getReturnType())))
+			return false;
+		for (Class<?> pt : m.getParameterTypes())
+			if (! isAccessibleType(pt))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Generates an invoker for the specified method.
+	 * <p>
+	 * Exceptions thrown by the method are wrapped in {@link InvocationTargetException} the same way
+	 * {@link Method#invoke(Object, Object...)} does.
+	 *
+	 * @param m The method.  Must pass {@link #canInvoke(Method)}.
+	 * @return A new invoker, or <jk>null</jk> if the class could not be generated or loaded.
+	 */
+	public static MethodInvoker generateInvoker(Method m) {
+		try {
+			Class<?> c = m.getDeclaringClass();
+			String name = c.getName() + "$$JuneauInvoker";
+			byte[] b = generateInvokerClass(internalName(name), m);
+			AccessorClassLoader cl = new AccessorClassLoader(c.getClassLoader());
+			return (MethodInvoker)cl.define(name, b).newInstance();
+		} catch (Throwable t) {
+			// Class loading rules (e.g. security managers or restrictive class loaders) forbid it.
+			return null;
+		}
+	}
+
+	private static boolean isPublicInstance(Member m) {
+		int mod = m.getModifiers();
+		return Modifier.isPublic(mod) && ! Modifier.isStatic(mod);
+	}
+
+	/*
+	 * Types used in CHECKCAST instructions must be accessible from the generated class.
+	 */
+	private static boolean isAccessibleType(Class<?> c) {
+		while (c.isArray())
+			c = c.getComponentType();
+		return c.isPrimitive() || Modifier.isPublic(c.getModifiers());
+	}
+
+	private static byte[] generateClass(String className, Class<?> c, Member[] getters, Member[] setters) throws IOException {
+		ConstantPool cp = new ConstantPool();
+		String owner = internalName(c);
+		boolean isInterface = c.isInterface();
+
+		ByteArrayOutputStream methods = new ByteArrayOutputStream();
+		DataOutputStream mo = new DataOutputStream(methods);
+
+		// public <init>() { super(); }
+		Code init = new Code();
+		init.op(ALOAD_0).op(INVOKESPECIAL).u2(cp.methodRef(SUPER_CLASS, "<init>", "()V", false)).op(RETURN);
+		writeMethod(mo, cp, "<init>", "()V", init, 1, 1);
+
+		// public Object get(Object bean, int index)
+		Code get = new Code();
+		get.op(ALOAD_1).op(CHECKCAST).u2(cp.classRef(owner)).op(ASTORE).u1(3).op(ILOAD_2);
+		Code[] cases = new Code[getters.length];
+		for (int i = 0; i < getters.length; i++) {
+			Member m = getters[i];
+			if (m == null)
+				continue;
+			Code cc = cases[i] = new Code();
+			cc.op(ALOAD_3);
+			Class<?> type;
+			if (m instanceof Method) {
+				Method mm = (Method)m;
+				type = mm.getReturnType();
+				invoke(cc, cp, owner, isInterface, mm.getName(), "()" + descriptor(type), 1);
+			} else {
+				type = ((Field)m).getType();
+				cc.op(GETFIELD).u2(cp.fieldRef(owner, m.getName(), descriptor(type)));
+			}
+			if (type.isPrimitive()) {
+				String w = internalName(wrapper(type));
+				cc.op(INVOKESTATIC).u2(cp.methodRef(w, "valueOf", "(" + descriptor(type) + ")L" + w + ";", false));
+			}
+			cc.op(ARETURN);
+		}
+		tableSwitch(get, cases, throwIae(cp));
+		writeMethod(mo, cp, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;", get, 4, 4);
+
+		// public Object set(Object bean, int index, Object value)
+		Code set = new Code();
+		set.op(ALOAD_1).op(CHECKCAST).u2(cp.classRef(owner)).op(ASTORE).u1(4).op(ILOAD_2);
+		cases = new Code[setters.length];
+		for (int i = 0; i < setters.length; i++) {
+			Member m = setters[i];
+			if (m == null)
+				continue;
+			Code cc = cases[i] = new Code();
+			cc.op(ALOAD).u1(4).op(ALOAD_3);
+			if (m instanceof Method) {
+				Method mm = (Method)m;
+				Class<?> type = mm.getParameterTypes()[0], rt = mm.getReturnType();
+				convert(cc, cp, type);
+				invoke(cc, cp, owner, isInterface, mm.getName(), "(" + descriptor(type) + ")" + descriptor(rt), 1 + slots(type));
+				if (rt == void.class)
+					cc.op(ACONST_NULL);
+				else if (rt.isPrimitive()) {
+					String w = internalName(wrapper(rt));
+					cc.op(INVOKESTATIC).u2(cp.methodRef(w, "valueOf", "(" + descriptor(rt) + ")L" + w + ";", false));
+				}
+			} else {
+				Class<?> type = ((Field)m).getType();
+				convert(cc, cp, type);
+				cc.op(PUTFIELD).u2(cp.fieldRef(owner, m.getName(), descriptor(type)));
+				cc.op(ACONST_NULL);
+			}
+			cc.op(ARETURN);
+		}
+		tableSwitch(set, cases, throwIae(cp));
+		writeMethod(mo, cp, "set", "(Ljava/lang/Object;ILjava/lang/Object;)Ljava/lang/Object;", set, 4, 5);
+
+		return writeClass(cp, className, SUPER_CLASS, methods, 3);
+	}
+
+	private static byte[] generateInvokerClass(String className, Method m) throws IOException {
+		ConstantPool cp = new ConstantPool();
+		Class<?> c = m.getDeclaringClass();
+		String owner = internalName(c);
+		Class<?>[] pt = m.getParameterTypes();
+		Class<?> rt = m.getReturnType();
+
+		ByteArrayOutputStream methods = new ByteArrayOutputStream();
+		DataOutputStream mo = new DataOutputStream(methods);
+
+		// public <init>() { super(); }
+		Code init = new Code();
+		init.op(ALOAD_0).op(INVOKESPECIAL).u2(cp.methodRef(INVOKER_SUPER_CLASS, "<init>", "()V", false)).op(RETURN);
+		writeMethod(mo, cp, "<init>", "()V", init, 1, 1);
+
+		// public Object invoke(Object target, Object[] args) {
+		// 	try {
+		// 		return ((Owner)target).method((T0)args[0], (T1)args[1], ...);
+		// 	} catch (Throwable t) {
+		// 		throw new InvocationTargetException(t);
+		// 	}
+		// }
+		// The casts happen outside the try block so that they aren't mistaken for exceptions thrown by the method.
+		Code code = new Code();
+		code.op(ALOAD_1).op(CHECKCAST).u2(cp.classRef(owner));
+		int argSlots = 1;
+		StringBuilder desc = new StringBuilder("(");
+		for (int i = 0; i < pt.length; i++) {
+			code.op(ALOAD_2);
+			if (i <= 5)
+				code.op(ICONST_0 + i);
+			else if (i < 128)
+				code.op(BIPUSH).u1(i);
+			else
+				code.op(SIPUSH).u2(i);
+			code.op(AALOAD);
+			convert(code, cp, pt[i]);
+			argSlots += slots(pt[i]);
+			desc.append(descriptor(pt[i]));
+		}
+		desc.append(')').append(descriptor(rt));
+		int start = code.size();
+		invoke(code, cp, owner, c.isInterface(), m.getName(), desc.toString(), argSlots);
+		int end = code.size();
+		if (rt == void.class)
+			code.op(ACONST_NULL);
+		else if (rt.isPrimitive()) {
+			String w = internalName(wrapper(rt));
+			code.op(INVOKESTATIC).u2(cp.methodRef(w, "valueOf", "(" + descriptor(rt) + ")L" + w + ";", false));
+		}
+		code.op(ARETURN);
+		int handler = code.size();
+		code.op(ASTORE_3).op(NEW).u2(cp.classRef(ITE)).op(DUP).op(ALOAD_3);
+		code.op(INVOKESPECIAL).u2(cp.methodRef(ITE, "<init>", "(Ljava/lang/Throwable;)V", false)).op(ATHROW);
+		writeMethod(mo, cp, "invoke", "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;", code, Math.max(argSlots + 3, 4), 4, start, end, handler);
+
+		return writeClass(cp, className, INVOKER_SUPER_CLASS, methods, 2);
+	}
+
+	private static byte[] writeClass(ConstantPool cp, String className, String superClassName, ByteArrayOutputStream methods, int methodCount) throws IOException {
+		int thisClass = cp.classRef(className), superClass = cp.classRef(superClassName);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(baos);
+		out.writeInt(0xCAFEBABE);
+		out.writeShort(0);                 // Minor version.
+		out.writeShort(49);                // Major version (Java 5, no stack map frames required).
+		cp.write(out);
+		out.writeShort(0x0001 | 0x0010 | 0x0020);  // ACC_PUBLIC | ACC_FINAL | ACC_SUPER
+		out.writeShort(thisClass);
+		out.writeShort(superClass);
+		out.writeShort(0);                 // Interfaces.
+		out.writeShort(0);                 // Fields.
+		out.writeShort(methodCount);       // Methods.
+		out.write(methods.toByteArray());
+		out.writeShort(0);                 // Attributes.
+		out.flush();
+		return baos.toByteArray();
+	}
+
+	private static void invoke(Code cc, ConstantPool cp, String owner, boolean isInterface, String name, String desc, int argSlots) {
+		if (isInterface)
+			cc.op(INVOKEINTERFACE).u2(cp.methodRef(owner, name, desc, true)).u1(argSlots).u1(0);
+		else
+			cc.op(INVOKEVIRTUAL).u2(cp.methodRef(owner, name, desc, false));
+	}
+
+	/*
+	 * Converts the Object on the top of the stack to the specified type.
+	 */
+	private static void convert(Code cc, ConstantPool cp, Class<?> type) {
+		if (type == boolean.class) {
+			cc.op(CHECKCAST).u2(cp.classRef("java/lang/Boolean"));
+			cc.op(INVOKEVIRTUAL).u2(cp.methodRef("java/lang/Boolean", "booleanValue", "()Z", false));
+		} else if (type == char.class) {
+			cc.op(CHECKCAST).u2(cp.classRef("java/lang/Character"));
+			cc.op(INVOKEVIRTUAL).u2(cp.methodRef("java/lang/Character", "charValue", "()C", false));
+		} else if (type.isPrimitive()) {
+			// Any Number subclass is accepted and converted with xxxValue() (which may narrow).
+			// Callers that need the exact Method.invoke() conversion rules must check the value type first.
+			cc.op(CHECKCAST).u2(cp.classRef("java/lang/Number"));
+			cc.op(INVOKEVIRTUAL).u2(cp.methodRef("java/lang/Number", type.getName() + "Value", "()" + descriptor(type), false));
+		} else if (type != Object.class) {
+			cc.op(CHECKCAST).u2(cp.classRef(internalName(type)));
+		}
+	}
+
+	private static Code throwIae(ConstantPool cp) {
+		Code c = new Code();
+		c.op(NEW).u2(cp.classRef(IAE)).op(DUP).op(INVOKESPECIAL).u2(cp.methodRef(IAE, "<init>", "()V", false)).op(ATHROW);
+		return c;
+	}
+
+	/*
+	 * Appends a TABLESWITCH on the int on the top of the stack followed by the case blocks.
+	 * Null cases jump to the default block.
+	 */
+	private static void tableSwitch(Code code, Code[] cases, Code dflt) {
+		if (cases.length == 0) {
+			code.append(dflt);
+			return;
+		}
+		int start = code.size();
+		int pad = (4 - ((start + 1) % 4)) % 4;
+		int pos = start + 1 + pad + 12 + 4 * cases.length;
+		int[] offsets = new int[cases.length];
+		for (int i = 0; i < cases.length; i++) {
+			if (cases[i] != null) {
+				offsets[i] = pos - start;
+				pos += cases[i].size();
+			}
+		}
+		int dfltOffset = pos - start;
+		code.op(TABLESWITCH);
+		for (int i = 0; i < pad; i++)
+			code.u1(0);
+		code.u4(dfltOffset).u4(0).u4(cases.length - 1);
+		for (int i = 0; i < cases.length; i++)
+			code.u4(cases[i] == null ? dfltOffset : offsets[i]);
+		for (Code c : cases)
+			if (c != null)
+				code.append(c);
+		code.append(dflt);
+	}
+
+	/*
+	 * Writes a method.
+	 * tryCatch is either empty, or the start, end and handler offsets of a block that catches all exceptions.
+	 */
+	private static void writeMethod(DataOutputStream out, ConstantPool cp, String name, String desc, Code code, int maxStack, int maxLocals, int...tryCatch) throws IOException {
+		byte[] b = code.toByteArray();
+		boolean hasTryCatch = tryCatch.length > 0;
+		out.writeShort(0x0001);              // ACC_PUBLIC
+		out.writeShort(cp.utf8(name));
+		out.writeShort(cp.utf8(desc));
+		out.writeShort(1);                   // Attributes.
+		out.writeShort(cp.utf8("Code"));
+		out.writeInt(12 + b.length + (hasTryCatch ? 8 : 0));
+		out.writeShort(maxStack);
+		out.writeShort(maxLocals);
+		out.writeInt(b.length);
+		out.write(b);
+		if (hasTryCatch) {
+			out.writeShort(1);                // Exception table.
+			out.writeShort(tryCatch[0]);
+			out.writeShort(tryCatch[1]);
+			out.writeShort(tryCatch[2]);
+			out.writeShort(0);                // Catch any.
+		} else {
+			out.writeShort(0);                // Exception table.
+		}
+		out.writeShort(0);                   // Attributes.
+	}
+
+	private static int slots(Class<?> c) {
+		return (c == long.class || c == double.class) ? 2 : c == void.class ? 0 : 1;
+	}
+
+	private static String internalName(Class<?> c) {
+		return internalName(c.getName());
+	}
+
+	private static String internalName(String className) {
+		return className.replace('.', '/');
+	}
+
+	private static String descriptor(Class<?> c) {
+		if (c.isPrimitive()) {
+			if (c == int.class) return "I";
+			if (c == long.class) return "J";
+			if (c == boolean.class) return "Z";
+			if (c == double.class) return "D";
+			if (c == float.class) return "F";
+			if (c == char.class) return "C";
+			if (c == byte.class) return "B";
+			if (c == short.class) return "S";
+			return "V";
+		}
+		if (c.isArray())
+			return internalName(c);
+		return "L" + internalName(c) + ";";
+	}
+
+	private static Class<?> wrapper(Class<?> c) {
+		if (c == int.class) return Integer.class;
+		if (c == long.class) return Long.class;
+		if (c == boolean.class) return Boolean.class;
+		if (c == double.class) return Double.class;
+		if (c == float.class) return Float.class;
+		if (c == char.class) return Character.class;
+		if (c == byte.class) return Byte.class;
+		return Short.class;
+	}
+
+	/*
+	 * A growable byte buffer for method bytecode.
+	 */
+	private static final class Code {
+		private byte[] b = new byte[64];
+		private int size;
+
+		Code u1(int v) {
+			if (size == b.length)
+				b = Arrays.copyOf(b, b.length * 2);
+			b[size++] = (byte)v;
+			return this;
+		}
+
+		Code op(int opcode) {
+			return u1(opcode);
+		}
+
+		Code u2(int v) {
+			return u1(v >>> 8).u1(v);
+		}
+
+		Code u4(int v) {
+			return u2(v >>> 16).u2(v);
+		}
+
+		Code append(Code c) {
+			for (int i = 0; i < c.size; i++)
+				u1(c.b[i]);
+			return this;
+		}
+
+		int size() {
+			return size;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(b, size);
+		}
+	}
+
+	/*
+	 * The class file constant pool.
+	 */
+	private static final class ConstantPool {
+		private final Map<String,Integer> index = new HashMap<String,Integer>();
+		private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		private final DataOutputStream out = new DataOutputStream(baos);
+		private int count = 1;
+
+		int utf8(String s) {
+			Integer i = index.get("U" + s);
+			if (i == null) {
+				try {
+					out.writeByte(1);
+					out.writeUTF(s);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+				i = add("U" + s);
+			}
+			return i;
+		}
+
+		int classRef(String internalName) {
+			return ref(7, "C" + internalName, utf8(internalName), -1);
+		}
+
+		int nameAndType(String name, String desc) {
+			return ref(12, "N" + name + ' ' + desc, utf8(name), utf8(desc));
+		}
+
+		int fieldRef(String owner, String name, String desc) {
+			return ref(9, "F" + owner + '.' + name + ' ' + desc, classRef(owner), nameAndType(name, desc));
+		}
+
+		int methodRef(String owner, String name, String desc, boolean isInterface) {
+			int tag = isInterface ? 11 : 10;
+			return ref(tag, "M" + tag + owner + '.' + name + desc, classRef(owner), nameAndType(name, desc));
+		}
+
+		private int ref(int tag, String key, int i1, int i2) {
+			Integer i = index.get(key);
+			if (i == null) {
+				try {
+					out.writeByte(tag);
+					out.writeShort(i1);
+					if (i2 != -1)
+						out.writeShort(i2);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+				i = add(key);
+			}
+			return i;
+		}
+
+		private int add(String key) {
+			int i = count++;
+			index.put(key, i);
+			return i;
+		}
+
+		void write(DataOutputStream o) throws IOException {
+			o.writeShort(count);
+			o.write(baos.toByteArray());
+		}
+	}
+
+	/*
+	 * Class loader for generated accessors.
+	 * Resolves the accessor and invoker superclasses from this library and everything else from the bean class loader.
+	 */
+	private static final class AccessorClassLoader extends ClassLoader {
+
+		AccessorClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override /* ClassLoader */
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (name.equals(PropertyAccessor.class.getName()))
+				return PropertyAccessor.class;
+			if (name.equals(MethodInvoker.class.getName()))
+				return MethodInvoker.class;
+			return super.loadClass(name, resolve);
+		}
+
+		Class<?> define(String name, byte[] b) {
+			return defineClass(name, b, 0, b.length);
+		}
+	}
+}
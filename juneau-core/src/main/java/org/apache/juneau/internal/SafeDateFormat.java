@@ -0,0 +1,215 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Immutable, thread-safe date formatter.
+ * <p>
+ * {@link DateFormat} objects are expensive to create (the pattern is compiled and the locale-specific symbols are
+ * 	looked up) and are not thread-safe.
+ * This class creates and configures a {@link DateFormat} once, and then hands out clones of it from a small pool
+ * 	so that the same instance can be shared by any number of threads.
+ * <p>
+ * Instances are typically obtained through {@link #get(String,int,int,Locale,TimeZone)} which caches them per
+ * 	pattern/style, locale, and timezone.
+ */
+public final class SafeDateFormat {
+
+	private static final int MAX_IDLE = Math.max(Runtime.getRuntime().availableProcessors() * 2, 4);
+
+	private static final Cache<String,SafeDateFormat> CACHE = new Cache<String,SafeDateFormat>(false, Integer.getInteger("juneau.dateFormatCache.maxSize", 100));
+
+	private final DateFormat prototype;
+	private final TimeZone timeZone;
+	private final Locale locale;
+	private final ConcurrentLinkedQueue<DateFormat> idle = new ConcurrentLinkedQueue<DateFormat>();
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pattern The {@link SimpleDateFormat} pattern.
+	 * 	If <jk>null</jk>, <code>dateStyle</code> and <code>timeStyle</code> are used instead.
+	 * @param dateStyle The {@link DateFormat} date style (e.g. {@link DateFormat#SHORT}), or <code>-1</code> for none.
+	 * 	Ignored if <code>pattern</code> is not <jk>null</jk>.
+	 * @param timeStyle The {@link DateFormat} time style (e.g. {@link DateFormat#SHORT}), or <code>-1</code> for none.
+	 * 	Ignored if <code>pattern</code> is not <jk>null</jk>.
+	 * @param locale The locale.  If <jk>null</jk>, the system default locale is used.
+	 * @param timeZone The timezone.  If <jk>null</jk>, the system default timezone is used.
+	 */
+	public SafeDateFormat(String pattern, int dateStyle, int timeStyle, Locale locale, TimeZone timeZone) {
+		this(pattern, dateStyle, timeStyle, locale, timeZone, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pattern The {@link SimpleDateFormat} pattern.
+	 * 	If <jk>null</jk>, <code>dateStyle</code> and <code>timeStyle</code> are used instead.
+	 * @param dateStyle The {@link DateFormat} date style (e.g. {@link DateFormat#SHORT}), or <code>-1</code> for none.
+	 * 	Ignored if <code>pattern</code> is not <jk>null</jk>.
+	 * @param timeStyle The {@link DateFormat} time style (e.g. {@link DateFormat#SHORT}), or <code>-1</code> for none.
+	 * 	Ignored if <code>pattern</code> is not <jk>null</jk>.
+	 * @param locale The locale.  If <jk>null</jk>, the system default locale is used.
+	 * @param timeZone The timezone.  If <jk>null</jk>, the system default timezone is used.
+	 * @param twoDigitYearStart The start of the 100-year period two-digit years are parsed into.
+	 * 	See {@link SimpleDateFormat#set2DigitYearStart(Date)}.
+	 * 	Ignored if <jk>null</jk> or if <code>pattern</code> is <jk>null</jk>.
+	 */
+	public SafeDateFormat(String pattern, int dateStyle, int timeStyle, Locale locale, TimeZone timeZone, Date twoDigitYearStart) {
+		this.locale = locale == null ? Locale.getDefault() : locale;
+		this.timeZone = timeZone == null ? TimeZone.getDefault() : timeZone;
+		DateFormat df;
+		if (pattern != null) {
+			SimpleDateFormat sdf = new SimpleDateFormat(pattern, this.locale);
+			if (twoDigitYearStart != null)
+				sdf.set2DigitYearStart(twoDigitYearStart);
+			df = sdf;
+		} else if (dateStyle == -1 && timeStyle != -1)
+			df = DateFormat.getTimeInstance(timeStyle, this.locale);
+		else if (dateStyle != -1 && timeStyle == -1)
+			df = DateFormat.getDateInstance(dateStyle, this.locale);
+		else
+			df = DateFormat.getDateTimeInstance(dateStyle, timeStyle, this.locale);
+		df.setTimeZone(this.timeZone);
+		this.prototype = df;
+	}
+
+	/**
+	 * Returns a shared formatter for the specified pattern or styles, locale, and timezone.
+	 * <p>
+	 * Formatters are created once and cached, so they can be reused instead of constructing a new {@link DateFormat}
+	 * 	for every serialization or parse.
+	 *
+	 * @param pattern The {@link SimpleDateFormat} pattern.
+	 * 	If <jk>null</jk>, <code>dateStyle</code> and <code>timeStyle</code> are used instead.
+	 * @param dateStyle The {@link DateFormat} date style (e.g. {@link DateFormat#SHORT}), or <code>-1</code> for none.
+	 * @param timeStyle The {@link DateFormat} time style (e.g. {@link DateFormat#SHORT}), or <code>-1</code> for none.
+	 * @param locale The locale.  If <jk>null</jk>, the system default locale is used.
+	 * @param timeZone The timezone.  If <jk>null</jk>, the system default timezone is used.
+	 * @return The date formatter.  Never <jk>null</jk>.
+	 */
+	public static SafeDateFormat get(String pattern, int dateStyle, int timeStyle, Locale locale, TimeZone timeZone) {
+		if (locale == null)
+			locale = Locale.getDefault();
+		if (timeZone == null)
+			timeZone = TimeZone.getDefault();
+		String key = new StringBuilder().append(pattern).append('|').append(dateStyle).append('|').append(timeStyle).append('|').append(locale).append('|').append(timeZone.getID()).toString();
+		SafeDateFormat df = CACHE.get(key);
+		if (df == null)
+			df = CACHE.put(key, new SafeDateFormat(pattern, dateStyle, timeStyle, locale, timeZone));
+		return df;
+	}
+
+	/**
+	 * Returns a new {@link DateFormat} with the same settings as this formatter.
+	 * <p>
+	 * The returned object is not shared, so the caller can use or modify it without affecting this formatter.
+	 *
+	 * @return A new {@link DateFormat}.
+	 */
+	public DateFormat toDateFormat() {
+		return (DateFormat)prototype.clone();
+	}
+
+	/**
+	 * Formats the specified date.
+	 *
+	 * @param date The date to format.
+	 * @return The formatted date.
+	 */
+	public String format(Date date) {
+		DateFormat df = borrow();
+		try {
+			return df.format(date);
+		} finally {
+			release(df);
+		}
+	}
+
+	/**
+	 * Parses the specified string.
+	 *
+	 * @param s The string to parse.
+	 * @return The parsed date.
+	 * @throws ParseException If the beginning of the string cannot be parsed.
+	 */
+	public Date parse(String s) throws ParseException {
+		DateFormat df = borrow();
+		try {
+			return df.parse(s);
+		} finally {
+			release(df);
+		}
+	}
+
+	/**
+	 * Parses the specified string starting at the specified position.
+	 *
+	 * @param s The string to parse.
+	 * @param pos The position to start parsing at.
+	 * 	On return, contains the index after the last character used, or the error index if parsing failed.
+	 * @return The parsed date, or <jk>null</jk> if the string could not be parsed.
+	 */
+	public Date parse(String s, ParsePosition pos) {
+		DateFormat df = borrow();
+		try {
+			return df.parse(s, pos);
+		} finally {
+			release(df);
+		}
+	}
+
+	/**
+	 * Returns the locale of this formatter.
+	 *
+	 * @return The locale of this formatter.  Never <jk>null</jk>.
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * Returns the timezone of this formatter.
+	 *
+	 * @return The timezone of this formatter.  Never <jk>null</jk>.
+	 */
+	public TimeZone getTimeZone() {
+		return timeZone;
+	}
+
+	private DateFormat borrow() {
+		DateFormat df = idle.poll();
+		if (df == null)
+			return (DateFormat)prototype.clone();
+		idleCount.decrementAndGet();
+		return df;
+	}
+
+	private void release(DateFormat df) {
+		if (idleCount.incrementAndGet() <= MAX_IDLE)
+			idle.offer(df);
+		else
+			idleCount.decrementAndGet();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return prototype instanceof SimpleDateFormat ? ((SimpleDateFormat)prototype).toPattern() : prototype.toString();
+	}
+}
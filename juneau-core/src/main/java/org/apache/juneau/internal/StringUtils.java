@@ -23,8 +23,6 @@ import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.regex.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.parser.*;
 import org.apache.juneau.parser.ParseException;
 
@@ -940,7 +938,7 @@ public final class StringUtils {
 			date += ":00:00";
 		else if (date.matches("\\d{4}\\-\\d{2}\\-\\d{2}T\\d{2}\\:\\d{2}"))
 			date += ":00";
-		return DatatypeConverter.parseDateTime(date).getTime();
+		return Iso8601Utils.parseDateTime(date).getTime();
 	}
 
 	/**
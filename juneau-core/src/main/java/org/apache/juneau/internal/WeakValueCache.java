@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Bounded in-memory cache whose values are weakly referenced.
+ * <p>
+ * Used for sharing expensive objects (e.g. contexts) between equal keys without keeping the objects alive after
+ * 	everything else has stopped using them.
+ * Entries are removed once their values have been garbage collected.
+ * <p>
+ * If the cache still grows past its maximum size (i.e. that many values are alive at the same time), arbitrary
+ * 	entries are dropped.
+ * The dropped values remain valid, they're just no longer shared with new lookups.
+ *
+ * @param <K> The key type.  Must have proper {@link Object#equals(Object)} and {@link Object#hashCode()} methods.
+ * @param <V> The value type.
+ */
+public class WeakValueCache<K,V> {
+
+	private final int maxSize;
+	private final ConcurrentHashMap<K,Ref<K,V>> cache = new ConcurrentHashMap<K,Ref<K,V>>();
+	private final ReferenceQueue<V> queue = new ReferenceQueue<V>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxSize The maximum number of entries in this cache.
+	 */
+	public WeakValueCache(int maxSize) {
+		this.maxSize = Math.max(maxSize, 1);
+	}
+
+	/**
+	 * Retrieves the value with the specified key from this cache.
+	 *
+	 * @param key The key.
+	 * @return The value, or <jk>null</jk> if the value is not in the cache or has been garbage collected.
+	 */
+	public V get(K key) {
+		Ref<K,V> r = cache.get(key);
+		return r == null ? null : r.get();
+	}
+
+	/**
+	 * Adds the value with the specified key to this cache.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 * @return Either the value already in the cache if it already exists, or the same value passed in.
+	 */
+	public V put(K key, V value) {
+		purge();
+		Ref<K,V> r = new Ref<K,V>(key, value, queue);
+		while (true) {
+			Ref<K,V> r2 = cache.putIfAbsent(key, r);
+			if (r2 == null)
+				break;
+			V v = r2.get();
+			if (v != null)
+				return v;
+			if (cache.replace(key, r2, r))
+				break;
+		}
+		if (cache.size() > maxSize) {
+			for (Iterator<Ref<K,V>> i = cache.values().iterator(); i.hasNext() && cache.size() > maxSize;) {
+				if (i.next() != r)
+					i.remove();
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the number of values in this cache that have not been garbage collected.
+	 *
+	 * @return The number of live values in this cache.
+	 */
+	public int size() {
+		purge();
+		int i = 0;
+		for (Ref<K,V> r : cache.values())
+			if (r.get() != null)
+				i++;
+		return i;
+	}
+
+	/**
+	 * Returns the values in this cache that have not been garbage collected.
+	 *
+	 * @return A new list of the live values in this cache.
+	 */
+	public List<V> values() {
+		List<V> l = new ArrayList<V>(cache.size());
+		for (Ref<K,V> r : cache.values()) {
+			V v = r.get();
+			if (v != null)
+				l.add(v);
+		}
+		return l;
+	}
+
+	/*
+	 * Removes entries whose values have been garbage collected.
+	 */
+	@SuppressWarnings("unchecked")
+	private void purge() {
+		Ref<K,V> r;
+		while ((r = (Ref<K,V>)queue.poll()) != null)
+			cache.remove(r.key, r);
+	}
+
+	private static final class Ref<K,V> extends WeakReference<V> {
+		final K key;
+
+		Ref(K key, V value, ReferenceQueue<V> queue) {
+			super(value, queue);
+			this.key = key;
+		}
+	}
+}
@@ -131,6 +131,150 @@ public class JsonParser extends ReaderParser {
 		return new JsonParserBuilder(propertyStore);
 	}
 
+	/**
+	 * Parses the elements of a JSON array one at a time.
+	 * <p>
+	 * Unlike <code>parse(input, List.<jk>class</jk>, MyBean.<jk>class</jk>)</code>, elements are only parsed when
+	 * 	{@link Iterator#next()} is called and are not collected, so arrays of any size can be processed with
+	 * 	constant memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.iterate(reader, MyBean.<jk>class</jk>);
+	 * 	<jk>try</jk> {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	} <jk>finally</jk> {
+	 * 		i.close();
+	 * 	}
+	 * </p>
+	 *
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements.
+	 * @param <E> The class type of the elements.
+	 * @return An iterator over the parsed elements.
+	 * @throws ParseException If the input does not start with a JSON array.
+	 */
+	public final <E> ParserIterator<E> iterate(Object input, Class<E> elementType) throws ParseException {
+		JsonParserSession session = (JsonParserSession)createSession(input);
+		return new JsonArrayIterator<E>(session, session.getClassMeta(elementType));
+	}
+
+	/**
+	 * Same as {@link #iterate(Object, Class)} except for parameterized element types.
+	 *
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements.
+	 * 	Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args The element type arguments if the element type is a {@link Collection} or {@link Map}.
+	 * @param <E> The class type of the elements.
+	 * @return An iterator over the parsed elements.
+	 * @throws ParseException If the input does not start with a JSON array.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <E> ParserIterator<E> iterate(Object input, Type elementType, Type...args) throws ParseException {
+		JsonParserSession session = (JsonParserSession)createSession(input);
+		return new JsonArrayIterator<E>(session, (ClassMeta<E>)session.getClassMeta(elementType, args));
+	}
+
+	/*
+	 * Same state machine as parseIntoCollection2(), except that it stops after every element.
+	 */
+	private final class JsonArrayIterator<E> implements ParserIterator<E> {
+
+		private static final int S1=1; // Looking for starting [ or { or " or ' or LITERAL or ]
+		private static final int S2=2; // Looking for , or ]
+		private static final int DONE=3;
+
+		private final JsonParserSession session;
+		private final ClassMeta<E> type;
+		private ParserReader r;
+		private int state = DONE;
+		private boolean hasNext, isClosed;
+		private E next;
+
+		JsonArrayIterator(JsonParserSession session, ClassMeta<E> type) throws ParseException {
+			this.session = session;
+			this.type = type;
+			try {
+				r = session.getReader();
+				if (r != null) {
+					skipCommentsAndSpace(session, r);
+					if (r.read() != '[')
+						throw new ParseException(session, "Expected '[' at beginning of JSON array.");
+					state = S1;
+				}
+			} catch (Exception e) {
+				close();
+				throw (e instanceof ParseException ? (ParseException)e : new ParseException(session, e));
+			}
+			if (state == DONE)
+				close();
+		}
+
+		@Override /* Iterator */
+		public boolean hasNext() {
+			if (! hasNext && state != DONE) {
+				try {
+					skipCommentsAndSpace(session, r);
+					int c = r.read();
+					if (state == S2) {
+						if (c == ',') {
+							skipCommentsAndSpace(session, r);
+							c = r.read();
+							if (c == ']')
+								throw new ParseException(session, "Unexpected trailing comma in array.");
+						} else if (c != ']') {
+							throw new ParseException(session, "Expected ',' or ']'.");
+						}
+					}
+					if (c == ']') {
+						validateEnd(session, r);
+						close();
+					} else if (c == -1) {
+						throw new ParseException(session, "Expected one of the following characters: {,[,',\",LITERAL.");
+					} else {
+						next = parseAnything(session, type, r.unread(), session.getOuter(), null);
+						hasNext = true;
+						state = S2;
+					}
+				} catch (Exception e) {
+					close();
+					throw new BeanRuntimeException(e instanceof ParseException ? e : new ParseException(session, e));
+				} catch (StackOverflowError e) {
+					close();
+					throw new BeanRuntimeException(new ParseException(session, "Depth too deep.  Stack overflow occurred."));
+				}
+			}
+			return hasNext;
+		}
+
+		@Override /* Iterator */
+		public E next() {
+			if (! hasNext())
+				throw new NoSuchElementException();
+			E e = next;
+			next = null;
+			hasNext = false;
+			return e;
+		}
+
+		@Override /* Iterator */
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override /* ParserIterator */
+		public void close() {
+			if (! isClosed) {
+				isClosed = true;
+				state = DONE;
+				r = null;
+				session.close();
+			}
+		}
+	}
+
 	private <T> T parseAnything(JsonParserSession session, ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
@@ -209,6 +353,10 @@ public class JsonParser extends ReaderParser {
 				ObjectMap m = new ObjectMap(session);
 				parseIntoMap2(session, r, m, string(), object(), pMeta);
 				o = session.cast(m, pMeta, eType);
+			} else if (isPrimitiveArray(sType)) {
+				PrimitiveArrayBuilder b = new PrimitiveArrayBuilder(sType.getElementType().getInnerClass(), 16);
+				parseIntoCollection2(session, r, b, sType, pMeta);
+				o = b.getArray();
 			} else {
 				ArrayList l = (ArrayList)parseIntoCollection2(session, r, new ArrayList(), sType, pMeta);
 				o = session.toArray(sType, l);
@@ -264,7 +264,13 @@ public class JsonSerializer extends WriterSerializer {
 			serializeCollection(session, out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(session, out, toList(sType.getInnerClass(), o), eType);
+			if (isPrimitiveArray(session, sType))
+				serializePrimitiveArray(session, out, o);
+			else
+				serializeCollection(session, out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isIterable()) {
+			serializeIterator(session, out, toIterator(o), eType);
 		}
 		else
 			out.stringValue(session.toString(o));
@@ -310,47 +316,60 @@ public class JsonSerializer extends WriterSerializer {
 		return out;
 	}
 
-	private SerializerWriter serializeBeanMap(JsonSerializerSession session, JsonWriter out, BeanMap<?> m, String typeName) throws Exception {
-		int depth = session.getIndent();
+	private SerializerWriter serializeBeanMap(final JsonSerializerSession session, final JsonWriter out, BeanMap<?> m, String typeName) throws Exception {
+		final int depth = session.getIndent();
 		out.append('{');
 
-		boolean addComma = false;
-		for (BeanPropertyValue p : m.getValues(session.isTrimNulls(), typeName != null ? session.createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
-				session.addBeanGetterWarning(pMeta, t);
+		BeanPropertyConsumer action = new BeanPropertyConsumer() {
+			boolean addComma = false;
 
-			if (session.canIgnoreValue(cMeta, key, value))
-				continue;
+			@Override /* BeanPropertyConsumer */
+			public void accept(BeanPropertyMeta pMeta, String key, Object value, Throwable t) throws Exception {
+				ClassMeta<?> cMeta = pMeta.getClassMeta();
+				if (t != null)
+					session.addBeanGetterWarning(pMeta, t);
 
-			if (addComma)
-				out.append(',');
+				if (session.canIgnoreValue(cMeta, key, value))
+					return;
+
+				if (addComma)
+					out.append(',');
+
+				out.cr(depth).attr(key).append(':').s();
 
-			out.cr(depth).attr(key).append(':').s();
+				serializeAnything(session, out, value, cMeta, key, pMeta);
 
-			serializeAnything(session, out, value, cMeta, key, pMeta);
+				addComma = true;
+			}
+		};
 
-			addComma = true;
+		if (typeName != null) {
+			BeanPropertyMeta tp = m.getMeta().getTypeProperty();
+			action.accept(tp, tp.getName(), typeName, null);
 		}
+		m.forEachValue(session.isTrimNulls(), action);
+
 		out.cr(depth-1).append('}');
 		return out;
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonSerializerSession session, JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
+		return serializeIterator(session, out, session.sort(c).iterator(), type);
+	}
 
-		ClassMeta<?> elementType = type.getElementType();
+	/*
+	 * Elements are pulled from the iterator and written one at a time.
+	 */
+	@SuppressWarnings({ "rawtypes" })
+	private SerializerWriter serializeIterator(JsonSerializerSession session, JsonWriter out, Iterator i, ClassMeta<?> type) throws Exception {
 
-		c = session.sort(c);
+		ClassMeta<?> elementType = type.getElementType();
 
 		out.append('[');
 		int depth = session.getIndent();
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		while (i.hasNext()) {
 
 			Object value = i.next();
 
@@ -365,6 +384,23 @@ public class JsonSerializer extends WriterSerializer {
 		return out;
 	}
 
+	// Primitive-array counterpart of serializeIterator().
+	private SerializerWriter serializePrimitiveArray(JsonSerializerSession session, JsonWriter out, Object array) throws Exception {
+
+		int length = Array.getLength(array);
+
+		out.append('[');
+		int depth = session.getIndent();
+
+		for (int i = 0; i < length; i++) {
+			out.cr(depth).append(primitiveToString(array, i));
+			if (i < length-1)
+				out.append(',');
+		}
+		out.cr(depth-1).append(']');
+		return out;
+	}
+
 	/**
 	 * Returns the schema serializer based on the settings of this serializer.
 	 * @return The schema serializer.
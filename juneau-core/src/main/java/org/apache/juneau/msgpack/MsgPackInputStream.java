@@ -15,12 +15,19 @@ package org.apache.juneau.msgpack;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
+import java.nio.*;
 
 import org.apache.juneau.internal.*;
 
 /**
  * Specialized input stream for parsing MessagePack streams.
  * <p>
+ * Bytes are read from the underlying stream in blocks into an internal buffer, and multi-byte values are decoded
+ * directly from that buffer.
+ * Byte arrays and heap {@link ByteBuffer ByteBuffers} are read in place without being copied.
+ * <p>
+ * Because of the read-ahead, bytes following the parsed value may be consumed from the underlying stream.
+ * <p>
  * <h5 class='section'>Notes:</h5>
  * <ul>
  * 	<li>This class is not intended for external use.
@@ -28,12 +35,18 @@ import org.apache.juneau.internal.*;
  */
 public final class MsgPackInputStream extends InputStream {
 
-	private final InputStream is;
+	/** The default size of the internal buffer. */
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final InputStream is;  // Null if reading from an array or buffer.
+	private final ByteBuffer bb;   // Non-null if reading from a direct buffer.
+	private final byte[] buf;
+	private int bufPos, bufLimit;
+	private int base;              // Stream position of buf[0].
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
 	private int extType;
-	int pos = 0;
 
 	// Data type quick-lookup table.
 	private static final DataType[] TYPES = new DataType[] {
@@ -61,14 +74,99 @@ public final class MsgPackInputStream extends InputStream {
 	 */
 	protected MsgPackInputStream(InputStream is) {
 		this.is = is;
+		this.bb = null;
+		this.buf = new byte[DEFAULT_BUFFER_SIZE];
+	}
+
+	/**
+	 * Constructor.
+	 * <p>
+	 * Reads directly from the specified array.
+	 *
+	 * @param b The bytes to read.
+	 */
+	protected MsgPackInputStream(byte[] b) {
+		this.is = null;
+		this.bb = null;
+		this.buf = b;
+		this.bufLimit = b.length;
+	}
+
+	/**
+	 * Constructor.
+	 * <p>
+	 * Reads the bytes between the position and limit of the specified buffer.
+	 * Heap buffers are read in place.
+	 * Direct buffers are copied in blocks into an internal buffer.
+	 * The position of the specified buffer is not modified.
+	 *
+	 * @param bb The buffer to read.
+	 */
+	protected MsgPackInputStream(ByteBuffer bb) {
+		this.is = null;
+		if (bb.hasArray()) {
+			this.bb = null;
+			this.buf = bb.array();
+			this.bufPos = bb.arrayOffset() + bb.position();
+			this.bufLimit = bb.arrayOffset() + bb.limit();
+			this.base = -bufPos;
+		} else {
+			this.bb = bb.duplicate();
+			this.buf = new byte[DEFAULT_BUFFER_SIZE];
+		}
 	}
 
 	@Override /* InputStream */
 	public int read() throws IOException {
-		int i = is.read();
-		if (i > 0)
-			pos++;
-		return i;
+		if (bufPos == bufLimit && ! fill(1))
+			return -1;
+		return buf[bufPos++] & 0xFF;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		if (bufPos == bufLimit && ! fill(1))
+			return -1;
+		int n = Math.min(len, bufLimit - bufPos);
+		System.arraycopy(buf, bufPos, b, off, n);
+		bufPos += n;
+		return n;
+	}
+
+	/**
+	 * Makes sure at least the specified number of bytes are available in the buffer.
+	 *
+	 * @param n The number of bytes needed.  Must not be larger than the buffer.
+	 * @return <jk>false</jk> if the end of the input was reached first.
+	 */
+	private boolean fill(int n) throws IOException {
+		if (bufLimit - bufPos >= n)
+			return true;
+		if (is == null && bb == null)
+			return false;
+		int r = bufLimit - bufPos;
+		System.arraycopy(buf, bufPos, buf, 0, r);
+		base += bufPos;
+		bufPos = 0;
+		bufLimit = r;
+		while (bufLimit < n) {
+			int c;
+			if (is != null)
+				c = is.read(buf, bufLimit, buf.length - bufLimit);
+			else {
+				c = Math.min(bb.remaining(), buf.length - bufLimit);
+				if (c == 0)
+					c = -1;
+				else
+					bb.get(buf, bufLimit, c);
+			}
+			if (c == -1)
+				return false;
+			bufLimit += c;
+		}
+		return true;
 	}
 
 	/**
@@ -78,7 +176,7 @@ public final class MsgPackInputStream extends InputStream {
 	DataType readDataType() throws IOException {
 		int i = read();
 		if (i == -1)
-			throw new IOException("Unexpected end of file found at position " + pos);
+			throw new IOException("Unexpected end of file found at position " + getPosition());
 		currentDataType = TYPES[i];
 		switch (currentDataType) {
 			case NULL:
@@ -333,7 +431,7 @@ public final class MsgPackInputStream extends InputStream {
 						length = readUInt2();
 				else if (i == EXT32)
 					length = readUInt4();
-				extType = is.read();
+				extType = read();
 
 				break;
 			}
@@ -395,6 +493,13 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
+		int len = (int)length;
+		// Decode straight out of the buffer when the whole string fits.
+		if (len <= buf.length && fill(len)) {
+			String s = new String(buf, bufPos, len, IOUtils.UTF8);
+			bufPos += len;
+			return s;
+		}
 		return new String(readBinary(), IOUtils.UTF8);
 	}
 
@@ -403,7 +508,13 @@ public final class MsgPackInputStream extends InputStream {
 	 */
 	byte[] readBinary() throws IOException {
 		byte[] b = new byte[(int)length];
-		is.read(b);
+		int off = 0;
+		while (off < b.length) {
+			int n = read(b, off, b.length - off);
+			if (n == -1)
+				break;
+			off += n;
+		}
 		return b;
 	}
 
@@ -414,11 +525,10 @@ public final class MsgPackInputStream extends InputStream {
 		if (length == 0)
 			return lastByte;
 		if (length == 1)
-			return is.read();
+			return read();
 		if (length == 2)
-			return (is.read() << 8) | is.read();
-		int i = is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read();
-		return i;
+			return readUInt2();
+		return (int)readUInt4();
 	}
 
 	/**
@@ -441,7 +551,20 @@ public final class MsgPackInputStream extends InputStream {
 	long readLong() throws IOException {
 		if (length == 4)
 			return readUInt4();
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
+		if (fill(8)) {
+			byte[] b = buf;
+			int p = bufPos;
+			bufPos = p+8;
+			return ((long)(b[p] & 0xFF) << 56)
+				| ((long)(b[p+1] & 0xFF) << 48)
+				| ((long)(b[p+2] & 0xFF) << 40)
+				| ((long)(b[p+3] & 0xFF) << 32)
+				| ((long)(b[p+4] & 0xFF) << 24)
+				| ((b[p+5] & 0xFF) << 16)
+				| ((b[p+6] & 0xFF) << 8)
+				| (b[p+7] & 0xFF);
+		}
+		long l = read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read();
 		return l;
 	}
 
@@ -457,21 +580,32 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read one byte from the stream.
 	 */
 	private int readUInt1() throws IOException {
-		return is.read();
+		return read();
 	}
 
 	/**
 	 * Read two bytes from the stream.
 	 */
 	private int readUInt2() throws IOException {
-		return (is.read() << 8) | is.read();
+		if (fill(2)) {
+			int p = bufPos;
+			bufPos = p+2;
+			return ((buf[p] & 0xFF) << 8) | (buf[p+1] & 0xFF);
+		}
+		return (read() << 8) | read();
 	}
 
 	/**
 	 * Read four bytes from the stream.
 	 */
 	private long readUInt4() throws IOException {
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
+		if (fill(4)) {
+			byte[] b = buf;
+			int p = bufPos;
+			bufPos = p+4;
+			return ((long)(b[p] & 0xFF) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
+		}
+		long l = read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read();
 		return l;
 	}
 
@@ -479,6 +613,6 @@ public final class MsgPackInputStream extends InputStream {
 	 * Return the current read position in the stream (i.e. number of bytes we've read so far).
 	 */
 	int getPosition() {
-		return pos;
+		return base + bufPos;
 	}
 }
@@ -16,11 +16,18 @@ import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
 import java.math.*;
+import java.nio.*;
 import java.util.concurrent.atomic.*;
 
+import org.apache.juneau.internal.*;
+
 /**
  * Specialized output stream for serializing MessagePack streams.
  * <p>
+ * Bytes are collected in an internal buffer and written to the underlying stream (or {@link ByteBuffer}) in
+ * blocks, so multi-byte values are stored with a single bounds check instead of one call per byte.
+ * The buffer is written out by {@link #flush()} and {@link #close()}.
+ * <p>
  * <h5 class='section'>Notes:</h5>
  * <ul>
  * 	<li>This class is not intended for external use.
@@ -28,34 +35,112 @@ import java.util.concurrent.atomic.*;
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	/** The default size of the internal buffer. */
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
 	private final OutputStream os;
+	private final ByteBuffer bb;
+	private final byte[] buf;
+	private int count;
 
 	/**
 	 * Constructor.
 	 * @param os The output stream being wrapped.
 	 */
 	protected MsgPackOutputStream(OutputStream os) {
+		this(os, null);
+	}
+
+	/**
+	 * Constructor.
+	 * <p>
+	 * Writes to the specified buffer starting at its current position.
+	 * Writing past the limit of the buffer causes an {@link IOException} to be thrown.
+	 *
+	 * @param bb The byte buffer being written to.  Can be a heap or direct buffer.
+	 */
+	protected MsgPackOutputStream(ByteBuffer bb) {
+		this(null, bb);
+	}
+
+	private MsgPackOutputStream(OutputStream os, ByteBuffer bb) {
 		this.os = os;
+		this.bb = bb;
+		this.buf = new byte[DEFAULT_BUFFER_SIZE];
 	}
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		append1(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len >= buf.length) {
+			flushBuffer();
+			writeOut(b, off, len);
+		} else {
+			if (len > buf.length - count)
+				flushBuffer();
+			System.arraycopy(b, off, buf, count, len);
+			count += len;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		flushBuffer();
+		if (os != null)
+			os.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flushBuffer();
+		if (os != null)
+			os.close();
+	}
+
+	/**
+	 * Writes the contents of the internal buffer to the underlying stream without flushing the stream itself.
+	 */
+	final void flushBuffer() throws IOException {
+		if (count > 0) {
+			writeOut(buf, 0, count);
+			count = 0;
+		}
+	}
+
+	private void writeOut(byte[] b, int off, int len) throws IOException {
+		if (os != null)
+			os.write(b, off, len);
+		else {
+			if (bb.remaining() < len)
+				throw new IOException("Buffer overflow.  Needed " + len + " bytes but only " + bb.remaining() + " remain.");
+			bb.put(b, off, len);
+		}
+	}
+
+	/**
+	 * Makes sure the internal buffer has room for the specified number of bytes.
+	 */
+	private void ensure(int n) throws IOException {
+		if (buf.length - count < n)
+			flushBuffer();
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
-		return this;
+		return append1(b);
 	}
 
 	/**
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -63,7 +148,9 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		if (count == buf.length)
+			flushBuffer();
+		buf[count++] = (byte)i;
 		return this;
 	}
 
@@ -71,21 +158,47 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		ensure(2);
+		byte[] b = buf;
+		int c = count;
+		b[c] = (byte)(i>>8);
+		b[c+1] = (byte)i;
+		count = c+2;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		ensure(4);
+		byte[] b = buf;
+		int c = count;
+		b[c] = (byte)(i>>24);
+		b[c+1] = (byte)(i>>16);
+		b[c+2] = (byte)(i>>8);
+		b[c+3] = (byte)i;
+		count = c+4;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		ensure(8);
+		byte[] b = buf;
+		int c = count;
+		b[c] = (byte)(l>>56);
+		b[c+1] = (byte)(l>>48);
+		b[c+2] = (byte)(l>>40);
+		b[c+3] = (byte)(l>>32);
+		b[c+4] = (byte)(l>>24);
+		b[c+5] = (byte)(l>>16);
+		b[c+6] = (byte)(l>>8);
+		b[c+7] = (byte)l;
+		count = c+8;
+		return this;
 	}
 
 	/**
@@ -213,14 +326,45 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		String s = cs.toString();
+		int len = s.length();
+
+		// Plain ASCII strings are copied straight into the buffer without an intermediate byte array.
+		if (isAscii(s, len)) {
+			appendStringHeader(len);
+			int i = 0;
+			while (i < len) {
+				if (count == buf.length)
+					flushBuffer();
+				int end = i + Math.min(len - i, buf.length - count);
+				byte[] b = buf;
+				int c = count;
+				while (i < end)
+					b[c++] = (byte)s.charAt(i++);
+				count = c;
+			}
+			return this;
+		}
+
+		byte[] b = s.getBytes(IOUtils.UTF8);
+		return appendStringHeader(b.length).append(b);
+	}
+
+	private static boolean isAscii(String s, int len) {
+		for (int i = 0; i < len; i++)
+			if (s.charAt(i) >= 0x80)
+				return false;
+		return true;
+	}
+
+	private MsgPackOutputStream appendStringHeader(int length) throws IOException {
+		if (length < 32)
+			return append1(0xA0 + length);
+		if (length < (1<<8))
+			return append1(STR8).append1(length);
+		if (length < (1<<16))
+			return append1(STR16).append2(length);
+		return append1(STR32).append4(length);
 	}
 
 	/**
@@ -20,6 +20,7 @@ import java.util.*;
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.transform.*;
 
@@ -167,6 +168,8 @@ public class MsgPackParser extends InputStreamParser {
 					for (int i = 0; i < length; i++)
 						m.put(parseAnything(session, string(), is, outer, pMeta), parseAnything(session, object(), is, m, pMeta));
 					o = session.cast(m, pMeta, eType);
+				} else if (dt == ARRAY && isPrimitiveArray(sType)) {
+					o = parsePrimitiveArray(session, sType.getElementType(), is, length);
 				} else if (dt == ARRAY) {
 					Collection l = (sType.isCollection() && sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : new ObjectList(session));
 					for (int i = 0; i < length; i++)
@@ -197,6 +200,45 @@ public class MsgPackParser extends InputStreamParser {
 		return (T)o;
 	}
 
+	/*
+	 * Numbers and booleans are read straight into the primitive array without being boxed into an intermediate list.
+	 * Elements of other scalar types are converted the same way parseAnything() converts them.
+	 */
+	private Object parsePrimitiveArray(MsgPackParserSession session, ClassMeta<?> elementType, MsgPackInputStream is, int length) throws Exception {
+		PrimitiveArrayBuilder b = new PrimitiveArrayBuilder(elementType.getInnerClass(), length);
+		boolean isBoolean = b.isBoolean();
+		for (int i = 0; i < length; i++) {
+			DataType dt = is.readDataType();
+			if (dt == DataType.NULL)
+				b.add((Object)null);
+			else if (dt == BOOLEAN && isBoolean)
+				b.add(is.readBoolean());
+			else if (dt == INT && ! isBoolean)
+				b.add(is.readInt());
+			else if (dt == LONG && ! isBoolean)
+				b.add(is.readLong());
+			else if (dt == FLOAT && ! isBoolean)
+				b.add(is.readFloat());
+			else if (dt == DOUBLE && ! isBoolean)
+				b.add(is.readDouble());
+			else if (dt == BOOLEAN)
+				b.add(session.convertToType(is.readBoolean(), elementType));
+			else if (dt == INT)
+				b.add(session.convertToType(is.readInt(), elementType));
+			else if (dt == LONG)
+				b.add(session.convertToType(is.readLong(), elementType));
+			else if (dt == FLOAT)
+				b.add(session.convertToType(is.readFloat(), elementType));
+			else if (dt == DOUBLE)
+				b.add(session.convertToType(is.readDouble(), elementType));
+			else if (dt == STRING)
+				b.add(session.convertToType(session.trim(is.readString()), elementType));
+			else
+				throw new ParseException(session, "Invalid data type {0} encountered for parse type {1}", dt, elementType);
+		}
+		return b.getArray();
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// Entry point methods
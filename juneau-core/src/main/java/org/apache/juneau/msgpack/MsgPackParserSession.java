@@ -14,6 +14,7 @@ package org.apache.juneau.msgpack;
 
 import java.io.*;
 import java.lang.reflect.*;
+import java.nio.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -56,10 +57,27 @@ public final class MsgPackParserSession extends ParserSession {
 		super(ctx, op, input, javaMethod, outer, locale, timeZone, mediaType);
 	}
 
+	/**
+	 * Returns the input as a {@link MsgPackInputStream}.
+	 * <p>
+	 * In addition to the input types supported by {@link ParserSession#getInputStream()}, a {@link ByteBuffer}
+	 * can be specified, in which case the bytes between its position and limit are parsed.
+	 * Byte arrays and heap byte buffers are parsed in place without being copied.
+	 *
+	 * @return The input as a {@link MsgPackInputStream}.
+	 * @throws ParseException If the input could not be converted to an input stream.
+	 */
 	@Override /* ParserSession */
 	public MsgPackInputStream getInputStream() throws ParseException {
-		if (inputStream == null)
-			inputStream = new MsgPackInputStream(super.getInputStream());
+		if (inputStream == null) {
+			Object input = getInput();
+			if (input instanceof byte[])
+				inputStream = new MsgPackInputStream((byte[])input);
+			else if (input instanceof ByteBuffer)
+				inputStream = new MsgPackInputStream((ByteBuffer)input);
+			else
+				inputStream = new MsgPackInputStream(super.getInputStream());
+		}
 		return inputStream;
 	}
 
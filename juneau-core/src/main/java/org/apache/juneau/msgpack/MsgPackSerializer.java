@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -122,7 +123,13 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 			serializeCollection(session, out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(session, out, toList(sType.getInnerClass(), o), eType);
+			if (isPrimitiveArray(session, sType))
+				serializePrimitiveArray(out, o);
+			else
+				serializeCollection(session, out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isIterable()) {
+			serializeIterator(session, out, toIterator(o), eType);
 		} else
 			out.appendString(session.toString(o));
 
@@ -205,6 +212,57 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 			serializeAnything(session, out, o, elementType, "<iterator>", null);
 	}
 
+	/*
+	 * MessagePack arrays are prefixed with their length, so the elements are encoded into a buffer as they're pulled
+	 * from the iterator.  Only the encoded bytes are kept in memory, not the elements themselves.
+	 */
+	@SuppressWarnings("rawtypes")
+	private void serializeIterator(MsgPackSerializerSession session, MsgPackOutputStream out, Iterator i, ClassMeta<?> type) throws Exception {
+
+		ClassMeta<?> elementType = type.getElementType();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		MsgPackOutputStream buff = new MsgPackOutputStream(baos);
+		int size = 0;
+
+		while (i.hasNext()) {
+			serializeAnything(session, buff, i.next(), elementType, "<iterator>", null);
+			size++;
+		}
+		buff.flushBuffer();
+
+		out.startArray(size);
+		baos.writeTo(out);
+	}
+
+	// Primitive-array counterpart of serializeCollection().
+	private void serializePrimitiveArray(MsgPackOutputStream out, Object array) throws Exception {
+
+		out.startArray(Array.getLength(array));
+
+		if (array instanceof int[]) {
+			for (int i : (int[])array)
+				out.appendInt(i);
+		} else if (array instanceof long[]) {
+			for (long l : (long[])array)
+				out.appendLong(l);
+		} else if (array instanceof double[]) {
+			for (double d : (double[])array)
+				out.appendDouble(d);
+		} else if (array instanceof float[]) {
+			for (float f : (float[])array)
+				out.appendFloat(f);
+		} else if (array instanceof boolean[]) {
+			for (boolean b : (boolean[])array)
+				out.appendBoolean(b);
+		} else if (array instanceof short[]) {
+			for (short s : (short[])array)
+				out.appendInt(s);
+		} else if (array instanceof byte[]) {
+			for (byte b : (byte[])array)
+				out.appendInt(b);
+		}
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// Entry point methods
@@ -218,6 +276,8 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 	@Override /* Serializer */
 	protected void doSerialize(SerializerSession session, Object o) throws Exception {
 		MsgPackSerializerSession s = (MsgPackSerializerSession)session;
-		serializeAnything(s, s.getOutputStream(), o, s.getExpectedRootType(o), "root", null);
+		MsgPackOutputStream out = s.getOutputStream();
+		serializeAnything(s, out, o, s.getExpectedRootType(o), "root", null);
+		out.flushBuffer();
 	}
 }
@@ -222,6 +222,12 @@ public class MsgPackSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public MsgPackSerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public MsgPackSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -15,6 +15,7 @@ package org.apache.juneau.msgpack;
 import static org.apache.juneau.msgpack.MsgPackSerializerContext.*;
 
 import java.lang.reflect.*;
+import java.nio.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -32,6 +33,8 @@ public final class MsgPackSerializerSession extends SerializerSession {
 	private final boolean
 		addBeanTypeProperties;
 
+	private MsgPackOutputStream outputStream;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -68,11 +71,28 @@ public final class MsgPackSerializerSession extends SerializerSession {
 		return addBeanTypeProperties;
 	}
 
+	/**
+	 * Returns the output as a {@link MsgPackOutputStream}.
+	 * <p>
+	 * In addition to the output types supported by {@link SerializerSession#getOutputStream()}, a {@link ByteBuffer}
+	 * can be specified, in which case the output is written directly into the buffer starting at its current position.
+	 * <p>
+	 * The returned stream buffers its output and is reused for the duration of this session.
+	 *
+	 * @return The output as a {@link MsgPackOutputStream}.
+	 * @throws Exception If the output could not be converted to an output stream.
+	 */
 	@Override /*SerializerSession */
 	public MsgPackOutputStream getOutputStream() throws Exception {
-		Object output = getOutput();
-		if (output instanceof MsgPackOutputStream)
-			return (MsgPackOutputStream)output;
-		return new MsgPackOutputStream(super.getOutputStream());
+		if (outputStream == null) {
+			Object output = getOutput();
+			if (output instanceof MsgPackOutputStream)
+				outputStream = (MsgPackOutputStream)output;
+			else if (output instanceof ByteBuffer)
+				outputStream = new MsgPackOutputStream((ByteBuffer)output);
+			else
+				outputStream = new MsgPackOutputStream(super.getOutputStream());
+		}
+		return outputStream;
 	}
 }
@@ -500,6 +500,32 @@ public abstract class Parser extends CoreObject {
 		}
 	}
 
+	/**
+	 * Same as {@link #parseArgs(Object, Type[])} except the argument types have already been resolved.
+	 * <p>
+	 * Useful when the same method is invoked repeatedly since the argument types only need to be resolved once.
+	 *
+	 * @param input The input.  Subclasses can support different input types.
+	 * @param argTypes The argument types created by {@link BeanSession#getArgsClassMeta(Type[])} on a session of
+	 * 	this parser's bean context.
+	 * @return An array of parsed objects.
+	 * @throws ParseException If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	public final Object[] parseArgs(Object input, ClassMeta<Object[]> argTypes) throws ParseException {
+		if (argTypes.getArgs().length == 0)
+			return new Object[0];
+		ParserSession session = createSession(input);
+		try {
+			return doParse(session, argTypes);
+		} catch (ParseException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ParseException(session, e);
+		} finally {
+			session.close();
+		}
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// Other methods
@@ -569,6 +595,24 @@ public abstract class Parser extends CoreObject {
 		return (T)o;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified array type can be filled directly by a {@link PrimitiveArrayBuilder}.
+	 * <p>
+	 * Arrays of primitive numbers and booleans are eligible, which lets parsers store elements straight into the
+	 * 	array instead of collecting them into a list and converting it with {@link BeanSession#toArray(ClassMeta, Collection)}.
+	 * <p>
+	 * <code><jk>char</jk>[]</code> arrays and arrays whose element type has a {@link PojoSwap} are not eligible.
+	 *
+	 * @param type The array type being parsed.
+	 * @return <jk>true</jk> if the array can be filled by a {@link PrimitiveArrayBuilder}.
+	 */
+	protected static final boolean isPrimitiveArray(ClassMeta<?> type) {
+		if (! type.isArray())
+			return false;
+		ClassMeta<?> elementType = type.getElementType();
+		return PrimitiveArrayBuilder.isSupported(elementType.getInnerClass()) && elementType.getPojoSwap() == null;
+	}
+
 	/**
 	 * Convenience method for calling the {@link ParentProperty @ParentProperty} method on
 	 * the specified object if it exists.
@@ -252,6 +252,12 @@ public class ParserBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public ParserBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public ParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
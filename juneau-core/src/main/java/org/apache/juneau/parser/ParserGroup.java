@@ -13,10 +13,10 @@
 package org.apache.juneau.parser;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -65,8 +65,11 @@ import org.apache.juneau.http.*;
  */
 public final class ParserGroup {
 
-	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<String,ParserMatch>();
+	private static final boolean NOCACHE = Boolean.getBoolean("juneau.parserGroup.cache.disable");
+	private static final int CACHE_MAX_SIZE = Integer.getInteger("juneau.parserGroup.cache.maxSize", 1000);
+
+	// Maps raw and normalized Content-Type headers to matches.
+	private final Cache<String,ParserMatch> cache = new Cache<String,ParserMatch>(NOCACHE, CACHE_MAX_SIZE);
 
 	private final MediaType[] mediaTypes;            // List of media types
 	private final List<MediaType> mediaTypesList;
@@ -103,6 +106,10 @@ public final class ParserGroup {
 
 	/**
 	 * Searches the group for a parser that can handle the specified <l>Content-Type</l> header value.
+	 * <p>
+	 * Matches are cached in a bounded cache (<js>"juneau.parserGroup.cache.maxSize"</js> system property,
+	 * 	default <code>1000</code>).
+	 * Headers that only differ in whitespace or parameter order are normalized to the same cache entry.
 	 *
 	 * @param contentTypeHeader The HTTP <l>Content-Type</l> header value.
 	 * @return The parser and media type that matched the content type header, or <jk>null</jk> if no match was made.
@@ -113,14 +120,20 @@ public final class ParserGroup {
 			return pm;
 
 		ContentType ct = ContentType.forString(contentTypeHeader);
-		int match = ct.findMatch(mediaTypes);
-
-		if (match >= 0) {
-			pm = new ParserMatch(mediaTypes[match], mediaTypeParsers[match]);
-			cache.putIfAbsent(contentTypeHeader, pm);
+		String key = ct.toString();
+		if (! key.equals(contentTypeHeader))
+			pm = cache.get(key);
+
+		if (pm == null) {
+			int match = ct.findMatch(mediaTypes);
+			if (match < 0)
+				return null;
+			pm = cache.put(key, new ParserMatch(mediaTypes[match], mediaTypeParsers[match]));
 		}
 
-		return cache.get(contentTypeHeader);
+		if (! key.equals(contentTypeHeader))
+			pm = cache.put(contentTypeHeader, pm);
+		return pm;
 	}
 
 	/**
@@ -184,4 +197,26 @@ public final class ParserGroup {
 	public List<Parser> getParsers() {
 		return parsers;
 	}
+
+	/**
+	 * Returns statistics about the cache used by {@link #getParserMatch(String)}.
+	 * <p>
+	 * Intended for monitoring.
+	 * The map contains the following numeric entries:
+	 * <ul>
+	 * 	<li><js>"size"</js> - The number of entries currently in the cache.
+	 * 	<li><js>"hits"</js> - The number of lookups that found an entry.
+	 * 	<li><js>"misses"</js> - The number of lookups that did not find an entry.
+	 * 	<li><js>"evictions"</js> - The number of entries removed to keep the cache under its maximum size.
+	 * </ul>
+	 *
+	 * @return A new map containing a snapshot of the cache statistics.
+	 */
+	public ObjectMap getMatchCacheStats() {
+		return new ObjectMap()
+			.append("size", cache.size())
+			.append("hits", cache.getHits())
+			.append("misses", cache.getMisses())
+			.append("evictions", cache.getEvictions());
+	}
 }
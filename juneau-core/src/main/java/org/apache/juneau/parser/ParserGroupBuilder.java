@@ -361,6 +361,17 @@ public class ParserGroupBuilder {
 		return property(BEAN_useJavaBeanIntrospector, value);
 	}
 
+	/**
+	 * Sets the {@link BeanContext#BEAN_accessorStrategy} property on all parsers in this group.
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_accessorStrategy
+	 */
+	public ParserGroupBuilder accessorStrategy(AccessorStrategy value) {
+		return property(BEAN_accessorStrategy, value);
+	}
+
 	/**
 	 * Sets the {@link BeanContext#BEAN_useInterfaceProxies} property on all parsers in this group.
 	 *
@@ -0,0 +1,42 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * An iterator over elements that are parsed from an input one at a time.
+ * <p>
+ * Returned by incremental parsing methods such as {@link org.apache.juneau.json.JsonParser#iterate(Object, Class)}.
+ * <p>
+ * Parse errors are thrown from {@link #hasNext()} and {@link #next()} as {@link BeanRuntimeException BeanRuntimeExceptions}
+ * 	wrapping the {@link ParseException}.
+ * <p>
+ * The underlying input is closed automatically when the end of the input is reached or an error occurs.
+ * Iterators that are abandoned before that point must be closed by calling {@link #close()}.
+ *
+ * @param <E> The element type.
+ */
+public interface ParserIterator<E> extends Iterator<E>, Closeable {
+
+	/**
+	 * Closes the underlying input.
+	 * <p>
+	 * Calling this method more than once has no effect.
+	 */
+	@Override /* Closeable */
+	void close();
+}
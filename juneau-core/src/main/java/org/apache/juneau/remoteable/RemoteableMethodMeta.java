@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.internal.*;
 
@@ -29,6 +30,9 @@ public class RemoteableMethodMeta {
 
 	private final String httpMethod;
 	private final String url;
+	private final String batchName;
+	private final boolean async;
+	private final Type resultType;
 	private final RemoteMethodArg[] pathArgs, queryArgs, headerArgs, formDataArgs;
 	private final Integer[] requestBeanArgs, otherArgs;
 	private final Integer bodyArg;
@@ -43,6 +47,9 @@ public class RemoteableMethodMeta {
 		Builder b = new Builder(restUrl, m);
 		this.httpMethod = b.httpMethod;
 		this.url = b.url;
+		this.batchName = b.batchName;
+		this.async = b.async;
+		this.resultType = b.resultType;
 		this.pathArgs = b.pathArgs.toArray(new RemoteMethodArg[b.pathArgs.size()]);
 		this.queryArgs = b.queryArgs.toArray(new RemoteMethodArg[b.queryArgs.size()]);
 		this.formDataArgs = b.formDataArgs.toArray(new RemoteMethodArg[b.formDataArgs.size()]);
@@ -53,7 +60,9 @@ public class RemoteableMethodMeta {
 	}
 
 	private static class Builder {
-		private String httpMethod, url;
+		private String httpMethod, url, batchName;
+		private boolean async;
+		private Type resultType;
 		private List<RemoteMethodArg>
 			pathArgs = new LinkedList<RemoteMethodArg>(),
 			queryArgs = new LinkedList<RemoteMethodArg>(),
@@ -127,6 +136,20 @@ public class RemoteableMethodMeta {
 
 			if (bodyArg != null && otherArgs.size() > 0)
 				throw new RemoteableMetadataException(m, "@Body and non-annotated parameters found together.  Non-annotated parameters cannot be used when @Body is used.");
+
+			if (path == null && httpMethod.equals("POST") && otherArgs.size() == m.getParameterTypes().length)
+				batchName = "NAME".equals(methodPaths) ? m.getName() : ClassUtils.getMethodSignature(m);
+
+			resultType = m.getGenericReturnType();
+			if (m.getReturnType() == Future.class) {
+				async = true;
+				resultType = Object.class;
+				if (m.getGenericReturnType() instanceof ParameterizedType) {
+					Type t = ((ParameterizedType)m.getGenericReturnType()).getActualTypeArguments()[0];
+					if (t instanceof Class || t instanceof ParameterizedType || t instanceof GenericArrayType)
+						resultType = t;
+				}
+			}
 		}
 	}
 
@@ -146,6 +169,36 @@ public class RemoteableMethodMeta {
 		return url;
 	}
 
+	/**
+	 * Returns the name of this Java method in a batched call to a remoteable servlet.
+	 * <p>
+	 * Only methods invoked through <code>POST</code> on the default URL whose arguments are all non-annotated can be batched.
+	 * @return The method name or signature (depending on {@link Remoteable#methodPaths()}), or <jk>null</jk> if the
+	 * 	method can't be batched.
+	 */
+	public String getBatchName() {
+		return batchName;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this Java method returns a {@link Future}.
+	 * @return <jk>true</jk> if the remote call should be made asynchronously.
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * Returns the type of the object returned by the remote call.
+	 * <p>
+	 * This is the generic return type of the Java method, or the type parameter of the {@link Future} if
+	 * 	{@link #isAsync()} is <jk>true</jk>.
+	 * @return The type of the object returned by the remote call, never <jk>null</jk>.
+	 */
+	public Type getResultType() {
+		return resultType;
+	}
+
 	/**
 	 * Returns the {@link Path @Path} annotated arguments on this Java method.
 	 * @return A map of {@link Path#value() @Path.value()} names to zero-indexed argument indices.
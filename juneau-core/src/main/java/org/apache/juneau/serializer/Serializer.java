@@ -22,6 +22,7 @@ import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.soap.*;
+import org.apache.juneau.transform.*;
 
 /**
  * Parent class for all Juneau serializers.
@@ -239,6 +240,86 @@ public abstract class Serializer extends CoreObject {
 		return Arrays.asList((Object[])array);
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified array type can be written directly by a primitive-array writer.
+	 * <p>
+	 * Arrays of primitive numbers and booleans are eligible, which lets serializers iterate over the array itself
+	 * 	instead of boxing every element into the list returned by {@link #toList(Class, Object)}.
+	 * A primitive-array writer must produce exactly the same output as the collection path would for the same array.
+	 * <p>
+	 * <code><jk>char</jk>[]</code> arrays, arrays whose element type has a {@link PojoSwap} defined on its wrapper
+	 * 	class, and arrays that need to be sorted because {@link SerializerContext#SERIALIZER_sortCollections}
+	 * 	is enabled are not eligible and should go through the normal collection path.
+	 *
+	 * @param session The current serializer session.
+	 * @param type The serialized type of the array.
+	 * @return <jk>true</jk> if the array can be written by a primitive-array writer.
+	 */
+	protected static final boolean isPrimitiveArray(SerializerSession session, ClassMeta<?> type) {
+		Class<?> componentType = type.getInnerClass().getComponentType();
+		if (componentType == null || ! componentType.isPrimitive() || componentType == char.class || session.isSortCollections())
+			return false;
+		return session.getClassMeta(ClassUtils.getWrapperIfPrimitive(componentType)).getPojoSwap() == null;
+	}
+
+	/**
+	 * Returns the string form of an element in an array of primitive numbers or booleans.
+	 * <p>
+	 * The result is identical to calling {@link Object#toString()} on the boxed element.
+	 *
+	 * @param array The primitive array.
+	 * @param index The index of the element.
+	 * @return The element as a string.
+	 */
+	protected static final String primitiveToString(Object array, int index) {
+		if (array instanceof int[])
+			return Integer.toString(((int[])array)[index]);
+		if (array instanceof long[])
+			return Long.toString(((long[])array)[index]);
+		if (array instanceof double[])
+			return Double.toString(((double[])array)[index]);
+		if (array instanceof float[])
+			return Float.toString(((float[])array)[index]);
+		if (array instanceof boolean[])
+			return Boolean.toString(((boolean[])array)[index]);
+		if (array instanceof short[])
+			return Short.toString(((short[])array)[index]);
+		if (array instanceof byte[])
+			return Byte.toString(((byte[])array)[index]);
+		return String.valueOf(Array.get(array, index));
+	}
+
+	/**
+	 * Returns an iterator over the elements of an {@link Iterator}, {@link Enumeration}, or {@link Iterable}.
+	 * <p>
+	 * Used for serializing objects whose {@link ClassMeta#isIterable()} method returns <jk>true</jk>.
+	 *
+	 * @param o The iterator, enumeration, or iterable.
+	 * @return An iterator over the elements of the object.
+	 */
+	@SuppressWarnings("unchecked")
+	protected static final Iterator<Object> toIterator(Object o) {
+		if (o instanceof Iterator)
+			return (Iterator<Object>)o;
+		if (o instanceof Iterable)
+			return ((Iterable<Object>)o).iterator();
+		final Enumeration<Object> e = (Enumeration<Object>)o;
+		return new Iterator<Object>() {
+			@Override /* Iterator */
+			public boolean hasNext() {
+				return e.hasMoreElements();
+			}
+			@Override /* Iterator */
+			public Object next() {
+				return e.nextElement();
+			}
+			@Override /* Iterator */
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
 	/**
 	 * Returns the media types handled based on the value of the {@link Produces} annotation on the serializer class.
 	 * <p>
@@ -617,6 +617,12 @@ public class SerializerBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public SerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public SerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
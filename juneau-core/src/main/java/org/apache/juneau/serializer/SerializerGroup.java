@@ -13,10 +13,10 @@
 package org.apache.juneau.serializer;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -60,8 +60,11 @@ import org.apache.juneau.http.*;
  */
 public final class SerializerGroup {
 
-	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<String,SerializerMatch>();
+	private static final boolean NOCACHE = Boolean.getBoolean("juneau.serializerGroup.cache.disable");
+	private static final int CACHE_MAX_SIZE = Integer.getInteger("juneau.serializerGroup.cache.maxSize", 1000);
+
+	// Maps raw and normalized Accept headers to matching serializers.
+	private final Cache<String,SerializerMatch> cache = new Cache<String,SerializerMatch>(NOCACHE, CACHE_MAX_SIZE);
 
 	private final MediaType[] mediaTypes;
 	private final List<MediaType> mediaTypesList;
@@ -124,6 +127,12 @@ public final class SerializerGroup {
 	 * 	s.serialize(getPojo(), response.getWriter(), response.getProperties(), matchingMediaType);
 	 * </p>
 	 *
+	 * <p>
+	 * Matches are cached in a bounded cache (<js>"juneau.serializerGroup.cache.maxSize"</js> system property,
+	 * 	default <code>1000</code>).
+	 * Headers that only differ in whitespace, parameter order, or media range order are normalized to the same
+	 * 	cache entry.
+	 *
 	 * @param acceptHeader The HTTP <l>Accept</l> header string.
 	 * @return The serializer and media type that matched the accept header, or <jk>null</jk> if no match was made.
 	 */
@@ -133,13 +142,20 @@ public final class SerializerGroup {
 			return sm;
 
 		Accept a = Accept.forString(acceptHeader);
-		int match = a.findMatch(mediaTypes);
-		if (match >= 0) {
-			sm = new SerializerMatch(mediaTypes[match], mediaTypeSerializers[match]);
-			cache.putIfAbsent(acceptHeader, sm);
+		String key = a.toString();
+		if (! key.equals(acceptHeader))
+			sm = cache.get(key);
+
+		if (sm == null) {
+			int match = a.findMatch(mediaTypes);
+			if (match < 0)
+				return null;
+			sm = cache.put(key, new SerializerMatch(mediaTypes[match], mediaTypeSerializers[match]));
 		}
 
-		return cache.get(acceptHeader);
+		if (! key.equals(acceptHeader))
+			sm = cache.put(acceptHeader, sm);
+		return sm;
 	}
 
 	/**
@@ -204,4 +220,26 @@ public final class SerializerGroup {
 	public List<Serializer> getSerializers() {
 		return serializers;
 	}
+
+	/**
+	 * Returns statistics about the cache used by {@link #getSerializerMatch(String)}.
+	 * <p>
+	 * Intended for monitoring.
+	 * The map contains the following numeric entries:
+	 * <ul>
+	 * 	<li><js>"size"</js> - The number of entries currently in the cache.
+	 * 	<li><js>"hits"</js> - The number of lookups that found an entry.
+	 * 	<li><js>"misses"</js> - The number of lookups that did not find an entry.
+	 * 	<li><js>"evictions"</js> - The number of entries removed to keep the cache under its maximum size.
+	 * </ul>
+	 *
+	 * @return A new map containing a snapshot of the cache statistics.
+	 */
+	public ObjectMap getMatchCacheStats() {
+		return new ObjectMap()
+			.append("size", cache.size())
+			.append("hits", cache.getHits())
+			.append("misses", cache.getMisses())
+			.append("evictions", cache.getEvictions());
+	}
 }
@@ -85,6 +85,12 @@ public class SoapXmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* XmlSerializerBuilder */
+	public SoapXmlSerializerBuilder precomputeNamespaces(boolean value) {
+		super.precomputeNamespaces(value);
+		return this;
+	}
+
 	@Override /* XmlSerializerBuilder */
 	public SoapXmlSerializerBuilder addNamespaceUrisToRoot(boolean value) {
 		super.addNamespaceUrisToRoot(value);
@@ -283,6 +289,12 @@ public class SoapXmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public SoapXmlSerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public SoapXmlSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
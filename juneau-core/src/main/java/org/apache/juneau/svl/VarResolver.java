@@ -183,4 +183,25 @@ public class VarResolver {
 	public void resolveTo(String s, Writer w) throws IOException {
 		createSession(null).resolveTo(s, w);
 	}
+
+	/**
+	 * Parses the specified string into a reusable template.
+	 * <p>
+	 * Use this for strings that are resolved repeatedly (e.g. on every HTTP request) against different sessions.
+	 * The string is only parsed once, and resolving the template writes directly to the output.
+	 * <p>
+	 * Compiled templates are cached, so compiling the same string twice returns the same template.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	VarTemplate t = VarResolver.<jsf>DEFAULT</jsf>.compile(<js>"java.home is set to $S{java.home}"</js>);
+	 * 	String s = t.resolve(VarResolver.<jsf>DEFAULT</jsf>.createSession());
+	 * </p>
+	 *
+	 * @param s The input string.  <jk>null</jk> is treated as an empty string.
+	 * @return The compiled template.  Never <jk>null</jk>.
+	 */
+	public VarTemplate compile(String s) {
+		return ctx.compile(s);
+	}
 }
\ No newline at end of file
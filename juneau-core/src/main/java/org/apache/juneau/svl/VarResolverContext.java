@@ -26,6 +26,11 @@ import org.apache.juneau.internal.*;
  */
 public class VarResolverContext {
 
+	// Compiled templates don't depend on the vars defined on a resolver, so they're shared by all resolvers.
+	private static final int CACHE_MAX_SIZE = Integer.getInteger("juneau.svl.cache.maxSize", 1000);
+	private static final int MAX_CACHED_LENGTH = 10000;
+	private static final Cache<String,VarTemplate> templates = new Cache<String,VarTemplate>(false, CACHE_MAX_SIZE);
+
 	private final Class<?>[] vars;
 	private final Map<String,Var> varMap;
 	private final Map<String,Object> contextObjects;
@@ -91,4 +96,23 @@ public class VarResolverContext {
 	protected Map<String,Object> getContextObjects() {
 		return contextObjects;
 	}
+
+	/**
+	 * Returns the compiled template for the specified string.
+	 * <p>
+	 * Compiled templates are cached unless the string is very large (e.g. the contents of a file).
+	 *
+	 * @param s The string to compile.
+	 * @return The compiled template.  Never <jk>null</jk>.
+	 */
+	protected VarTemplate compile(String s) {
+		if (s == null)
+			s = "";
+		if (s.length() > MAX_CACHED_LENGTH)
+			return VarTemplate.compile(s);
+		VarTemplate t = templates.get(s);
+		if (t == null)
+			t = templates.put(s, VarTemplate.compile(s));
+		return t;
+	}
 }
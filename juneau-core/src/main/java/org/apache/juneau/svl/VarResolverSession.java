@@ -13,7 +13,6 @@
 package org.apache.juneau.svl;
 
 import static java.text.MessageFormat.*;
-import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
 import java.util.*;
@@ -23,7 +22,8 @@ import java.util.*;
  * <p>
  * Instances of this class are considered light-weight and fast to construct, use, and discard.
  * <p>
- * This class contains the workhorse code for var resolution.
+ * Strings are resolved by compiling them into {@link VarTemplate VarTemplates} which are cached, so resolving the same
+ * 	string again doesn't require parsing it again.
  * <p>
  * Instances of this class are created through the {@link VarResolver#createSession()} and {@link VarResolver#createSession(Map)}
  * 	methods.
@@ -75,70 +75,18 @@ public class VarResolverSession {
 			return "";
 		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
 			return s;
-
-		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
-		// This is a common case, so we want an optimized solution that doesn't involve string builders.
-		if (isSimpleVar(s)) {
-			String var = s.substring(1, s.indexOf('{'));
-			String val = s.substring(s.indexOf('{')+1, s.length()-1);
-			Var v = getVar(var);
-			if (v != null) {
-				if (v.streamed) {
-					StringWriter sw = new StringWriter();
-					v.resolveTo(this, sw, val);
-					return sw.toString();
-				}
-				s = v.doResolve(this, val);
-				if (s == null)
-					s = "";
-				return resolve(s);
-			}
-			return s;
-		}
-
-		try {
-			return resolveTo(s, new StringWriter()).toString();
-		} catch (IOException e) {
-			throw new RuntimeException(e); // Never happens.
-		}
+		return context.compile(s).resolve(this);
 	}
 
 	/**
-	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
-	 * This is a common case, and we can avoid using StringWriters.
+	 * Resolve all variables in the specified compiled template.
+	 *
+	 * @param t The template to resolve.
+	 * @return The new string with all variables resolved.
+	 * @see VarResolver#compile(String)
 	 */
-	private static boolean isSimpleVar(String s) {
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-		int S4 = 4;    // Found }
-
-		int length = s.length();
-		int state = S1;
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (c == '$') {
-					state = S2;
-				} else {
-					return false;
-				}
-			} else if (state == S2) {
-				if (c == '{') {
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
-					return false;
-				}
-			} else if (state == S3) {
-				if (c == '}')
-					state = S4;
-				else if (c == '{' || c == '$')
-					return false;
-			} else if (state == S4) {
-				return false;
-			}
-		}
-		return state == S4;
+	public String resolve(VarTemplate t) {
+		return t.resolve(this);
 	}
 
 	/**
@@ -152,110 +100,11 @@ public class VarResolverSession {
 	 * @throws IOException
 	 */
 	public Writer resolveTo(String s, Writer out) throws IOException {
-
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-
-		int state = S1;
-		boolean isInEscape = false;
-		boolean hasInternalVar = false;
-		boolean hasInnerEscapes = false;
-		String varType = null;
-		String varVal = null;
-		int x = 0, x2 = 0;
-		int depth = 0;
-		int length = s.length();
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (isInEscape) {
-					if (c == '\\' || c == '$') {
-						out.append(c);
-					} else {
-						out.append('\\').append(c);
-					}
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-				} else if (c == '$') {
-					x = i;
-					x2 = i;
-					state = S2;
-				} else {
-					out.append(c);
-				}
-			} else if (state == S2) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					hasInnerEscapes = true;
-					isInEscape = true;
-				} else if (c == '{') {
-					varType = s.substring(x+1, i);
-					x = i;
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
-					if (hasInnerEscapes)
-						out.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
-					else
-						out.append(s, x, i+1);
-					x = i + 1;
-					state = S1;
-					hasInnerEscapes = false;
-				}
-			} else if (state == S3) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-					hasInnerEscapes = true;
-				} else if (c == '{') {
-					depth++;
-					hasInternalVar = true;
-				} else if (c == '}') {
-					if (depth > 0) {
-						depth--;
-					} else {
-						varVal = s.substring(x+1, i);
-						varVal = (hasInternalVar ? resolve(varVal) : varVal);
-						Var r = getVar(varType);
-						if (r == null) {
-							if (hasInnerEscapes)
-								out.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
-							else
-								out.append(s, x2, i+1);
-							x = i+1;
-						} else {
-							if (r.streamed)
-								r.resolveTo(this, out, varVal);
-							else {
-								String replacement = r.doResolve(this, varVal);
-								if (replacement == null)
-									replacement = "";
-								// If the replacement also contains variables, replace them now.
-								if (replacement.indexOf('$') != -1)
-									replacement = resolve(replacement);
-								out.append(replacement);
-							}
-							x = i+1;
-						}
-						state = 1;
-						hasInnerEscapes = false;
-					}
-				}
-			}
-		}
-		if (isInEscape)
-			out.append('\\');
-		else if (state == S2)
-			out.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
-		else if (state == S3)
-			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
-		return out;
+		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
+			return out.append(s);
+		return context.compile(s).resolveTo(this, out);
 	}
 
-
 	/**
 	 * Returns the session object with the specified name.
 	 * Casts it to the specified class type for you.
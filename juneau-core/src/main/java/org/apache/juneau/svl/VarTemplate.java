@@ -0,0 +1,317 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A string containing SVL variables that has been parsed once into a list of literal and variable parts.
+ * <p>
+ * Templates are created through {@link VarResolver#compile(String)} and can be evaluated any number of times against
+ * 	different sessions.
+ * Templates are immutable and thread-safe.
+ * <p>
+ * Evaluating a template produces the same result as calling {@link VarResolverSession#resolve(String)} on the
+ * 	original string, but without re-parsing the string each time:
+ * <ul class='spaced-list'>
+ * 	<li>Strings without variables are reduced to their unescaped text when compiled.
+ * 	<li>Variables with nested variables in their arguments (e.g. <js>"$X{$Y{foo}}"</js>) have their arguments compiled
+ * 		into nested templates.
+ * 	<li>Output is written straight to the writer passed to {@link #resolveTo(VarResolverSession, Writer)}.
+ * </ul>
+ * <p>
+ * Variables are looked up by name through the session when the template is evaluated.
+ * Values returned by variables that themselves contain variables are resolved at that time.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	VarTemplate t = varResolver.compile(<js>"Hello $R{servletTitle}!"</js>);
+ *
+ * 	<jc>// Later, on every request...</jc>
+ * 	String s = t.resolve(req.getVarResolverSession());
+ * </p>
+ */
+public final class VarTemplate {
+
+	private final String source;
+	private final String constant;      // Non-null if this template contains no variables.
+	private final Object[] parts;       // Strings and VarParts.
+	private final VarPart simple;       // Non-null if of the form "$X{...}" with no embedded variables.
+
+	private VarTemplate(String source, Object[] parts, VarPart simple) {
+		this.source = source;
+		this.parts = parts;
+		this.simple = simple;
+		if (parts.length == 0)
+			this.constant = "";
+		else if (parts.length == 1 && parts[0] instanceof String)
+			this.constant = (String)parts[0];
+		else
+			this.constant = null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this template contains no variables.
+	 *
+	 * @return <jk>true</jk> if this template contains no variables.
+	 */
+	public boolean isConstant() {
+		return constant != null && simple == null;
+	}
+
+	/**
+	 * Evaluates this template against the specified session.
+	 *
+	 * @param session The var resolver session.
+	 * @return The string with all variables resolved.  Never <jk>null</jk>.
+	 */
+	public String resolve(VarResolverSession session) {
+
+		// Single variable with no embedded variables.
+		// Handled like VarResolverSession.resolve(String) always has: the value is re-resolved, and an unknown
+		// variable is returned as-is.
+		if (simple != null) {
+			VarPart p = simple;
+			Var v = session.getVar(p.name);
+			if (v == null)
+				return source;
+			if (v.streamed) {
+				StringWriter sw = new StringWriter();
+				v.resolveTo(session, sw, p.arg);
+				return sw.toString();
+			}
+			return session.resolve(v.doResolve(session, p.arg));
+		}
+
+		if (constant != null)
+			return constant;
+
+		try {
+			return resolveTo(session, new StringWriter(source.length() + 16)).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens.
+		}
+	}
+
+	/**
+	 * Evaluates this template against the specified session and sends the output to the specified writer.
+	 *
+	 * @param session The var resolver session.
+	 * @param out The writer to write to.
+	 * @return The same writer.
+	 * @throws IOException
+	 */
+	public Writer resolveTo(VarResolverSession session, Writer out) throws IOException {
+		for (Object o : parts) {
+			if (o instanceof String) {
+				out.write((String)o);
+				continue;
+			}
+			VarPart p = (VarPart)o;
+			String arg = p.argTemplate == null ? p.arg : p.argTemplate.resolve(session);
+			Var v = session.getVar(p.name);
+			if (v == null) {
+				out.write(p.unresolved);
+			} else if (v.streamed) {
+				v.resolveTo(session, out, arg);
+			} else {
+				String replacement = v.doResolve(session, arg);
+				if (replacement == null)
+					replacement = "";
+				// If the replacement also contains variables, replace them now.
+				if (replacement.indexOf('$') != -1)
+					replacement = session.resolve(replacement);
+				out.write(replacement);
+			}
+		}
+		return out;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return source;
+	}
+
+	private static final class VarPart {
+		final String name, arg, unresolved;
+		final VarTemplate argTemplate;
+
+		VarPart(String name, String arg, VarTemplate argTemplate, String unresolved) {
+			this.name = name;
+			this.arg = arg;
+			this.argTemplate = argTemplate;
+			this.unresolved = unresolved;
+		}
+	}
+
+	/**
+	 * Parses the specified string into a template.
+	 * <p>
+	 * This follows the same state machine that {@link VarResolverSession} has always used to resolve strings.
+	 *
+	 * @param s The string to parse.  <jk>null</jk> is treated as an empty string.
+	 * @return The parsed template.
+	 */
+	static VarTemplate compile(String s) {
+		if (s == null)
+			s = "";
+		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
+			return new VarTemplate(s, new Object[]{s}, null);
+
+		final int S1 = 1;    // Not in variable, looking for $
+		final int S2 = 2;    // Found $, Looking for {
+		final int S3 = 3;    // Found {, Looking for }
+
+		List<Object> parts = new ArrayList<Object>();
+		StringBuilder lit = new StringBuilder();
+
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						lit.append(c);
+					} else {
+						lit.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					lit.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						lit.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
+					else
+						lit.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						String varVal = s.substring(x+1, i);
+						VarTemplate argTemplate = null;
+						if (hasInternalVar) {
+							argTemplate = compile(varVal);
+							if (argTemplate.isConstant()) {
+								varVal = argTemplate.constant;
+								argTemplate = null;
+							}
+						}
+						String unresolved = hasInnerEscapes
+							? unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'})
+							: s.substring(x2, i+1);
+						if (lit.length() > 0) {
+							parts.add(lit.toString());
+							lit.setLength(0);
+						}
+						parts.add(new VarPart(varType, varVal, argTemplate, unresolved));
+						x = i+1;
+						state = S1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			lit.append('\\');
+		else if (state == S2)
+			lit.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
+		else if (state == S3)
+			lit.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
+		if (lit.length() > 0)
+			parts.add(lit.toString());
+
+		VarPart simple = null;
+		if (isSimpleVar(s)) {
+			int i = s.indexOf('{');
+			simple = new VarPart(s.substring(1, i), s.substring(i+1, s.length()-1), null, s);
+		}
+		return new VarTemplate(s, parts.toArray(), simple);
+	}
+
+	/**
+	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
+	 */
+	private static boolean isSimpleVar(String s) {
+		final int S1 = 1;    // Not in variable, looking for $
+		final int S2 = 2;    // Found $, Looking for {
+		final int S3 = 3;    // Found {, Looking for }
+		final int S4 = 4;    // Found }
+
+		int length = s.length();
+		int state = S1;
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (c == '$') {
+					state = S2;
+				} else {
+					return false;
+				}
+			} else if (state == S2) {
+				if (c == '{') {
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
+					return false;
+				}
+			} else if (state == S3) {
+				if (c == '}')
+					state = S4;
+				else if (c == '{' || c == '$')
+					return false;
+			} else if (state == S4) {
+				return false;
+			}
+		}
+		return state == S4;
+	}
+}
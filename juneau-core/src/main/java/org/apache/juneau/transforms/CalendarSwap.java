@@ -15,8 +15,6 @@ package org.apache.juneau.transforms;
 import java.text.*;
 import java.util.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.ParseException;
@@ -60,6 +58,7 @@ public class CalendarSwap extends StringSwap<Calendar> {
 	private final int dateStyle, timeStyle;
 	private final String pattern;
 	private final TimeZone timeZone;
+	private final boolean customDateFormat = ClassUtils.isOverridden(getClass(), CalendarSwap.class, "getDateFormat", BeanSession.class, Calendar.class);
 
 	/**
 	 * Constructor.
@@ -132,7 +131,7 @@ public class CalendarSwap extends StringSwap<Calendar> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o), hint);
+				return convert(Iso8601Utils.parseDateTime(o), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -140,8 +139,7 @@ public class CalendarSwap extends StringSwap<Calendar> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Calendar o) {
-			o = setTimeZone(session, o);
-			return DatatypeConverter.printDateTime(o);
+			return Iso8601Utils.printDateTime(setTimeZone(session, o));
 		}
 	}
 
@@ -163,7 +161,7 @@ public class CalendarSwap extends StringSwap<Calendar> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o), hint);
+				return convert(Iso8601Utils.parseDateTime(o), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -171,12 +169,7 @@ public class CalendarSwap extends StringSwap<Calendar> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Calendar o) {
-			if (o.getTimeZone().getRawOffset() != 0) {
-				Calendar c = Calendar.getInstance(GMT);
-				c.setTime(o.getTime());
-				o = c;
-			}
-			return DatatypeConverter.printDateTime(o);
+			return Iso8601Utils.printDateTime(toGmt(o));
 		}
 	}
 
@@ -190,8 +183,7 @@ public class CalendarSwap extends StringSwap<Calendar> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Calendar o) {
-			String s = super.swap(session, o);
-			return String.format("%s.%03d%s", s.substring(0, 19), o.get(Calendar.MILLISECOND), s.substring(19));
+			return Iso8601Utils.printDateTime(setTimeZone(session, o), true);
 		}
 	}
 
@@ -205,8 +197,7 @@ public class CalendarSwap extends StringSwap<Calendar> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Calendar o) {
-			String s = super.swap(session, o);
-			return String.format("%s.%03d%s", s.substring(0, 19), o.get(Calendar.MILLISECOND), s.substring(19));
+			return Iso8601Utils.printDateTime(toGmt(o), true);
 		}
 	}
 
@@ -512,37 +503,29 @@ public class CalendarSwap extends StringSwap<Calendar> {
 
 	/**
 	 * Returns the {@link DateFormat} object for this session for formatting dates.
+	 * <p>
+	 * Subclasses can override this method to use a different format.
+	 * Otherwise, calendars are formatted with a shared thread-safe formatter that has the same settings as the returned
+	 * 	object.
 	 *
 	 * @param session The current bean session.
 	 * @param c Optional <code>Calendar</code> object to copy <code>TimeZone</code> from if not specified in session or <code>timeZone</code> setting.
-	 * @return The {@link DateFormat} object.  Multiple calls to this method on the same
-	 * 	session will return a cached copy of date format object.
+	 * @return A new {@link DateFormat} object for the locale and timezone of the session.
 	 */
 	protected DateFormat getDateFormat(BeanSession session, Calendar c) {
-		DateFormat df = session.getFromCache(DateFormat.class, this.getClass().getName());
-		if (df == null) {
-			if (pattern != null)
-				df = new SimpleDateFormat(pattern, session.getLocale());
-			else {
-				if (dateStyle == -1 && timeStyle != -1)
-					df = DateFormat.getTimeInstance(timeStyle, session.getLocale());
-				else if (dateStyle != -1 && timeStyle == -1)
-					df = DateFormat.getDateInstance(dateStyle, session.getLocale());
-				else
-					df = DateFormat.getDateTimeInstance(dateStyle, timeStyle, session.getLocale());
-			}
-			if (timeZone != null)
-				df.setTimeZone(timeZone);
-			else if (session.getTimeZone() != null)
-				df.setTimeZone(session.getTimeZone());
-			else if (c != null && ! c.getTimeZone().equals(df.getTimeZone())) {
-				// Don't cache it if we're using the Calendar timezone.
-				df.setTimeZone(c.getTimeZone());
-				return df;
-			}
-			session.addToCache(this.getClass().getName(), df);
-		}
-		return df;
+		return getSafeDateFormat(session, c).toDateFormat();
+	}
+
+	/*
+	 * Returns the shared formatter for the locale and timezone of the session.
+	 */
+	private SafeDateFormat getSafeDateFormat(BeanSession session, Calendar c) {
+		TimeZone tz = timeZone;
+		if (tz == null)
+			tz = session.getTimeZone();
+		if (tz == null && c != null)
+			tz = c.getTimeZone();
+		return SafeDateFormat.get(pattern, dateStyle, timeStyle, session.getLocale(), tz);
 	}
 
 	/**
@@ -550,7 +533,9 @@ public class CalendarSwap extends StringSwap<Calendar> {
 	 */
 	@Override /* PojoSwap */
 	public String swap(BeanSession session, Calendar o) {
-		return getDateFormat(session, o).format(o.getTime());
+		if (customDateFormat)
+			return getDateFormat(session, o).format(o.getTime());
+		return getSafeDateFormat(session, o).format(o.getTime());
 	}
 
 	/**
@@ -561,7 +546,8 @@ public class CalendarSwap extends StringSwap<Calendar> {
 		try {
 			if (StringUtils.isEmpty(o))
 				return null;
-			return convert(getDateFormat(session, null).parse(o), hint, session);
+			Date d = customDateFormat ? getDateFormat(session, null).parse(o) : getSafeDateFormat(session, null).parse(o);
+			return convert(d, hint, session);
 		} catch (Exception e) {
 			throw new ParseException(e);
 		}
@@ -584,6 +570,15 @@ public class CalendarSwap extends StringSwap<Calendar> {
 		return c;
 	}
 
+	private static Calendar toGmt(Calendar c) {
+		if (c.getTimeZone().getRawOffset() != 0) {
+			Calendar c2 = Calendar.getInstance(GMT);
+			c2.setTime(c.getTime());
+			c = c2;
+		}
+		return c;
+	}
+
 	private static Calendar setTimeZone(BeanSession session, Calendar c) {
 		TimeZone tz = session.getTimeZone();
 		if (tz != null && ! tz.equals(c.getTimeZone())) {
@@ -15,8 +15,6 @@ package org.apache.juneau.transforms;
 import java.text.*;
 import java.util.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.ParseException;
@@ -60,6 +58,7 @@ public class DateSwap extends StringSwap<Date> {
 	private final int dateStyle, timeStyle;
 	private final String pattern;
 	private final TimeZone timeZone;
+	private final boolean customDateFormat = ClassUtils.isOverridden(getClass(), DateSwap.class, "getDateFormat", BeanSession.class);
 
 	/**
 	 * Constructor.
@@ -131,7 +130,7 @@ public class DateSwap extends StringSwap<Date> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o).getTime(), hint);
+				return convert(Iso8601Utils.parseDateTime(o).getTime(), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -139,10 +138,7 @@ public class DateSwap extends StringSwap<Date> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Date o) {
-			Calendar c = new GregorianCalendar();
-			c.setTime(o);
-			c = setTimeZone(session, c);
-			return DatatypeConverter.printDateTime(c);
+			return Iso8601Utils.printDateTime(toCalendar(session, o));
 		}
 	}
 
@@ -164,7 +160,7 @@ public class DateSwap extends StringSwap<Date> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o).getTime(), hint);
+				return convert(Iso8601Utils.parseDateTime(o).getTime(), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -172,14 +168,7 @@ public class DateSwap extends StringSwap<Date> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Date o) {
-			Calendar c = new GregorianCalendar();
-			c.setTime(o);
-			if (c.getTimeZone().getRawOffset() != 0) {
-				Calendar c2 = Calendar.getInstance(GMT);
-				c2.setTime(c.getTime());
-				c = c2;
-			}
-			return DatatypeConverter.printDateTime(c);
+			return Iso8601Utils.printDateTime(toGmtCalendar(o));
 		}
 	}
 
@@ -193,10 +182,7 @@ public class DateSwap extends StringSwap<Date> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Date o) {
-			Calendar c = new GregorianCalendar();
-			c.setTime(o);
-			String s = super.swap(session, o);
-			return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
+			return Iso8601Utils.printDateTime(toCalendar(session, o), true);
 		}
 	}
 
@@ -210,10 +196,7 @@ public class DateSwap extends StringSwap<Date> {
 
 		@Override /* PojoSwap */
 		public String swap(BeanSession session, Date o) {
-			Calendar c = new GregorianCalendar();
-			c.setTime(o);
-			String s = super.swap(session, o);
-			return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
+			return Iso8601Utils.printDateTime(toGmtCalendar(o), true);
 		}
 	}
 
@@ -519,31 +502,22 @@ public class DateSwap extends StringSwap<Date> {
 
 	/**
 	 * Returns the {@link DateFormat} object for this session for formatting dates.
+	 * <p>
+	 * Subclasses can override this method to use a different format.
+	 * Otherwise, dates are formatted with a shared thread-safe formatter that has the same settings as the returned object.
 	 *
 	 * @param session The current bean session.
-	 * @return The {@link DateFormat} object.  Multiple calls to this method on the same
-	 * 	session will return a cached copy of date format object.
+	 * @return A new {@link DateFormat} object for the locale and timezone of the session.
 	 */
 	protected DateFormat getDateFormat(BeanSession session) {
-		DateFormat df = session.getFromCache(DateFormat.class, this.getClass().getName());
-		if (df == null) {
-			if (pattern != null)
-				df = new SimpleDateFormat(pattern, session.getLocale());
-			else {
-				if (dateStyle == -1 && timeStyle != -1)
-					df = DateFormat.getTimeInstance(timeStyle, session.getLocale());
-				else if (dateStyle != -1 && timeStyle == -1)
-					df = DateFormat.getDateInstance(dateStyle, session.getLocale());
-				else
-					df = DateFormat.getDateTimeInstance(dateStyle, timeStyle, session.getLocale());
-			}
-			if (timeZone != null)
-				df.setTimeZone(timeZone);
-			else if (session.getTimeZone() != null)
-				df.setTimeZone(session.getTimeZone());
-			session.addToCache(this.getClass().getName(), df);
-		}
-		return df;
+		return getSafeDateFormat(session).toDateFormat();
+	}
+
+	/*
+	 * Returns the shared formatter for the locale and timezone of the session.
+	 */
+	private SafeDateFormat getSafeDateFormat(BeanSession session) {
+		return SafeDateFormat.get(pattern, dateStyle, timeStyle, session.getLocale(), timeZone != null ? timeZone : session.getTimeZone());
 	}
 
 	/**
@@ -551,7 +525,9 @@ public class DateSwap extends StringSwap<Date> {
 	 */
 	@Override /* PojoSwap */
 	public String swap(BeanSession session, Date o) {
-		return getDateFormat(session).format(o.getTime());
+		if (customDateFormat)
+			return getDateFormat(session).format(o);
+		return getSafeDateFormat(session).format(o);
 	}
 
 	/**
@@ -562,7 +538,8 @@ public class DateSwap extends StringSwap<Date> {
 		try {
 			if (StringUtils.isEmpty(o))
 				return null;
-			return convert(new Date(getDateFormat(session).parse(o).getTime()), hint);
+			Date d = customDateFormat ? getDateFormat(session).parse(o) : getSafeDateFormat(session).parse(o);
+			return convert(new Date(d.getTime()), hint);
 		} catch (Exception e) {
 			throw new ParseException(e);
 		}
@@ -585,12 +562,18 @@ public class DateSwap extends StringSwap<Date> {
 		throw new ParseException("DateSwap is unable to narrow object of type ''{0}''", c);
 	}
 
-	private static Calendar setTimeZone(BeanSession session, Calendar c) {
+	private static Calendar toCalendar(BeanSession session, Date d) {
 		TimeZone tz = session.getTimeZone();
-		if (tz != null && ! tz.equals(c.getTimeZone())) {
-			c = (Calendar)c.clone();
-			c.setTimeZone(tz);
-		}
+		Calendar c = (tz == null ? new GregorianCalendar() : new GregorianCalendar(tz));
+		c.setTime(d);
+		return c;
+	}
+
+	private static Calendar toGmtCalendar(Date d) {
+		Calendar c = new GregorianCalendar();
+		if (c.getTimeZone().getRawOffset() != 0)
+			c = Calendar.getInstance(GMT);
+		c.setTime(d);
 		return c;
 	}
 }
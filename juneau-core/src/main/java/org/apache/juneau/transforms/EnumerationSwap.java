@@ -21,6 +21,9 @@ import org.apache.juneau.transform.*;
  * Transforms {@link Enumeration Enumerations} to {@code List<Object>} objects.
  * <p>
  * This is a one-way transform, since {@code Enumerations} cannot be reconstituted.
+ * <p>
+ * Serializers already write {@code Enumerations} as arrays one element at a time (see {@link ClassMeta#isIterable()}).
+ * This swap is only needed if the elements should be collected into a list first (e.g. so that they get sorted).
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public class EnumerationSwap extends PojoSwap<Enumeration,List> {
@@ -21,6 +21,9 @@ import org.apache.juneau.transform.*;
  * Transforms {@link Iterator Iterators} to {@code List<Object>} objects.
  * <p>
  * This is a one-way transform, since {@code Iterators} cannot be reconstituted.
+ * <p>
+ * Serializers already write {@code Iterators} as arrays one element at a time (see {@link ClassMeta#isIterable()}).
+ * This swap is only needed if the elements should be collected into a list first (e.g. so that they get sorted).
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public class IteratorSwap extends PojoSwap<Iterator,List> {
@@ -268,7 +268,13 @@ public class UonSerializer extends WriterSerializer {
 			serializeCollection(session, out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(session, out, toList(sType.getInnerClass(), o), eType);
+			if (isPrimitiveArray(session, sType))
+				serializePrimitiveArray(session, out, o);
+			else
+				serializeCollection(session, out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isIterable()) {
+			serializeIterator(session, out, toIterator(o), eType);
 		}
 		else {
 			out.appendObject(o, false, plainTextParams);
@@ -308,35 +314,39 @@ public class UonSerializer extends WriterSerializer {
 		return out;
 	}
 
-	private SerializerWriter serializeBeanMap(UonSerializerSession session, UonWriter out, BeanMap<?> m, String typeName) throws Exception {
-		int depth = session.getIndent();
+	private SerializerWriter serializeBeanMap(final UonSerializerSession session, final UonWriter out, BeanMap<?> m, String typeName) throws Exception {
+		final int depth = session.getIndent();
 
 		out.append('(');
 
-		boolean addComma = false;
+		BeanPropertyConsumer action = new BeanPropertyConsumer() {
+			boolean addComma = false;
 
-		for (BeanPropertyValue p : m.getValues(session.isTrimNulls(), typeName != null ? session.createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
+			@Override /* BeanPropertyConsumer */
+			public void accept(BeanPropertyMeta pMeta, String key, Object value, Throwable t) throws Exception {
+				ClassMeta<?> cMeta = pMeta.getClassMeta();
+				if (t != null)
+					session.addBeanGetterWarning(pMeta, t);
 
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
-				session.addBeanGetterWarning(pMeta, t);
+				if (session.canIgnoreValue(cMeta, key, value))
+					return;
 
-			if (session.canIgnoreValue(cMeta, key, value))
-				continue;
+				if (addComma)
+					out.append(',');
 
-			if (addComma)
-				out.append(',');
+				out.cr(depth).appendObject(key, false, false).append('=');
 
-			out.cr(depth).appendObject(key, false, false).append('=');
+				serializeAnything(session, out, value, cMeta, key, pMeta, false);
 
-			serializeAnything(session, out, value, cMeta, key, pMeta, false);
+				addComma = true;
+			}
+		};
 
-			addComma = true;
+		if (typeName != null) {
+			BeanPropertyMeta tp = m.getMeta().getTypeProperty();
+			action.accept(tp, tp.getName(), typeName, null);
 		}
+		m.forEachValue(session.isTrimNulls(), action);
 
 		if (m.size() > 0)
 			out.cr(depth-1);
@@ -347,23 +357,57 @@ public class UonSerializer extends WriterSerializer {
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private SerializerWriter serializeCollection(UonSerializerSession session, UonWriter out, Collection c, ClassMeta<?> type) throws Exception {
+		return serializeIterator(session, out, session.sort(c).iterator(), type);
+	}
 
-		ClassMeta<?> elementType = type.getElementType();
+	/*
+	 * Elements are pulled from the iterator and written one at a time.
+	 */
+	@SuppressWarnings({ "rawtypes" })
+	private SerializerWriter serializeIterator(UonSerializerSession session, UonWriter out, Iterator i, ClassMeta<?> type) throws Exception {
 
-		c = session.sort(c);
+		ClassMeta<?> elementType = type.getElementType();
 
 		out.append('@').append('(');
 
 		int depth = session.getIndent();
+		boolean isEmpty = ! i.hasNext();
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		while (i.hasNext()) {
 			out.cr(depth);
 			serializeAnything(session, out, i.next(), elementType, "<iterator>", null, false);
 			if (i.hasNext())
 				out.append(',');
 		}
 
-		if (c.size() > 0)
+		if (! isEmpty)
+			out.cr(depth-1);
+		out.append(')');
+
+		return out;
+	}
+
+	// Primitive-array counterpart of serializeIterator().
+	private SerializerWriter serializePrimitiveArray(UonSerializerSession session, UonWriter out, Object array) throws Exception {
+
+		int length = Array.getLength(array);
+		boolean isBoolean = array instanceof boolean[];
+
+		out.append('@').append('(');
+
+		int depth = session.getIndent();
+
+		for (int i = 0; i < length; i++) {
+			out.cr(depth);
+			if (isBoolean)
+				out.appendBoolean(primitiveToString(array, i));
+			else
+				out.appendNumber(primitiveToString(array, i));
+			if (i < length-1)
+				out.append(',');
+		}
+
+		if (length > 0)
 			out.cr(depth-1);
 		out.append(')');
 
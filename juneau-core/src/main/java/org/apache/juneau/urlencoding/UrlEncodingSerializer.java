@@ -243,6 +243,8 @@ public class UrlEncodingSerializer extends UonSerializer implements PartSerializ
 		} else if (sType.isCollection() || sType.isArray()) {
 			Map m = sType.isCollection() ? getCollectionMap((Collection)o) : getCollectionMap(o);
 			serializeCollectionMap(session, out, m, session.getClassMeta(Map.class, Integer.class, Object.class));
+		} else if (sType.isIterable()) {
+			serializeIteratorMap(session, out, toIterator(o));
 		} else {
 			// All other types can't be serialized as key/value pairs, so we create a
 			// mock key/value pair with a "_value" key.
@@ -330,52 +332,73 @@ public class UrlEncodingSerializer extends UonSerializer implements PartSerializ
 		return out;
 	}
 
-	@SuppressWarnings({ "rawtypes" })
-	private SerializerWriter serializeBeanMap(UrlEncodingSerializerSession session, UonWriter out, BeanMap<?> m, String typeName) throws Exception {
+	/*
+	 * Same as serializeCollectionMap(), but the entries are pulled from the iterator and written one at a time.
+	 */
+	private SerializerWriter serializeIteratorMap(UrlEncodingSerializerSession session, UonWriter out, Iterator<?> i) throws Exception {
+
 		int depth = session.getIndent();
-		boolean plainTextParams = session.plainTextParams();
 
-		boolean addAmp = false;
+		for (int j = 0; i.hasNext(); j++) {
+			if (j > 0)
+				out.cr(depth).append('&');
+			out.append(String.valueOf(j)).append('=');
+			super.serializeAnything(session, out, i.next(), session.object(), null, null, session.plainTextParams());
+		}
 
-		for (BeanPropertyValue p : m.getValues(session.isTrimNulls(), typeName != null ? session.createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
+		return out;
+	}
 
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
-				session.addBeanGetterWarning(pMeta, t);
+	private SerializerWriter serializeBeanMap(final UrlEncodingSerializerSession session, final UonWriter out, BeanMap<?> m, String typeName) throws Exception {
+		final int depth = session.getIndent();
+		final boolean plainTextParams = session.plainTextParams();
 
-			if (session.canIgnoreValue(cMeta, key, value))
-				continue;
+		BeanPropertyConsumer action = new BeanPropertyConsumer() {
+			boolean addAmp = false;
 
-			if (value != null && session.shouldUseExpandedParams(pMeta)) {
-				// Transformed object array bean properties may be transformed resulting in ArrayLists,
-				// so we need to check type if we think it's an array.
-				Iterator i = (cMeta.isCollection() || value instanceof Collection) ? ((Collection)value).iterator() : ArrayUtils.iterator(value);
-				while (i.hasNext()) {
+			@Override /* BeanPropertyConsumer */
+			@SuppressWarnings({ "rawtypes" })
+			public void accept(BeanPropertyMeta pMeta, String key, Object value, Throwable t) throws Exception {
+				ClassMeta<?> cMeta = pMeta.getClassMeta();
+				if (t != null)
+					session.addBeanGetterWarning(pMeta, t);
+
+				if (session.canIgnoreValue(cMeta, key, value))
+					return;
+
+				if (value != null && session.shouldUseExpandedParams(pMeta)) {
+					// Transformed object array bean properties may be transformed resulting in ArrayLists,
+					// so we need to check type if we think it's an array.
+					Iterator i = (cMeta.isCollection() || value instanceof Collection) ? ((Collection)value).iterator() : ArrayUtils.iterator(value);
+					while (i.hasNext()) {
+						if (addAmp)
+							out.cr(depth).append('&');
+
+						out.appendObject(key, true, plainTextParams).append('=');
+
+						UrlEncodingSerializer.super.serializeAnything(session, out, i.next(), cMeta.getElementType(), key, pMeta, plainTextParams);
+
+						addAmp = true;
+					}
+				} else {
 					if (addAmp)
 						out.cr(depth).append('&');
 
 					out.appendObject(key, true, plainTextParams).append('=');
 
-					super.serializeAnything(session, out, i.next(), cMeta.getElementType(), key, pMeta, plainTextParams);
+					UrlEncodingSerializer.super.serializeAnything(session, out, value, cMeta, key, pMeta, plainTextParams);
 
 					addAmp = true;
 				}
-			} else {
-				if (addAmp)
-					out.cr(depth).append('&');
-
-				out.appendObject(key, true, plainTextParams).append('=');
-
-				super.serializeAnything(session, out, value, cMeta, key, pMeta, plainTextParams);
-
-				addAmp = true;
 			}
+		};
 
+		if (typeName != null) {
+			BeanPropertyMeta tp = m.getMeta().getTypeProperty();
+			action.accept(tp, tp.getName(), typeName, null);
 		}
+		m.forEachValue(session.isTrimNulls(), action);
+
 		return out;
 	}
 
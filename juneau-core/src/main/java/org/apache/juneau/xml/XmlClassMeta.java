@@ -28,6 +28,10 @@ public class XmlClassMeta extends ClassMetaExtended {
 	private final XmlFormat format;
 	private final String childName;
 
+	// Lazily computed by findStaticNamespaces().
+	private volatile Namespace[] staticNamespaces;
+	private volatile boolean hasDynamicNamespaces;
+
 	/**
 	 * Constructor.
 	 *
@@ -95,6 +99,82 @@ public class XmlClassMeta extends ClassMetaExtended {
 		return namespace;
 	}
 
+	/**
+	 * Returns the namespaces that can be determined from the declared type of this class alone.
+	 * <p>
+	 * Includes the namespace of this class, the namespaces of its bean properties, and the namespaces
+	 * of all classes reachable through declared property, element, and value types.
+	 * Only namespaces with URIs are included.
+	 * <p>
+	 * The result is computed once and cached.
+	 *
+	 * @return The statically-reachable namespaces.  Never <jk>null</jk>.
+	 */
+	protected Namespace[] getStaticNamespaces() {
+		if (staticNamespaces == null)
+			findStaticNamespaces();
+		return staticNamespaces;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if values of this class can reference types whose namespaces can't be determined
+	 * from declared types (e.g. <code>Object</code>-typed properties or elements, interfaces, delegates).
+	 * <p>
+	 * If <jk>true</jk>, the values must be inspected at serialization time to find all namespaces.
+	 *
+	 * @return <jk>true</jk> if values of this class must be inspected at serialization time.
+	 */
+	protected boolean hasDynamicNamespaces() {
+		if (staticNamespaces == null)
+			findStaticNamespaces();
+		return hasDynamicNamespaces;
+	}
+
+	private void findStaticNamespaces() {
+		Set<Namespace> s = new LinkedHashSet<Namespace>();
+		boolean b = findStaticNamespaces(getClassMeta(), s, new HashSet<ClassMeta<?>>());
+		hasDynamicNamespaces = b;
+		staticNamespaces = s.toArray(new Namespace[s.size()]);
+	}
+
+	/*
+	 * Adds the namespaces reachable from the specified declared type to the set.
+	 * Returns true if the type (or a type reachable from it) is open and must be inspected at serialization time.
+	 */
+	private static boolean findStaticNamespaces(ClassMeta<?> cm, Set<Namespace> s, Set<ClassMeta<?>> visited) {
+		if (cm == null || ! visited.add(cm))
+			return false;
+		if (cm.getPojoSwap() != null && cm.getSerializedClassMeta() != cm)
+			return findStaticNamespaces(cm.getSerializedClassMeta(), s, visited);
+		if (cm.isObject() || cm.isDelegate())
+			return true;
+		if (cm.isPrimitive() || cm.isCharSequence() || cm.isNumber() || cm.isBoolean() || cm.isChar() || cm.isEnum() || cm.isDate())
+			return false;
+
+		addNamespace(s, cm.getExtendedMeta(XmlClassMeta.class).getNamespace());
+
+		boolean b = false;
+		if (cm.isBean()) {
+			for (BeanPropertyMeta pMeta : cm.getBeanMeta().getPropertyMetas()) {
+				addNamespace(s, pMeta.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace());
+				b |= findStaticNamespaces(pMeta.getClassMeta(), s, visited);
+			}
+		} else if (cm.isMap()) {
+			b |= findStaticNamespaces(cm.getValueType(), s, visited);
+		} else if (cm.isCollectionOrArray()) {
+			b |= findStaticNamespaces(cm.getElementType(), s, visited);
+		} else if (cm.isAbstract()) {
+			// Interfaces and abstract classes can be implemented by classes in other namespaces.
+			b = true;
+		}
+		return b;
+	}
+
+	private static void addNamespace(Set<Namespace> s, Namespace ns) {
+		if (ns != null && ns.uri != null)
+			s.add(ns);
+	}
+
 	private static Namespace findNamespace(Class<?> c) {
 		if (c == null)
 			return null;
@@ -167,6 +167,33 @@ public class XmlParserBuilder extends ParserBuilder {
 		return property(XML_eventAllocator, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  StAX input factory class.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"XmlParser.inputFactory"</js>
+	 * 	<li><b>Data type:</b> <code>Class&lt;? <jk>extends</jk> XMLInputFactory&gt;</code>
+	 * 	<li><b>Default:</b> <jk>null</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 * <p>
+	 * The {@link XMLInputFactory} implementation used to create the StAX readers for this parser.
+	 * <p>
+	 * If <jk>null</jk>, the implementation is located through {@link XMLInputFactory#newInstance()}.
+	 * <p>
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>XML_inputFactory</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see XmlParserContext#XML_inputFactory
+	 */
+	public XmlParserBuilder inputFactory(Class<? extends XMLInputFactory> value) {
+		return property(XML_inputFactory, value);
+	}
+
 	/**
 	 * <b>Configuration property:</b>  Preserve root element during generalized parsing.
 	 * <p>
@@ -297,6 +324,12 @@ public class XmlParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public XmlParserBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public XmlParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
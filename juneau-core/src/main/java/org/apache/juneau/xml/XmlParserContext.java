@@ -127,12 +127,34 @@ public class XmlParserContext extends ParserContext {
 	 */
 	public static final String XML_preserveRootElement = "XmlParser.preserveRootElement";
 
+	/**
+	 * <b>Configuration property:</b>  StAX input factory class.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"XmlParser.inputFactory"</js>
+	 * 	<li><b>Data type:</b> <code>Class&lt;? <jk>extends</jk> XMLInputFactory&gt;</code>
+	 * 	<li><b>Default:</b> <jk>null</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 * <p>
+	 * The {@link XMLInputFactory} implementation used to create the StAX readers for this parser.
+	 * <p>
+	 * If <jk>null</jk>, the implementation is located through {@link XMLInputFactory#newInstance()}.
+	 * <br>This lets a faster StAX implementation (e.g. Woodstox or Aalto) be plugged into a single parser without
+	 * 	changing the <js>"javax.xml.stream.XMLInputFactory"</js> system property for the whole JVM.
+	 * <p>
+	 * The class must have a public no-arg constructor.
+	 */
+	public static final String XML_inputFactory = "XmlParser.inputFactory";
+
 	final boolean
 		validating,
 		preserveRootElement;
 	final XMLReporter reporter;
 	final XMLResolver resolver;
 	final XMLEventAllocator eventAllocator;
+	final Class<? extends XMLInputFactory> inputFactoryClass;
+	private volatile XMLInputFactory inputFactory;
 
 	/**
 	 * Constructor.
@@ -148,6 +170,51 @@ public class XmlParserContext extends ParserContext {
 		reporter = ps.getProperty(XML_reporter, XMLReporter.class, null);
 		resolver = ps.getProperty(XML_resolver, XMLResolver.class, null);
 		eventAllocator = ps.getProperty(XML_eventAllocator, XMLEventAllocator.class, null);
+		inputFactoryClass = ps.getProperty(XML_inputFactory, Class.class, null);
+	}
+
+	/**
+	 * Returns the StAX input factory configured with the settings on this context.
+	 * <p>
+	 * Locating and configuring a factory is expensive, so it's created on first use and then shared by all sessions
+	 * 	that don't override any of the StAX settings.
+	 * Once configured, the factory is only used to create readers, which is safe to do concurrently.
+	 *
+	 * @return The configured input factory.
+	 * @throws Exception If the factory could not be instantiated.
+	 */
+	final XMLInputFactory getInputFactory() throws Exception {
+		XMLInputFactory f = inputFactory;
+		if (f == null) {
+			f = createInputFactory(inputFactoryClass, validating, reporter, resolver, eventAllocator);
+			inputFactory = f;
+		}
+		return f;
+	}
+
+	/**
+	 * Creates and configures a new StAX input factory.
+	 *
+	 * @param c The factory implementation class, or <jk>null</jk> to use {@link XMLInputFactory#newInstance()}.
+	 * @param validating The {@link #XML_validating} setting.
+	 * @param reporter The {@link #XML_reporter} setting.
+	 * @param resolver The {@link #XML_resolver} setting.
+	 * @param eventAllocator The {@link #XML_eventAllocator} setting.
+	 * @return A new configured input factory.
+	 * @throws Exception If the factory could not be instantiated.
+	 */
+	static XMLInputFactory createInputFactory(Class<? extends XMLInputFactory> c, boolean validating, XMLReporter reporter, XMLResolver resolver, XMLEventAllocator eventAllocator) throws Exception {
+		XMLInputFactory factory = c == null ? XMLInputFactory.newInstance() : c.newInstance();
+		factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);  // This usually has no effect anyway.
+		if (factory.isPropertySupported(XMLInputFactory.REPORTER) && reporter != null)
+			factory.setProperty(XMLInputFactory.REPORTER, reporter);
+		if (factory.isPropertySupported(XMLInputFactory.RESOLVER) && resolver != null)
+			factory.setProperty(XMLInputFactory.RESOLVER, resolver);
+		if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
+			factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
+		return factory;
 	}
 
 	@Override /* Context */
@@ -159,6 +226,7 @@ public class XmlParserContext extends ParserContext {
 				.append("reporter", reporter)
 				.append("resolver", resolver)
 				.append("eventAllocator", eventAllocator)
+				.append("inputFactory", inputFactoryClass)
 			);
 	}
 }
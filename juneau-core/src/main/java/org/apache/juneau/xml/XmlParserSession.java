@@ -41,6 +41,9 @@ public class XmlParserSession extends ParserSession {
 	private final XMLReporter reporter;
 	private final XMLResolver resolver;
 	private final XMLEventAllocator eventAllocator;
+	private final Class<? extends XMLInputFactory> inputFactoryClass;
+	private final XmlParserContext ctx;
+	private final boolean isDefaultFactory;  // True if none of the StAX settings are overridden on this session.
 	private XMLStreamReader xmlStreamReader;
 	private final StringBuilder sb = new StringBuilder();  // Reusable string builder used in this class.
 
@@ -67,20 +70,27 @@ public class XmlParserSession extends ParserSession {
 	 * If <jk>null</jk>, then the timezone defined on the context is used.
 	 * @param mediaType The session media type (e.g. <js>"application/json"</js>).
 	 */
+	@SuppressWarnings("unchecked")
 	public XmlParserSession(XmlParserContext ctx, ObjectMap op, Object input, Method javaMethod, Object outer, Locale locale, TimeZone timeZone, MediaType mediaType) {
 		super(ctx, op, input, javaMethod, outer, locale, timeZone, mediaType);
+		this.ctx = ctx;
 		if (op == null || op.isEmpty()) {
 			validating = ctx.validating;
 			reporter = ctx.reporter;
 			resolver = ctx.resolver;
 			eventAllocator = ctx.eventAllocator;
+			inputFactoryClass = ctx.inputFactoryClass;
 			preserveRootElement = ctx.preserveRootElement;
+			isDefaultFactory = true;
 		} else {
 			validating = op.getBoolean(XML_validating, ctx.validating);
 			reporter = (XMLReporter)op.get(XML_reporter, ctx.reporter);
 			resolver = (XMLResolver)op.get(XML_resolver, ctx.resolver);
 			eventAllocator = (XMLEventAllocator)op.get(XML_eventAllocator, ctx.eventAllocator);
+			inputFactoryClass = (Class<? extends XMLInputFactory>)op.get(XML_inputFactory, ctx.inputFactoryClass);
 			preserveRootElement = op.getBoolean(XML_preserveRootElement, ctx.preserveRootElement);
+			isDefaultFactory = validating == ctx.validating && reporter == ctx.reporter && resolver == ctx.resolver
+				&& eventAllocator == ctx.eventAllocator && inputFactoryClass == ctx.inputFactoryClass;
 		}
 	}
 
@@ -95,6 +105,9 @@ public class XmlParserSession extends ParserSession {
 
 	/**
 	 * Wrap the specified reader in a STAX reader based on settings in this context.
+	 * <p>
+	 * The reader is created from the factory cached on the {@link XmlParserContext} unless this session overrides
+	 * 	any of the StAX settings, in which case a new factory is configured for this session.
 	 *
 	 * @return The new STAX reader.
 	 * @throws Exception If problem occurred trying to create reader.
@@ -102,16 +115,9 @@ public class XmlParserSession extends ParserSession {
 	public final XMLStreamReader getXmlStreamReader() throws Exception {
 		try {
 			Reader r = IOUtils.getBufferedReader(getReader());
-			XMLInputFactory factory = XMLInputFactory.newInstance();
-			factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
-			factory.setProperty(XMLInputFactory.IS_COALESCING, true);
-			factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);  // This usually has no effect anyway.
-			if (factory.isPropertySupported(XMLInputFactory.REPORTER) && reporter != null)
-				factory.setProperty(XMLInputFactory.REPORTER, reporter);
-			if (factory.isPropertySupported(XMLInputFactory.RESOLVER) && resolver != null)
-				factory.setProperty(XMLInputFactory.RESOLVER, resolver);
-			if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
-				factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
+			XMLInputFactory factory = isDefaultFactory
+				? ctx.getInputFactory()
+				: createInputFactory(inputFactoryClass, validating, reporter, resolver, eventAllocator);
 			xmlStreamReader = factory.createXMLStreamReader(r);
 			xmlStreamReader.nextTag();
 		} catch (Error e) {
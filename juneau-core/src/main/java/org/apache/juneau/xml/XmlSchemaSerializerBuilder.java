@@ -65,6 +65,12 @@ public class XmlSchemaSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* XmlSerializerBuilder */
+	public XmlSchemaSerializerBuilder precomputeNamespaces(boolean value) {
+		super.precomputeNamespaces(value);
+		return this;
+	}
+
 	@Override /* XmlSerializerBuilder */
 	public XmlSchemaSerializerBuilder addNamespaceUrisToRoot(boolean value) {
 		super.addNamespaceUrisToRoot(value);
@@ -263,6 +269,12 @@ public class XmlSchemaSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public XmlSchemaSerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public XmlSchemaSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
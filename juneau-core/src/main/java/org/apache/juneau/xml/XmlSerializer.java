@@ -24,6 +24,7 @@ import java.util.*;
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.transform.*;
@@ -256,7 +257,7 @@ public class XmlSerializer extends WriterSerializer {
 	 * @param o The POJO to check.
 	 * @throws SerializeException
 	 */
-	protected void findNsfMappings(XmlSerializerSession session, Object o) throws SerializeException {
+	protected void findNsfMappings(final XmlSerializerSession session, Object o) throws SerializeException {
 		ClassMeta<?> aType = null;						// The actual type
 		aType = session.push(null, o, null);
 
@@ -314,17 +315,87 @@ public class XmlSerializer extends WriterSerializer {
 					findNsfMappings(session, o2);
 			}
 			if (bm != null) {
-				for (BeanPropertyValue p : bm.getValues(session.isTrimNulls())) {
+				try {
+					bm.forEachValue(session.isTrimNulls(), new BeanPropertyConsumer() {
+						@Override /* BeanPropertyConsumer */
+						public void accept(BeanPropertyMeta pMeta, String pName, Object value, Throwable thrown) {
+
+							Namespace ns = pMeta.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace();
+							if (ns != null && ns.uri != null)
+								session.addNamespace(ns);
+
+							try {
+								findNsfMappings(session, value);
+							} catch (Throwable x) {
+								// Ignore
+							}
+						}
+					});
+				} catch (Exception e) {
+					// Not thrown by the consumer above.
+					throw new SerializeException(e);
+				}
+			}
+		}
 
-					Namespace ns = p.getMeta().getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace();
-					if (ns != null && ns.uri != null)
-						session.addNamespace(ns);
+		session.pop();
+	}
 
-					try {
-						findNsfMappings(session, p.getValue());
-					} catch (Throwable x) {
-						// Ignore
+	/**
+	 * Adds the XML namespaces precomputed from the declared types of the specified POJO to the serializer context object.
+	 * <p>
+	 * Only values whose declared types are open (e.g. <code>Object</code>-typed properties) are inspected.
+	 * <p>
+	 * Used instead of {@link #findNsfMappings(XmlSerializerSession, Object)} when the
+	 * {@link XmlSerializerContext#XML_precomputeNamespaces} setting is enabled.
+	 *
+	 * @param session The context that exists for the duration of a single serialization.
+	 * @param o The POJO to check.
+	 * @param eType The declared type of the POJO, or <jk>null</jk> if not known.
+	 * @throws SerializeException
+	 */
+	protected void findStaticNsfMappings(XmlSerializerSession session, Object o, ClassMeta<?> eType) throws SerializeException {
+		if (o == null)
+			return;
+
+		ClassMeta<?> aType = null;						// The actual type
+		aType = session.push(null, o, null);
+
+		if (aType != null && ! aType.isPrimitive()) {
+
+			// Collection and map element types are only available on the declared type.
+			ClassMeta<?> type = aType;
+			if (eType != null && ((eType.isCollection() && aType.isCollection()) || (eType.isMap() && aType.isMap() && ! aType.isBeanMap()) || (eType.isArray() && aType.isArray())))
+				type = eType;
+
+			XmlClassMeta xcm = type.getExtendedMeta(XmlClassMeta.class);
+			for (Namespace ns : xcm.getStaticNamespaces())
+				session.addNamespace(ns);
+
+			if (xcm.hasDynamicNamespaces()) {
+				if (type.isDelegate()) {
+					findNsfMappings(session, o);
+				} else if (type.isBeanMap() || type.isBean()) {
+					BeanMap<?> bm = type.isBeanMap() ? (BeanMap)o : session.toBeanMap(o);
+					for (BeanPropertyMeta pMeta : bm.getMeta().getPropertyMetas()) {
+						ClassMeta<?> pType = pMeta.getClassMeta().getSerializedClassMeta();
+						if (pType.getExtendedMeta(XmlClassMeta.class).hasDynamicNamespaces()) {
+							try {
+								findStaticNsfMappings(session, pMeta.get(bm, pMeta.getName()), pType);
+							} catch (Throwable x) {
+								// Ignore
+							}
+						}
 					}
+				} else if (type.isMap()) {
+					for (Object o2 : ((Map)o).values())
+						findStaticNsfMappings(session, o2, type.getValueType());
+				} else if (type.isCollection()) {
+					for (Object o2 : ((Collection)o))
+						findStaticNsfMappings(session, o2, type.getElementType());
+				} else if (type.isArray() && ! type.getElementType().isPrimitive()) {
+					for (Object o2 : ((Object[])o))
+						findStaticNsfMappings(session, o2, type.getElementType());
 				}
 			}
 		}
@@ -411,6 +482,8 @@ public class XmlSerializer extends WriterSerializer {
 				isExpectedType = aType.isMap();
 			else if (eType.isCollectionOrArray())
 				isExpectedType = aType.isCollectionOrArray();
+			else if (eType.isIterable())
+				isExpectedType = aType.isIterable() || aType.isCollectionOrArray();
 			else
 				isExpectedType = false;
 		}
@@ -441,7 +514,7 @@ public class XmlSerializer extends WriterSerializer {
 		} else if (sType.isMapOrBean()) {
 			isCollapsed = sType.getExtendedMeta(XmlClassMeta.class).getFormat() == COLLAPSED;
 			type = OBJECT;
-		} else if (sType.isCollectionOrArray()) {
+		} else if (sType.isCollectionOrArray() || sType.isIterable()) {
 			isCollapsed = (format == COLLAPSED && ! addNamespaceUris);
 			type = ARRAY;
 		} else {
@@ -471,7 +544,7 @@ public class XmlSerializer extends WriterSerializer {
 		}
 
 		// Do we need a carriage return after the start tag?
-		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray()) && ! isMixed;
+		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray() || sType.isIterable()) && ! isMixed;
 
 		String en = elementName;
 		if (en == null) {
@@ -541,7 +614,7 @@ public class XmlSerializer extends WriterSerializer {
 				serializeCollection(session, out, o, sType, eType, pMeta, isMixed);
 				if (isCollapsed)
 					session.indent++;
-			} else if (sType.isArray()) {
+			} else if (sType.isArray() || sType.isIterable()) {
 				if (isCollapsed)
 					session.indent--;
 				serializeCollection(session, out, o, sType, eType, pMeta, isMixed);
@@ -607,7 +680,7 @@ public class XmlSerializer extends WriterSerializer {
 		return hasChildren ? CR_ELEMENTS : CR_EMPTY;
 	}
 
-	private ContentResult serializeBeanMap(XmlSerializerSession session, XmlWriter out, BeanMap<?> m, Namespace elementNs, boolean isCollapsed, boolean isMixed) throws Exception {
+	private ContentResult serializeBeanMap(final XmlSerializerSession session, final XmlWriter out, BeanMap<?> m, Namespace elementNs, boolean isCollapsed, boolean isMixed) throws Exception {
 		boolean hasChildren = false;
 		BeanMeta<?> bm = m.getMeta();
 
@@ -649,14 +722,16 @@ public class XmlSerializer extends WriterSerializer {
 				} else if (n.equals(attrsProperty)) {
 					if (value instanceof BeanMap) {
 						BeanMap<?> bm2 = (BeanMap)value;
-						for (BeanPropertyValue p2 : bm2.getValues(true)) {
-							String key2 = p2.getName();
-							Object value2 = p2.getValue();
-							Throwable t2 = p2.getThrown();
-							if (t2 != null)
-								session.addBeanGetterWarning(pMeta, t);
-							out.attr(ns, key2, value2);
-						}
+						final BeanPropertyMeta pMeta2 = pMeta;
+						final Namespace ns2 = ns;
+						bm2.forEachValue(true, new BeanPropertyConsumer() {
+							@Override /* BeanPropertyConsumer */
+							public void accept(BeanPropertyMeta pMeta3, String key2, Object value2, Throwable t2) throws Exception {
+								if (t2 != null)
+									session.addBeanGetterWarning(pMeta2, t2);
+								out.attr(ns2, key2, value2);
+							}
+						});
 					} else /* Map */ {
 						Map m2 = (Map)value;
 						for (Map.Entry e : (Set<Map.Entry>)(m2.entrySet())) {
@@ -730,6 +805,11 @@ public class XmlSerializer extends WriterSerializer {
 					Object value = i.next();
 					serializeAnything(session, out, value, contentType.getElementType(), null, null, false, cf, isMixed, preserveWhitespace, null);
 				}
+			} else if (contentType.isIterable()) {
+				for (Iterator i = toIterator(content); i.hasNext();) {
+					Object value = i.next();
+					serializeAnything(session, out, value, null, null, null, false, cf, isMixed, preserveWhitespace, null);
+				}
 			} else {
 				serializeAnything(session, out, content, contentType, null, null, false, cf, isMixed, preserveWhitespace, null);
 			}
@@ -752,10 +832,6 @@ public class XmlSerializer extends WriterSerializer {
 			seType = session.object();
 		ClassMeta<?> eeType = eType.getElementType();
 
-		Collection c = (sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in));
-
-		c = session.sort(c);
-
 		String type2 = null;
 		if (sType != eType)
 			type2 = sType.getDictionaryName();
@@ -769,13 +845,61 @@ public class XmlSerializer extends WriterSerializer {
 			eNs = xbpm.getNamespace();
 		}
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		// Primitive arrays whose element type is the expected type don't need per-element type attributes.
+		if (sType.isArray() && eeType != null && eeType.getInnerClass() == seType.getInnerClass() && isPrimitiveArray(session, sType))
+			return serializePrimitiveArray(session, out, in, eName, eNs, isMixed);
+
+		// Iterators are pulled from one element at a time and can't be sorted.
+		Iterator i;
+		if (sType.isIterable())
+			i = toIterator(in);
+		else
+			i = session.sort(sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in)).iterator();
+
+		while (i.hasNext()) {
 			Object value = i.next();
 			serializeAnything(session, out, value, eeType, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
 		}
 		return out;
 	}
 
+	// Every element has the same type, so the element tag and namespace are resolved once up front.
+	private XmlWriter serializePrimitiveArray(XmlSerializerSession session, XmlWriter out, Object array, String eName, Namespace eNs, boolean isMixed) throws Exception {
+
+		int indent = isMixed ? 0 : session.indent;
+		ClassMeta<?> wType = session.getClassMeta(ClassUtils.getWrapperIfPrimitive(array.getClass().getComponentType()));
+
+		String en = eName;
+		if (en == null)
+			en = (array instanceof boolean[] ? BOOLEAN : NUMBER).toString();
+		boolean encodeEn = eName != null;
+
+		String elementNs = null;
+		if (session.isEnableNamespaces()) {
+			if (eName == null) {
+				elementNs = session.getDefaultNamespace() == null ? null : session.getDefaultNamespace().name;
+			} else {
+				Namespace ns = eNs;
+				if (ns == null)
+					ns = wType.getExtendedMeta(XmlClassMeta.class).getNamespace();
+				if (ns != null && ns.uri == null)
+					ns = null;
+				if (ns == null)
+					ns = session.getDefaultNamespace();
+				elementNs = ns == null ? null : ns.name;
+			}
+		}
+
+		for (int i = 0, length = Array.getLength(array); i < length; i++) {
+			out.oTag(indent, elementNs, en, encodeEn).append('>');
+			out.append(primitiveToString(array, i));
+			out.eTag(elementNs, en, encodeEn);
+			if (! isMixed)
+				out.nl();
+		}
+		return out;
+	}
+
 	/**
 	 * Returns the schema serializer based on the settings of this serializer.
 	 * @return The schema serializer.
@@ -825,8 +949,12 @@ public class XmlSerializer extends WriterSerializer {
 	@Override /* Serializer */
 	protected void doSerialize(SerializerSession session, Object o) throws Exception {
 		XmlSerializerSession s = (XmlSerializerSession)session;
-		if (s.isEnableNamespaces() && s.isAutoDetectNamespaces())
-			findNsfMappings(s, o);
+		if (s.isEnableNamespaces() && s.isAutoDetectNamespaces()) {
+			if (s.isPrecomputeNamespaces())
+				findStaticNsfMappings(s, o, s.getExpectedRootType(o));
+			else
+				findNsfMappings(s, o);
+		}
 		serializeAnything(s, s.getWriter(), o, s.getExpectedRootType(o), null, null, s.isEnableNamespaces() && s.isAddNamespaceUrlsToRoot(), XmlFormat.DEFAULT, false, false, null);
 	}
 
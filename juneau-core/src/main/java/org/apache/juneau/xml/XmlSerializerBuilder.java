@@ -128,6 +128,33 @@ public class XmlSerializerBuilder extends SerializerBuilder {
 		return property(XML_autoDetectNamespaces, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Precompute namespaces from declared types.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"XmlSerializer.precomputeNamespaces"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 * <p>
+	 * When namespace auto-detection is enabled, determine the namespaces from the declared types of the
+	 * POJO instead of crawling the entire data structure.
+	 * Only values whose declared types are open (e.g. <code>Object</code>) are inspected at serialization time.
+	 * <p>
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>XML_precomputeNamespaces</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see XmlSerializerContext#XML_precomputeNamespaces
+	 */
+	public XmlSerializerBuilder precomputeNamespaces(boolean value) {
+		return property(XML_precomputeNamespaces, value);
+	}
+
 	/**
 	 * <b>Configuration property:</b>  Add namespace URLs to the root element.
 	 * <p>
@@ -410,6 +437,12 @@ public class XmlSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public XmlSerializerBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public XmlSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
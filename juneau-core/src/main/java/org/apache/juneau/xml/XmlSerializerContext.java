@@ -78,6 +78,34 @@ public class XmlSerializerContext extends SerializerContext {
 	 */
 	public static final String XML_autoDetectNamespaces = "XmlSerializer.autoDetectNamespaces";
 
+	/**
+	 * <b>Configuration property:</b>  Precompute namespaces from declared types.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"XmlSerializer.precomputeNamespaces"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 * <p>
+	 * When namespace auto-detection is enabled, determine the namespaces from the declared types of the
+	 * POJO instead of crawling the entire data structure.
+	 * <p>
+	 * The set of namespaces reachable from each class through its bean properties and collection/map element types
+	 * is computed once and cached.
+	 * Only values whose declared types are open (e.g. <code>Object</code>, interfaces, abstract classes) are
+	 * inspected at serialization time.
+	 * <p>
+	 * This setting is ignored if {@link #XML_autoDetectNamespaces} is not enabled.
+	 * <p>
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>Namespaces are declared for all bean properties, including properties whose values end up being <jk>null</jk>.
+	 * 	<li>Namespaces defined on subclasses of concrete declared types are not detected.
+	 * </ul>
+	 */
+	public static final String XML_precomputeNamespaces = "XmlSerializer.precomputeNamespaces";
+
 	/**
 	 * <b>Configuration property:</b>  Add namespace URLs to the root element.
 	 * <p>
@@ -160,6 +188,7 @@ public class XmlSerializerContext extends SerializerContext {
 
 	final boolean
 		autoDetectNamespaces,
+		precomputeNamespaces,
 		enableNamespaces,
 		addNamespaceUrlsToRoot,
 		addBeanTypeProperties;
@@ -181,6 +210,7 @@ public class XmlSerializerContext extends SerializerContext {
 	public XmlSerializerContext(PropertyStore ps) {
 		super(ps);
 		autoDetectNamespaces = ps.getProperty(XML_autoDetectNamespaces, boolean.class, true);
+		precomputeNamespaces = ps.getProperty(XML_precomputeNamespaces, boolean.class, false);
 		enableNamespaces = ps.getProperty(XML_enableNamespaces, boolean.class, false);
 		addNamespaceUrlsToRoot = ps.getProperty(XML_addNamespaceUrisToRoot, boolean.class, false);
 		defaultNamespace = ps.getProperty(XML_defaultNamespace, String.class, "{juneau:'http://www.apache.org/2013/Juneau'}");
@@ -194,6 +224,7 @@ public class XmlSerializerContext extends SerializerContext {
 		return super.asMap()
 			.append("XmlSerializerContext", new ObjectMap()
 				.append("autoDetectNamespaces", autoDetectNamespaces)
+				.append("precomputeNamespaces", precomputeNamespaces)
 				.append("enableNamespaces", enableNamespaces)
 				.append("addNamespaceUrlsToRoot", addNamespaceUrlsToRoot)
 				.append("defaultNamespace", defaultNamespace)
@@ -35,6 +35,7 @@ public class XmlSerializerSession extends SerializerSession {
 
 	private final boolean
 		autoDetectNamespaces,
+		precomputeNamespaces,
 		enableNamespaces,
 		addNamespaceUrlsToRoot,
 		addBeanTypeProperties;
@@ -68,6 +69,7 @@ public class XmlSerializerSession extends SerializerSession {
 		if (op == null || op.isEmpty()) {
 			enableNamespaces = ctx.enableNamespaces;
 			autoDetectNamespaces = ctx.autoDetectNamespaces;
+			precomputeNamespaces = ctx.precomputeNamespaces;
 			addNamespaceUrlsToRoot = ctx.addNamespaceUrlsToRoot;
 			addNamespaces(ctx.namespaces);
 			defaultNamespace = findDefaultNamespace(ctx.defaultNamespace);
@@ -76,6 +78,7 @@ public class XmlSerializerSession extends SerializerSession {
 		} else {
 			enableNamespaces = op.getBoolean(XML_enableNamespaces, ctx.enableNamespaces);
 			autoDetectNamespaces = op.getBoolean(XML_autoDetectNamespaces, ctx.autoDetectNamespaces);
+			precomputeNamespaces = op.getBoolean(XML_precomputeNamespaces, ctx.precomputeNamespaces);
 			addNamespaceUrlsToRoot = op.getBoolean(XML_addNamespaceUrisToRoot, ctx.addNamespaceUrlsToRoot);
 			namespaces = (op.containsKey(XML_namespaces) ? parseNamespaces(op.get(XML_namespaces)) : ctx.namespaces);
 			defaultNamespace = findDefaultNamespace(op.containsKey(XML_defaultNamespace) ? op.getString(XML_defaultNamespace) : ctx.defaultNamespace);
@@ -136,6 +139,15 @@ public class XmlSerializerSession extends SerializerSession {
 		return enableNamespaces && autoDetectNamespaces;
 	}
 
+	/**
+	 * Returns the {@link XmlSerializerContext#XML_precomputeNamespaces} setting value in this context.
+	 *
+	 * @return The {@link XmlSerializerContext#XML_precomputeNamespaces} setting value in this context.
+	 */
+	public final boolean isPrecomputeNamespaces() {
+		return precomputeNamespaces;
+	}
+
 	/**
 	 * Returns the {@link XmlSerializerContext#XML_enableNamespaces} setting value in this context.
 	 *
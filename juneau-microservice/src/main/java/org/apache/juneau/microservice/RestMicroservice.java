@@ -388,8 +388,11 @@ public class RestMicroservice extends Microservice {
 		context.setContextPath(contextPath);
 		server.setHandler(context);
 
-		for (Map.Entry<String,Class<? extends Servlet>> e : getResourceMap().entrySet())
-			context.addServlet(e.getValue(), e.getKey()).setInitOrder(0);
+		for (Map.Entry<String,Class<? extends Servlet>> e : getResourceMap().entrySet()) {
+			ServletHolder h = context.addServlet(e.getValue(), e.getKey());
+			h.setInitOrder(0);
+			h.setAsyncSupported(true);  // Allows REST methods to return Futures without tying up container threads.
+		}
 
 		return server;
 	}
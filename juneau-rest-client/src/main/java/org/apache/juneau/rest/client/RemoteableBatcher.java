@@ -0,0 +1,221 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static java.lang.String.*;
+
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.http.message.*;
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.remoteable.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Combines calls made through a remoteable proxy into batched requests.
+ * <p>
+ * The first call added to an empty batch schedules the batch to be sent after the window specified by
+ * 	{@link RestClientBuilder#remoteableBatching(long, int)}, or immediately once it's full.
+ * Batches are sent one at a time from the client's batch thread and never contain more than the maximum number of
+ * 	calls.
+ * Calls left over after a batch is taken, including calls made while a batch is in flight, are sent in the next batch
+ * 	as soon as the current one is done.
+ */
+final class RemoteableBatcher {
+
+	private final RestClient client;
+	private final String url;
+	private final Serializer serializer;
+	private final Parser parser;
+	private final ClassLoader classLoader;
+	private final List<BatchedCall> pending = new ArrayList<BatchedCall>();  // Guarded by this.
+	private boolean scheduled;  // True if a flush of the pending calls is scheduled.  Guarded by this.
+	private ScheduledFuture<?> windowFlush;  // The flush scheduled at the end of the window, if any.  Guarded by this.
+
+	private final Runnable flush = new Runnable() {
+		@Override /* Runnable */
+		public void run() {
+			List<BatchedCall> batch = new ArrayList<BatchedCall>();
+			synchronized(RemoteableBatcher.this) {
+				windowFlush = null;
+				Iterator<BatchedCall> i = pending.iterator();
+				while (i.hasNext() && batch.size() < client.remoteableBatchMaxSize) {
+					BatchedCall c = i.next();
+					i.remove();
+					if (! c.isCancelled())
+						batch.add(c);
+				}
+				scheduled = ! pending.isEmpty();
+				if (scheduled)
+					client.getBatchScheduler().execute(this);
+			}
+			for (BatchedCall c : batch)
+				c.sending.countDown();
+			if (! batch.isEmpty())
+				send(batch);
+		}
+	};
+
+	RemoteableBatcher(RestClient client, String url, Serializer serializer, Parser parser, ClassLoader classLoader) {
+		this.client = client;
+		this.url = url;
+		this.serializer = serializer;
+		this.parser = parser;
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Adds a call to the current batch.
+	 *
+	 * @param rmm The method being called.  Must have a {@link RemoteableMethodMeta#getBatchName() batch name}.
+	 * @param args The method arguments.
+	 * @return The result of the call.
+	 */
+	Future<Object> add(RemoteableMethodMeta rmm, Object[] args) {
+		BatchedCall c = new BatchedCall(rmm, args);
+		synchronized(this) {
+			pending.add(c);
+			if (pending.size() == client.remoteableBatchMaxSize) {
+				// The batch is full, so send it now instead of at the end of the window.
+				scheduled = true;
+				if (windowFlush != null) {
+					windowFlush.cancel(false);
+					windowFlush = null;
+				}
+				client.getBatchScheduler().execute(flush);
+			} else if (! scheduled) {
+				scheduled = true;
+				windowFlush = client.getBatchScheduler().schedule(flush, client.remoteableBatchWindow, TimeUnit.MILLISECONDS);
+			}
+		}
+		return c;
+	}
+
+	/**
+	 * Waits for the result of a call returned by {@link #add(RemoteableMethodMeta, Object[])}.
+	 * <p>
+	 * Time spent waiting for earlier batches isn't limited, since each of those batches is limited itself.
+	 * Once the call's batch is sent, this waits no longer than the batch window plus the client's connect and socket
+	 * 	timeouts.
+	 * If those timeouts aren't known, this waits indefinitely, the same as an unbatched call would.
+	 *
+	 * @param f The future returned by {@link #add(RemoteableMethodMeta, Object[])}.
+	 * @return The result of the call.
+	 * @throws Throwable The exception thrown by the call.
+	 */
+	Object get(Future<Object> f) throws Throwable {
+		BatchedCall c = (BatchedCall)f;
+		try {
+			long timeout = client.remoteableBatchTimeout;
+			if (timeout <= 0)
+				return c.get();
+			c.sending.await();
+			return c.get(timeout, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (TimeoutException e) {
+			c.cancel(false);
+			throw new RuntimeException(new RestCallException(format("Timed out waiting for the result of batched call to '%s'.", url)));
+		}
+	}
+
+	private void send(List<BatchedCall> batch) {
+		try {
+			List<ObjectMap> calls = new ArrayList<ObjectMap>(batch.size());
+			for (BatchedCall c : batch)
+				calls.add(new ObjectMap().append("method", c.rmm.getBatchName()).append("args", c.args == null ? new Object[0] : c.args));
+
+			ObjectList results = client.doPost(url, calls).serializer(serializer).parser(parser).getResponse(ObjectList.class);
+			if (results.size() != batch.size())
+				throw new RestCallException(format("Expected %s results from batched call to '%s' but found %s.", batch.size(), url, results.size()));
+
+			BeanSession session = parser.getBeanContext().createSession();
+			for (int i = 0; i < batch.size(); i++) {
+				BatchedCall c = batch.get(i);
+				try {
+					ObjectMap r = results.getObjectMap(i);
+					if (r.containsKey("status"))
+						c.fail(getServerException(r));
+					else
+						c.complete(session.convertToType(r.get("result"), session.getClassMeta(c.rmm.getResultType())));
+				} catch (Exception e) {
+					c.fail(new RuntimeException(e));
+				}
+			}
+
+		} catch (Throwable t) {
+			Throwable t2 = t;
+			if (t instanceof RestCallException) {
+				try {
+					((RestCallException)t).throwServerException(classLoader);
+				} catch (Throwable t3) {
+					t2 = t3;
+				}
+			}
+			if (t2 == t && ! (t instanceof Error))
+				t2 = new RuntimeException(t);
+			for (BatchedCall c : batch)
+				c.fail(t2);
+		}
+	}
+
+	/*
+	 * Converts an error result into the same exception that the call would have thrown if it had been made by itself.
+	 */
+	private Throwable getServerException(ObjectMap r) throws URISyntaxException {
+		int status = r.getInt("status");
+		String message = r.getString("exceptionMessage");
+		RestCallException e = new RestCallException(status, null, "POST", client.toURI(url), message);
+		String name = r.getString("exceptionName");
+		e.setServerException(name == null ? null : new BasicHeader("Exception-Name", name), message == null ? null : new BasicHeader("Exception-Message", message), null);
+		try {
+			e.throwServerException(classLoader);
+		} catch (Throwable t) {
+			return t;
+		}
+		return new RuntimeException(e);
+	}
+
+	/*
+	 * The pending result of a call in a batch.
+	 */
+	private static final class BatchedCall extends FutureTask<Object> {
+		final RemoteableMethodMeta rmm;
+		final Object[] args;
+		final CountDownLatch sending = new CountDownLatch(1);  // Released when the call's batch is about to be sent.
+
+		BatchedCall(RemoteableMethodMeta rmm, Object[] args) {
+			super(NOOP);
+			this.rmm = rmm;
+			this.args = args;
+		}
+
+		void complete(Object result) {
+			set(result);
+		}
+
+		void fail(Throwable t) {
+			setException(t);
+		}
+	}
+
+	private static final Callable<Object> NOOP = new Callable<Object>() {
+		@Override /* Callable */
+		public Object call() {
+			return null;
+		}
+	};
+}
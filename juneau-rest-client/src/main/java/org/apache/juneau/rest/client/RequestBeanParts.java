@@ -0,0 +1,120 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.remoteable.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * The HTTP request parts defined by the annotated properties of a {@link RequestBean @RequestBean} class.
+ * <p>
+ * Built once per class so that calling a remoteable method doesn't need to look up the property annotations.
+ */
+final class RequestBeanParts {
+
+	private static enum PartType { PATH, QUERY, FORMDATA, HEADER }
+
+	private final Map<BeanPropertyMeta,Part[]> parts = new IdentityHashMap<BeanPropertyMeta,Part[]>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bm The metadata of the request bean class.
+	 */
+	RequestBeanParts(BeanMeta<?> bm) {
+		for (BeanPropertyMeta pMeta : bm.getPropertyMetas()) {
+			List<Part> l = new ArrayList<Part>();
+
+			Path p = pMeta.getAnnotation(Path.class);
+			if (p != null)
+				l.add(new Part(pMeta, PartType.PATH, p.value(), false, p.serializer()));
+
+			Query q1 = pMeta.getAnnotation(Query.class);
+			if (q1 != null)
+				l.add(new Part(pMeta, PartType.QUERY, q1.value(), false, q1.serializer()));
+
+			QueryIfNE q2 = pMeta.getAnnotation(QueryIfNE.class);
+			if (q2 != null)
+				l.add(new Part(pMeta, PartType.QUERY, q2.value(), true, q2.serializer()));
+
+			FormData f1 = pMeta.getAnnotation(FormData.class);
+			if (f1 != null)
+				l.add(new Part(pMeta, PartType.FORMDATA, f1.value(), false, f1.serializer()));
+
+			FormDataIfNE f2 = pMeta.getAnnotation(FormDataIfNE.class);
+			if (f2 != null)
+				l.add(new Part(pMeta, PartType.FORMDATA, f2.value(), true, f2.serializer()));
+
+			Header h1 = pMeta.getAnnotation(Header.class);
+			if (h1 != null)
+				l.add(new Part(pMeta, PartType.HEADER, h1.value(), false, h1.serializer()));
+
+			HeaderIfNE h2 = pMeta.getAnnotation(HeaderIfNE.class);
+			if (h2 != null)
+				l.add(new Part(pMeta, PartType.HEADER, h2.value(), true, h2.serializer()));
+
+			if (! l.isEmpty())
+				parts.put(pMeta, l.toArray(new Part[l.size()]));
+		}
+	}
+
+	/**
+	 * Adds the non-null property values of the specified request bean to the call.
+	 * <p>
+	 * Parts are added in the same order as the bean properties are serialized.
+	 * Properties whose getters throw exceptions are skipped.
+	 *
+	 * @param rc The call to add the parts to.
+	 * @param m The request bean.
+	 * @throws Exception
+	 */
+	void apply(final RestCall rc, BeanMap<?> m) throws Exception {
+		m.forEachValue(true, new BeanPropertyConsumer() {
+			@Override /* BeanPropertyConsumer */
+			public void accept(BeanPropertyMeta pMeta, String pName, Object value, Throwable thrown) throws Exception {
+				Part[] pp = parts.get(pMeta);
+				if (pp != null && thrown == null)
+					for (Part p : pp)
+						p.apply(rc, value);
+			}
+		});
+	}
+
+	private static final class Part {
+		final PartType type;
+		final String name;
+		final boolean skipIfNE;
+		final PartSerializer serializer;
+
+		Part(BeanPropertyMeta meta, PartType type, String name, boolean skipIfNE, Class<? extends PartSerializer> serializer) {
+			this.type = type;
+			this.name = "*".equals(name) && ! meta.getClassMeta().isMapOrBean() ? meta.getName() : name;
+			this.skipIfNE = skipIfNE;
+			this.serializer = RestClient.getPartSerializer(serializer);
+		}
+
+		void apply(RestCall rc, Object val) throws RestCallException {
+			if (val == null)
+				return;
+			switch (type) {
+				case PATH: rc.path(name, val, serializer); break;
+				case QUERY: rc.query(name, val, skipIfNE, serializer); break;
+				case FORMDATA: rc.formData(name, val, skipIfNE, serializer); break;
+				default: rc.header(name, val, skipIfNE, serializer);
+			}
+		}
+	}
+}
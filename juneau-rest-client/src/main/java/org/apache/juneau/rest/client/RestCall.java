@@ -82,6 +82,7 @@ public final class RestCall {
 	private boolean isFailed = false;
 	private Object input;
 	private boolean hasInput;  // input() was called, even if it's setting 'null'.
+	private boolean streamInput;
 	private Serializer serializer;
 	private Parser parser;
 	private URIBuilder uriBuilder;
@@ -456,6 +457,22 @@ public final class RestCall {
 		return this;
 	}
 
+	/**
+	 * Writes the input for this REST call directly to the connection without ever buffering it.
+	 * <p>
+	 * Use this when sending large POJOs, readers, or input streams.
+	 * The request entity is not repeatable, so the call can't be retried.
+	 * <p>
+	 * Has no effect if the input is an {@link HttpEntity} or {@link NameValuePairs}.
+	 *
+	 * @return This object (for method chaining).
+	 * @see RestRequestEntity#streaming()
+	 */
+	public RestCall streamInput() {
+		this.streamInput = true;
+		return this;
+	}
+
 	/**
 	 * Specifies the serializer to use on this call.
 	 * <p>
@@ -1385,8 +1402,10 @@ public final class RestCall {
 					entity = new UrlEncodedFormEntity((NameValuePairs)input);
 				else if (input instanceof HttpEntity)
 					entity = (HttpEntity)input;
+				else if (streamInput)
+					entity = new RestRequestEntity(input, getSerializer()).streaming();
 				else
-					entity = new RestRequestEntity(input, getSerializer());
+					entity = new RestRequestEntity(input, getSerializer(), client.requestBufferSize);
 
 				if (retries > 1 && ! entity.isRepeatable())
 					throw new RestCallException("Rest call set to retryable, but entity is not repeatable.");
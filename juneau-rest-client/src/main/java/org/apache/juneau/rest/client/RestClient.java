@@ -57,6 +57,9 @@ public class RestClient extends CoreObject {
 
 	private static final ConcurrentHashMap<Class,PartSerializer> partSerializerCache = new ConcurrentHashMap<Class,PartSerializer>();
 
+	private final ConcurrentHashMap<Pair<Class<?>,String>,RemoteableMeta> remoteableMetaCache = new ConcurrentHashMap<Pair<Class<?>,String>,RemoteableMeta>();
+	private final ConcurrentHashMap<Class<?>,RequestBeanParts> requestBeanPartsCache = new ConcurrentHashMap<Class<?>,RequestBeanParts>();
+
 	private final Map<String,String> headers;
 	private final CloseableHttpClient httpClient;
 	private final boolean keepHttpClientOpen;
@@ -75,11 +78,18 @@ public class RestClient extends CoreObject {
 	final long retryInterval;
 	final boolean debug;
 	final RestCallInterceptor[] interceptors;
+	final long remoteableBatchWindow;
+	final int remoteableBatchMaxSize;
+	final long remoteableBatchTimeout;
+	final int requestBufferSize;
 
 	// This is lazy-created.
 	private volatile ExecutorService executorService;
 	boolean executorServiceShutdownOnClose = true;
 
+	// This is lazy-created.
+	private volatile ScheduledExecutorService batchScheduler;
+
 
 	RestClient(
 			PropertyStore propertyStore,
@@ -97,7 +107,11 @@ public class RestClient extends CoreObject {
 			long retryInterval,
 			boolean debug,
 			ExecutorService executorService,
-			boolean executorServiceShutdownOnClose) {
+			boolean executorServiceShutdownOnClose,
+			long remoteableBatchWindow,
+			int remoteableBatchMaxSize,
+			long remoteableBatchTimeout,
+			int requestBufferSize) {
 		super(propertyStore);
 		this.httpClient = httpClient;
 		this.keepHttpClientOpen = keepHttpClientOpen;
@@ -128,6 +142,10 @@ public class RestClient extends CoreObject {
 
 		this.executorService = executorService;
 		this.executorServiceShutdownOnClose = executorServiceShutdownOnClose;
+		this.remoteableBatchWindow = remoteableBatchWindow;
+		this.remoteableBatchMaxSize = remoteableBatchMaxSize;
+		this.remoteableBatchTimeout = remoteableBatchTimeout;
+		this.requestBufferSize = requestBufferSize;
 	}
 
 	/**
@@ -142,6 +160,8 @@ public class RestClient extends CoreObject {
 			httpClient.close();
 		if (executorService != null && executorServiceShutdownOnClose)
 			executorService.shutdown();
+		if (batchScheduler != null)
+			batchScheduler.shutdown();
 		if (Boolean.getBoolean("org.apache.juneau.rest.client.RestClient.trackLifecycle"))
 			closedStack = Thread.currentThread().getStackTrace();
 	}
@@ -156,6 +176,8 @@ public class RestClient extends CoreObject {
 				httpClient.close();
 			if (executorService != null && executorServiceShutdownOnClose)
 				executorService.shutdown();
+			if (batchScheduler != null)
+				batchScheduler.shutdown();
 		} catch (Throwable t) {}
 		if (Boolean.getBoolean("org.apache.juneau.rest.client.RestClient.trackLifecycle"))
 			closedStack = Thread.currentThread().getStackTrace();
@@ -474,6 +496,13 @@ public class RestClient extends CoreObject {
 	 * 		.build()
 	 * 		.getRemoteableProxy(MyInterface3.<jk>class</jk>);
 	 * </p>
+	 * <p>
+	 * Methods that return a {@link Future} (e.g. <code>Future&lt;Person&gt; findPerson(<jk>int</jk> id)</code>) make the
+	 * 	call asynchronously using the {@link RestClientBuilder#executorService(ExecutorService, boolean) executor service}
+	 * 	and return immediately.
+	 * The interface on the server can declare the same method with a plain return type.
+	 * <p>
+	 * Calls can also be combined into batched requests using {@link RestClientBuilder#remoteableBatching(long, int)}.
 	 *
 	 * @param interfaceClass The interface to create a proxy for.
 	 * @return The new proxy interface.
@@ -528,107 +557,131 @@ public class RestClient extends CoreObject {
 				new Class[] { interfaceClass },
 				new InvocationHandler() {
 
-					final RemoteableMeta rm = new RemoteableMeta(interfaceClass, restUrl2);
+					final RemoteableMeta rm = getRemoteableMeta(interfaceClass, restUrl2);
+					final RemoteableBatcher batcher = remoteableBatchWindow > 0 ? new RemoteableBatcher(RestClient.this, restUrl2, serializer, parser, interfaceClass.getClassLoader()) : null;
 
 					@Override /* InvocationHandler */
-					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-						RemoteableMethodMeta rmm = rm.getMethodMeta(method);
+					public Object invoke(Object proxy, Method method, final Object[] args) throws Throwable {
+						final RemoteableMethodMeta rmm = rm.getMethodMeta(method);
 
 						if (rmm == null)
 							throw new RuntimeException("Method is not exposed as a remoteable method.");
 
-						try {
-							String url = rmm.getUrl();
-							String httpMethod = rmm.getHttpMethod();
-							RestCall rc = (httpMethod.equals("POST") ? doPost(url) : doGet(url));
-							rc.serializer(serializer).parser(parser);
-
-							for (RemoteMethodArg a : rmm.getPathArgs())
-								rc.path(a.name, args[a.index], a.serializer);
-
-							for (RemoteMethodArg a : rmm.getQueryArgs())
-								rc.query(a.name, args[a.index], a.skipIfNE, a.serializer);
+						if (batcher != null && rmm.getBatchName() != null) {
+							Future<Object> f = batcher.add(rmm, args);
+							if (rmm.isAsync())
+								return f;
+							return batcher.get(f);
+						}
 
-							for (RemoteMethodArg a : rmm.getFormDataArgs())
-								rc.formData(a.name, args[a.index], a.skipIfNE, a.serializer);
+						if (rmm.isAsync()) {
+							return getExecutorService(true).submit(
+								new Callable<Object>() {
+									@Override /* Callable */
+									public Object call() throws Exception {
+										try {
+											return callRemoteable(interfaceClass, rmm, args, serializer, parser);
+										} catch (Exception e) {
+											throw e;
+										} catch (Error e) {
+											throw e;
+										} catch (Throwable t) {
+											throw new RuntimeException(t);
+										}
+									}
+								}
+							);
+						}
 
-							for (RemoteMethodArg a : rmm.getHeaderArgs())
-								rc.header(a.name, args[a.index], a.skipIfNE, a.serializer);
+						return callRemoteable(interfaceClass, rmm, args, serializer, parser);
+					}
+			});
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-							if (rmm.getBodyArg() != null)
-								rc.input(args[rmm.getBodyArg()]);
+	/*
+	 * Makes a single call to a remoteable method and returns the parsed result.
+	 * Throws the original server-side exception if it can be reconstructed.
+	 */
+	@SuppressWarnings("hiding")
+	private Object callRemoteable(Class<?> interfaceClass, RemoteableMethodMeta rmm, Object[] args, Serializer serializer, Parser parser) throws Throwable {
+		try {
+			String url = rmm.getUrl();
+			String httpMethod = rmm.getHttpMethod();
+			RestCall rc = (httpMethod.equals("POST") ? doPost(url) : doGet(url));
+			rc.serializer(serializer).parser(parser);
 
-							if (rmm.getRequestBeanArgs().length > 0) {
-								BeanSession bs = getBeanContext().createSession();
+			for (RemoteMethodArg a : rmm.getPathArgs())
+				rc.path(a.name, args[a.index], a.serializer);
 
-								for (Integer i : rmm.getRequestBeanArgs()) {
-									BeanMap<?> bm = bs.toBeanMap(args[i]);
-									for (BeanPropertyValue bpv : bm.getValues(true)) {
-										BeanPropertyMeta pMeta = bpv.getMeta();
-										Object val = bpv.getValue();
+			for (RemoteMethodArg a : rmm.getQueryArgs())
+				rc.query(a.name, args[a.index], a.skipIfNE, a.serializer);
 
-										Path p = pMeta.getAnnotation(Path.class);
-										if (p != null)
-											rc.path(getName(p.value(), pMeta), val, getPartSerializer(p.serializer()));
+			for (RemoteMethodArg a : rmm.getFormDataArgs())
+				rc.formData(a.name, args[a.index], a.skipIfNE, a.serializer);
 
-										Query q1 = pMeta.getAnnotation(Query.class);
-										if (q1 != null)
-											rc.query(getName(q1.value(), pMeta), val, false, getPartSerializer(q1.serializer()));
+			for (RemoteMethodArg a : rmm.getHeaderArgs())
+				rc.header(a.name, args[a.index], a.skipIfNE, a.serializer);
 
-										QueryIfNE q2 = pMeta.getAnnotation(QueryIfNE.class);
-										if (q2 != null)
-											rc.query(getName(q2.value(), pMeta), val, true, getPartSerializer(q2.serializer()));
+			if (rmm.getBodyArg() != null)
+				rc.input(args[rmm.getBodyArg()]);
 
-										FormData f1 = pMeta.getAnnotation(FormData.class);
-										if (f1 != null)
-											rc.formData(getName(f1.value(), pMeta), val, false, getPartSerializer(f1.serializer()));
+			if (rmm.getRequestBeanArgs().length > 0) {
+				BeanSession bs = getBeanContext().createSession();
+				for (Integer i : rmm.getRequestBeanArgs()) {
+					BeanMap<?> bm = bs.toBeanMap(args[i]);
+					getRequestBeanParts(bm.getMeta()).apply(rc, bm);
+				}
+			}
 
-										FormDataIfNE f2 = pMeta.getAnnotation(FormDataIfNE.class);
-										if (f2 != null)
-											rc.formData(getName(f2.value(), pMeta), val, true, getPartSerializer(f2.serializer()));
+			if (rmm.getOtherArgs().length > 0) {
+				Object[] otherArgs = new Object[rmm.getOtherArgs().length];
+				int i = 0;
+				for (Integer otherArg : rmm.getOtherArgs())
+					otherArgs[i++] = args[otherArg];
+				rc.input(otherArgs);
+			}
 
-										org.apache.juneau.remoteable.Header h1 = pMeta.getAnnotation(org.apache.juneau.remoteable.Header.class);
-										if (h1 != null)
-											rc.header(getName(h1.value(), pMeta), val, false, getPartSerializer(h1.serializer()));
+			return rc.getResponse(rmm.getResultType());
 
-										HeaderIfNE h2 = pMeta.getAnnotation(HeaderIfNE.class);
-										if (h2 != null)
-											rc.header(getName(h2.value(), pMeta), val, true, getPartSerializer(h2.serializer()));
-									}
-								}
-							}
-
-							if (rmm.getOtherArgs().length > 0) {
-								Object[] otherArgs = new Object[rmm.getOtherArgs().length];
-								int i = 0;
-								for (Integer otherArg : rmm.getOtherArgs())
-									otherArgs[i++] = args[otherArg];
-								rc.input(otherArgs);
-							}
-
-							return rc.getResponse(method.getGenericReturnType());
-
-						} catch (RestCallException e) {
-							// Try to throw original exception if possible.
-							e.throwServerException(interfaceClass.getClassLoader());
-							throw new RuntimeException(e);
-						} catch (Exception e) {
-							throw new RuntimeException(e);
-						}
-					}
-			});
+		} catch (RestCallException e) {
+			// Try to throw original exception if possible.
+			e.throwServerException(interfaceClass.getClassLoader());
+			throw new RuntimeException(e);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
 
-	private static String getName(String name, BeanPropertyMeta pMeta) {
-		if ("*".equals(name) && ! pMeta.getClassMeta().isMapOrBean())
-			name = pMeta.getName();
-		return name;
+	/*
+	 * Returns the metadata for the specified remoteable interface, creating it the first time it's requested.
+	 */
+	private RemoteableMeta getRemoteableMeta(Class<?> interfaceClass, String restUrl) {
+		Pair<Class<?>,String> key = new Pair<Class<?>,String>(interfaceClass, restUrl);
+		RemoteableMeta rm = remoteableMetaCache.get(key);
+		if (rm == null) {
+			remoteableMetaCache.putIfAbsent(key, new RemoteableMeta(interfaceClass, restUrl));
+			rm = remoteableMetaCache.get(key);
+		}
+		return rm;
+	}
+
+	/*
+	 * Returns the request parts defined on the specified request bean class, creating them the first time they're requested.
+	 */
+	private RequestBeanParts getRequestBeanParts(BeanMeta<?> bm) {
+		Class<?> c = bm.getClassMeta().getInnerClass();
+		RequestBeanParts p = requestBeanPartsCache.get(c);
+		if (p == null) {
+			requestBeanPartsCache.putIfAbsent(c, new RequestBeanParts(bm));
+			p = requestBeanPartsCache.get(c);
+		}
+		return p;
 	}
 
-	private static PartSerializer getPartSerializer(Class c) {
+	static PartSerializer getPartSerializer(Class c) {
 		if (c == UrlEncodingSerializer.class)
 			return null;
 		PartSerializer pf = partSerializerCache.get(c);
@@ -683,6 +736,29 @@ public class RestClient extends CoreObject {
 		}
 	}
 
+	/*
+	 * Returns the thread used to send batched remoteable calls.
+	 * Batches are sent one at a time so that calls made while a batch is in flight are combined into the next one.
+	 */
+	ScheduledExecutorService getBatchScheduler() {
+		if (batchScheduler != null)
+			return batchScheduler;
+		synchronized(this) {
+			if (batchScheduler == null)
+				batchScheduler = Executors.newSingleThreadScheduledExecutor(
+					new ThreadFactory() {
+						@Override /* ThreadFactory */
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r, "RestClient-batch");
+							t.setDaemon(true);
+							return t;
+						}
+					}
+				);
+			return batchScheduler;
+		}
+	}
+
 	@Override
 	protected void finalize() throws Throwable {
 		if (! isClosed && ! keepHttpClientOpen) {
@@ -79,6 +79,10 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	private RetryOn retryOn = RetryOn.DEFAULT;
 	private boolean debug, executorServiceShutdownOnClose;
 	private ExecutorService executorService;
+	private long remoteableBatchWindow;
+	private int remoteableBatchMaxSize = Integer.MAX_VALUE;
+	private int connectTimeout = -1, socketTimeout = -1, soTimeout;
+	private int requestBufferSize;
 
 	/**
 	 * Constructor, default settings.
@@ -152,7 +156,11 @@ public class RestClientBuilder extends CoreObjectBuilder {
 					pf = partSerializerClass.newInstance();
 			}
 
-			return new RestClient(propertyStore, httpClient, keepHttpClientOpen, s, p, us, pf, headers, interceptors, rootUrl, retryOn, retries, retryInterval, debug, executorService, executorServiceShutdownOnClose);
+			// Synchronous batched calls wait no longer than the HTTP request itself could take once their batch is sent.
+			int socketTimeout = this.socketTimeout >= 0 ? this.socketTimeout : soTimeout;
+			long remoteableBatchTimeout = socketTimeout > 0 ? remoteableBatchWindow + socketTimeout + Math.max(connectTimeout, 0) : 0;
+
+			return new RestClient(propertyStore, httpClient, keepHttpClientOpen, s, p, us, pf, headers, interceptors, rootUrl, retryOn, retries, retryInterval, debug, executorService, executorServiceShutdownOnClose, remoteableBatchWindow, remoteableBatchMaxSize, remoteableBatchTimeout, requestBufferSize);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -459,6 +467,7 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	 * 	<li>{@link RestCall#getResponseFuture(Class)}
 	 * 	<li>{@link RestCall#getResponseFuture(Type,Type...)}
 	 * 	<li>{@link RestCall#getResponseAsString()}
+	 * 	<li>Methods on remoteable proxies that return {@link Future Futures}.
 	 * </ul>
 	 * <p>
 	 * The default executor service is a single-threaded {@link ThreadPoolExecutor} with a 30 second timeout
@@ -474,6 +483,55 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	/**
+	 * Combines concurrent calls made through remoteable proxies into batched requests.
+	 * <p>
+	 * When enabled, calls made through the same proxy within the specified window are sent together in a single
+	 * 	<code>POST</code> to the interface URL, and the results are handed back to each caller.
+	 * This reduces the number of round trips when many small calls are made concurrently, at the cost of
+	 * 	delaying each call by up to the window.
+	 * Calls made while a batch is in flight are collected into the next batch.
+	 * <p>
+	 * Methods that return {@link Future Futures} return immediately, so a single thread can issue several calls
+	 * 	and have them sent in one request.
+	 * Other methods block until their batch has been processed.
+	 * <p>
+	 * Only methods called through <code>POST</code> on their default URL with non-annotated arguments are batched.
+	 * The server must support batched calls (e.g. <code>RemoteableServlet</code>).
+	 *
+	 * @param window The number of milliseconds to wait for other calls before sending a batch.
+	 * 	<code>0</code> disables batching.
+	 * @param maxSize The maximum number of calls in a batch.  A batch is sent as soon as it's full.
+	 * 	Calls beyond this size are sent in the following batches.
+	 * 	<code>0</code> or less means batches have no size limit and are only sent at the end of the window.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder remoteableBatching(long window, int maxSize) {
+		this.remoteableBatchWindow = window;
+		this.remoteableBatchMaxSize = maxSize > 0 ? maxSize : Integer.MAX_VALUE;
+		return this;
+	}
+
+	/**
+	 * Sends POJO request bodies smaller than the specified size with a <code>Content-Length</code> header.
+	 * <p>
+	 * POJOs passed to {@link RestCall#input(Object)} are serialized into a reusable per-thread buffer of up to this
+	 * 	many bytes before the request is sent.
+	 * POJOs that don't fit are serialized directly to the connection using chunked transfer encoding, which is the
+	 * 	default for all POJOs.
+	 * <p>
+	 * Some servers and proxies handle requests with a known length more efficiently.
+	 * Keep the size small since each thread that makes calls keeps its own buffer.
+	 *
+	 * @param requestBufferSize The buffer size in bytes.  <code>0</code> disables buffering.
+	 * @return This object (for method chaining).
+	 * @see RestCall#streamInput()
+	 */
+	public RestClientBuilder requestBufferSize(int requestBufferSize) {
+		this.requestBufferSize = requestBufferSize;
+		return this;
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// HTTP headers
@@ -1186,6 +1244,12 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public RestClientBuilder accessorStrategy(AccessorStrategy value) {
+		super.accessorStrategy(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public RestClientBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -1608,6 +1672,7 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	 */
 	public RestClientBuilder setDefaultSocketConfig(SocketConfig config) {
 		httpClientBuilder.setDefaultSocketConfig(config);
+		soTimeout = config.getSoTimeout();
 		return this;
 	}
 
@@ -1944,6 +2009,8 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	 */
 	public RestClientBuilder setDefaultRequestConfig(RequestConfig config) {
 		httpClientBuilder.setDefaultRequestConfig(config);
+		connectTimeout = config.getConnectTimeout();
+		socketTimeout = config.getSocketTimeout();
 		return this;
 	}
 
@@ -13,6 +13,7 @@
 package org.apache.juneau.rest.client;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.http.entity.*;
 import org.apache.http.message.*;
@@ -22,10 +23,28 @@ import org.apache.juneau.utils.*;
 
 /**
  * HttpEntity for serializing POJOs as the body of HTTP requests.
+ * <p>
+ * By default, POJOs are serialized directly to the connection using chunked transfer encoding.
+ * The entity is repeatable since the POJO is simply serialized again, but {@link Reader} and {@link InputStream}
+ * 	inputs are not, and neither are inputs such as {@link Iterator Iterators} that can only be iterated once.
+ * <p>
+ * Two other modes are available:
+ * <ul class='spaced-list'>
+ * 	<li>Buffered - If a buffer size is specified, POJOs are first serialized into a per-thread buffer so that
+ * 		they can be sent with a <code>Content-Length</code> header.
+ * 		POJOs that don't fit in the buffer are serialized directly to the connection instead.
+ * 		Inputs that can only be iterated once are never buffered.
+ * 	<li>Streaming - If {@link #streaming()} is called, the input is written directly to the connection exactly once
+ * 		and is never buffered.
+ * 		The entity is not repeatable and {@link #getContent()} is not supported.
+ * </ul>
  */
 public final class RestRequestEntity extends BasicHttpEntity {
 	final Object output;
 	final Serializer serializer;
+	private final int bufferSize;
+	private boolean streaming, written, bufferTried;
+	private IOException bufferException;
 	byte[] outputBytes;
 
 	/**
@@ -34,14 +53,58 @@ public final class RestRequestEntity extends BasicHttpEntity {
 	 * @param serializer The serializer to use to serialize this response.
 	 */
 	public RestRequestEntity(Object input, Serializer serializer) {
+		this(input, serializer, 0);
+	}
+
+	/**
+	 * Constructor.
+	 * @param input The POJO to serialize.  Can also be a {@link Reader} or {@link InputStream}.
+	 * @param serializer The serializer to use to serialize this response.
+	 * @param bufferSize The maximum serialized size in bytes of POJOs that are buffered so they can be sent with a
+	 * 	<code>Content-Length</code> header.
+	 * 	<code>0</code> means POJOs are never buffered.
+	 */
+	public RestRequestEntity(Object input, Serializer serializer, int bufferSize) {
 		this.output = input;
 		this.serializer = serializer;
+		this.bufferSize = bufferSize;
 		if (serializer != null && serializer.getResponseContentType() != null)
 			setContentType(new BasicHeader("Content-Type", serializer.getResponseContentType().toString()));
 	}
 
+	/**
+	 * Makes this a streaming entity whose input is written directly to the connection exactly once.
+	 * <p>
+	 * Use this for large inputs to avoid ever holding the serialized form in memory.
+	 * Streaming entities can't be used on retryable calls.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestRequestEntity streaming() {
+		this.streaming = true;
+		return this;
+	}
+
 	@Override /* BasicHttpEntity */
 	public void writeTo(OutputStream os) throws IOException {
+		if (streaming) {
+			if (written)
+				throw new IllegalStateException("Streaming entity has already been written.");
+			written = true;
+		}
+		byte[] b = getBytes();
+		if (bufferException != null)
+			throw bufferException;
+		if (b != null) {
+			os.write(b);
+			os.flush();
+			os.close();
+		} else {
+			serialize(os);
+		}
+	}
+
+	private void serialize(OutputStream os) throws IOException {
 		if (output instanceof InputStream) {
 			IOPipe.create(output, os).closeOut().run();
 		} else if (output instanceof Reader) {
@@ -69,17 +132,91 @@ public final class RestRequestEntity extends BasicHttpEntity {
 		}
 	}
 
+	/*
+	 * Returns the serialized input if it's been buffered, buffering it first if it's a POJO that fits in the buffer.
+	 * Serialization errors other than running out of buffer space are kept and thrown by writeTo().
+	 */
+	private byte[] getBytes() {
+		if (outputBytes == null && ! bufferTried && bufferSize > 0 && ! streaming && ! isStream() && ! isSinglePass()) {
+			bufferTried = true;
+			PooledBuffer b = BUFFERS.get();
+			b.reset(bufferSize);
+			try {
+				serialize(b);
+				outputBytes = b.toByteArray();
+			} catch (BufferOverflowException e) {
+				// Too big for the buffer.
+			} catch (IOException e) {
+				if (! isBufferOverflow(e))
+					bufferException = e;
+			} catch (RuntimeException e) {
+				if (! isBufferOverflow(e))
+					throw e;
+			}
+		}
+		return outputBytes;
+	}
+
+	/*
+	 * Returns true if the buffer overflow was wrapped by the serializer.
+	 */
+	private static boolean isBufferOverflow(Throwable t) {
+		for (; t != null; t = t.getCause())
+			if (t instanceof BufferOverflowException)
+				return true;
+		return false;
+	}
+
+	private boolean isStream() {
+		return output instanceof InputStream || output instanceof Reader;
+	}
+
+	/*
+	 * Returns true if the input is consumed when it's serialized (e.g. an Iterator or Enumeration).
+	 */
+	private boolean isSinglePass() {
+		if (output == null || serializer == null || output instanceof Collection)
+			return false;
+		return serializer.getBeanContext().getClassMetaForObject(output).isIterable();
+	}
+
+	@Override /* BasicHttpEntity */
+	public long getContentLength() {
+		byte[] b = getBytes();
+		if (b != null)
+			return b.length;
+		if (output == null && serializer == null)
+			return 0;
+		if (output instanceof ByteArrayInputStream && ! written)
+			return ((ByteArrayInputStream)output).available();
+		return -1;
+	}
+
+	@Override /* AbstractHttpEntity */
+	public boolean isChunked() {
+		return getContentLength() < 0;
+	}
+
 	@Override /* BasicHttpEntity */
 	public boolean isRepeatable() {
-		return true;
+		return ! streaming && (outputBytes != null || ! (isStream() || isSinglePass()));
+	}
+
+	@Override /* BasicHttpEntity */
+	public boolean isStreaming() {
+		return streaming || (outputBytes == null && (isStream() || isSinglePass()));
 	}
 
 	@Override /* BasicHttpEntity */
 	public InputStream getContent() {
-		if (outputBytes == null) {
+		if (streaming)
+			throw new UnsupportedOperationException("Content of streaming entity cannot be read.");
+		if (getBytes() == null) {
+			if (bufferException != null)
+				throw new RuntimeException(bufferException);
 			ByteArrayOutputStream baos = new ByteArrayOutputStream();
 			try {
-				writeTo(baos);
+				serialize(baos);
 				outputBytes = baos.toByteArray();
 			} catch (IOException e) {
 				throw new RuntimeException(e);
@@ -87,4 +224,46 @@ public final class RestRequestEntity extends BasicHttpEntity {
 		}
 		return new ByteArrayInputStream(outputBytes);
 	}
+
+	private static final ThreadLocal<PooledBuffer> BUFFERS = new ThreadLocal<PooledBuffer>() {
+		@Override /* ThreadLocal */
+		protected PooledBuffer initialValue() {
+			return new PooledBuffer();
+		}
+	};
+
+	/*
+	 * A reusable per-thread buffer that fails as soon as its content exceeds the limit.
+	 * The underlying array is kept between calls, so it's only sized once per thread.
+	 */
+	private static final class PooledBuffer extends ByteArrayOutputStream {
+		private int limit;
+
+		void reset(int limit) {
+			reset();
+			this.limit = limit;
+		}
+
+		@Override /* ByteArrayOutputStream */
+		public void write(int b) {
+			if (count + 1 > limit)
+				throw new BufferOverflowException();
+			super.write(b);
+		}
+
+		@Override /* ByteArrayOutputStream */
+		public void write(byte[] b, int off, int len) {
+			if (count + len > limit)
+				throw new BufferOverflowException();
+			super.write(b, off, len);
+		}
+	}
+
+	private static final class BufferOverflowException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		BufferOverflowException() {
+			super("Buffer limit exceeded.");
+		}
+	}
 }
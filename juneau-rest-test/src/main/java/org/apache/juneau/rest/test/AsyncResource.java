@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.rest.RestContext.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ */
+@RestResource(
+	path="/testAsync",
+	properties={
+		@Property(name=REST_asyncTimeout, value="1000")
+	}
+)
+public class AsyncResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	private final transient ScheduledExecutorService executor = Executors.newScheduledThreadPool(2,
+		new ThreadFactory() {
+			@Override /* ThreadFactory */
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "AsyncResource");
+				t.setDaemon(true);
+				return t;
+			}
+		}
+	);
+
+	@Override /* GenericServlet */
+	public void destroy() {
+		executor.shutdownNow();
+		super.destroy();
+	}
+
+	//====================================================================================================
+	// AsyncResult completed later by another thread.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/asyncResult")
+	public AsyncResult<ObjectMap> testAsyncResult(final RestResponse res) {
+		final AsyncResult<ObjectMap> r = new AsyncResult<ObjectMap>();
+		executor.schedule(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				r.complete(new ObjectMap().append("async", res.isAsync()));
+			}
+		}, 50, TimeUnit.MILLISECONDS);
+		return r;
+	}
+
+	//====================================================================================================
+	// AsyncResult that's already completed when returned.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/completed")
+	public AsyncResult<ObjectMap> testCompleted(RestResponse res) {
+		AsyncResult<ObjectMap> r = new AsyncResult<ObjectMap>();
+		r.complete(new ObjectMap().append("async", res.isAsync()));
+		return r;
+	}
+
+	//====================================================================================================
+	// Plain Future.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/future")
+	public Future<String> testFuture() {
+		return executor.schedule(new Callable<String>() {
+			@Override /* Callable */
+			public String call() {
+				return "foo";
+			}
+		}, 50, TimeUnit.MILLISECONDS);
+	}
+
+	//====================================================================================================
+	// Failed AsyncResult.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/failed")
+	public AsyncResult<String> testFailed() {
+		final AsyncResult<String> r = new AsyncResult<String>();
+		executor.schedule(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				r.fail(new RestException(SC_BAD_REQUEST, "Async failure."));
+			}
+		}, 50, TimeUnit.MILLISECONDS);
+		return r;
+	}
+
+	//====================================================================================================
+	// AsyncResult that never completes.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/timeout")
+	public AsyncResult<String> testTimeout() {
+		return new AsyncResult<String>();
+	}
+
+	//====================================================================================================
+	// Method-level converters are applied to the completed result.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/converted", converters=AsyncResource.UpperCase.class)
+	public AsyncResult<String> testConverted() {
+		final AsyncResult<String> r = new AsyncResult<String>();
+		executor.schedule(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				r.complete("foo");
+			}
+		}, 50, TimeUnit.MILLISECONDS);
+		return r;
+	}
+
+	public static class UpperCase implements RestConverter {
+		@Override /* RestConverter */
+		public Object convert(RestRequest req, Object o, ClassMeta<?> cm) {
+			return o.toString().toUpperCase();
+		}
+	}
+}
@@ -732,6 +732,20 @@ public class InterfaceProxyResource extends RestServletJenaDefault {
 		};
 	}
 
+	//====================================================================================================
+	// Other GET and POST methods on the same resource.
+	// Makes the PROXY method go through the path matching router instead of being the only method.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/echo/*")
+	public String echoGet(@PathRemainder String remainder) {
+		return remainder;
+	}
+
+	@RestMethod(name="POST", path="/echo/*")
+	public String echoPost(@Body String body) {
+		return body;
+	}
+
 	private static void assertObjectEquals(String e, Object o) {
 		Assert.assertEquals(e, JsonSerializer.DEFAULT_LAX.toString(o));
 	}
@@ -59,6 +59,25 @@ public class PropertiesResource extends RestServletDefault {
 		res.setOutput(null);
 	}
 
+	//====================================================================================================
+	// Properties set on a request don't affect the method properties seen by later requests.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/testPropertiesNotShared",
+		properties={
+			@Property(name="B1",value="b1"),
+			@Property(name="B2",value="b2")
+		},
+		serializers=PropertySerializer1.class
+	)
+	public void testPropertiesNotShared(RestRequest req, RestResponse res) {
+		if (req.getQuery().containsKey("set")) {
+			res.setProperty("A2", "c");
+			res.setProperty("B2", "c");
+			res.setProperty("C", "c");
+		}
+		res.setOutput(null);
+	}
+
 	@Produces("application/json,text/json")
 	public static class PropertySerializer1 extends WriterSerializer {
 
@@ -0,0 +1,67 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import java.util.*;
+
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.remoteable.*;
+
+/**
+ * JUnit automated testcase resource.
+ */
+@RestResource(
+	path="/testRemoteableServlet"
+)
+public class RemoteableServletResource extends RemoteableServlet {
+	private static final long serialVersionUID = 1L;
+
+	@SuppressWarnings("javadoc")
+	public static interface Calculator {
+		int add(int a, int b);
+		String echo(String s);
+		List<Integer> range(int start, int end);
+		void fail(String message);
+	}
+
+	@Override /* RemoteableServlet */
+	protected Map<Class<?>,Object> getServiceMap() throws Exception {
+		Map<Class<?>,Object> m = new LinkedHashMap<Class<?>,Object>();
+		m.put(Calculator.class, new Calculator() {
+
+			@Override /* Calculator */
+			public int add(int a, int b) {
+				return a + b;
+			}
+
+			@Override /* Calculator */
+			public String echo(String s) {
+				return s;
+			}
+
+			@Override /* Calculator */
+			public List<Integer> range(int start, int end) {
+				List<Integer> l = new ArrayList<Integer>();
+				for (int i = start; i < end; i++)
+					l.add(i);
+				return l;
+			}
+
+			@Override /* Calculator */
+			public void fail(String message) {
+				throw new IllegalStateException(message);
+			}
+		});
+		return m;
+	}
+}
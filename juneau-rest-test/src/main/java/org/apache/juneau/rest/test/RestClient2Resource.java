@@ -14,6 +14,7 @@ package org.apache.juneau.rest.test;
 
 import java.io.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
 
@@ -33,4 +34,15 @@ public class RestClient2Resource extends RestServletDefault {
 	public Reader test1(RestRequest req) throws Exception {
 		return new StringReader(req.getBody().asString());
 	}
+
+	//====================================================================================================
+	// Echo how the request entity was sent
+	//====================================================================================================
+	@RestMethod(name="POST", path="/entity")
+	public ObjectMap test2(RestRequest req) throws Exception {
+		return new ObjectMap()
+			.append("contentLength", req.getHeader("Content-Length"))
+			.append("transferEncoding", req.getHeader("Transfer-Encoding"))
+			.append("body", req.getBody().asString());
+	}
 }
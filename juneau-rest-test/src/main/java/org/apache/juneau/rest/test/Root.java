@@ -21,6 +21,7 @@ import org.apache.juneau.rest.labels.*;
 	path="/",
 	children={
 		AcceptCharsetResource.class,
+		AsyncResource.class,
 		BeanContextPropertiesResource.class,
 		CallbackStringsResource.class,
 		CharsetEncodingsResource.class,
@@ -60,6 +61,7 @@ import org.apache.juneau.rest.labels.*;
 		PathVariablesResource.class,
 		PropertiesResource.class,
 		QueryResource.class,
+		RemoteableServletResource.class,
 		RestClient2Resource.class,
 		SerializersResource.class,
 		StaticFilesResource.class,
@@ -0,0 +1,84 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+/**
+ * Tests the {@link StackTraceCounter} used by {@link RestContext#getStackTraceOccurrence(Throwable)}.
+ */
+public class StackTraceCounterTest {
+
+	@Test
+	public void testCounts() throws Exception {
+		StackTraceCounter c = new StackTraceCounter(16);
+		assertEquals(1, c.increment(123));
+		assertEquals(2, c.increment(123));
+		assertEquals(1, c.increment(0));
+		assertEquals(1, c.increment(-1));
+		assertEquals(3, c.increment(123));
+		assertEquals(2, c.increment(0));
+		assertEquals(2, c.increment(-1));
+	}
+
+	@Test
+	public void testBounded() throws Exception {
+		StackTraceCounter c = new StackTraceCounter(16);
+
+		// Far more distinct hashes than slots.  Counts restart but never go wrong.
+		for (int i = 0; i < 10000; i++)
+			assertEquals(1, c.increment(i * 7919));
+
+		// Counting still works after evictions.
+		int n = c.increment(42);
+		assertEquals(n + 1, c.increment(42));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testConcurrent() throws Exception {
+		final StackTraceCounter c = new StackTraceCounter(64);
+		final int threads = 8, perThread = 10000, hashes = 10;
+		final Set<Integer>[] seen = new Set[hashes];
+		for (int i = 0; i < hashes; i++)
+			seen[i] = Collections.synchronizedSet(new HashSet<Integer>());
+
+		ExecutorService es = Executors.newFixedThreadPool(threads);
+		List<Future<?>> l = new ArrayList<Future<?>>();
+		for (int t = 0; t < threads; t++) {
+			l.add(es.submit(new Runnable() {
+				@Override /* Runnable */
+				public void run() {
+					for (int i = 0; i < perThread; i++) {
+						int h = i % hashes;
+						seen[h].add(c.increment(h));
+					}
+				}
+			}));
+		}
+		for (Future<?> f : l)
+			f.get();
+		es.shutdown();
+
+		// Every count was handed out exactly once.
+		for (int h = 0; h < hashes; h++) {
+			assertEquals(threads * perThread / hashes, seen[h].size());
+			assertEquals(threads * perThread / hashes + 1, c.increment(h));
+		}
+	}
+}
@@ -0,0 +1,136 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.http.*;
+import org.junit.*;
+
+/**
+ * Tests the file-backed and cached behavior of {@link StaticFile}.
+ */
+public class StaticFileTest {
+
+	private static final MediaType TEXT = MediaType.forString("text/plain");
+
+	@Test
+	public void testLargeFileStreamedFromDisk() throws Exception {
+		File f = File.createTempFile("StaticFileTest", ".txt");
+		try {
+			byte[] b = new byte[StaticFile.MAX_IN_MEMORY + 100];
+			new Random(1).nextBytes(b);
+			write(f, b);
+
+			StaticFile sf = StaticFile.create(TEXT, null, f);
+			assertEquals(b.length, sf.getLength());
+			assertFalse(sf.hasGzip());
+			assertTrue(sf.getWeight() < 1024);
+
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			sf.streamTo(baos);
+			assertArrayEquals(b, baos.toByteArray());
+
+			baos.reset();
+			sf.streamTo(baos, 10000, 20000);
+			assertArrayEquals(Arrays.copyOfRange(b, 10000, 20000), baos.toByteArray());
+		} finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testSmallFile() throws Exception {
+		File f = File.createTempFile("StaticFileTest", ".txt");
+		try {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < 100; i++)
+				sb.append("Hello world!\n");
+			byte[] b = sb.toString().getBytes("UTF-8");
+			write(f, b);
+
+			StaticFile sf = StaticFile.create(TEXT, null, f);
+			assertTrue(sf.hasGzip());
+			assertTrue(sf.getGzipLength() < b.length);
+			assertEquals(sf.getETag() + "-gz", sf.getGzipETag());
+			assertFalse(sf.isStale());
+
+			f.setLastModified(sf.getLastModified() - 10000);
+			assertTrue(sf.isStale());
+
+			StaticFile sf2 = StaticFile.create(MediaType.forString("image/png"), null, f);
+			assertFalse(sf2.hasGzip());
+			assertEquals(sf.getETag(), sf2.getETag());
+		} finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testCacheBounded() throws Exception {
+		StaticFileCache c = new StaticFileCache(10000, 1000);
+		File f = File.createTempFile("StaticFileTest", ".bin");
+		try {
+			write(f, new byte[1000]);
+			StaticFile sf = StaticFile.create(MediaType.forString("application/octet-stream"), null, f);
+			for (int i = 0; i < 20; i++)
+				c.put("f" + i, sf);
+
+			// Only the most recently used entries fit.
+			assertNull(c.get("f0"));
+			assertSame(sf, c.get("f19"));
+
+			// Entries heavier than a quarter of the cache aren't cached.
+			write(f, new byte[3000]);
+			StaticFile sf2 = StaticFile.create(MediaType.forString("application/octet-stream"), null, f);
+			c.put("big", sf2);
+			assertNull(c.get("big"));
+		} finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testCacheStaleCheck() throws Exception {
+		File f = File.createTempFile("StaticFileTest", ".txt");
+		try {
+			write(f, "foo".getBytes("UTF-8"));
+			StaticFile sf = StaticFile.create(TEXT, null, f);
+
+			// Changes are only noticed once the check interval has passed.
+			StaticFileCache c = new StaticFileCache(10000, 60000);
+			c.put("f", sf);
+			f.setLastModified(sf.getLastModified() - 10000);
+			assertSame(sf, c.get("f"));
+
+			c = new StaticFileCache(10000, 0);
+			c.put("f", sf);
+			assertNull(c.get("f"));
+			assertNull(c.get("f"));
+		} finally {
+			f.delete();
+		}
+	}
+
+	private static void write(File f, byte[] b) throws IOException {
+		FileOutputStream fos = new FileOutputStream(f);
+		try {
+			fos.write(b);
+		} finally {
+			fos.close();
+		}
+	}
+}
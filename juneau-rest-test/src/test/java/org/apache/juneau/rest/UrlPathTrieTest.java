@@ -0,0 +1,70 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * Verifies that {@link UrlPathTrie} produces the same matches as matching each {@link UrlPathPattern} in turn.
+ */
+public class UrlPathTrieTest {
+
+	private static final String[] PATTERNS = {
+		"/", "", "/*", "/foo", "/foo/", "/foo/*", "/foo/bar", "/foo/bar/*", "/foo/{id}", "/foo/{id}/*", "/foo/{id}/bar",
+		"/foo/{id}/bar/*", "/foo/{a}/{b}", "/foo/{x}", "/{a}/bar", "/{a}/{b}/*", "/foo{id}", "/foo/{a}-{b}", "/f.o",
+		"/foo/bar/baz", "foo/baz", "/x//y", "/x//{y}"
+	};
+
+	private static final String[] PATHS = {
+		null, "/", "//", "/foo", "/foo/", "/foo//", "/foo/bar", "/foo/bar/", "/foo/bar/baz", "/foo/bar/baz/qux",
+		"/foo/123", "/foo/123/", "/foo/123/bar", "/foo/123/bar/x/y", "/foo/1-2", "/foo%20bar/x%2Fy", "/fox", "/f.o",
+		"/foo/baz", "/x/bar", "/x//y", "/x//z", "/a/b/c/d", "foo/baz", "/foo123"
+	};
+
+	@Test
+	public void testMatchesLinearScan() throws Exception {
+		List<UrlPathPattern> l = new ArrayList<UrlPathPattern>();
+		for (String p : PATTERNS)
+			l.add(new UrlPathPattern(p));
+		Collections.sort(l);
+
+		UrlPathTrie<UrlPathPattern> t = new UrlPathTrie<UrlPathPattern>();
+		for (UrlPathPattern p : l)
+			t.add(p, p);
+
+		for (String path : PATHS) {
+			List<String> expected = new ArrayList<String>(), actual = new ArrayList<String>();
+			for (UrlPathPattern p : l) {
+				String[] v = p.match(path);
+				if (v != null)
+					expected.add(p + "=" + Arrays.toString(v));
+			}
+			for (UrlPathTrie.Match<UrlPathPattern> m : t.match(path))
+				actual.add(m.getValue() + "=" + Arrays.toString(m.getPatternVals()));
+			assertEquals("path=" + path, expected, actual);
+		}
+	}
+
+	@Test
+	public void testManyVars() throws Exception {
+		UrlPathPattern p = new UrlPathPattern("/{a}/{b}/{c}/{d}/{e}/{f}/{g}/{h}/{i}/{j}/*");
+		UrlPathTrie<String> t = new UrlPathTrie<String>().add(p, "x");
+		List<UrlPathTrie.Match<String>> l = t.match("/1/2/3/4/5/6/7/8/9/10/11/12");
+		assertEquals(1, l.size());
+		assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11/12]", Arrays.toString(l.get(0).getPatternVals()));
+	}
+}
@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.rest.test.TestUtils.*;
+import static org.junit.Assert.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class AsyncTest extends RestTestcase {
+
+	private static String URL = "/testAsync";
+	private static boolean debug = false;
+	private RestClient client = TestMicroservice.DEFAULT_CLIENT;
+
+	//====================================================================================================
+	// AsyncResult completed later by another thread.
+	//====================================================================================================
+	@Test
+	public void testAsyncResult() throws Exception {
+		assertObjectEquals("{async:true}", client.doGet(URL + "/asyncResult").getResponse(ObjectMap.class));
+	}
+
+	//====================================================================================================
+	// Already-completed results are handled on the container thread.
+	//====================================================================================================
+	@Test
+	public void testCompleted() throws Exception {
+		assertObjectEquals("{async:false}", client.doGet(URL + "/completed").getResponse(ObjectMap.class));
+	}
+
+	//====================================================================================================
+	// Plain Future.
+	//====================================================================================================
+	@Test
+	public void testFuture() throws Exception {
+		assertEquals("foo", client.doGet(URL + "/future").getResponse(String.class));
+	}
+
+	//====================================================================================================
+	// Failed AsyncResult.
+	//====================================================================================================
+	@Test
+	public void testFailed() throws Exception {
+		try {
+			client.doGet(URL + "/failed?noTrace=true").getResponseAsString();
+			fail("Exception expected");
+		} catch (RestCallException e) {
+			checkErrorResponse(debug, e, SC_BAD_REQUEST, "Async failure.");
+		}
+	}
+
+	//====================================================================================================
+	// AsyncResult that never completes.
+	//====================================================================================================
+	@Test
+	public void testTimeout() throws Exception {
+		try {
+			client.doGet(URL + "/timeout?noTrace=true").getResponseAsString();
+			fail("Exception expected");
+		} catch (RestCallException e) {
+			checkErrorResponse(debug, e, SC_SERVICE_UNAVAILABLE, "Asynchronous call timed out.");
+		}
+	}
+
+	//====================================================================================================
+	// Method-level converters are applied to the completed result.
+	//====================================================================================================
+	@Test
+	public void testConverted() throws Exception {
+		assertEquals("FOO", client.doGet(URL + "/converted").getResponse(String.class));
+	}
+}
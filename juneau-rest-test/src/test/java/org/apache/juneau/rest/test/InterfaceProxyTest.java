@@ -23,6 +23,7 @@ import org.apache.juneau.jena.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.msgpack.*;
 import org.apache.juneau.parser.*;
+import org.apache.juneau.rest.client.*;
 import org.apache.juneau.rest.test.pojos.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.uon.*;
@@ -52,8 +53,10 @@ public class InterfaceProxyTest extends RestTestcase {
 	}
 
 	private InterfaceProxy proxy;
+	private RestClient client;
 
 	public InterfaceProxyTest(String label, Serializer serializer, Parser parser) {
+		client = getClient(label, serializer, parser);
 		proxy = getCached(label, InterfaceProxy.class);
 		if (proxy == null) {
 			proxy = getClient(label, serializer, parser).getRemoteableProxy(InterfaceProxy.class, "/testInterfaceProxyResource/proxy");
@@ -61,6 +64,18 @@ public class InterfaceProxyTest extends RestTestcase {
 		}
 	}
 
+	//--------------------------------------------------------------------------------
+	// The resource has other GET and POST methods besides the PROXY method.
+	//--------------------------------------------------------------------------------
+
+	@Test
+	public void a00_otherMethods() throws Exception {
+		assertEquals("foo", client.doGet("/testInterfaceProxyResource/echo/foo").getResponse(String.class));
+		assertEquals("bar", client.doPost("/testInterfaceProxyResource/echo/foo", "bar").getResponse(String.class));
+		// GET on the PROXY path returns the remoteable methods, not the proxy object itself.
+		assertTrue(client.doGet("/testInterfaceProxyResource/proxy").getResponseAsString().contains("returnVoid"));
+	}
+
 	//--------------------------------------------------------------------------------
 	// Test return types.
 	//--------------------------------------------------------------------------------
@@ -31,6 +31,18 @@ public class PropertiesTest extends RestTestcase {
 		assertTrue(r.matches("A1=a1,A2=c,B1=b1,B2=c,C=c,R1a=.*/testProperties/testPropertiesDefinedOnMethod,R1b=.*/testProperties,R2=bar,R3=baz,R4=a1,R5=c,R6=c"));
 	}
 
+	//====================================================================================================
+	// Properties set on a request don't affect the method properties seen by later requests.
+	//====================================================================================================
+	@Test
+	public void testPropertiesNotShared() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT;
+		String r = client.doGet(URL + "/testPropertiesNotShared?set=true").getResponseAsString();
+		assertTrue(r, r.startsWith("A1=a1,A2=c,B1=b1,B2=c,C=c,"));
+		r = client.doGet(URL + "/testPropertiesNotShared").getResponseAsString();
+		assertTrue(r, r.startsWith("A1=a1,A2=a2,B1=b1,B2=b2,C=null,"));
+	}
+
 	//====================================================================================================
 	// Make sure attributes/parameters/headers are available through ctx.getProperties().
 	//====================================================================================================
@@ -0,0 +1,238 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.rest.test.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.client.config.*;
+import org.apache.juneau.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.test.RemoteableServletResource.*;
+import org.junit.*;
+
+public class RemoteableServletTest extends RestTestcase {
+
+	private static String URL = "/testRemoteableServlet/" + Calculator.class.getName();
+	private RestClient client = TestMicroservice.DEFAULT_CLIENT;
+
+	public static interface CalculatorAsync {
+		Future<Integer> add(int a, int b);
+		Future<String> echo(String s);
+		Future<List<Integer>> range(int start, int end);
+		Future<Void> fail(String message);
+	}
+
+	//====================================================================================================
+	// Methods are listed by signature.
+	//====================================================================================================
+	@Test
+	public void testListMethods() throws Exception {
+		ObjectList l = client.doGet(URL).getResponse(ObjectList.class);
+		assertEquals(4, l.size());
+		assertTrue(l.contains("add(int,int)"));
+		assertTrue(l.contains("echo(java.lang.String)"));
+	}
+
+	//====================================================================================================
+	// Single calls through a remoteable proxy.
+	//====================================================================================================
+	@Test
+	public void testProxy() throws Exception {
+		Calculator c = client.getRemoteableProxy(Calculator.class, URL);
+		assertEquals(3, c.add(1, 2));
+		assertEquals(7, c.add(3, 4));
+		assertEquals("foo", c.echo("foo"));
+		assertObjectEquals("[1,2,3]", c.range(1, 4));
+	}
+
+	//====================================================================================================
+	// Methods that return futures are called asynchronously.
+	//====================================================================================================
+	@Test
+	public void testAsyncProxy() throws Exception {
+		CalculatorAsync c = client.getRemoteableProxy(CalculatorAsync.class, URL);
+		assertEquals(3, c.add(1, 2).get().intValue());
+		assertEquals("foo", c.echo("foo").get());
+		assertObjectEquals("[1,2,3]", c.range(1, 4).get());
+		try {
+			c.fail("bar").get();
+			fail("Exception expected");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+			assertEquals("bar", e.getCause().getMessage());
+		}
+	}
+
+	//====================================================================================================
+	// Concurrent proxy calls are combined into batched requests.
+	//====================================================================================================
+	@Test
+	public void testBatchingProxy() throws Exception {
+		final AtomicInteger requests = new AtomicInteger();
+		RestClient client2 = TestMicroservice.client()
+			.remoteableBatching(500, 3)
+			.interceptor(new RestCallInterceptor() {
+				@Override /* RestCallInterceptor */
+				public void onInit(RestCall restCall) {
+					requests.incrementAndGet();
+				}
+			})
+			.build();
+		try {
+			CalculatorAsync c = client2.getRemoteableProxy(CalculatorAsync.class, URL);
+			Future<Integer> f1 = c.add(1, 2);
+			Future<String> f2 = c.echo("foo");
+			Future<List<Integer>> f3 = c.range(1, 4);
+			assertEquals(3, f1.get().intValue());
+			assertEquals("foo", f2.get());
+			assertObjectEquals("[1,2,3]", f3.get());
+			assertEquals(1, requests.get());
+
+			// Blocking methods are batched too, and errors are thrown the same way as unbatched calls.
+			Calculator c2 = client2.getRemoteableProxy(Calculator.class, URL);
+			assertEquals(7, c2.add(3, 4));
+			try {
+				c2.fail("bar");
+				fail("Exception expected");
+			} catch (IllegalStateException e) {
+				assertEquals("bar", e.getMessage());
+			}
+			assertEquals(3, requests.get());
+		} finally {
+			client2.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Batches never contain more than the maximum number of calls.
+	//====================================================================================================
+	@Test
+	public void testBatchingProxyMaxSize() throws Exception {
+		final AtomicInteger requests = new AtomicInteger();
+		RestClient client2 = TestMicroservice.client()
+			.remoteableBatching(500, 2)
+			.setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout(10000).setSocketTimeout(10000).build())
+			.interceptor(new RestCallInterceptor() {
+				@Override /* RestCallInterceptor */
+				public void onInit(RestCall restCall) {
+					requests.incrementAndGet();
+				}
+			})
+			.build();
+		try {
+			CalculatorAsync c = client2.getRemoteableProxy(CalculatorAsync.class, URL);
+			List<Future<Integer>> l = new ArrayList<Future<Integer>>();
+			for (int i = 0; i < 5; i++)
+				l.add(c.add(i, 1));
+			for (int i = 0; i < 5; i++)
+				assertEquals(i + 1, l.get(i).get().intValue());
+			assertTrue(requests.get() >= 3);
+
+			// Blocking methods wait for their batch within the client's timeouts.
+			Calculator c2 = client2.getRemoteableProxy(Calculator.class, URL);
+			assertEquals(7, c2.add(3, 4));
+		} finally {
+			client2.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// A maximum size of 0 means batches are only sent at the end of the window.
+	//====================================================================================================
+	@Test
+	public void testBatchingProxyNoMaxSize() throws Exception {
+		final AtomicInteger requests = new AtomicInteger();
+		RestClient client2 = TestMicroservice.client()
+			.remoteableBatching(300, 0)
+			.interceptor(new RestCallInterceptor() {
+				@Override /* RestCallInterceptor */
+				public void onInit(RestCall restCall) {
+					requests.incrementAndGet();
+				}
+			})
+			.build();
+		try {
+			CalculatorAsync c = client2.getRemoteableProxy(CalculatorAsync.class, URL);
+			List<Future<Integer>> l = new ArrayList<Future<Integer>>();
+			for (int i = 0; i < 5; i++)
+				l.add(c.add(i, 1));
+			for (int i = 0; i < 5; i++)
+				assertEquals(i + 1, l.get(i).get().intValue());
+			assertEquals(1, requests.get());
+		} finally {
+			client2.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Sending a full batch doesn't cut the window of the next batch short.
+	//====================================================================================================
+	@Test
+	public void testBatchingProxyWindowAfterFullBatch() throws Exception {
+		RestClient client2 = TestMicroservice.client().remoteableBatching(500, 2).build();
+		try {
+			CalculatorAsync c = client2.getRemoteableProxy(CalculatorAsync.class, URL);
+			Future<Integer> f1 = c.add(1, 1), f2 = c.add(1, 2);
+			assertEquals(2, f1.get().intValue());
+			assertEquals(3, f2.get().intValue());
+			Thread.sleep(200);
+			long t = System.currentTimeMillis();
+			assertEquals(4, c.add(1, 3).get().intValue());
+			assertTrue(System.currentTimeMillis() - t >= 450);
+		} finally {
+			client2.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Several calls in a single request.
+	//====================================================================================================
+	@Test
+	public void testBatch() throws Exception {
+		ObjectList calls = new ObjectList(
+			"[{method:'add(int,int)',args:[1,2]},"
+			+ "{method:'echo',args:['foo']},"
+			+ "{method:'range(int,int)',args:[1,4]},"
+			+ "{method:'fail(java.lang.String)',args:['bar']},"
+			+ "{method:'add(int,int)',args:[5,6]}]"
+		);
+		ObjectList r = client.doPost(URL, calls).getResponse(ObjectList.class);
+		assertObjectEquals("[{result:3},{result:'foo'},{result:[1,2,3]},{status:500,exceptionName:'java.lang.IllegalStateException',exceptionMessage:'bar'},{result:11}]", r);
+	}
+
+	//====================================================================================================
+	// Invalid calls in a batch don't affect the other calls.
+	//====================================================================================================
+	@Test
+	public void testBatchErrors() throws Exception {
+		ObjectList calls = new ObjectList(
+			"[{method:'foo()'},"
+			+ "{method:'add(int,int)',args:[1]},"
+			+ "{method:'add(int,int)',args:['x','y']},"
+			+ "{method:'fail(java.lang.String)',args:[null]},"
+			+ "{method:'add(int,int)',args:[1,1]}]"
+		);
+		ObjectList r = client.doPost(URL, calls).getResponse(ObjectList.class);
+		assertEquals(5, r.size());
+		assertObjectEquals("{status:404,exceptionMessage:'Method not found'}", r.get(0));
+		assertObjectEquals("{status:400,exceptionMessage:'Expected 2 arguments but found 1'}", r.get(1));
+		assertEquals(400, r.getObjectMap(2).getInt("status").intValue());
+		assertObjectEquals("{status:500,exceptionName:'java.lang.IllegalStateException'}", r.get(3));
+		assertObjectEquals("{result:2}", r.get(4));
+	}
+}
@@ -15,10 +15,14 @@ package org.apache.juneau.rest.test;
 import static org.apache.juneau.rest.test.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.util.*;
 import java.util.regex.*;
 
 import org.apache.http.entity.*;
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
 import org.apache.juneau.rest.client.*;
 import org.junit.*;
 
@@ -187,4 +191,93 @@ public class RestClientTest extends RestTestcase {
 			assertEquals(0, e.getResponseCode());
 		}
 	}
+
+	//====================================================================================================
+	// Request entities are chunked by default, buffered if small enough, or streamed.
+	//====================================================================================================
+	@Test
+	public void testRequestEntityModes() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		List<Integer> big = new ArrayList<Integer>();
+		for (int i = 0; i < 1000; i++)
+			big.add(i);
+		ObjectMap r;
+
+		r = c.doPost(URL + "/entity", new ObjectMap("{a:1}")).getResponse(ObjectMap.class);
+		assertEquals("chunked", r.getString("transferEncoding"));
+		assertNull(r.get("contentLength"));
+
+		r = c.doPost(URL + "/entity", new ObjectMap("{a:1}")).streamInput().getResponse(ObjectMap.class);
+		assertEquals("chunked", r.getString("transferEncoding"));
+		assertObjectEquals("{a:1}", new ObjectMap(r.getString("body")));
+
+		RestClient c2 = TestMicroservice.client().requestBufferSize(100).build();
+		try {
+			r = c2.doPost(URL + "/entity", new ObjectMap("{a:1}")).getResponse(ObjectMap.class);
+			assertNull(r.get("transferEncoding"));
+			assertEquals(r.getString("body").length(), r.getInt("contentLength").intValue());
+			assertObjectEquals("{a:1}", new ObjectMap(r.getString("body")));
+
+			// Too big for the buffer.
+			r = c2.doPost(URL + "/entity", big).getResponse(ObjectMap.class);
+			assertEquals("chunked", r.getString("transferEncoding"));
+			assertEquals(1000, new ObjectList(r.getString("body")).size());
+
+			// Iterators can only be serialized once, so they're never buffered.
+			r = c2.doPost(URL + "/entity", big.iterator()).getResponse(ObjectMap.class);
+			assertEquals("chunked", r.getString("transferEncoding"));
+			assertEquals(1000, new ObjectList(r.getString("body")).size());
+		} finally {
+			c2.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// RestRequestEntity repeatability and content length.
+	//====================================================================================================
+	@Test
+	public void testRequestEntity() throws Exception {
+		RestRequestEntity e;
+
+		e = new RestRequestEntity(new ObjectMap("{a:1}"), JsonSerializer.DEFAULT_LAX);
+		assertTrue(e.isRepeatable());
+		assertTrue(e.isChunked());
+		assertEquals("{a:1}", IOUtils.read(e.getContent()));
+
+		e = new RestRequestEntity(new ObjectMap("{a:1}"), JsonSerializer.DEFAULT_LAX, 100);
+		assertTrue(e.isRepeatable());
+		assertEquals(5, e.getContentLength());
+		assertEquals("{a:1}", IOUtils.read(e.getContent()));
+		assertEquals("{a:1}", IOUtils.read(e.getContent()));
+
+		e = new RestRequestEntity(new ObjectMap("{a:1}"), JsonSerializer.DEFAULT_LAX, 4);
+		assertEquals(-1, e.getContentLength());
+		assertEquals("{a:1}", IOUtils.read(e.getContent()));
+
+		e = new RestRequestEntity(new ObjectMap("{a:1}"), JsonSerializer.DEFAULT_LAX).streaming();
+		assertFalse(e.isRepeatable());
+		assertTrue(e.isStreaming());
+		try {
+			e.getContent();
+			fail();
+		} catch (UnsupportedOperationException x) {}
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		e.writeTo(baos);
+		assertEquals("{a:1}", baos.toString());
+		try {
+			e.writeTo(new ByteArrayOutputStream());
+			fail();
+		} catch (IllegalStateException x) {}
+
+		e = new RestRequestEntity(Arrays.asList(1,2,3).iterator(), JsonSerializer.DEFAULT_LAX, 100);
+		assertFalse(e.isRepeatable());
+		assertEquals(-1, e.getContentLength());
+		baos = new ByteArrayOutputStream();
+		e.writeTo(baos);
+		assertEquals("[1,2,3]", baos.toString());
+
+		e = new RestRequestEntity(new ByteArrayInputStream("foo".getBytes()), null);
+		assertFalse(e.isRepeatable());
+		assertEquals(3, e.getContentLength());
+	}
 }
@@ -14,6 +14,8 @@ package org.apache.juneau.rest.test;
 
 import static org.junit.Assert.*;
 
+import org.apache.http.*;
+import org.apache.http.util.*;
 import org.apache.juneau.rest.client.*;
 import org.junit.*;
 
@@ -50,4 +52,94 @@ public class StaticFilesTest extends RestTestcase {
 			assertEquals(404, e.getResponseCode());
 		}
 	}
+
+	//====================================================================================================
+	// Conditional requests using ETag and Last-Modified.
+	//====================================================================================================
+	@Test
+	public void testConditional() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/xdocs/test.txt";
+
+		HttpResponse r = client.doGet(url).header("Accept-Encoding", "identity").getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		String etag = r.getFirstHeader("ETag").getValue(), lastModified = r.getFirstHeader("Last-Modified").getValue();
+		assertEquals("bytes", r.getFirstHeader("Accept-Ranges").getValue());
+		assertTrue(EntityUtils.toString(r.getEntity()).endsWith("OK-1"));
+
+		r = client.doGet(url).header("Accept-Encoding", "identity").header("If-None-Match", etag).getResponse();
+		assertEquals(304, r.getStatusLine().getStatusCode());
+		assertEquals(etag, r.getFirstHeader("ETag").getValue());
+
+		r = client.doGet(url).header("Accept-Encoding", "identity").header("If-None-Match", "\"foo\"").getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		EntityUtils.consume(r.getEntity());
+
+		r = client.doGet(url).header("Accept-Encoding", "identity").header("If-Modified-Since", lastModified).getResponse();
+		assertEquals(304, r.getStatusLine().getStatusCode());
+
+		r = client.doGet(url).header("Accept-Encoding", "identity").header("If-Modified-Since", "Sat, 29 Oct 1994 19:43:31 GMT").getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		EntityUtils.consume(r.getEntity());
+	}
+
+	//====================================================================================================
+	// Precompressed gzip variant.
+	//====================================================================================================
+	@Test
+	public void testGzip() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/xdocs/test.txt";
+
+		HttpResponse r = client.doGet(url).header("Accept-Encoding", "gzip").getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		String etag = r.getFirstHeader("ETag").getValue();
+		assertTrue(etag.endsWith("-gz\""));
+		assertEquals("Accept-Encoding", r.getFirstHeader("Vary").getValue());
+		assertTrue(EntityUtils.toString(r.getEntity()).endsWith("OK-1"));
+
+		// The gzipped variant's ETag also validates.
+		r = client.doGet(url).header("Accept-Encoding", "gzip").header("If-None-Match", etag).getResponse();
+		assertEquals(304, r.getStatusLine().getStatusCode());
+
+		r = client.doGet(url).header("Accept-Encoding", "gzip;q=0").getResponse();
+		assertFalse(r.getFirstHeader("ETag").getValue().endsWith("-gz\""));
+		assertTrue(EntityUtils.toString(r.getEntity()).endsWith("OK-1"));
+	}
+
+	//====================================================================================================
+	// Range requests.
+	//====================================================================================================
+	@Test
+	public void testRange() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/xdocs/test.txt";
+
+		HttpResponse r = client.doGet(url).header("Accept-Encoding", "identity").getResponse();
+		String etag = r.getFirstHeader("ETag").getValue();
+		int length = EntityUtils.toByteArray(r.getEntity()).length;
+
+		r = client.doGet(url).header("Range", "bytes=-4").getResponse();
+		assertEquals(206, r.getStatusLine().getStatusCode());
+		assertEquals("bytes " + (length-4) + "-" + (length-1) + "/" + length, r.getFirstHeader("Content-Range").getValue());
+		assertEquals("OK-1", EntityUtils.toString(r.getEntity()));
+
+		r = client.doGet(url).header("Range", "bytes=1-3").header("If-Range", etag).getResponse();
+		assertEquals(206, r.getStatusLine().getStatusCode());
+		assertEquals("***", EntityUtils.toString(r.getEntity()));
+
+		r = client.doGet(url).header("Range", "bytes=" + (length-4) + "-").getResponse();
+		assertEquals(206, r.getStatusLine().getStatusCode());
+		assertEquals("OK-1", EntityUtils.toString(r.getEntity()));
+
+		// Changed entity, so the full contents are sent.
+		r = client.doGet(url).header("Range", "bytes=1-3").header("If-Range", "\"foo\"").getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		assertEquals(length, EntityUtils.toByteArray(r.getEntity()).length);
+
+		r = client.doGet(url + "?noTrace=true").header("Range", "bytes=" + length + "-").ignoreErrors().getResponse();
+		assertEquals(416, r.getStatusLine().getStatusCode());
+		assertEquals("bytes */" + length, r.getFirstHeader("Content-Range").getValue());
+		EntityUtils.consume(r.getEntity());
+	}
 }
@@ -1539,6 +1539,28 @@ public class ThirdPartyProxyTest extends RestTestcase {
 		assertEquals("OK", r);
 	}
 
+	@Test
+	public void gc01_reqBeanQueryIfNE1b() throws Exception {
+		// Properties whose getters throw exceptions are skipped.
+		String r = proxy.reqBeanQueryIfNE1(
+			new ReqBeanQueryIfNE1() {
+				@Override
+				public String getA() {
+					return "foo";
+				}
+				@Override
+				public String getB() {
+					throw new RuntimeException("b");
+				}
+				@Override
+				public String getC() {
+					throw new RuntimeException("c");
+				}
+			}
+		);
+		assertEquals("OK", r);
+	}
+
 	@Test
 	public void gc01_reqBeanQueryIfNE1a() throws Exception {
 		String r = proxy.reqBeanQueryIfNE1(
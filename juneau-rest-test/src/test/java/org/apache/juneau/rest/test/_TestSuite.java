@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.test;
 
+import org.apache.juneau.rest.*;
 import org.junit.*;
 import org.junit.runner.*;
 import org.junit.runners.*;
@@ -25,6 +26,7 @@ import org.junit.runners.Suite.*;
 @RunWith(Suite.class)
 @SuiteClasses({
 	AcceptCharsetTest.class,
+	AsyncTest.class,
 	BeanContextPropertiesTest.class,
 	CallbackStringsTest.class,
 	CharsetEncodingsTest.class,
@@ -58,6 +60,7 @@ import org.junit.runners.Suite.*;
 	PathVariableTest.class,
 	PropertiesTest.class,
 	QueryTest.class,
+	RemoteableServletTest.class,
 	RestClientTest.class,
 	RestUtilsTest.class,
 	SerializersTest.class,
@@ -66,7 +69,10 @@ import org.junit.runners.Suite.*;
 	TransformsTest.class,
 	UrisTest.class,
 	UrlContentTest.class,
-	UrlPathPatternTest.class
+	UrlPathPatternTest.class,
+	UrlPathTrieTest.class,
+	StackTraceCounterTest.class,
+	StaticFileTest.class
 })
 public class _TestSuite {
 
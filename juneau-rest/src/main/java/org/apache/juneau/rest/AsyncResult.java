@@ -0,0 +1,173 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * A {@link Future} that can be returned by {@link RestMethod @RestMethod} Java methods and completed later from
+ * 	another thread.
+ * <p>
+ * When a REST Java method returns a {@link Future} that isn't done yet and the servlet container supports
+ * 	asynchronous processing, the request is put into asynchronous mode (see {@link RestResponse#isAsync()})
+ * 	and the container thread is released.
+ * The response is serialized once the future completes.
+ * <p>
+ * Arbitrary {@link Future} implementations are polled for completion every few milliseconds from a shared background
+ * 	thread.
+ * This class instead notifies the call handler directly when it's completed, so the response is sent without that
+ * 	delay.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<ja>@RestMethod</ja>(name=<js>"GET"</js>, path=<js>"/slow"</js>)
+ * 	<jk>public</jk> AsyncResult&lt;Person&gt; getSlowPerson() {
+ * 		<jk>final</jk> AsyncResult&lt;Person&gt; r = <jk>new</jk> AsyncResult&lt;Person&gt;();
+ * 		<jv>downstreamService</jv>.findPerson(<jk>new</jk> Callback&lt;Person&gt;() {
+ * 			<jk>public void</jk> onSuccess(Person p) { r.complete(p); }
+ * 			<jk>public void</jk> onFailure(Throwable t) { r.fail(t); }
+ * 		});
+ * 		<jk>return</jk> r;
+ * 	}
+ * </p>
+ * <p>
+ * Exceptions passed to {@link #fail(Throwable)} are handled the same way as exceptions thrown from REST Java methods.
+ *
+ * @param <T> The result type.
+ */
+public class AsyncResult<T> implements Future<T> {
+
+	private final CountDownLatch latch = new CountDownLatch(1);
+	private List<Runnable> listeners = new ArrayList<Runnable>(1);
+	private T value;
+	private Throwable error;
+	private boolean cancelled;
+
+	/**
+	 * Completes this result with the specified value.
+	 *
+	 * @param value The result value.  Can be <jk>null</jk>.
+	 * @return <jk>true</jk> if this call completed the result, <jk>false</jk> if it was already completed.
+	 */
+	public boolean complete(T value) {
+		List<Runnable> l;
+		synchronized (this) {
+			if (listeners == null)
+				return false;
+			this.value = value;
+			l = finish();
+		}
+		run(l);
+		return true;
+	}
+
+	/**
+	 * Completes this result with the specified exception.
+	 *
+	 * @param t The exception.  Must not be <jk>null</jk>.
+	 * @return <jk>true</jk> if this call completed the result, <jk>false</jk> if it was already completed.
+	 */
+	public boolean fail(Throwable t) {
+		if (t == null)
+			throw new NullPointerException("Throwable cannot be null.");
+		List<Runnable> l;
+		synchronized (this) {
+			if (listeners == null)
+				return false;
+			this.error = t;
+			l = finish();
+		}
+		run(l);
+		return true;
+	}
+
+	/**
+	 * Registers a callback to run when this result completes.
+	 * <p>
+	 * The callback is run on the thread that completes the result, or immediately on the calling thread if the
+	 * 	result has already completed.
+	 *
+	 * @param listener The callback.
+	 * @return This object (for method chaining).
+	 */
+	public AsyncResult<T> addListener(Runnable listener) {
+		synchronized (this) {
+			if (listeners != null) {
+				listeners.add(listener);
+				return this;
+			}
+		}
+		listener.run();
+		return this;
+	}
+
+	@Override /* Future */
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		List<Runnable> l;
+		synchronized (this) {
+			if (listeners == null)
+				return false;
+			this.cancelled = true;
+			l = finish();
+		}
+		run(l);
+		return true;
+	}
+
+	@Override /* Future */
+	public synchronized boolean isCancelled() {
+		return cancelled;
+	}
+
+	@Override /* Future */
+	public synchronized boolean isDone() {
+		return listeners == null;
+	}
+
+	@Override /* Future */
+	public T get() throws InterruptedException, ExecutionException {
+		latch.await();
+		return result();
+	}
+
+	@Override /* Future */
+	public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		if (! latch.await(timeout, unit))
+			throw new TimeoutException();
+		return result();
+	}
+
+	private synchronized T result() throws ExecutionException {
+		if (cancelled)
+			throw new CancellationException();
+		if (error != null)
+			throw new ExecutionException(error);
+		return value;
+	}
+
+	// Must be called while synchronized.
+	private List<Runnable> finish() {
+		List<Runnable> l = listeners;
+		listeners = null;
+		latch.countDown();
+		return l;
+	}
+
+	private static void run(List<Runnable> l) {
+		for (Runnable r : l)
+			r.run();
+	}
+}
@@ -21,13 +21,13 @@ import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.servlet.http.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.dto.swagger.*;
 import org.apache.juneau.encoders.*;
-import org.apache.juneau.html.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
@@ -42,6 +42,8 @@ import org.apache.juneau.urlencoding.*;
 @SuppressWarnings("hiding")
 class CallMethod implements Comparable<CallMethod>  {
 	private final java.lang.reflect.Method method;
+	private final MethodInvoker invoker;  // Null if the method must be called through reflection.
+	private final boolean isVoid;
 	private final String httpMethod;
 	private final UrlPathPattern pathPattern;
 	private final RestParam[] params;
@@ -69,6 +71,8 @@ class CallMethod implements Comparable<CallMethod>  {
 		Builder b = new Builder(servlet, method, context);
 		this.context = context;
 		this.method = method;
+		this.invoker = PropertyAccessorGenerator.canInvoke(method) ? PropertyAccessorGenerator.generateInvoker(method) : null;
+		this.isVoid = method.getReturnType() == Void.TYPE;
 		this.httpMethod = b.httpMethod;
 		this.pathPattern = b.pathPattern;
 		this.params = b.params;
@@ -351,6 +355,13 @@ class CallMethod implements Comparable<CallMethod>  {
 		return pathPattern.toString();
 	}
 
+	/**
+	 * Returns the parsed path pattern of this method.
+	 */
+	UrlPathPattern getUrlPathPattern() {
+		return pathPattern;
+	}
+
 	/**
 	 * Returns the localized Swagger for this Java method.
 	 */
@@ -692,6 +703,21 @@ class CallMethod implements Comparable<CallMethod>  {
 		if (patternVals == null)
 			return SC_NOT_FOUND;
 
+		return invoke(pathInfo, patternVals, req, res);
+	}
+
+	/**
+	 * Same as {@link #invoke(String, RestRequest, RestResponse)} but with the path already matched.
+	 * <p>
+	 * This is the method that both the single-method and the path-trie routes end up calling, so subclasses that
+	 * 	need to customize invocation (e.g. <js>"PROXY"</js> methods) should override this method.
+	 *
+	 * @param pathInfo The value of {@link HttpServletRequest#getPathInfo()} (sorta)
+	 * @param patternVals The values returned by {@link UrlPathPattern#match(String)} for this method's path.
+	 * @return The HTTP response code.
+	 */
+	int invoke(String pathInfo, String[] patternVals, RestRequest req, RestResponse res) throws RestException {
+
 		String remainder = null;
 		if (patternVals.length > pathPattern.getVars().length)
 			remainder = patternVals[pathPattern.getVars().length];
@@ -742,8 +768,8 @@ class CallMethod implements Comparable<CallMethod>  {
 				if (! guard.guard(req, res))
 					return SC_OK;
 
-			Object output = method.invoke(context.getResource(), args);
-			if (! method.getReturnType().equals(Void.TYPE))
+			Object output = invokeMethod(args);
+			if (! isVoid)
 				if (output != null || ! res.getOutputStreamCalled())
 					res.setOutput(output);
 
@@ -751,6 +777,11 @@ class CallMethod implements Comparable<CallMethod>  {
 
 			if (res.hasOutput()) {
 				output = res.getOutput();
+				if (output instanceof Future) {
+					// Converters are applied to the result once the future completes.
+					res.deferredConverters = converters;
+					return SC_OK;
+				}
 				for (RestConverter converter : converters)
 					output = converter.convert(req, output, context.getBeanContext().getClassMetaForObject(output));
 				res.setOutput(output);
@@ -777,66 +808,29 @@ class CallMethod implements Comparable<CallMethod>  {
 		return SC_OK;
 	}
 
+	/*
+	 * Calls the Java method through the generated invoker if there is one, or reflection otherwise.
+	 * Either way, bad arguments are reported as IllegalArgumentExceptions and exceptions thrown by the method as
+	 * InvocationTargetExceptions.
+	 */
+	private Object invokeMethod(Object[] args) throws IllegalAccessException, InvocationTargetException {
+		if (invoker != null) {
+			try {
+				return invoker.invoke(context.getResource(), args);
+			} catch (ClassCastException e) {
+				throw new IllegalArgumentException(e);
+			} catch (NullPointerException e) {
+				throw new IllegalArgumentException(e);
+			}
+		}
+		return method.invoke(context.getResource(), args);
+	}
+
 	/**
 	 * This method creates all the request-time properties.
 	 */
-	ObjectMap createRequestProperties(final ObjectMap methodProperties, final RestRequest req) {
-		@SuppressWarnings("serial")
-		ObjectMap m = new ObjectMap() {
-			@Override /* Map */
-			public Object get(Object key) {
-				Object o = super.get(key);
-				if (o == null) {
-					String k = key.toString();
-					if (k.indexOf('.') != -1) {
-						String prefix = k.substring(0, k.indexOf('.'));
-						String remainder = k.substring(k.indexOf('.')+1);
-						if ("path".equals(prefix))
-							return req.getPathMatch().get(remainder);
-						if ("query".equals(prefix))
-							return req.getQuery().get(remainder);
-						if ("formData".equals(prefix))
-							return req.getFormData().get(remainder);
-						if ("header".equals(prefix))
-							return req.getHeader(remainder);
-					}
-					if (k.equals(REST_servletPath))
-						return req.getServletPath();
-					if (k.equals(REST_servletURI))
-						return req.getServletURI();
-					if (k.equals(REST_relativeServletURI))
-						return req.getRelativeServletURI();
-					if (k.equals(REST_pathInfo))
-						return req.getPathInfo();
-					if (k.equals(REST_requestURI))
-						return req.getRequestURI();
-					if (k.equals(REST_method))
-						return req.getMethod();
-					if (k.equals(REST_servletTitle))
-						return req.getServletTitle();
-					if (k.equals(REST_servletDescription))
-						return req.getServletDescription();
-					if (k.equals(REST_methodSummary))
-						return req.getMethodSummary();
-					if (k.equals(REST_methodDescription))
-						return req.getMethodDescription();
-					if (k.equals(HtmlDocSerializerContext.HTMLDOC_title))
-						return req.getPageTitle();
-					if (k.equals(HtmlDocSerializerContext.HTMLDOC_text))
-						return req.getPageText();
-					if (k.equals(HtmlDocSerializerContext.HTMLDOC_links))
-						return req.getPageLinks();
-					o = req.getPathMatch().get(k);
-					if (o == null)
-						o = req.getHeader(k);
-				}
-				if (o instanceof String)
-					o = req.getVarResolverSession().resolve(o.toString());
-				return o;
-			}
-		};
-		m.setInner(methodProperties);
-		return m;
+	ObjectMap createRequestProperties(ObjectMap methodProperties, RestRequest req) {
+		return new RequestProperties(methodProperties, req);
 	}
 
 	@Override /* Object */
@@ -27,9 +27,13 @@ import javax.servlet.http.*;
  */
 class CallRouter {
 	private final CallMethod[] callMethods;
+	private final UrlPathTrie<CallMethod> trie;
 
 	private CallRouter(CallMethod[] callMethods) {
 		this.callMethods = callMethods;
+		this.trie = new UrlPathTrie<CallMethod>();
+		for (CallMethod m : callMethods)
+			trie.add(m.getUrlPathPattern(), m);
 	}
 
 	/**
@@ -69,6 +73,9 @@ class CallRouter {
 	 * Workhorse method.
 	 * <p>
 	 * Routes this request to one of the CallMethods.
+	 * <p>
+	 * The path is matched against all the method paths at once, and only the methods whose paths match are tried,
+	 * in the same precedence order as they're sorted in.
 	 *
 	 * @param pathInfo The value of {@link HttpServletRequest#getPathInfo()} (sorta)
 	 * @return The HTTP response code.
@@ -77,9 +84,12 @@ class CallRouter {
 		if (callMethods.length == 1)
 			return callMethods[0].invoke(pathInfo, req, res);
 
-		int maxRc = 0;
-		for (CallMethod m : callMethods) {
-			int rc = m.invoke(pathInfo, req, res);
+		List<UrlPathTrie.Match<CallMethod>> matches = trie.match(pathInfo);
+
+		// Methods whose paths don't match would have returned SC_NOT_FOUND.
+		int maxRc = matches.size() < callMethods.length ? SC_NOT_FOUND : 0;
+		for (UrlPathTrie.Match<CallMethod> m : matches) {
+			int rc = m.getValue().invoke(pathInfo, m.getPatternVals(), req, res);
 			if (rc == SC_OK)
 				return SC_OK;
 			maxRc = Math.max(maxRc, rc);
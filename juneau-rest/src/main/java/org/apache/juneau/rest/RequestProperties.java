@@ -0,0 +1,116 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.html.HtmlDocSerializerContext.*;
+import static org.apache.juneau.rest.RestContext.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * The properties of a single request as returned by {@link RestRequest#getProperties()} and
+ * {@link RestResponse#getProperties()}.
+ * <p>
+ * This is a layered view over the properties of the Java method being called.
+ * Reads fall through to the method properties, and writes are stored only in this map, so the method properties
+ * are never copied and are never modified by a request.
+ * <p>
+ * Keys not found in either map are resolved against the request (e.g. <js>"path.foo"</js>, <js>"header.Accept"</js>,
+ * {@link RestContext#REST_servletPath}), and string values have variables resolved through
+ * {@link RestRequest#getVarResolverSession()}.
+ */
+@SuppressWarnings("serial")
+final class RequestProperties extends ObjectMap {
+
+	private static final int
+		SERVLET_PATH = 1, SERVLET_URI = 2, RELATIVE_SERVLET_URI = 3, PATH_INFO = 4, REQUEST_URI = 5, METHOD = 6,
+		SERVLET_TITLE = 7, SERVLET_DESCRIPTION = 8, METHOD_SUMMARY = 9, METHOD_DESCRIPTION = 10, PAGE_TITLE = 11,
+		PAGE_TEXT = 12, PAGE_LINKS = 13;
+
+	private static final Map<String,Integer> KEYS = new HashMap<String,Integer>();
+	static {
+		KEYS.put(REST_servletPath, SERVLET_PATH);
+		KEYS.put(REST_servletURI, SERVLET_URI);
+		KEYS.put(REST_relativeServletURI, RELATIVE_SERVLET_URI);
+		KEYS.put(REST_pathInfo, PATH_INFO);
+		KEYS.put(REST_requestURI, REQUEST_URI);
+		KEYS.put(REST_method, METHOD);
+		KEYS.put(REST_servletTitle, SERVLET_TITLE);
+		KEYS.put(REST_servletDescription, SERVLET_DESCRIPTION);
+		KEYS.put(REST_methodSummary, METHOD_SUMMARY);
+		KEYS.put(REST_methodDescription, METHOD_DESCRIPTION);
+		KEYS.put(HTMLDOC_title, PAGE_TITLE);
+		KEYS.put(HTMLDOC_text, PAGE_TEXT);
+		KEYS.put(HTMLDOC_links, PAGE_LINKS);
+	}
+
+	private final RestRequest req;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param methodProperties The properties defined on the Java method.  Never modified by this class.
+	 * @param req The request these properties belong to.
+	 */
+	RequestProperties(ObjectMap methodProperties, RestRequest req) {
+		this.req = req;
+		setInner(methodProperties);
+	}
+
+	@Override /* Map */
+	public Object get(Object key) {
+		Object o = super.get(key);
+		if (o == null) {
+			String k = key.toString();
+			int i = k.indexOf('.');
+			if (i != -1) {
+				String prefix = k.substring(0, i);
+				String remainder = k.substring(i+1);
+				if ("path".equals(prefix))
+					return req.getPathMatch().get(remainder);
+				if ("query".equals(prefix))
+					return req.getQuery().get(remainder);
+				if ("formData".equals(prefix))
+					return req.getFormData().get(remainder);
+				if ("header".equals(prefix))
+					return req.getHeader(remainder);
+			}
+			Integer id = KEYS.get(k);
+			if (id != null) {
+				switch (id) {
+					case SERVLET_PATH: return req.getServletPath();
+					case SERVLET_URI: return req.getServletURI();
+					case RELATIVE_SERVLET_URI: return req.getRelativeServletURI();
+					case PATH_INFO: return req.getPathInfo();
+					case REQUEST_URI: return req.getRequestURI();
+					case METHOD: return req.getMethod();
+					case SERVLET_TITLE: return req.getServletTitle();
+					case SERVLET_DESCRIPTION: return req.getServletDescription();
+					case METHOD_SUMMARY: return req.getMethodSummary();
+					case METHOD_DESCRIPTION: return req.getMethodDescription();
+					case PAGE_TITLE: return req.getPageTitle();
+					case PAGE_TEXT: return req.getPageText();
+					default: return req.getPageLinks();
+				}
+			}
+			o = req.getPathMatch().get(k);
+			if (o == null)
+				o = req.getHeader(k);
+		}
+		if (o instanceof String)
+			o = req.getVarResolverSession().resolve(o.toString());
+		return o;
+	}
+}
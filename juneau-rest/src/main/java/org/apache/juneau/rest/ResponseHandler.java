@@ -42,6 +42,7 @@ import org.apache.juneau.rest.response.*;
  * 	<li>{@link RedirectHandler} - Handles {@link Redirect} objects.
  * 	<li>{@link WritableHandler} - Handles {@link Writable} objects.
  * 	<li>{@link StreamableHandler} - Handles {@link Streamable} objects.
+ * 	<li>{@link StaticFileHandler} - Handles {@link StaticFile} objects.
  * </ul>
  * <p>
  * Response handlers can be used to process POJOs that cannot normally be handled through Juneau serializers, or
@@ -18,11 +18,15 @@ import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import javax.servlet.*;
 import javax.servlet.http.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.vars.*;
 
@@ -160,24 +164,16 @@ public class RestCallHandler {
 					handleNotFound(rc, req, res);
 			}
 
-			if (res.hasOutput()) {
-				Object output = res.getOutput();
-
-				// Do any class-level transforming.
-				for (RestConverter converter : context.getConverters())
-					output = converter.convert(req, output, context.getBeanContext().getClassMetaForObject(output));
-
-				res.setOutput(output);
-
-				// Now serialize the output if there was any.
-				// Some subclasses may write to the OutputStream or Writer directly.
-				handleResponse(req, res, output);
+			if (res.getOutput() instanceof Future) {
+				Future<?> f = (Future<?>)res.getOutput();
+				if (! f.isDone() && r1.isAsyncSupported()) {
+					startAsync(r1, r2, req, res, f, startTime);
+					return;
+				}
+				res.setOutput(getFutureResult(f, req, res));
 			}
 
-			onSuccess(req, res, System.currentTimeMillis() - startTime);
-
-			// Make sure our writer in RestResponse gets written.
-			res.flushBuffer();
+			finishCall(req, res, startTime);
 
 		} catch (RestException e) {
 			handleError(r1, r2, e);
@@ -187,6 +183,164 @@ public class RestCallHandler {
 		logger.log(FINE, "HTTP: [{0} {1}] finished in {2}ms", r1.getMethod(), r1.getRequestURI(), System.currentTimeMillis()-startTime);
 	}
 
+	/*
+	 * Serializes the output and finishes off a call, either on the container thread or after an async result completes.
+	 */
+	private void finishCall(RestRequest req, RestResponse res, long startTime) throws Exception {
+		if (res.hasOutput()) {
+			Object output = res.getOutput();
+
+			// Do any class-level transforming.
+			for (RestConverter converter : context.getConverters())
+				output = converter.convert(req, output, context.getBeanContext().getClassMetaForObject(output));
+
+			res.setOutput(output);
+
+			// Now serialize the output if there was any.
+			// Some subclasses may write to the OutputStream or Writer directly.
+			handleResponse(req, res, output);
+		}
+
+		onSuccess(req, res, System.currentTimeMillis() - startTime);
+
+		// Make sure our writer in RestResponse gets written.
+		res.flushBuffer();
+	}
+
+	/*
+	 * Waits for the result of a Future returned by the Java method and applies any method-level converters to it.
+	 * Exceptions thrown by the computation are unwrapped so that they're handled the same way as exceptions thrown
+	 * by the Java method itself.
+	 */
+	private Object getFutureResult(Future<?> f, RestRequest req, RestResponse res) throws Exception {
+		Object output;
+		try {
+			output = f.get();
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof RestException)
+				throw (RestException)t;
+			if (t instanceof ParseException || t instanceof InvalidDataConversionException)
+				throw new RestException(SC_BAD_REQUEST, t);
+			throw new RestException(SC_INTERNAL_SERVER_ERROR, t);
+		} catch (CancellationException e) {
+			throw new RestException(SC_SERVICE_UNAVAILABLE, "Asynchronous call was cancelled.");
+		}
+		if (res.deferredConverters != null)
+			for (RestConverter converter : res.deferredConverters)
+				output = converter.convert(req, output, context.getBeanContext().getClassMetaForObject(output));
+		return output;
+	}
+
+	/*
+	 * Puts the request into asynchronous mode and releases the container thread.
+	 * The response is completed when the future completes, or fails with a 503 if the async context times out first.
+	 * AsyncResults notify us directly when they complete.  Other futures are polled from a shared background thread so
+	 * that no thread is blocked while they're running, and the response is then finished on a container thread.
+	 */
+	private void startAsync(final HttpServletRequest r1, final HttpServletResponse r2, final RestRequest req, final RestResponse res, final Future<?> f, final long startTime) {
+		final AsyncContext ac = r1.startAsync(r1, r2);
+		final AtomicBoolean finished = new AtomicBoolean();
+		res.setAsync();
+		if (context.getAsyncTimeout() > 0)
+			ac.setTimeout(context.getAsyncTimeout());
+
+		ac.addListener(new AsyncListener() {
+			@Override /* AsyncListener */
+			public void onTimeout(AsyncEvent event) throws IOException {
+				if (finished.compareAndSet(false, true)) {
+					f.cancel(true);
+					handleError(r1, r2, new RestException(SC_SERVICE_UNAVAILABLE, "Asynchronous call timed out."));
+					ac.complete();
+				}
+			}
+			@Override /* AsyncListener */
+			public void onError(AsyncEvent event) throws IOException {
+				if (finished.compareAndSet(false, true)) {
+					f.cancel(true);
+					Throwable t = event.getThrowable();
+					handleErrorQuietly(r1, r2, t == null ? new RestException(SC_INTERNAL_SERVER_ERROR, "Asynchronous call failed.") : new RestException(SC_INTERNAL_SERVER_ERROR, t));
+					ac.complete();
+				}
+			}
+			@Override /* AsyncListener */
+			public void onComplete(AsyncEvent event) throws IOException {}
+			@Override /* AsyncListener */
+			public void onStartAsync(AsyncEvent event) throws IOException {}
+		});
+
+		Runnable resume = new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				if (! finished.compareAndSet(false, true))
+					return;
+				try {
+					res.setOutput(getFutureResult(f, req, res));
+					finishCall(req, res, startTime);
+				} catch (RestException e) {
+					handleErrorQuietly(r1, r2, e);
+				} catch (Throwable e) {
+					handleErrorQuietly(r1, r2, new RestException(SC_INTERNAL_SERVER_ERROR, e));
+				} finally {
+					ac.complete();
+					logger.log(FINE, "HTTP: [{0} {1}] finished asynchronously in {2}ms", req.getMethod(), req.getRequestURI(), System.currentTimeMillis()-startTime);
+				}
+			}
+		};
+
+		if (f instanceof AsyncResult)
+			((AsyncResult<?>)f).addListener(resume);
+		else
+			pollFuture(f, ac, resume, finished);
+	}
+
+	/*
+	 * Checks a plain Future for completion every few milliseconds, and then finishes the call on a container thread.
+	 */
+	private static void pollFuture(final Future<?> f, final AsyncContext ac, final Runnable resume, final AtomicBoolean finished) {
+		FuturePoller.INSTANCE.schedule(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				if (finished.get())
+					return;
+				if (! f.isDone()) {
+					FuturePoller.INSTANCE.schedule(this, FuturePoller.INTERVAL, TimeUnit.MILLISECONDS);
+					return;
+				}
+				try {
+					ac.start(resume);
+				} catch (IllegalStateException e) {
+					// The async context timed out or failed in the meantime.
+				}
+			}
+		}, FuturePoller.INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	/*
+	 * The daemon thread shared by all resources for polling futures, created the first time it's needed.
+	 */
+	private static final class FuturePoller {
+		static final long INTERVAL = 5;
+		static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+			new ThreadFactory() {
+				@Override /* ThreadFactory */
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "RestCallHandler-futures");
+					t.setDaemon(true);
+					return t;
+				}
+			}
+		);
+	}
+
+	private void handleErrorQuietly(HttpServletRequest req, HttpServletResponse res, RestException e) {
+		try {
+			handleError(req, res, e);
+		} catch (IOException e2) {
+			logger.log(WARNING, e2, "Could not render error response.");
+		}
+	}
+
 	/**
 	 * The main method for serializing POJOs passed in through the {@link RestResponse#setOutput(Object)} method or returned by
 	 * the Java method.
@@ -242,13 +396,15 @@ public class RestCallHandler {
 	 * The default implementation logs the error and calls {@link #renderError(HttpServletRequest,HttpServletResponse,RestException)}.
 	 * <p>
 	 * Subclasses can override this method to provide their own custom error response handling.
+	 * <p>
+	 * This method is called concurrently for failing requests, so overrides must be thread-safe.
 	 *
 	 * @param req The servlet request.
 	 * @param res The servlet response.
 	 * @param e The exception that occurred.
 	 * @throws IOException Can be thrown if a problem occurred trying to write to the output stream.
 	 */
-	protected synchronized void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
+	protected void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
 		e.setOccurrence(context == null ? 0 : context.getStackTraceOccurrence(e));
 		logger.onError(req, res, e);
 		renderError(req, res, e);
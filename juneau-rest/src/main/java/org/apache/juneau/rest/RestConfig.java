@@ -204,6 +204,7 @@ public class RestConfig implements ServletConfig {
 			}
 
 			addResponseHandlers(
+				StaticFileHandler.class,
 				StreamableHandler.class,
 				WritableHandler.class,
 				ReaderHandler.class,
@@ -474,6 +475,7 @@ public class RestConfig implements ServletConfig {
 	 * <p>
 	 * By default, this config includes the following converters:
 	 * <ul class='spaced-list'>
+	 * 	<li>{@link StaticFileHandler}
 	 * 	<li>{@link StreamableHandler}
 	 * 	<li>{@link WritableHandler}
 	 * 	<li>{@link ReaderHandler}
@@ -650,6 +652,7 @@ public class RestConfig implements ServletConfig {
 	 * <p>
 	 * By default, this config includes the following response handlers:
 	 * <ul class='spaced-list'>
+	 * 	<li>{@link StaticFileHandler}
 	 * 	<li>{@link StreamableHandler}
 	 * 	<li>{@link WritableHandler}
 	 * 	<li>{@link ReaderHandler}
@@ -21,7 +21,6 @@ import java.lang.reflect.*;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.*;
 
 import javax.activation.*;
 import javax.servlet.*;
@@ -191,6 +190,25 @@ public final class RestContext extends Context {
 	 */
 	public static final String REST_paramFormat = "RestServlet.paramFormat";
 
+	/**
+	 * <b>Configuration property:</b>  Asynchronous request timeout.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"RestServlet.asyncTimeout"</js>
+	 * 	<li><b>Data type:</b> <code>Long</code>
+	 * 	<li><b>Default:</b> <code>0</code>
+	 * </ul>
+	 * <p>
+	 * The number of milliseconds to wait for a {@link java.util.concurrent.Future} returned by a REST Java method to
+	 * 	complete before the request fails with a <l>503</l>.
+	 * <p>
+	 * A value of <code>0</code> means use the servlet container's default timeout.
+	 * Only applicable when the response is completed asynchronously (see {@link RestResponse#isAsync()}).
+	 * <p>
+	 * Applicable to servlet class only.
+	 */
+	public static final String REST_asyncTimeout = "RestServlet.asyncTimeout";
+
 
 	//--------------------------------------------------------------------------------
 	// Automatically added properties.
@@ -290,6 +308,7 @@ public final class RestContext extends Context {
 		allowBodyParam,
 		renderResponseStackTraces,
 		useStackTraceHashes;
+	private final long asyncTimeout;
 	private final String
 		defaultCharset,
 		paramFormat,
@@ -334,10 +353,10 @@ public final class RestContext extends Context {
 	private final RestContext parentContext;
 
 	// In-memory cache of images and stylesheets in the org.apache.juneau.rest.htdocs package.
-	private final Map<String,StreamResource> staticFilesCache = new ConcurrentHashMap<String,StreamResource>();
+	private final StaticFileCache staticFilesCache = new StaticFileCache(32*1024*1024, 1000);
 	private final Map<String,byte[]> resourceStreams = new ConcurrentHashMap<String,byte[]>();
 	private final Map<String,String> resourceStrings = new ConcurrentHashMap<String,String>();
-	private final ConcurrentHashMap<Integer,AtomicInteger> stackTraceHashes = new ConcurrentHashMap<Integer,AtomicInteger>();
+	private final StackTraceCounter stackTraceHashes = new StackTraceCounter(1024);
 
 
 	/**
@@ -361,6 +380,7 @@ public final class RestContext extends Context {
 			this.allowBodyParam = b.allowBodyParam;
 			this.renderResponseStackTraces = b.renderResponseStackTraces;
 			this.useStackTraceHashes = b.useStackTraceHashes;
+			this.asyncTimeout = b.asyncTimeout;
 			this.allowMethodParams = Collections.unmodifiableSet(b.allowMethodParams);
 			this.defaultCharset = b.defaultCharset;
 			this.paramFormat = b.paramFormat;
@@ -428,9 +448,9 @@ public final class RestContext extends Context {
 							sm = new CallMethod(resource, method, this) {
 
 								@Override
-								int invoke(String pathInfo, RestRequest req, RestResponse res) throws RestException {
+								int invoke(String pathInfo, String[] patternVals, RestRequest req, RestResponse res) throws RestException {
 
-									int rc = super.invoke(pathInfo, req, res);
+									int rc = super.invoke(pathInfo, patternVals, req, res);
 									if (rc != SC_OK)
 										return rc;
 
@@ -556,6 +576,7 @@ public final class RestContext extends Context {
 	private static class Builder {
 
 		boolean allowHeaderParams, allowBodyParam, renderResponseStackTraces, useStackTraceHashes;
+		long asyncTimeout;
 		VarResolver varResolver;
 		ConfigFile configFile;
 		ObjectMap properties;
@@ -595,6 +616,7 @@ public final class RestContext extends Context {
 			allowBodyParam = ps.getProperty(REST_allowBodyParam, boolean.class, true);
 			renderResponseStackTraces = ps.getProperty(REST_renderResponseStackTraces, boolean.class, false);
 			useStackTraceHashes = ps.getProperty(REST_useStackTraceHashes, boolean.class, true);
+			asyncTimeout = ps.getProperty(REST_asyncTimeout, long.class, 0L);
 			defaultCharset = ps.getProperty(REST_defaultCharset, String.class, "utf-8");
 			paramFormat = ps.getProperty(REST_paramFormat, String.class, "");
 
@@ -784,40 +806,55 @@ public final class RestContext extends Context {
 	 * 	<li>{@link RestResource#staticFiles() @RestResource.staticFiles()} annotation.
 	 * 	<li>{@link RestConfig#addStaticFiles(Class, String)} method.
 	 * </ul>
+	 * <p>
+	 * Resolved files are kept in a cache bounded to 32MB of heap.
+	 * Files larger than 1MB on the file system are streamed from disk instead of being held in memory, and files on the
+	 * 	file system are reloaded when they change (checked at most once a second).
 	 *
 	 * @param pathInfo The unencoded path info.
 	 * @return The resource, or <jk>null</jk> if the resource could not be resolved.
 	 * @throws IOException
 	 */
-	public StreamResource resolveStaticFile(String pathInfo) throws IOException {
-		if (! staticFilesCache.containsKey(pathInfo)) {
-			String p = urlDecode(trimSlashes(pathInfo));
-			if (p.indexOf("..") != -1)
-				throw new RestException(SC_NOT_FOUND, "Invalid path");
-			for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
-				String key = trimSlashes(e.getKey());
-				if (p.startsWith(key)) {
-					String remainder = (p.equals(key) ? "" : p.substring(key.length()));
-					if (remainder.isEmpty() || remainder.startsWith("/")) {
-						String p2 = trimSlashes(e.getValue()) + remainder;
-						InputStream is = getResource(p2, null);
-						if (is != null) {
-							try {
-								int i = p2.lastIndexOf('/');
-								String name = (i == -1 ? p2 : p2.substring(i+1));
-								String mediaType = mimetypesFileTypeMap.getContentType(name);
-								ObjectMap headers = new ObjectMap().append("Cache-Control", "max-age=86400, public");
-								staticFilesCache.put(pathInfo, new StreamResource(MediaType.forString(mediaType), headers, is));
-								return staticFilesCache.get(pathInfo);
-							} finally {
-								is.close();
-							}
-						}
+	public StaticFile resolveStaticFile(String pathInfo) throws IOException {
+		StaticFile sf = staticFilesCache.get(pathInfo);
+		if (sf != null)
+			return sf;
+		String p = urlDecode(trimSlashes(pathInfo));
+		if (p.indexOf("..") != -1)
+			throw new RestException(SC_NOT_FOUND, "Invalid path");
+		for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
+			String key = trimSlashes(e.getKey());
+			if (p.startsWith(key)) {
+				String remainder = (p.equals(key) ? "" : p.substring(key.length()));
+				if (remainder.isEmpty() || remainder.startsWith("/")) {
+					sf = findStaticFile(trimSlashes(e.getValue()) + remainder);
+					if (sf != null) {
+						staticFilesCache.put(pathInfo, sf);
+						return sf;
 					}
 				}
 			}
 		}
-		return staticFilesCache.get(pathInfo);
+		return null;
+	}
+
+	/*
+	 * Looks for a static file on the classpath of the resource class (and its parents), then on the file system.
+	 * Same lookup order as getResource(String,Locale), but without caching the contents in resourceStreams.
+	 */
+	private StaticFile findStaticFile(String name) throws IOException {
+		int i = name.lastIndexOf('/');
+		MediaType mediaType = MediaType.forString(mimetypesFileTypeMap.getContentType(i == -1 ? name : name.substring(i+1)));
+		ObjectMap headers = new ObjectMap().append("Cache-Control", "max-age=86400, public");
+		for (Class<?> c = resource.getClass(); c != null; c = c.getSuperclass()) {
+			java.net.URL url = c.getResource(name);
+			if (url != null)
+				return StaticFile.create(mediaType, headers, url);
+		}
+		File f = new File(name);
+		if (f.exists() && f.canRead())
+			return StaticFile.create(mediaType, headers, f);
+		return null;
 	}
 
 	/**
@@ -1154,6 +1191,11 @@ public final class RestContext extends Context {
 
 	/**
 	 * Returns the number of times this exception was thrown based on a hash of its stacktrace.
+	 * <p>
+	 * Counts are kept for up to 1024 distinct stack traces.
+	 * Beyond that, the count for a stack trace may restart at <code>1</code>.
+	 * <p>
+	 * This method is thread-safe and does not block.
 	 *
 	 * @param e The exception to check.
 	 * @return The number of times this exception was thrown, or <code>0</code> if <code>stackTraceHashes</code>
@@ -1162,9 +1204,7 @@ public final class RestContext extends Context {
 	protected int getStackTraceOccurrence(Throwable e) {
 		if (! useStackTraceHashes)
 			return 0;
-		int h = e.hashCode();
-		stackTraceHashes.putIfAbsent(h, new AtomicInteger());
-		return stackTraceHashes.get(h).incrementAndGet();
+		return stackTraceHashes.increment(e.hashCode());
 	}
 
 	/**
@@ -1175,6 +1215,14 @@ public final class RestContext extends Context {
 		return renderResponseStackTraces;
 	}
 
+	/**
+	 * Returns the value of the {@link #REST_asyncTimeout} setting.
+	 * @return The value of the {@link #REST_asyncTimeout} setting.
+	 */
+	protected long getAsyncTimeout() {
+		return asyncTimeout;
+	}
+
 	/**
 	 * Returns the value of the {@link #REST_allowHeaderParams} setting.
 	 * @return The value of the {@link #REST_allowHeaderParams} setting.
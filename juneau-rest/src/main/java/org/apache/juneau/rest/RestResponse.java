@@ -62,6 +62,8 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private EncoderGroup encoders;
 	private ServletOutputStream os;
 	private PrintWriter w;
+	private boolean async;                               // The response is being completed asynchronously.
+	RestConverter[] deferredConverters;                  // Method-level converters to apply once a Future output completes.
 
 	/**
 	 * Constructor.
@@ -156,6 +158,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	 * 	<li> {@link InputStream}
 	 * 	<li> {@link Reader}
 	 * 	<li> Any serializable type defined in <a class="doclink" href="../../../../overview-summary.html#Core.PojoCategories">POJO Categories</a>
+	 * 	<li> A {@link java.util.concurrent.Future} of any of the above (see {@link #isAsync()}).
 	 * </ul>
 	 * <p>
 	 * If it's an {@link InputStream} or {@link Reader}, you must also specify the <code>Content-Type</code> using the {@link #setContentType(String)} method.
@@ -236,6 +239,26 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		return output != null || isNullOutput;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this response is being completed asynchronously.
+	 * <p>
+	 * A response goes into asynchronous mode when the REST Java method returns (or sets the output to) a
+	 * 	{@link java.util.concurrent.Future} that isn't done yet and the servlet container supports asynchronous
+	 * 	processing.
+	 * In that case the container thread is released and the output is serialized once the future completes.
+	 * <p>
+	 * See {@link AsyncResult} for more information.
+	 *
+	 * @return <jk>true</jk> if this response is being completed asynchronously.
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	void setAsync() {
+		this.async = true;
+	}
+
 	/**
 	 * Sets the output to a plain-text message regardless of the content type.
 	 *
@@ -0,0 +1,99 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Bounded, lock-free counter of stack trace hashes.
+ * <p>
+ * Used by {@link RestContext#getStackTraceOccurrence(Throwable)} to count how many times an exception has occurred.
+ * <p>
+ * Each slot packs a hash (high 32 bits) and a count (low 32 bits) into a single <code>long</code> that's updated
+ * 	with compare-and-set, so concurrent errors never block each other.
+ * A hash is looked up by probing a few slots starting at its home slot.
+ * If none of them match and none are free, the hash replaces the entry in its home slot and starts counting again from
+ * 	<code>1</code>.
+ * This keeps memory use fixed no matter how many distinct stack traces are seen, at the cost of occasionally
+ * 	restarting the count for a stack trace that's been evicted.
+ * <p>
+ * Counts are therefore approximate once evictions start.
+ * An evicted hash starts over at <code>1</code>, and if several threads race to evict the same home slot, only one
+ * 	of them records its hash and the others just report a count of <code>1</code>.
+ */
+final class StackTraceCounter {
+
+	private static final int MAX_PROBES = 8, MAX_EVICTION_ATTEMPTS = 2;
+
+	private final AtomicLongArray slots;
+	private final int mask;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param capacity The maximum number of distinct stack traces to track.  Rounded up to a power of two.
+	 */
+	StackTraceCounter(int capacity) {
+		int c = Integer.highestOneBit(Math.max(capacity, MAX_PROBES) - 1) << 1;
+		this.slots = new AtomicLongArray(c);
+		this.mask = c - 1;
+	}
+
+	/**
+	 * Increments the count for the specified hash and returns the new count.
+	 *
+	 * @param hash The stack trace hash.
+	 * @return The number of times this hash has been counted, including this time.
+	 */
+	int increment(int hash) {
+		int home = spread(hash) & mask;
+		for (int attempt = 0; attempt < MAX_EVICTION_ATTEMPTS; attempt++) {
+			long homeValue = 0;
+			for (int p = 0; p < MAX_PROBES; p++) {
+				int i = (home + p) & mask;
+				while (true) {
+					long v = slots.get(i);
+					if (v == 0) {
+						if (slots.compareAndSet(i, 0, pack(hash, 1)))
+							return 1;
+					} else if ((int)(v >>> 32) == hash) {
+						int count = (int)v;
+						if (count == Integer.MAX_VALUE)
+							return count;
+						if (slots.compareAndSet(i, v, pack(hash, count + 1)))
+							return count + 1;
+					} else {
+						if (p == 0)
+							homeValue = v;
+						break;
+					}
+				}
+			}
+
+			// Evict the entry we saw in the home slot, unless another thread changed it in the meantime.
+			if (slots.compareAndSet(home, homeValue, pack(hash, 1)))
+				return 1;
+		}
+		return 1;
+	}
+
+	private static long pack(int hash, int count) {
+		return ((long)hash << 32) | (count & 0xFFFFFFFFL);
+	}
+
+	private static int spread(int h) {
+		h ^= (h >>> 16);
+		h *= 0x85ebca6b;
+		return h ^ (h >>> 13);
+	}
+}
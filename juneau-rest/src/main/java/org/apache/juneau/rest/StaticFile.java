@@ -0,0 +1,255 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.io.*;
+import java.net.*;
+import java.security.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.rest.response.*;
+
+/**
+ * A static file resolved through {@link RestContext#resolveStaticFile(String)}.
+ * <p>
+ * Unlike a plain {@link StreamResource}, this class keeps the validators needed for conditional and partial requests:
+ * <ul class='spaced-list'>
+ * 	<li>A strong <l>ETag</l> and a <l>Last-Modified</l> date.
+ * 	<li>A gzipped variant of compressible content, computed once when the file is loaded.
+ * 	<li>For large files on the file system, a reference to the file instead of its contents, so that it's streamed
+ * 		from disk instead of being held on the heap.
+ * </ul>
+ * <p>
+ * Static files are served by the {@link StaticFileHandler} which answers <l>If-None-Match</l>/<l>If-Modified-Since</l>
+ * 	requests with <l>304</l>, and <l>Range</l> requests with <l>206</l>.
+ * If that handler isn't registered, the file is streamed in full by the {@link StreamableHandler} like any other
+ * 	{@link StreamResource}.
+ * <p>
+ * This object is immutable and thread-safe.
+ */
+public class StaticFile extends StreamResource {
+
+	/** Files larger than this are streamed from disk instead of being loaded into memory. */
+	static final int MAX_IN_MEMORY = 1024*1024;
+
+	private final byte[] contents, gzipped;
+	private final File file;
+	private final long length, lastModified;
+	private final String etag, gzipETag;
+
+	private StaticFile(MediaType mediaType, Map<String,Object> headers, byte[] contents, File file, long length, long lastModified, String etag) throws IOException {
+		super(mediaType, headers);
+		this.contents = contents;
+		this.file = file;
+		this.length = length;
+		this.lastModified = lastModified / 1000 * 1000;  // HTTP dates only have second precision.
+		this.etag = etag;
+		byte[] gz = null;
+		if (contents != null && isCompressible(mediaType)) {
+			gz = gzip(contents);
+			if (gz.length >= contents.length)
+				gz = null;
+		}
+		this.gzipped = gz;
+		this.gzipETag = gz == null ? null : etag + "-gz";
+	}
+
+	/**
+	 * Creates a static file from the specified resource URL.
+	 * <p>
+	 * Resources on the file system are read through {@link #create(MediaType, Map, File)}.
+	 *
+	 * @param mediaType The media type of the file.
+	 * @param headers Additional HTTP response headers.
+	 * @param url The resource URL.
+	 * @return A new static file, or <jk>null</jk> if the URL points to a directory.
+	 * @throws IOException
+	 */
+	static StaticFile create(MediaType mediaType, Map<String,Object> headers, URL url) throws IOException {
+		if ("file".equals(url.getProtocol())) {
+			try {
+				return create(mediaType, headers, new File(url.toURI()));
+			} catch (URISyntaxException e) {
+				// Fall through.
+			}
+		}
+		URLConnection c = url.openConnection();
+		long lastModified = c.getLastModified();
+		InputStream is = c.getInputStream();
+		try {
+			byte[] b = IOUtils.readBytes(is, 1024);
+			return new StaticFile(mediaType, headers, b, null, b.length, lastModified == 0 ? System.currentTimeMillis() : lastModified, hash(b));
+		} finally {
+			is.close();
+		}
+	}
+
+	/**
+	 * Creates a static file from the specified file on the file system.
+	 *
+	 * @param mediaType The media type of the file.
+	 * @param headers Additional HTTP response headers.
+	 * @param f The file.
+	 * @return A new static file, or <jk>null</jk> if the file is a directory.
+	 * @throws IOException
+	 */
+	static StaticFile create(MediaType mediaType, Map<String,Object> headers, File f) throws IOException {
+		if (f.isDirectory())
+			return null;
+		long lastModified = f.lastModified(), length = f.length();
+		if (length > MAX_IN_MEMORY)
+			return new StaticFile(mediaType, headers, null, f, length, lastModified, Long.toHexString(length) + '-' + Long.toHexString(lastModified));
+		byte[] b = IOUtils.readBytes(f);
+		return new StaticFile(mediaType, headers, b, f, b.length, lastModified, hash(b));
+	}
+
+	/**
+	 * Returns the strong entity tag of the identity (uncompressed) contents.
+	 *
+	 * @return The entity tag value without quotes.
+	 */
+	public String getETag() {
+		return etag;
+	}
+
+	/**
+	 * Returns the strong entity tag of the gzipped contents.
+	 *
+	 * @return The entity tag value without quotes, or <jk>null</jk> if there is no gzipped variant.
+	 */
+	public String getGzipETag() {
+		return gzipETag;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this file has a precomputed gzipped variant.
+	 *
+	 * @return <jk>true</jk> if this file has a precomputed gzipped variant.
+	 */
+	public boolean hasGzip() {
+		return gzipped != null;
+	}
+
+	/**
+	 * Returns the last-modified time of this file truncated to seconds.
+	 *
+	 * @return The last-modified time in milliseconds since the epoch.
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Returns the length of the identity (uncompressed) contents.
+	 *
+	 * @return The length in bytes.
+	 */
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Returns the length of the gzipped contents.
+	 *
+	 * @return The length in bytes, or <code>-1</code> if there is no gzipped variant.
+	 */
+	public long getGzipLength() {
+		return gzipped == null ? -1 : gzipped.length;
+	}
+
+	@Override /* Streamable */
+	public void streamTo(OutputStream os) throws IOException {
+		streamTo(os, 0, length);
+	}
+
+	/**
+	 * Writes a byte range of the identity contents to the specified stream.
+	 *
+	 * @param os The stream to write to.
+	 * @param start The index of the first byte to write.
+	 * @param end The index after the last byte to write.
+	 * @throws IOException
+	 */
+	public void streamTo(OutputStream os, long start, long end) throws IOException {
+		if (contents != null) {
+			os.write(contents, (int)start, (int)(end - start));
+			return;
+		}
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			raf.seek(start);
+			byte[] buff = new byte[8192];
+			long remaining = end - start;
+			while (remaining > 0) {
+				int n = raf.read(buff, 0, (int)Math.min(buff.length, remaining));
+				if (n == -1)
+					throw new EOFException("File '" + file + "' was truncated while being read.");
+				os.write(buff, 0, n);
+				remaining -= n;
+			}
+		} finally {
+			raf.close();
+		}
+	}
+
+	/**
+	 * Writes the gzipped contents to the specified stream.
+	 *
+	 * @param os The stream to write to.
+	 * @throws IOException
+	 */
+	public void streamGzipTo(OutputStream os) throws IOException {
+		os.write(gzipped);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this file was loaded from the file system and has since been modified or deleted.
+	 */
+	boolean isStale() {
+		return file != null && file.lastModified() / 1000 * 1000 != lastModified;
+	}
+
+	/**
+	 * Returns the approximate number of bytes this object holds on the heap.
+	 */
+	long getWeight() {
+		return 256 + (contents == null ? 0 : contents.length) + (gzipped == null ? 0 : gzipped.length);
+	}
+
+	private static boolean isCompressible(MediaType mt) {
+		if (mt == null)
+			return false;
+		String t = mt.getType(), s = mt.getSubType();
+		return t.equals("text") || s.equals("json") || s.equals("javascript") || s.equals("xml") || s.endsWith("+xml") || s.endsWith("+json");
+	}
+
+	private static byte[] gzip(byte[] b) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(b.length / 2 + 64);
+		GZIPOutputStream gos = new GZIPOutputStream(baos);
+		gos.write(b);
+		gos.close();
+		return baos.toByteArray();
+	}
+
+	private static String hash(byte[] b) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("MD5");
+			return StringUtils.toHex(md.digest(b));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Bounded least-recently-used cache of {@link StaticFile StaticFiles} keyed by request path.
+ * <p>
+ * The cache is bounded by the total number of bytes the cached files hold on the heap.
+ * Files that would take up more than a quarter of the cache are not cached at all.
+ * <p>
+ * Lookups don't lock the cache.
+ * Files on the file system are checked for changes at most once per check interval, so a cache hit usually doesn't
+ * 	touch the file system at all.
+ */
+final class StaticFileCache {
+
+	private final long maxWeight, checkInterval;
+	private final AtomicLong weight = new AtomicLong(), clock = new AtomicLong();
+	private final ConcurrentHashMap<String,Entry> map = new ConcurrentHashMap<String,Entry>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxWeight The maximum number of bytes the cached files can hold on the heap.
+	 * @param checkInterval The minimum number of milliseconds between checks of whether a file has changed on disk.
+	 */
+	StaticFileCache(long maxWeight, long checkInterval) {
+		this.maxWeight = maxWeight;
+		this.checkInterval = checkInterval;
+	}
+
+	/**
+	 * Returns the cached file for the specified path, or <jk>null</jk> if it's not cached or has changed on disk.
+	 */
+	StaticFile get(String path) {
+		Entry e = map.get(path);
+		if (e == null)
+			return null;
+		long now = System.currentTimeMillis();
+		if (now - e.checked >= checkInterval) {
+			e.checked = now;
+			if (e.file.isStale()) {
+				remove(path, e);
+				return null;
+			}
+		}
+		e.lastUsed = clock.incrementAndGet();
+		return e.file;
+	}
+
+	/**
+	 * Adds a file to this cache, evicting the least-recently-used files if necessary.
+	 * <p>
+	 * Puts only happen when a file is loaded, so finding the least-recently-used entry by scanning the cache is
+	 * 	cheap compared to reading the file.
+	 */
+	synchronized void put(String path, StaticFile f) {
+		Entry e = new Entry(f, clock.incrementAndGet());
+		if (e.weight > maxWeight / 4)
+			return;
+		Entry old = map.put(path, e);
+		if (old != null)
+			weight.addAndGet(-old.weight);
+		weight.addAndGet(e.weight);
+		while (weight.get() > maxWeight) {
+			Map.Entry<String,Entry> lru = null;
+			for (Map.Entry<String,Entry> me : map.entrySet())
+				if (lru == null || me.getValue().lastUsed < lru.getValue().lastUsed)
+					lru = me;
+			if (lru == null)
+				break;
+			remove(lru.getKey(), lru.getValue());
+		}
+	}
+
+	private void remove(String path, Entry e) {
+		if (map.remove(path, e))
+			weight.addAndGet(-e.weight);
+	}
+
+	private static final class Entry {
+		final StaticFile file;
+		final long weight;
+		volatile long lastUsed, checked;
+
+		Entry(StaticFile file, long lastUsed) {
+			this.file = file;
+			this.weight = file.getWeight();
+			this.lastUsed = lastUsed;
+			this.checked = System.currentTimeMillis();
+		}
+	}
+}
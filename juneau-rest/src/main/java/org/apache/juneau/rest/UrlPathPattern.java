@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.util.*;
 import java.util.regex.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.annotation.*;
 
 /**
@@ -30,6 +31,7 @@ public final class UrlPathPattern implements Comparable<UrlPathPattern> {
 	private final String patternString;
 	private final boolean isOnlyDotAll, isDotAll;
 	private final String[] vars;
+	private final String[] segments;
 
 	/**
 	 * Constructor.
@@ -43,6 +45,7 @@ public final class UrlPathPattern implements Comparable<UrlPathPattern> {
 		isDotAll = b.isDotAll;
 		isOnlyDotAll = b.isOnlyDotAll;
 		vars = b.vars.toArray(new String[b.vars.size()]);
+		segments = b.segments;
 	}
 
 	@SuppressWarnings("hiding")
@@ -50,6 +53,7 @@ public final class UrlPathPattern implements Comparable<UrlPathPattern> {
 		boolean isDotAll, isOnlyDotAll;
 		Pattern pattern;
 		List<String> vars = new LinkedList<String>();
+		String[] segments;
 
 		private Builder(String patternString) {
 			if (! startsWith(patternString, '/'))
@@ -67,12 +71,55 @@ public final class UrlPathPattern implements Comparable<UrlPathPattern> {
 			while (m.find())
 				vars.add(m.group(1));
 
+			segments = toSegments(isDotAll ? patternString.substring(0, patternString.length()-2) : patternString);
+
 			patternString = patternString.replaceAll("\\{[^\\}]+\\}", "([^\\/]+)");
 			patternString = patternString.replaceAll("\\/\\*$", "((?:)|(?:\\/.*))");
 			pattern = Pattern.compile(patternString);
 		}
 	}
 
+	private static final Pattern VAR_SEGMENT = Pattern.compile("\\{[^\\}]+\\}");
+	private static final AsciiSet REGEX_CHARS = new AsciiSet("\\^$.|?*+()[]{}");
+
+	/*
+	 * Splits the pattern (minus any trailing "/*") into its '/'-delimited segments.
+	 * Variable segments are represented as null.
+	 * Returns null if the pattern contains segments that are neither plain literals nor a single variable
+	 * (e.g. "/foo{id}" or regular expression characters), since those can only be matched by the regular expression.
+	 */
+	private static String[] toSegments(String s) {
+		String[] segments = s.substring(1).split("/", -1);
+		for (int i = 0; i < segments.length; i++) {
+			String seg = segments[i];
+			if (VAR_SEGMENT.matcher(seg).matches())
+				segments[i] = null;
+			else if (REGEX_CHARS.contains(seg))
+				return null;
+		}
+		return segments;
+	}
+
+	/**
+	 * Returns the literal segments of this pattern for building a {@link UrlPathTrie}.
+	 *
+	 * @return The '/'-delimited segments of this pattern excluding any trailing <js>"/*"</js>,
+	 * 	with <jk>null</jk> entries for <js>"{var}"</js> segments, or <jk>null</jk> if this pattern can only be
+	 * 	matched through its regular expression.
+	 */
+	String[] getSegments() {
+		return segments;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this pattern ends with <js>"/*"</js>.
+	 *
+	 * @return <jk>true</jk> if this pattern ends with <js>"/*"</js>.
+	 */
+	boolean isDotAll() {
+		return isDotAll;
+	}
+
 	/**
 	 * Returns a non-<jk>null</jk> value if the specified path matches this pattern.
 	 *
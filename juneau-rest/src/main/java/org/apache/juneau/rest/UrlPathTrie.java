@@ -0,0 +1,221 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.util.*;
+
+/**
+ * Matches a path against a set of {@link UrlPathPattern UrlPathPatterns} in a single pass.
+ * <p>
+ * Patterns are compiled into a tree keyed by path segment.
+ * Literal segments are looked up in a hash map, <js>"{var}"</js> segments are followed after the literals, and
+ * patterns ending in <js>"/*"</js> match at the node of their prefix.
+ * Patterns that can't be broken into segments (e.g. <js>"/*"</js>, <js>"/foo{id}"</js>, or patterns containing
+ * regular expression characters) fall back to {@link UrlPathPattern#match(String)}.
+ * <p>
+ * The results are identical to calling {@link UrlPathPattern#match(String)} on every pattern in the order they were
+ * added, and keeping the non-<jk>null</jk> results.
+ *
+ * @param <T> The type of value associated with each pattern.
+ */
+final class UrlPathTrie<T> {
+
+	private final Node<T> root = new Node<T>();
+	private final List<Entry<T>> entries = new ArrayList<Entry<T>>();
+	private final List<Entry<T>> fallback = new ArrayList<Entry<T>>();
+
+	/**
+	 * Adds a pattern to this trie.
+	 * <p>
+	 * Patterns should be added in precedence order, since that's the order {@link #match(String)} returns them in.
+	 *
+	 * @param pattern The pattern.
+	 * @param value The value to return when the pattern matches.
+	 * @return This object (for method chaining).
+	 */
+	UrlPathTrie<T> add(UrlPathPattern pattern, T value) {
+		Entry<T> e = new Entry<T>(entries.size(), pattern, value);
+		entries.add(e);
+		String[] segments = pattern.getSegments();
+		if (segments == null) {
+			fallback.add(e);
+			return this;
+		}
+		Node<T> n = root;
+		for (String s : segments)
+			n = n.getOrCreateChild(s);
+		if (pattern.isDotAll())
+			n.dotAll = append(n.dotAll, e);
+		else
+			n.exact = append(n.exact, e);
+		return this;
+	}
+
+	/**
+	 * Returns the patterns that match the specified path.
+	 *
+	 * @param path The path to match (e.g. {@link RestRequest#getPathInfo()}).
+	 * @return The matches in the order their patterns were added.  Never <jk>null</jk>.
+	 */
+	List<Match<T>> match(String path) {
+		List<Match<T>> l = new ArrayList<Match<T>>(2);
+
+		// Null or relative paths are rare enough that we don't bother with the tree.
+		if (path == null || ! path.startsWith("/")) {
+			for (Entry<T> e : entries) {
+				String[] v = e.pattern.match(path);
+				if (v != null)
+					l.add(new Match<T>(e, v));
+			}
+			return l;
+		}
+
+		collect(root, path, 1, false, new String[8], 0, l);
+
+		for (Entry<T> e : fallback) {
+			String[] v = e.pattern.match(path);
+			if (v != null)
+				l.add(new Match<T>(e, v));
+		}
+
+		if (l.size() > 1)
+			Collections.sort(l);
+		return l;
+	}
+
+	/*
+	 * Depth-first search through the tree.
+	 * pos is the start of the next segment (i.e. just past a '/'), or ignored if atEnd is true.
+	 * vars holds the raw values of the {var} segments matched so far.
+	 */
+	private static <T> void collect(Node<T> n, String path, int pos, boolean atEnd, String[] vars, int varCount, List<Match<T>> l) {
+
+		if (atEnd) {
+			addMatches(n.exact, vars, varCount, null, false, l);
+			addMatches(n.dotAll, vars, varCount, null, true, l);
+			return;
+		}
+
+		addMatches(n.dotAll, vars, varCount, path.substring(pos), true, l);
+
+		int end = path.indexOf('/', pos);
+		boolean last = end == -1;
+		if (last)
+			end = path.length();
+
+		if (n.literals != null) {
+			Node<T> c = n.literals.get(path.substring(pos, end));
+			if (c != null)
+				collect(c, path, end+1, last, vars, varCount, l);
+		}
+
+		if (n.var != null && end > pos) {
+			if (varCount == vars.length)
+				vars = Arrays.copyOf(vars, vars.length*2);
+			vars[varCount] = path.substring(pos, end);
+			collect(n.var, path, end+1, last, vars, varCount+1, l);
+		}
+	}
+
+	private static <T> void addMatches(Entry<T>[] entries, String[] vars, int varCount, String remainder, boolean isDotAll, List<Match<T>> l) {
+		if (entries == null)
+			return;
+		for (Entry<T> e : entries) {
+			String[] v = new String[isDotAll ? varCount+1 : varCount];
+			for (int i = 0; i < varCount; i++)
+				v[i] = urlDecode(vars[i]);
+			if (isDotAll)
+				v[varCount] = remainder;
+			l.add(new Match<T>(e, v));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Entry<T>[] append(Entry<T>[] a, Entry<T> e) {
+		if (a == null)
+			return new Entry[]{e};
+		Entry<T>[] a2 = Arrays.copyOf(a, a.length+1);
+		a2[a.length] = e;
+		return a2;
+	}
+
+	private static final class Node<T> {
+		Map<String,Node<T>> literals;
+		Node<T> var;
+		Entry<T>[] exact, dotAll;
+
+		Node<T> getOrCreateChild(String segment) {
+			if (segment == null) {
+				if (var == null)
+					var = new Node<T>();
+				return var;
+			}
+			if (literals == null)
+				literals = new HashMap<String,Node<T>>();
+			Node<T> n = literals.get(segment);
+			if (n == null) {
+				n = new Node<T>();
+				literals.put(segment, n);
+			}
+			return n;
+		}
+	}
+
+	private static final class Entry<T> {
+		final int index;
+		final UrlPathPattern pattern;
+		final T value;
+
+		Entry(int index, UrlPathPattern pattern, T value) {
+			this.index = index;
+			this.pattern = pattern;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A pattern that matched a path.
+	 *
+	 * @param <T> The type of value associated with the pattern.
+	 */
+	static final class Match<T> implements Comparable<Match<T>> {
+		private final Entry<T> entry;
+		private final String[] patternVals;
+
+		Match(Entry<T> entry, String[] patternVals) {
+			this.entry = entry;
+			this.patternVals = patternVals;
+		}
+
+		/**
+		 * @return The value associated with the matched pattern.
+		 */
+		T getValue() {
+			return entry.value;
+		}
+
+		/**
+		 * @return The same values that {@link UrlPathPattern#match(String)} would have returned.
+		 */
+		String[] getPatternVals() {
+			return patternVals;
+		}
+
+		@Override /* Comparable */
+		public int compareTo(Match<T> o) {
+			return entry.index - o.entry.index;
+		}
+	}
+}
@@ -14,11 +14,13 @@ package org.apache.juneau.rest.remoteable;
 
 import static javax.servlet.http.HttpServletResponse.*;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.dto.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
@@ -37,6 +39,7 @@ import org.apache.juneau.rest.annotation.*;
 public abstract class RemoteableServlet extends RestServletDefault {
 
 	private final Map<String,Class<?>> classNameMap = new ConcurrentHashMap<String,Class<?>>();
+	private final Map<Class<?>,DispatchTable> dispatchTables = new ConcurrentHashMap<Class<?>,DispatchTable>();
 
 	//--------------------------------------------------------------------------------
 	// Abstract methods
@@ -83,7 +86,7 @@ public abstract class RemoteableServlet extends RestServletDefault {
 	 */
 	@RestMethod(name="GET", path="/{javaInterface}")
 	public Collection<String> listMethods(@Path String javaInterface) throws Exception {
-		return getMethods(javaInterface).keySet();
+		return getMethods(getInterfaceClass(javaInterface)).bySignature.keySet();
 	}
 
 	/**
@@ -91,7 +94,7 @@ public abstract class RemoteableServlet extends RestServletDefault {
 	 *
 	 * @param req The HTTP request.
 	 * @param javaInterface The Java interface name.
-	 * @param javaMethod The Java method name or signature.
+	 * @param javaMethod The Java method signature, or the method name if the method isn't overloaded.
 	 * @return The results from invoking the specified Java method.
 	 * @throws Exception
 	 */
@@ -105,18 +108,70 @@ public abstract class RemoteableServlet extends RestServletDefault {
 		Class<?> c = getInterfaceClass(javaInterface);
 
 		// Find the service.
-		Object service = getServiceMap().get(c);
-		if (service == null)
-			throw new RestException(SC_NOT_FOUND, "Service not found"); //$NON-NLS-1$
+		Object service = getService(c);
 
 		// Find the method.
-		java.lang.reflect.Method m = getMethods(javaInterface).get(javaMethod);
+		RemoteableMethod m = getMethods(c).get(javaMethod);
 		if (m == null)
 			throw new RestException(SC_NOT_FOUND, "Method not found"); //$NON-NLS-1$
 
 		// Parse the args and invoke the method.
-		Object[] params = p.parseArgs(req.getReader(), m.getGenericParameterTypes());
-		return m.invoke(service, params);
+		return m.invoke(service, m.parseArgs(p, req.getReader()));
+	}
+
+	/**
+	 * [POST /{javaInterface}] - Invoke several service methods in a single request.
+	 * <p>
+	 * The body is an array of calls of the form <code>{method:<js>'methodSignature'</js>,args:[arg1,arg2,...]}</code>
+	 * 	where the method is identified the same way as {@link #invoke(RestRequest, String, String)}.
+	 * <br>The response is an array of the same length containing one of the following for each call:
+	 * <ul>
+	 * 	<li><code>{result:returnValue}</code> - If the call succeeded.
+	 * 		The <code>result</code> entry is omitted if the method returned <jk>null</jk> (depending on the serializer).
+	 * 	<li><code>{status:httpStatus,exceptionName:<js>'className'</js>,exceptionMessage:<js>'message'</js>}</code> -
+	 * 		If the call failed.  The values are the same as the HTTP status and the <code>Exception-Name</code> and
+	 * 		<code>Exception-Message</code> headers returned when the method is invoked by itself.
+	 * </ul>
+	 * <p>
+	 * Calls are made in order, and a failed call does not prevent the remaining calls from being made.
+	 *
+	 * @param req The HTTP request.
+	 * @param javaInterface The Java interface name.
+	 * @return The results from invoking the Java methods.
+	 * @throws Exception
+	 */
+	@RestMethod(name="POST", path="/{javaInterface}")
+	public List<ObjectMap> invokeBatch(RestRequest req, @Path String javaInterface) throws Exception {
+		Class<?> c = getInterfaceClass(javaInterface);
+		Object service = getService(c);
+		DispatchTable methods = getMethods(c);
+
+		ObjectList calls = req.getBody().asType(ObjectList.class);
+		BeanContext bc = req.getBody().getParser().getBeanContext();
+		BeanSession session = bc.createSession();
+
+		List<ObjectMap> results = new ArrayList<ObjectMap>(calls.size());
+		for (int i = 0; i < calls.size(); i++) {
+			ObjectMap r = new ObjectMap();
+			try {
+				ObjectMap call = calls.getObjectMap(i);
+				RemoteableMethod m = call == null ? null : methods.get(call.getString("method"));
+				if (m == null)
+					throw new RestException(SC_NOT_FOUND, "Method not found"); //$NON-NLS-1$
+				r.put("result", m.invoke(service, m.convertArgs(bc, session, call.getObjectList("args"))));
+			} catch (Exception e) {
+				RestException e2 = toRestException(e);
+				Throwable t = e2.getRootCause();
+				r.append("status", e2.getStatus());
+				if (t != null)
+					r.append("exceptionName", t.getClass().getName());
+				String message = t != null ? t.getMessage() : e2.getMessage();
+				if (message != null)
+					r.append("exceptionMessage", message);
+			}
+			results.add(r);
+		}
+		return results;
 	}
 
 
@@ -128,10 +183,24 @@ public abstract class RemoteableServlet extends RestServletDefault {
 		return getProperties().getBoolean(RemoteableServiceProperties.REMOTEABLE_includeOnlyRemotableMethods, false);
 	}
 
-	private Map<String,java.lang.reflect.Method> getMethods(String javaInterface) throws Exception {
-		Class<?> c = getInterfaceClass(javaInterface);
-		ClassMeta<?> cm = getContext().getBeanContext().getClassMeta(c);
-		return (useOnlyAnnotated() ? cm.getRemoteableMethods() : cm.getPublicMethods());
+	/**
+	 * Returns the dispatch table for the specified interface class, building it the first time it's requested.
+	 */
+	private DispatchTable getMethods(Class<?> c) throws Exception {
+		DispatchTable methods = dispatchTables.get(c);
+		if (methods == null) {
+			ClassMeta<?> cm = getContext().getBeanContext().getClassMeta(c);
+			methods = new DispatchTable(useOnlyAnnotated() ? cm.getRemoteableMethods() : cm.getPublicMethods());
+			dispatchTables.put(c, methods);
+		}
+		return methods;
+	}
+
+	private Object getService(Class<?> c) throws Exception {
+		Object service = getServiceMap().get(c);
+		if (service == null)
+			throw new RestException(SC_NOT_FOUND, "Service not found"); //$NON-NLS-1$
+		return service;
 	}
 
 	/**
@@ -149,4 +218,99 @@ public abstract class RemoteableServlet extends RestServletDefault {
 		}
 		return c;
 	}
+
+	/*
+	 * Converts an exception thrown while making a batched call into the same status the call would have produced
+	 * if it had been made by itself.
+	 */
+	private static RestException toRestException(Exception e) {
+		if (e instanceof RestException)
+			return (RestException)e;
+		if (e instanceof ParseException || e instanceof InvalidDataConversionException)
+			return new RestException(SC_BAD_REQUEST, e);
+		return new RestException(SC_INTERNAL_SERVER_ERROR, e);
+	}
+
+	/*
+	 * The methods of an interface keyed by signature, and by name for methods that aren't overloaded.
+	 * Names are what remoteable proxies use by default (see @Remoteable.methodPaths()).
+	 */
+	private static final class DispatchTable {
+		private final Map<String,RemoteableMethod> bySignature, byName;
+
+		DispatchTable(Map<String,java.lang.reflect.Method> methods) {
+			Map<String,RemoteableMethod> s = new LinkedHashMap<String,RemoteableMethod>();
+			Map<String,RemoteableMethod> n = new HashMap<String,RemoteableMethod>();
+			Set<String> overloaded = new HashSet<String>();
+			for (Map.Entry<String,java.lang.reflect.Method> e : methods.entrySet()) {
+				RemoteableMethod m = new RemoteableMethod(e.getValue());
+				s.put(e.getKey(), m);
+				String name = e.getValue().getName();
+				if (n.put(name, m) != null)
+					overloaded.add(name);
+			}
+			n.keySet().removeAll(overloaded);
+			this.bySignature = Collections.unmodifiableMap(s);
+			this.byName = n;
+		}
+
+		RemoteableMethod get(String methodSignatureOrName) {
+			RemoteableMethod m = bySignature.get(methodSignatureOrName);
+			return m != null ? m : byName.get(methodSignatureOrName);
+		}
+	}
+
+	/*
+	 * An entry in the dispatch table of an interface.
+	 * Holds the invoker for the method and its argument types resolved against each bean context they're used with.
+	 */
+	private static final class RemoteableMethod {
+		private final java.lang.reflect.Method method;
+		private final MethodInvoker invoker;  // Null if the method must be called through reflection.
+		private final Type[] argTypes;
+		private final Map<BeanContext,ClassMeta<Object[]>> argsMetas = new ConcurrentHashMap<BeanContext,ClassMeta<Object[]>>();
+
+		RemoteableMethod(java.lang.reflect.Method method) {
+			this.method = method;
+			this.invoker = PropertyAccessorGenerator.canInvoke(method) ? PropertyAccessorGenerator.generateInvoker(method) : null;
+			this.argTypes = method.getGenericParameterTypes();
+		}
+
+		private ClassMeta<Object[]> getArgsClassMeta(BeanContext bc) {
+			ClassMeta<Object[]> cm = argsMetas.get(bc);
+			if (cm == null) {
+				cm = bc.createSession().getArgsClassMeta(argTypes);
+				argsMetas.put(bc, cm);
+			}
+			return cm;
+		}
+
+		Object[] parseArgs(Parser p, Object input) throws ParseException {
+			return p.parseArgs(input, getArgsClassMeta(p.getBeanContext()));
+		}
+
+		Object[] convertArgs(BeanContext bc, BeanSession session, List<?> args) {
+			ClassMeta<?>[] cm = getArgsClassMeta(bc).getArgs();
+			int n = args == null ? 0 : args.size();
+			if (n != cm.length)
+				throw new RestException(SC_BAD_REQUEST, "Expected {0} arguments but found {1}", cm.length, n); //$NON-NLS-1$
+			Object[] a = new Object[n];
+			for (int i = 0; i < n; i++)
+				a[i] = session.convertToType(args.get(i), cm[i]);
+			return a;
+		}
+
+		Object invoke(Object service, Object[] args) throws IllegalAccessException, InvocationTargetException {
+			if (invoker != null) {
+				try {
+					return invoker.invoke(service, args);
+				} catch (ClassCastException e) {
+					throw new IllegalArgumentException(e);
+				} catch (NullPointerException e) {
+					throw new IllegalArgumentException(e);
+				}
+			}
+			return method.invoke(service, args);
+		}
+	}
 }
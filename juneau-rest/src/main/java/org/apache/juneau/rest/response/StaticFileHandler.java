@@ -0,0 +1,175 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.response;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.http.*;
+import org.apache.juneau.rest.*;
+
+/**
+ * Response handler for {@link StaticFile} objects.
+ * <p>
+ * In addition to streaming the file contents, this handler:
+ * <ul class='spaced-list'>
+ * 	<li>Sets the <l>ETag</l>, <l>Last-Modified</l> and <l>Accept-Ranges</l> response headers.
+ * 	<li>Responds with <l>304 Not Modified</l> if the <l>If-None-Match</l> or <l>If-Modified-Since</l> request headers
+ * 		show that the client already has the current contents.
+ * 	<li>Sends the precomputed gzipped variant of the file if the client accepts <l>gzip</l> encoding.
+ * 	<li>Responds to single byte-range <l>Range</l> requests with <l>206 Partial Content</l>, honoring the
+ * 		<l>If-Range</l> request header.
+ * 		Requests for multiple ranges get the full contents.
+ * </ul>
+ */
+public final class StaticFileHandler implements ResponseHandler {
+
+	@Override /* ResponseHandler */
+	public boolean handle(RestRequest req, RestResponse res, Object output) throws IOException, RestException {
+		if (! (output instanceof StaticFile))
+			return false;
+
+		StaticFile f = (StaticFile)output;
+		RequestHeaders h = req.getHeaders();
+		long length = f.getLength();
+
+		long[] range = getRange(h, f);
+		boolean gzip = range == null && f.hasGzip() && acceptsGzip(h.getAcceptEncoding());
+
+		MediaType mediaType = f.getMediaType();
+		if (mediaType != null)
+			res.setContentType(mediaType.toString());
+		for (Map.Entry<String,String> e : f.getHeaders().entrySet())
+			res.setHeader(e.getKey(), e.getValue());
+		res.setHeader("ETag", '"' + (gzip ? f.getGzipETag() : f.getETag()) + '"');
+		res.setDateHeader("Last-Modified", f.getLastModified());
+		res.setHeader("Accept-Ranges", "bytes");
+		if (f.hasGzip())
+			res.setHeader("Vary", "Accept-Encoding");
+
+		if (isNotModified(h, f)) {
+			res.setStatus(SC_NOT_MODIFIED);
+			return true;
+		}
+
+		boolean head = "HEAD".equals(req.getMethod());
+		OutputStream os = head ? null : res.getOutputStream();
+
+		if (range != null && range[0] >= length) {
+			res.setStatus(SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+			res.setHeader("Content-Range", "bytes */" + length);
+			return true;
+		}
+
+		if (range != null) {
+			long start = range[0], end = Math.min(range[1], length);
+			res.setStatus(SC_PARTIAL_CONTENT);
+			res.setHeader("Content-Range", "bytes " + start + '-' + (end-1) + '/' + length);
+			res.setHeader("Content-Length", String.valueOf(end - start));
+			if (os != null)
+				f.streamTo(os, start, end);
+		} else if (gzip) {
+			res.setHeader("Content-Encoding", "gzip");
+			res.setHeader("Content-Length", String.valueOf(f.getGzipLength()));
+			if (os != null)
+				f.streamGzipTo(os);
+		} else {
+			res.setHeader("Content-Length", String.valueOf(length));
+			if (os != null)
+				f.streamTo(os);
+		}
+
+		if (os != null) {
+			os.flush();
+			os.close();
+		}
+		return true;
+	}
+
+	private static boolean isNotModified(RequestHeaders h, StaticFile f) {
+		IfNoneMatch inm = h.getIfNoneMatch();
+		if (inm != null) {
+			for (EntityValidator v : inm.asValidators())
+				if (v.isAny() || v.asString().equals(f.getETag()) || v.asString().equals(f.getGzipETag()))
+					return true;
+			return false;
+		}
+		IfModifiedSince ims = h.getIfModifiedSince();
+		if (ims != null && ims.asDate() != null)
+			return f.getLastModified() <= ims.asDate().getTime();
+		return false;
+	}
+
+	/*
+	 * Returns the [start,end) range requested by a single-range 'Range: bytes=...' header, or null if the full contents
+	 * should be sent.  A start past the end of the file means the range isn't satisfiable.
+	 */
+	private static long[] getRange(RequestHeaders h, StaticFile f) {
+		Range r = h.getRange();
+		if (r == null)
+			return null;
+		String s = r.toString().trim();
+		if (! s.startsWith("bytes=") || s.indexOf(',') != -1)
+			return null;
+
+		IfRange ir = h.getIfRange();
+		if (ir != null) {
+			EntityValidator v = ir.asValidator();
+			if (v != null) {
+				if (v.isWeak() || ! v.asString().equals(f.getETag()))
+					return null;
+			} else if (ir.asDate() == null || ir.asDate().getTime() != f.getLastModified()) {
+				return null;
+			}
+		}
+
+		s = s.substring(6).trim();
+		int i = s.indexOf('-');
+		if (i == -1)
+			return null;
+		long length = f.getLength();
+		try {
+			String s1 = s.substring(0, i).trim(), s2 = s.substring(i+1).trim();
+			if (s1.isEmpty()) {
+				// Suffix range: the last N bytes.
+				long n = Long.parseLong(s2);
+				if (n <= 0)
+					return new long[]{length, length};
+				return new long[]{Math.max(0, length - n), length};
+			}
+			long start = Long.parseLong(s1);
+			if (start >= length)
+				return new long[]{start, start};
+			long end = s2.isEmpty() ? length : Long.parseLong(s2) + 1;
+			if (start < 0 || end <= start)
+				return null;
+			return new long[]{start, end};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static boolean acceptsGzip(AcceptEncoding ae) {
+		if (ae == null)
+			return false;
+		for (StringRange r : ae.asSimpleRanges())
+			if (r.getType().equals("gzip"))
+				return r.getQValue() > 0;
+		for (StringRange r : ae.asSimpleRanges())
+			if (r.getType().equals("*"))
+				return r.getQValue() > 0;
+		return false;
+	}
+}